@@ -1,9 +1,25 @@
 -- enable uuid generation
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
+-- Time-ordered UUIDv7 (RFC 9562): Unix milliseconds in the first 48 bits,
+-- version and variant bits set over gen_random_uuid(). Services assign
+-- UUIDv7 ids themselves; this default covers set-based inserts (bulk import)
+-- so new keys still land at the end of the primary key index.
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
 -- Table warehouse
 CREATE TABLE IF NOT EXISTS warehouse (
-    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
     product_name TEXT NOT NULL,
     quantity INTEGER NOT NULL DEFAULT 0 CHECK (quantity >= 0),
     min_quantity INTEGER NOT NULL DEFAULT 0 CHECK (min_quantity >= 0),
@@ -22,7 +38,7 @@ CREATE INDEX IF NOT EXISTS idx_warehouse_product_name ON warehouse (lower(produc
 
 -- Table warehouse_history (immutable)
 CREATE TABLE IF NOT EXISTS warehouse_history (
-    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
     warehouse_id UUID NOT NULL,
     quantity INTEGER NOT NULL CHECK (quantity > 0),
     type TEXT NOT NULL CHECK (type IN ('import', 'export')),
@@ -31,6 +47,7 @@ CREATE TABLE IF NOT EXISTS warehouse_history (
 );
 
 CREATE INDEX IF NOT EXISTS idx_warehouse_history_warehouse_id ON warehouse_history (warehouse_id);
+CREATE INDEX IF NOT EXISTS idx_warehouse_history_created_at_id ON warehouse_history (created_at, id);
 
 -- Prevent updates/deletes on warehouse_history at DB level
 CREATE OR REPLACE FUNCTION prevent_modify_warehouse_history() RETURNS trigger AS $$
@@ -134,6 +151,46 @@ CREATE TRIGGER trg_warehouse_updated_at
     BEFORE UPDATE ON warehouse
     FOR EACH ROW EXECUTE FUNCTION trg_set_updated_at_warehouse();
 
+-- ============================================
+-- OUTBOX: Inventory update events
+-- ============================================
+-- One row per inventory transaction, written in the same transaction as the
+-- history row and drained to Kafka by the warehouse outbox relay.
+CREATE TABLE IF NOT EXISTS warehouse_outbox (
+    id UUID PRIMARY KEY, -- id of the warehouse_history row, used as event id
+    warehouse_id UUID NOT NULL,
+    product_name TEXT NOT NULL,
+    type TEXT NOT NULL,
+    quantity INTEGER NOT NULL,
+    quantity_after INTEGER NOT NULL,
+    min_quantity INTEGER NOT NULL,
+    version BIGINT NOT NULL,
+    updated_by VARCHAR(36) NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX IF NOT EXISTS idx_warehouse_outbox_created_at_id ON warehouse_outbox (created_at, id);
+
+-- Fires after trg_update_warehouse_quantity (triggers run in name order),
+-- so the warehouse row already holds the new quantity and version
+CREATE OR REPLACE FUNCTION enqueue_warehouse_inventory_update() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO warehouse_outbox (id, warehouse_id, product_name, type, quantity,
+                                  quantity_after, min_quantity, version, updated_by, occurred_at)
+    SELECT NEW.id, w.id, w.product_name, NEW.type, NEW.quantity,
+           w.quantity, w.min_quantity, w.version, NEW.updated_by, NEW.created_at
+    FROM warehouse w
+    WHERE w.id = NEW.warehouse_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_warehouse_history_outbox ON warehouse_history;
+CREATE TRIGGER trg_warehouse_history_outbox
+    AFTER INSERT ON warehouse_history
+    FOR EACH ROW EXECUTE FUNCTION enqueue_warehouse_inventory_update();
+
 -- ============================================
 -- SAMPLE DATA
 -- ============================================
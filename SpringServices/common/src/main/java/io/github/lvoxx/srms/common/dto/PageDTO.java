@@ -1,6 +1,7 @@
 package io.github.lvoxx.srms.common.dto;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,25 +13,69 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
 import lombok.Builder;
+import reactor.core.publisher.Mono;
 
 public abstract class PageDTO {
 
+    /** Total reported when the page was fetched without counting. */
+    public static final long UNKNOWN_TOTAL = -1L;
+
+    /**
+     * How a page request accounts for the rows around the requested page.
+     */
+    public enum Mode {
+        /**
+         * Exact total computed with {@code COUNT(*) OVER()} in the page query.
+         */
+        EXACT,
+        /**
+         * No total; fetches {@code size + 1} rows and only reports whether a next
+         * page exists.
+         */
+        HAS_NEXT
+    }
+
     @Builder
     @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
     public record Request(
             int page,
             int size,
             @Nullable String sortBy,
-            @Nullable String sortDirection // "ASC" or "DESC"
-    ) {
+            @Nullable String sortDirection, // "ASC" or "DESC"
+            @Nullable Mode mode) {
         public Request {
             page = page < 0 ? 0 : page; // Ensure non-negative page
             size = size <= 0 ? 10 : Math.min(size, 100); // Default size 10, max 100
             sortBy = sortBy != null ? sortBy : "created_at"; // Default sort by created_at
             sortDirection = sortDirection != null ? sortDirection.toUpperCase() : "DESC"; // Default DESC
+            mode = mode != null ? mode : Mode.EXACT; // Default exact total
+        }
+
+        public Request(int page, int size, @Nullable String sortBy, @Nullable String sortDirection) {
+            this(page, size, sortBy, sortDirection, null);
+        }
+
+        public long offset() {
+            return (long) page * size;
+        }
+
+        /**
+         * Rows to fetch for this page, one extra row in {@link Mode#HAS_NEXT}
+         * mode.
+         */
+        public int fetchSize() {
+            return mode == Mode.HAS_NEXT ? size + 1 : size;
+        }
+
+        public boolean withTotal() {
+            return mode == Mode.EXACT;
         }
     }
 
+    /**
+     * Page of results. {@code totalElements} and {@code totalPages} are
+     * {@value #UNKNOWN_TOTAL} in {@link Mode#HAS_NEXT} mode.
+     */
     @Builder
     @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
     public record Response<T>(
@@ -38,7 +83,8 @@ public abstract class PageDTO {
             int page,
             int size,
             long totalElements,
-            int totalPages) {
+            int totalPages,
+            boolean hasNext) {
     }
 
     @SuppressWarnings("null")
@@ -50,4 +96,39 @@ public abstract class PageDTO {
                         : Sort.Direction.DESC,
                         dto.sortBy()));
     }
+
+    /**
+     * Builds a page response from rows fetched with {@link Request#offset()}
+     * and {@link Request#fetchSize()}.
+     *
+     * @param request     the page request
+     * @param rows        fetched rows, possibly one more than the page size
+     * @param windowTotal total read from {@code COUNT(*) OVER()}, {@code null}
+     *                    when no row was returned
+     * @param countQuery  fallback count for an exact page past the last row,
+     *                    where the window function has no row to report on
+     * @return Mono emitting the page response
+     */
+    public static <T> Mono<Response<T>> toResponse(@NonNull Request request, @NonNull List<T> rows,
+            @Nullable Long windowTotal, @NonNull Supplier<Mono<Long>> countQuery) {
+        if (!request.withTotal()) {
+            boolean hasNext = rows.size() > request.size();
+            List<T> content = hasNext ? rows.subList(0, request.size()) : rows;
+            return Mono.just(new Response<>(List.copyOf(content), request.page(), request.size(),
+                    UNKNOWN_TOTAL, (int) UNKNOWN_TOTAL, hasNext));
+        }
+        if (windowTotal != null) {
+            return Mono.just(exact(request, rows, windowTotal));
+        }
+        if (request.page() == 0) {
+            return Mono.just(exact(request, rows, 0L));
+        }
+        return countQuery.get().map(total -> exact(request, rows, total));
+    }
+
+    private static <T> Response<T> exact(Request request, List<T> rows, long totalElements) {
+        int totalPages = (int) Math.ceil((double) totalElements / request.size());
+        return new Response<>(rows, request.page(), request.size(), totalElements, totalPages,
+                request.offset() + rows.size() < totalElements);
+    }
 }
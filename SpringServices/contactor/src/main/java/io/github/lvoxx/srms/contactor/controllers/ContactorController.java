@@ -1,5 +1,6 @@
 package io.github.lvoxx.srms.contactor.controllers;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.hateoas.server.reactive.WebFluxLinkBuilder;
@@ -22,6 +23,7 @@ import io.github.lvoxx.srms.contactor.hateos.ContactorResource;
 import io.github.lvoxx.srms.contactor.services.ContactorService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -42,9 +44,20 @@ public class ContactorController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Find several contactors by ID in one request
+     * GET /contactors/batch?ids={id},{id}
+     * (unknown and deleted ids are left out)
+     */
+    @GetMapping("/batch")
+    public Flux<ContactorDTO.Response> findAllByIds(@RequestParam(name = "ids") List<UUID> ids) {
+        return contactorService.findAllByIds(ids);
+    }
+
     /**
      * Find all contactors with pagination
-     * GET /contactors?p=0&s=10&sb=created_at&o=desc&del=false
+     * GET /contactors?p=0&s=10&sb=created_at&o=desc&del=false&m=EXACT
+     * (m=HAS_NEXT skips the total and only reports whether a next page exists)
      */
     @GetMapping("/")
     public Mono<PageDTO.Response<ContactorDTO.Response>> findAllPaged(
@@ -52,7 +65,8 @@ public class ContactorController {
             @RequestParam(name = "s", required = false, defaultValue = "10") int size,
             @RequestParam(name = "sb", defaultValue = "created_at") String sortBy,
             @RequestParam(name = "o", defaultValue = "desc") String sortDirection,
-            @RequestParam(name = "del", defaultValue = "false") boolean doWithDeleted) {
+            @RequestParam(name = "del", defaultValue = "false") boolean doWithDeleted,
+            @RequestParam(name = "m", defaultValue = "EXACT") PageDTO.Mode mode) {
 
         // Create Request
         PageDTO.Request pageRequest = PageDTO.Request.builder()
@@ -60,6 +74,7 @@ public class ContactorController {
                 .size(size)
                 .sortBy(sortBy)
                 .sortDirection(sortDirection)
+                .mode(mode)
                 .build();
 
         return contactorService.findAllContactors(pageRequest, doWithDeleted);
@@ -137,7 +152,7 @@ public class ContactorController {
                 })
                 .flatMap(res -> WebFluxLinkBuilder.linkTo(
                         WebFluxLinkBuilder.methodOn(ContactorController.class)
-                                .findAllPaged(0, 10, "created_at", "desc", false))
+                                .findAllPaged(0, 10, "created_at", "desc", false, PageDTO.Mode.EXACT))
                         .withRel("all-contactors")
                         .toMono()
                         .map(allContactorsLink -> {
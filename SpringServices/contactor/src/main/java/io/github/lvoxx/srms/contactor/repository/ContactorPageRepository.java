@@ -0,0 +1,12 @@
+package io.github.lvoxx.srms.contactor.repository;
+
+import io.github.lvoxx.srms.common.dto.PageDTO;
+import io.github.lvoxx.srms.contactor.models.Contactor;
+import io.github.lvoxx.srms.jdbc.WindowedPageQuery;
+import reactor.core.publisher.Flux;
+
+public interface ContactorPageRepository {
+
+    // Page of contactors with the total (or the size + 1 probe row) in one query
+    Flux<WindowedPageQuery.Row<Contactor>> findPage(PageDTO.Request pageRequest, boolean showDeleted);
+}
@@ -1,5 +1,6 @@
 package io.github.lvoxx.srms.contactor.repository;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
@@ -12,7 +13,7 @@ import io.github.lvoxx.srms.contactor.models.Contactor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface ContactorRepository extends R2dbcRepository<Contactor, UUID> {
+public interface ContactorRepository extends R2dbcRepository<Contactor, UUID>, ContactorPageRepository {
 
     // Find all
     @Query("SELECT * FROM contactor WHERE " +
@@ -40,8 +41,17 @@ public interface ContactorRepository extends R2dbcRepository<Contactor, UUID> {
             "((:showDeleted = true AND deleted_at IS NOT NULL) OR (:showDeleted = false AND deleted_at IS NULL))")
     Mono<Contactor> findByEmail(@Param("email") String email, @Param("showDeleted") boolean showDeleted);
 
+    // Find the given contactors in one round trip, excluding deleted
+    @Query("SELECT * FROM contactor WHERE id IN (:ids) AND deleted_at IS NULL")
+    Flux<Contactor> findAllActiveByIds(@Param("ids") Collection<UUID> ids);
+
     // -------------------------------------------------------------------
 
+    // Count used when an exact page lies past the last row
+    @Query("SELECT COUNT(*) FROM contactor WHERE " +
+            "((:showDeleted = true AND deleted_at IS NOT NULL) OR (:showDeleted = false AND deleted_at IS NULL))")
+    Mono<Long> countByShowDeleted(@Param("showDeleted") boolean showDeleted);
+
     // Lấy các record đã bị soft delete
     @Query("SELECT * FROM contactor WHERE deleted_at IS NOT NULL")
     Flux<Contactor> findDeleted();
@@ -1,12 +1,11 @@
 package io.github.lvoxx.srms.contactor.services;
 
-import java.util.List;
+import java.util.Collection;
 import java.util.UUID;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -108,6 +107,20 @@ public class ContactorService {
                                 .map(contactorMapper::toResponse);
         }
 
+        /**
+         * Finds the given contactors with a single query, for callers resolving
+         * many contactors at once. Unknown and deleted ids are left out.
+         */
+        public Flux<ContactorDTO.Response> findAllByIds(@NonNull Collection<UUID> ids) {
+                log.debug("Getting {} contactors by id", ids.size());
+
+                if (ids.isEmpty()) {
+                        return Flux.empty();
+                }
+                return contactorRepository.findAllActiveByIds(ids)
+                                .map(contactorMapper::toResponse);
+        }
+
         @Cacheable(value = CacheValue.Fields.CONTACTOR_EMAIL, key = "#email + ':' + #showDeleted")
         public Mono<ContactorDTO.Response> findByEmail(@NonNull String email, boolean showDeleted) {
                 log.debug("Getting contactor with email: {}", email);
@@ -132,39 +145,23 @@ public class ContactorService {
                                 .map(contactorMapper::toResponse);
         }
 
-        @Cacheable(value = CacheValue.Fields.CONTACTOR_PAGE, key = "#pageable.pageNumber + ':' + #pageable.pageSize + ':' + #showDeleted")
+        @Cacheable(value = CacheValue.Fields.CONTACTOR_PAGE, key = "#pageRequest + ':' + #showDeleted")
         public Mono<PageDTO.Response<ContactorDTO.Response>> findAllContactors(
                         @NonNull PageDTO.Request pageRequest,
                         boolean showDeleted) {
-                Pageable pageable = PageDTO.toPagable(pageRequest);
-
-                log.debug("Getting contactors - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
+                log.debug("Getting contactors - page: {}, size: {}, mode: {}",
+                                pageRequest.page(), pageRequest.size(), pageRequest.mode());
 
-                return contactorRepository.findPageByShowDeleted(pageable, showDeleted)
-                                .map(contactorMapper::toResponse)
+                // One query: the window total (EXACT) or one probe row (HAS_NEXT)
+                return contactorRepository.findPage(pageRequest, showDeleted)
                                 .collectList()
-                                // Count total elements
-                                .zipWith(contactorRepository.count()
-                                                .map(count -> {
-                                                        if (showDeleted) {
-                                                                return count; // Count all
-                                                        }
-                                                        return count - contactorRepository.findDeleted()
-                                                                        .count()
-                                                                        .block(); // Count active only
-                                                }))
-                                // Map to page response
-                                .map(tuple -> {
-                                        List<ContactorDTO.Response> content = tuple.getT1();
-                                        long totalElements = tuple.getT2();
-                                        int totalPages = (int) Math.ceil((double) totalElements / pageRequest.size());
-                                        return new PageDTO.Response<>(
-                                                        content,
-                                                        pageRequest.page(),
-                                                        pageRequest.size(),
-                                                        totalElements,
-                                                        totalPages);
-                                });
+                                .flatMap(rows -> PageDTO.toResponse(
+                                                pageRequest,
+                                                rows.stream()
+                                                                .map(row -> contactorMapper.toResponse(row.entity()))
+                                                                .toList(),
+                                                rows.isEmpty() ? null : rows.get(0).total(),
+                                                () -> contactorRepository.countByShowDeleted(showDeleted)));
         }
 
         // ==================== Internal Methods ====================
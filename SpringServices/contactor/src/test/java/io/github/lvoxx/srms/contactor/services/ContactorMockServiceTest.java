@@ -1,5 +1,7 @@
 package io.github.lvoxx.srms.contactor.services;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -31,6 +33,7 @@ import io.github.lvoxx.srms.controllerhandler.model.ConflictException;
 import io.github.lvoxx.srms.controllerhandler.model.DataPersistantException;
 import io.github.lvoxx.srms.controllerhandler.model.InUsedException;
 import io.github.lvoxx.srms.controllerhandler.model.NotFoundException;
+import io.github.lvoxx.srms.common.dto.PageDTO;
 import io.github.lvoxx.srms.common.utils.MessageUtils;
 import io.github.lvoxx.srms.contactor.dto.ContactorDTO;
 import io.github.lvoxx.srms.contactor.dto.Rating;
@@ -38,6 +41,7 @@ import io.github.lvoxx.srms.contactor.mappers.ContactorMapper;
 import io.github.lvoxx.srms.contactor.models.Contactor;
 import io.github.lvoxx.srms.contactor.models.ContactorType;
 import io.github.lvoxx.srms.contactor.repository.ContactorRepository;
+import io.github.lvoxx.srms.jdbc.WindowedPageQuery;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -396,6 +400,86 @@ class ContactorMockServiceTest {
                 verify(contactorMapper).toResponse(testContactor);
         }
 
+        // ==================== FIND ALL BY IDS TESTS ====================
+
+        @Test
+        @DisplayName("Should find several contactors with a single query")
+        void testFindAllByIdsSuccess() {
+                // Given
+                List<UUID> ids = List.of(testId, UUID.randomUUID());
+                when(contactorRepository.findAllActiveByIds(ids)).thenReturn(Flux.just(testContactor));
+                when(contactorMapper.toResponse(testContactor)).thenReturn(testResponse);
+
+                // When & Then
+                StepVerifier.create(contactorService.findAllByIds(ids))
+                                .expectNext(testResponse)
+                                .verifyComplete();
+
+                verify(contactorRepository, times(1)).findAllActiveByIds(ids);
+        }
+
+        @Test
+        @DisplayName("Should not query when no ids are given")
+        void testFindAllByIdsEmpty() {
+                // When & Then
+                StepVerifier.create(contactorService.findAllByIds(List.of()))
+                                .verifyComplete();
+
+                verifyNoInteractions(contactorRepository);
+        }
+
+        // ==================== FIND ALL PAGED TESTS ====================
+
+        @Test
+        @DisplayName("Should page contactors with the window total and no extra count query")
+        void testFindAllContactorsExact() {
+                // Given
+                PageDTO.Request pageRequest = PageDTO.Request.builder().page(0).size(1).build();
+                when(contactorRepository.findPage(pageRequest, false))
+                                .thenReturn(Flux.just(new WindowedPageQuery.Row<>(testContactor, 3L)));
+                when(contactorMapper.toResponse(testContactor)).thenReturn(testResponse);
+
+                // When & Then
+                StepVerifier.create(contactorService.findAllContactors(pageRequest, false))
+                                .assertNext(page -> {
+                                        assertEquals(List.of(testResponse), page.content());
+                                        assertEquals(3L, page.totalElements());
+                                        assertEquals(3, page.totalPages());
+                                        assertTrue(page.hasNext());
+                                })
+                                .verifyComplete();
+
+                verify(contactorRepository, never()).count();
+                verify(contactorRepository, never()).findDeleted();
+                verify(contactorRepository, never()).countByShowDeleted(false);
+        }
+
+        @Test
+        @DisplayName("Should trim the probe row and skip totals in HAS_NEXT mode")
+        void testFindAllContactorsHasNext() {
+                // Given
+                PageDTO.Request pageRequest = PageDTO.Request.builder()
+                                .page(1)
+                                .size(2)
+                                .mode(PageDTO.Mode.HAS_NEXT)
+                                .build();
+                when(contactorRepository.findPage(pageRequest, false)).thenReturn(Flux.just(
+                                new WindowedPageQuery.Row<>(testContactor, PageDTO.UNKNOWN_TOTAL),
+                                new WindowedPageQuery.Row<>(testContactor, PageDTO.UNKNOWN_TOTAL)));
+                when(contactorMapper.toResponse(testContactor)).thenReturn(testResponse);
+
+                // When & Then
+                StepVerifier.create(contactorService.findAllContactors(pageRequest, false))
+                                .assertNext(page -> {
+                                        assertEquals(2, page.content().size());
+                                        assertFalse(page.hasNext());
+                                        assertEquals(PageDTO.UNKNOWN_TOTAL, page.totalElements());
+                                })
+                                .verifyComplete();
+
+                verify(contactorRepository, never()).countByShowDeleted(false);
+        }
+
         // ==================== EXISTS TESTS ====================
 
         @Test
@@ -46,8 +46,9 @@ public class CustomerController {
                         @RequestParam(name = "s", required = false, defaultValue = "10") int size,
                         @RequestParam(name = "sb", defaultValue = "created_by") String sortBy,
                         @RequestParam(name = "o", defaultValue = "desc") String sortDirection,
-                        @RequestParam(name = "del", defaultValue = "false") boolean doWithDeleted) {
-                return customerService.findAllPaged(new PageDTO.Request(page, size, sortBy, sortDirection),
+                        @RequestParam(name = "del", defaultValue = "false") boolean doWithDeleted,
+                        @RequestParam(name = "m", defaultValue = "EXACT") PageDTO.Mode mode) {
+                return customerService.findAllPaged(new PageDTO.Request(page, size, sortBy, sortDirection, mode),
                                 doWithDeleted);
         }
 
@@ -109,7 +110,8 @@ public class CustomerController {
                                 })
                                 .flatMap(res -> WebFluxLinkBuilder.linkTo(
                                                 WebFluxLinkBuilder.methodOn(CustomerController.class)
-                                                                .findAllPaged(0, 10, "createdAt", "desc", false))
+                                                                .findAllPaged(0, 10, "createdAt", "desc", false,
+                                                                                PageDTO.Mode.EXACT))
                                                 .withRel("all-customers")
                                                 .toMono()
                                                 .map(allCustomersLink -> {
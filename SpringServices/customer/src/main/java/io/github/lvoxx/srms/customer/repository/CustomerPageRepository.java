@@ -0,0 +1,12 @@
+package io.github.lvoxx.srms.customer.repository;
+
+import io.github.lvoxx.srms.common.dto.PageDTO;
+import io.github.lvoxx.srms.customer.models.Customer;
+import io.github.lvoxx.srms.jdbc.WindowedPageQuery;
+import reactor.core.publisher.Flux;
+
+public interface CustomerPageRepository {
+
+        // Page of customers with the total (or the size + 1 probe row) in one query
+        Flux<WindowedPageQuery.Row<Customer>> findPage(PageDTO.Request pageRequest, boolean showDeleted);
+}
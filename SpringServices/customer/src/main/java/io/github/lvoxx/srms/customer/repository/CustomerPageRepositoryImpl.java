@@ -0,0 +1,29 @@
+package io.github.lvoxx.srms.customer.repository;
+
+import java.util.Map;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+
+import io.github.lvoxx.srms.common.dto.PageDTO;
+import io.github.lvoxx.srms.customer.models.Customer;
+import io.github.lvoxx.srms.jdbc.WindowedPageQuery;
+import reactor.core.publisher.Flux;
+
+class CustomerPageRepositoryImpl implements CustomerPageRepository {
+
+        private static final String SHOW_DELETED_FILTER = "((:showDeleted = true AND deleted_at IS NOT NULL) "
+                        + "OR (:showDeleted = false AND deleted_at IS NULL))";
+
+        private final WindowedPageQuery<Customer> pageQuery;
+
+        CustomerPageRepositoryImpl(R2dbcEntityTemplate template) {
+                this.pageQuery = new WindowedPageQuery<>(template, Customer.class);
+        }
+
+        @Override
+        public Flux<WindowedPageQuery.Row<Customer>> findPage(PageDTO.Request pageRequest, boolean showDeleted) {
+                return pageQuery.fetch(SHOW_DELETED_FILTER, Map.of("showDeleted", showDeleted),
+                                PageDTO.toPagable(pageRequest).getSort(),
+                                pageRequest.offset(), pageRequest.fetchSize(), pageRequest.withTotal());
+        }
+}
@@ -12,7 +12,7 @@ import io.github.lvoxx.srms.customer.models.Customer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface CustomerRepository extends R2dbcRepository<Customer, UUID> {
+public interface CustomerRepository extends R2dbcRepository<Customer, UUID>, CustomerPageRepository {
 
         // Find By ... And showDeleted flag
         @Query("SELECT * FROM customer WHERE " +
@@ -42,6 +42,11 @@ public interface CustomerRepository extends R2dbcRepository<Customer, UUID> {
 
         // -------------------------------------------------------------------
 
+        // Count used when an exact page lies past the last row
+        @Query("SELECT COUNT(*) FROM customer WHERE " +
+                        "((:showDeleted = true AND deleted_at IS NOT NULL) OR (:showDeleted = false AND deleted_at IS NULL))")
+        Mono<Long> countByShowDeleted(@Param("showDeleted") boolean showDeleted);
+
         // Lấy các record đã bị soft delete
         @Query("SELECT * FROM customer WHERE deleted_at IS NOT NULL")
         Flux<Customer> findDeleted();
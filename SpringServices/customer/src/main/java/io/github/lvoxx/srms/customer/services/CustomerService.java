@@ -1,12 +1,10 @@
 package io.github.lvoxx.srms.customer.services;
 
-import java.util.List;
 import java.util.UUID;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -62,33 +60,19 @@ public class CustomerService {
 
         public Mono<PageDTO.Response<CustomerDTO.Response>> findAllPaged(
                         PageDTO.Request pageRequest, boolean showDeleted) {
-                Pageable pageable = PageDTO.toPagable(pageRequest);
+                log.debug("Getting customers - page: {}, size: {}, mode: {}",
+                                pageRequest.page(), pageRequest.size(), pageRequest.mode());
 
-                return customerRepository.findPageByShowDeleted(pageable, showDeleted)
-                                .map(customerMapper::toResponse)
+                // One query: the window total (EXACT) or one probe row (HAS_NEXT)
+                return customerRepository.findPage(pageRequest, showDeleted)
                                 .collectList()
-                                // Count total elements
-                                .zipWith(customerRepository.count()
-                                                .map(count -> {
-                                                        if (showDeleted) {
-                                                                return count; // Count all
-                                                        }
-                                                        return count - customerRepository.findDeleted()
-                                                                        .count()
-                                                                        .block(); // Count active only
-                                                }))
-                                // Map to page response
-                                .map(tuple -> {
-                                        List<CustomerDTO.Response> content = tuple.getT1();
-                                        long totalElements = tuple.getT2();
-                                        int totalPages = (int) Math.ceil((double) totalElements / pageRequest.size());
-                                        return new PageDTO.Response<>(
-                                                        content,
-                                                        pageRequest.page(),
-                                                        pageRequest.size(),
-                                                        totalElements,
-                                                        totalPages);
-                                });
+                                .flatMap(rows -> PageDTO.toResponse(
+                                                pageRequest,
+                                                rows.stream()
+                                                                .map(row -> customerMapper.toResponse(row.entity()))
+                                                                .toList(),
+                                                rows.isEmpty() ? null : rows.get(0).total(),
+                                                () -> customerRepository.countByShowDeleted(showDeleted)));
         }
 
         @CachePut(value = CacheValue.Fields.CUSTOMERS, key = "#result.block().id", condition = "#result != null")
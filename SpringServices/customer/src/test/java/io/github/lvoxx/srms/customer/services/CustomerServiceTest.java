@@ -2,8 +2,10 @@ package io.github.lvoxx.srms.customer.services;
 
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -49,6 +51,7 @@ import io.github.lvoxx.srms.customer.dto.CustomerDTO;
 import io.github.lvoxx.srms.customer.mappers.CustomerMapper;
 import io.github.lvoxx.srms.customer.models.Customer;
 import io.github.lvoxx.srms.customer.repository.CustomerRepository;
+import io.github.lvoxx.srms.jdbc.WindowedPageQuery;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -338,16 +341,13 @@ public class CustomerServiceTest {
         class PaginationTest {
 
                 @Test
-                @DisplayName("Should return paged customers successfully")
+                @DisplayName("Should return paged customers with the window total")
                 void shouldReturnPagedCustomersSuccessfully() {
                         // Given
                         PageDTO.Request pageRequest = new PageDTO.Request(0, 10, "firstName", "ASC");
-                        List<Customer> customers = Arrays.asList(mockCustomer);
 
-                        when(repository.findPageByShowDeleted(any(Pageable.class), eq(false)))
-                                        .thenReturn(Flux.fromIterable(customers));
-                        when(repository.count()).thenReturn(Mono.just(1L));
-                        when(repository.findDeleted()).thenReturn(Flux.empty());
+                        when(repository.findPage(pageRequest, false))
+                                        .thenReturn(Flux.just(new WindowedPageQuery.Row<>(mockCustomer, 1L)));
                         when(mapper.toResponse(mockCustomer)).thenReturn(mockResponse);
 
                         // When & Then
@@ -358,18 +358,20 @@ public class CustomerServiceTest {
                                                 assertEquals(10, pageResponse.size());
                                                 assertEquals(1L, pageResponse.totalElements());
                                                 assertEquals(1, pageResponse.totalPages());
+                                                assertFalse(pageResponse.hasNext());
                                         })
                                         .verifyComplete();
 
-                        verify(repository).findPageByShowDeleted(any(Pageable.class), eq(false));
-                        verify(repository).count();
+                        verify(repository).findPage(pageRequest, false);
+                        verify(repository, never()).count();
+                        verify(repository, never()).findDeleted();
                 }
 
                 @Test
                 @DisplayName("Should handle pagination with deleted customers")
                 void shouldHandlePaginationWithDeletedCustomers() {
                         // Given
-                        PageDTO.Request pageRequest = new PageDTO.Request(0, 10, "firstName", "DESC");
+                        PageDTO.Request pageRequest = new PageDTO.Request(0, 1, "firstName", "DESC");
                         Customer deletedCustomer = Customer.builder()
                                         .id(UUID.randomUUID())
                                         .firstName("Deleted")
@@ -378,28 +380,76 @@ public class CustomerServiceTest {
                                         .deletedAt(OffsetDateTime.now())
                                         .build();
 
-                        List<Customer> allCustomers = Arrays.asList(mockCustomer, deletedCustomer);
-
-                        when(repository.findPageByShowDeleted(any(Pageable.class), eq(true)))
-                                        .thenReturn(Flux.fromIterable(allCustomers));
-                        when(repository.count()).thenReturn(Mono.just(2L));
+                        when(repository.findPage(any(PageDTO.Request.class), eq(true)))
+                                        .thenReturn(Flux.just(new WindowedPageQuery.Row<>(deletedCustomer, 2L)));
                         when(mapper.toResponse(any(Customer.class))).thenReturn(mockResponse);
 
                         // When & Then
                         StepVerifier.create(service.findAllPaged(pageRequest, true))
                                         .assertNext(pageResponse -> {
-                                                assertEquals(2, pageResponse.content().size());
+                                                assertEquals(1, pageResponse.content().size());
                                                 assertEquals(2L, pageResponse.totalElements());
+                                                assertEquals(2, pageResponse.totalPages());
+                                                assertTrue(pageResponse.hasNext());
                                         })
                                         .verifyComplete();
 
-                        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-                        verify(repository).findPageByShowDeleted(pageableCaptor.capture(), eq(true));
+                        ArgumentCaptor<PageDTO.Request> requestCaptor = ArgumentCaptor.forClass(PageDTO.Request.class);
+                        verify(repository).findPage(requestCaptor.capture(), eq(true));
 
-                        Pageable capturedPageable = pageableCaptor.getValue();
+                        Pageable capturedPageable = PageDTO.toPagable(requestCaptor.getValue());
                         assertEquals(Sort.Direction.DESC,
                                         capturedPageable.getSort().getOrderFor("firstName").getDirection());
                 }
+
+                @Test
+                @DisplayName("Should detect the next page from the extra row in HAS_NEXT mode")
+                void shouldDetectNextPageWithoutCounting() {
+                        // Given
+                        PageDTO.Request pageRequest = new PageDTO.Request(0, 1, "firstName", "ASC",
+                                        PageDTO.Mode.HAS_NEXT);
+                        Customer nextCustomer = Customer.builder()
+                                        .id(UUID.randomUUID())
+                                        .firstName("Next")
+                                        .build();
+
+                        when(repository.findPage(pageRequest, false)).thenReturn(Flux.just(
+                                        new WindowedPageQuery.Row<>(mockCustomer, PageDTO.UNKNOWN_TOTAL),
+                                        new WindowedPageQuery.Row<>(nextCustomer, PageDTO.UNKNOWN_TOTAL)));
+                        when(mapper.toResponse(any(Customer.class))).thenReturn(mockResponse);
+
+                        // When & Then
+                        StepVerifier.create(service.findAllPaged(pageRequest, false))
+                                        .assertNext(pageResponse -> {
+                                                assertEquals(1, pageResponse.content().size());
+                                                assertTrue(pageResponse.hasNext());
+                                                assertEquals(PageDTO.UNKNOWN_TOTAL, pageResponse.totalElements());
+                                        })
+                                        .verifyComplete();
+
+                        assertEquals(2, pageRequest.fetchSize());
+                        verify(repository, never()).countByShowDeleted(false);
+                }
+
+                @Test
+                @DisplayName("Should fall back to a count for an exact page past the last row")
+                void shouldCountWhenPageIsPastTheEnd() {
+                        // Given
+                        PageDTO.Request pageRequest = new PageDTO.Request(5, 10, "firstName", "ASC");
+
+                        when(repository.findPage(pageRequest, false)).thenReturn(Flux.empty());
+                        when(repository.countByShowDeleted(false)).thenReturn(Mono.just(12L));
+
+                        // When & Then
+                        StepVerifier.create(service.findAllPaged(pageRequest, false))
+                                        .assertNext(pageResponse -> {
+                                                assertEquals(0, pageResponse.content().size());
+                                                assertEquals(12L, pageResponse.totalElements());
+                                                assertEquals(2, pageResponse.totalPages());
+                                                assertFalse(pageResponse.hasNext());
+                                        })
+                                        .verifyComplete();
+                }
         }
 
         @Nested
@@ -865,10 +915,8 @@ public class CustomerServiceTest {
                         // Given
                         PageDTO.Request pageRequest = new PageDTO.Request(0, 0, "firstName", "ASC");
 
-                        when(repository.findPageByShowDeleted(any(Pageable.class), eq(false)))
+                        when(repository.findPage(any(PageDTO.Request.class), eq(false)))
                                         .thenReturn(Flux.empty());
-                        when(repository.count()).thenReturn(Mono.just(0L));
-                        when(repository.findDeleted()).thenReturn(Flux.empty());
 
                         // When & Then
                         StepVerifier.create(service.findAllPaged(pageRequest, false))
@@ -886,10 +934,8 @@ public class CustomerServiceTest {
                         PageDTO.Request pageRequest = new PageDTO.Request(0, Integer.MAX_VALUE,
                                         "firstName", "ASC");
 
-                        when(repository.findPageByShowDeleted(any(Pageable.class), eq(false)))
-                                        .thenReturn(Flux.just(mockCustomer));
-                        when(repository.count()).thenReturn(Mono.just(1L));
-                        when(repository.findDeleted()).thenReturn(Flux.empty());
+                        when(repository.findPage(any(PageDTO.Request.class), eq(false)))
+                                        .thenReturn(Flux.just(new WindowedPageQuery.Row<>(mockCustomer, 1L)));
                         when(mapper.toResponse(mockCustomer)).thenReturn(mockResponse);
 
                         // When & Then
@@ -0,0 +1,67 @@
+package io.github.lvoxx.srms.reporting.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the rolling inventory velocity aggregates.
+ * <p>
+ * These properties are loaded from application.yml and can be overridden
+ * via environment variables or external configuration sources.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "reporting.velocity")
+public class InventoryVelocityConfig {
+
+    /**
+     * Size of the buckets imports and exports are summed into. Rolling
+     * windows are accurate to one bucket.
+     * <p>
+     * Default: 5 minutes
+     */
+    private Duration bucket = Duration.ofMinutes(5);
+
+    /**
+     * Time buckets are kept; also the longest window that can be queried.
+     * <p>
+     * Default: 7 days
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Time a bucket still accepts events that arrive late.
+     * <p>
+     * Default: 1 hour
+     */
+    private Duration grace = Duration.ofHours(1);
+
+    /**
+     * Number of top movers returned when no limit is given.
+     * <p>
+     * Default: 10
+     */
+    private int topMoversLimit = 10;
+
+    /**
+     * Largest number of top movers a query may ask for.
+     * <p>
+     * Default: 100
+     */
+    private int maxTopMoversLimit = 100;
+
+    /**
+     * Timeout of a query forwarded to another reporting instance.
+     * <p>
+     * Default: 5 seconds
+     */
+    private Duration queryTimeout = Duration.ofSeconds(5);
+}
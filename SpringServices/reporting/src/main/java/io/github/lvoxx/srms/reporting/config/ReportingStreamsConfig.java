@@ -0,0 +1,61 @@
+package io.github.lvoxx.srms.reporting.config;
+
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.KTable;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage;
+import io.github.lvoxx.srms.reporting.streams.InventoryMovement;
+import io.github.lvoxx.srms.reporting.streams.InventoryVelocityTopology;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka Streams configuration of the reporting module.
+ * <p>
+ * The streams application itself (application id, state directory,
+ * advertised endpoint) is configured under {@code spring.kafka.streams};
+ * this class registers the inventory velocity topology on it.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Configuration
+@EnableKafkaStreams
+public class ReportingStreamsConfig {
+
+    @Value("${spring.kafka.properties.schema.registry.url:http://localhost:8081}")
+    private String schemaRegistryUrl;
+
+    /**
+     * Avro serde of inventory change events.
+     *
+     * @return configured serde
+     */
+    @Bean
+    public Serde<WarehouseInventoryUpdateMessage> inventoryEventSerde() {
+        return InventoryVelocityTopology.eventSerde(schemaRegistryUrl);
+    }
+
+    /**
+     * Rolling inventory velocity per warehouse.
+     *
+     * @param streamsBuilder builder of the streams application
+     * @param eventSerde     Avro serde of inventory change events
+     * @param velocityConfig bucket, retention and grace settings
+     * @return windowed table of movements per warehouse and bucket
+     */
+    @Bean
+    public KTable<Windowed<String>, InventoryMovement> inventoryVelocityTable(StreamsBuilder streamsBuilder,
+            Serde<WarehouseInventoryUpdateMessage> eventSerde, InventoryVelocityConfig velocityConfig) {
+        log.info("Building inventory velocity topology: bucket={}, retention={}, grace={}",
+                velocityConfig.getBucket(), velocityConfig.getRetention(), velocityConfig.getGrace());
+        return InventoryVelocityTopology.build(streamsBuilder, eventSerde, velocityConfig);
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.lvoxx.srms.reporting.controllers;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.lvoxx.srms.controllerhandler.model.BadRequestException;
+import io.github.lvoxx.srms.controllerhandler.model.NotFoundException;
+import io.github.lvoxx.srms.reporting.config.InventoryVelocityConfig;
+import io.github.lvoxx.srms.reporting.dto.InventoryVelocityDTO;
+import io.github.lvoxx.srms.reporting.services.InventoryVelocityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST controller for rolling inventory velocity.
+ * <p>
+ * Queries are answered from the Kafka Streams state of the reporting
+ * instances instead of the warehouse history table. The {@code local} flag
+ * is set by instances forwarding a query to each other.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/reporting/velocity")
+@RequiredArgsConstructor
+public class InventoryVelocityController {
+
+    private final InventoryVelocityService velocityService;
+    private final InventoryVelocityConfig velocityConfig;
+
+    /**
+     * Gets the 1h, 24h and 7d import and export velocity of a warehouse.
+     * <p>
+     * Example: GET /reporting/velocity/{warehouseId}
+     *
+     * @param warehouseId unique identifier of the warehouse
+     * @param local       answer from this instance only
+     * @return Mono emitting ResponseEntity with the velocity
+     */
+    @GetMapping("/{warehouseId}")
+    public Mono<ResponseEntity<InventoryVelocityDTO.WarehouseVelocity>> getVelocity(
+            @PathVariable String warehouseId,
+            @RequestParam(defaultValue = "false", required = false) boolean local) {
+        log.debug("GET /reporting/velocity/{}", warehouseId);
+
+        return velocityService.findByWarehouse(warehouseId, local)
+                .switchIfEmpty(Mono.error(new NotFoundException("No inventory events for warehouse: " + warehouseId)))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Ranks warehouses by quantity imported and exported within a window.
+     * <p>
+     * Example: GET /reporting/velocity/top-movers?window=24h&limit=10
+     *
+     * @param window window ending now, e.g. {@code 1h}, {@code 24h},
+     *               {@code 7d}; at most the configured retention
+     * @param limit  number of movers, defaults to the configured limit
+     * @param local  rank this instance's warehouses only
+     * @return Mono emitting ResponseEntity with the movers
+     */
+    @GetMapping("/top-movers")
+    public Mono<ResponseEntity<InventoryVelocityDTO.TopMoversResponse>> getTopMovers(
+            @RequestParam(defaultValue = "24h", required = false) String window,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false", required = false) boolean local) {
+        log.debug("GET /reporting/velocity/top-movers?window={}&limit={}", window, limit);
+
+        Duration duration = parseWindow(window);
+        int size = limit != null ? limit : velocityConfig.getTopMoversLimit();
+        if (size < 1 || size > velocityConfig.getMaxTopMoversLimit()) {
+            return Mono.error(new BadRequestException(
+                    "Limit must be between 1 and " + velocityConfig.getMaxTopMoversLimit()));
+        }
+        if (duration == null) {
+            return Mono.error(new BadRequestException(
+                    "Window must be positive and at most " + velocityConfig.getRetention()));
+        }
+
+        Instant now = Instant.now();
+        return velocityService.topMovers(duration, size, local)
+                .map(movers -> InventoryVelocityDTO.TopMoversResponse.builder()
+                        .window(duration.toString())
+                        .from(now.minus(duration).toEpochMilli())
+                        .to(now.toEpochMilli())
+                        .movers(movers)
+                        .build())
+                .map(ResponseEntity::ok);
+    }
+
+    private Duration parseWindow(String window) {
+        try {
+            Duration duration = DurationStyle.detectAndParse(window);
+            return duration.isPositive() && duration.compareTo(velocityConfig.getRetention()) <= 0
+                    ? duration
+                    : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.lvoxx.srms.reporting.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public abstract class InventoryVelocityDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class Rate {
+        private Long imported;
+        private Long exported;
+        private Double importedPerHour;
+        private Double exportedPerHour;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class WarehouseVelocity {
+        private String warehouseId;
+        private String productName;
+        private Integer currentQuantity;
+        private Rate lastHour;
+        private Rate lastDay;
+        private Rate lastWeek;
+        private Long lastEventAt;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class Mover {
+        private String warehouseId;
+        private String productName;
+        private Integer currentQuantity;
+        private Long imported;
+        private Long exported;
+        private Long moved;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class TopMoversResponse {
+        private String window;
+        private Long from;
+        private Long to;
+        private List<Mover> movers;
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.lvoxx.srms.reporting.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.StreamsMetadata;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.github.lvoxx.srms.reporting.config.InventoryVelocityConfig;
+import io.github.lvoxx.srms.reporting.dto.InventoryVelocityDTO;
+import io.github.lvoxx.srms.reporting.streams.InventoryVelocityReader;
+import io.github.lvoxx.srms.reporting.streams.InventoryVelocityTopology;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Serves inventory velocity queries from the Kafka Streams state stores.
+ * <p>
+ * Each reporting instance holds the stores of the partitions it is
+ * assigned. A warehouse query is answered by the instance owning the
+ * warehouse key and forwarded there when needed; a top movers query merges
+ * the local ranking of every instance, which is exact since the instances
+ * hold disjoint warehouses. Instances find each other through the endpoint
+ * advertised in {@code application.server}; without it every query is
+ * answered locally.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class InventoryVelocityService {
+
+    private final StreamsBuilderFactoryBean streamsFactory;
+    private final WebClient webClient;
+    private final InventoryVelocityConfig velocityConfig;
+    private final HostInfo self;
+
+    public InventoryVelocityService(StreamsBuilderFactoryBean streamsFactory, WebClient.Builder webClientBuilder,
+            InventoryVelocityConfig velocityConfig,
+            @Value("${spring.kafka.streams.properties.application.server:}") String applicationServer) {
+        this.streamsFactory = streamsFactory;
+        this.webClient = webClientBuilder.build();
+        this.velocityConfig = velocityConfig;
+        this.self = applicationServer.isBlank() ? null : HostInfo.buildFromEndpoint(applicationServer);
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Finds the 1h, 24h and 7d velocity of a warehouse.
+     *
+     * @param warehouseId warehouse to read
+     * @param local       answer from local stores only, as asked by another
+     *                    instance
+     * @return Mono emitting the velocity, empty when the warehouse has no
+     *         events
+     */
+    public Mono<InventoryVelocityDTO.WarehouseVelocity> findByWarehouse(String warehouseId, boolean local) {
+        return Mono.defer(() -> {
+            if (!local && self != null) {
+                HostInfo owner = owner(warehouseId);
+                if (!owner.equals(self)) {
+                    log.debug("Forwarding velocity query of warehouse {} to {}", warehouseId, owner);
+                    return remote(owner, "/reporting/velocity/" + warehouseId,
+                            InventoryVelocityDTO.WarehouseVelocity.class)
+                            .onErrorResume(InventoryVelocityService::isNotFound, e -> Mono.empty());
+                }
+            }
+            return Mono.fromCallable(() -> reader().velocity(warehouseId, Instant.now()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(Mono::justOrEmpty);
+        });
+    }
+
+    /**
+     * Ranks warehouses by quantity moved within a window.
+     *
+     * @param window window ending now, at most the configured retention
+     * @param limit  number of movers to return
+     * @param local  rank local warehouses only, as asked by another instance
+     * @return Mono emitting the movers, most moved first
+     */
+    public Mono<List<InventoryVelocityDTO.Mover>> topMovers(Duration window, int limit, boolean local) {
+        return Mono.defer(() -> {
+            Instant now = Instant.now();
+            Mono<List<InventoryVelocityDTO.Mover>> localMovers = Mono
+                    .fromCallable(() -> reader().topMovers(window, limit, now))
+                    .subscribeOn(Schedulers.boundedElastic());
+            if (local || self == null) {
+                return localMovers;
+            }
+
+            List<HostInfo> others = streams().streamsMetadataForStore(InventoryVelocityTopology.VELOCITY_STORE)
+                    .stream()
+                    .map(StreamsMetadata::hostInfo)
+                    .filter(host -> !host.equals(self))
+                    .distinct()
+                    .toList();
+            return Flux.fromIterable(others)
+                    .flatMap(host -> remote(host, "/reporting/velocity/top-movers?window=" + window
+                            + "&limit=" + limit, InventoryVelocityDTO.TopMoversResponse.class)
+                            .map(InventoryVelocityDTO.TopMoversResponse::getMovers))
+                    .mergeWith(localMovers)
+                    .collect(ArrayList<InventoryVelocityDTO.Mover>::new, List::addAll)
+                    .map(movers -> movers.stream()
+                            .sorted(Comparator.comparingLong(InventoryVelocityDTO.Mover::getMoved).reversed())
+                            .limit(limit)
+                            .toList());
+        });
+    }
+
+    // ==================== STORES ====================
+
+    private InventoryVelocityReader reader() {
+        KafkaStreams streams = streams();
+        try {
+            return new InventoryVelocityReader(
+                    streams.store(StoreQueryParameters.fromNameAndType(
+                            InventoryVelocityTopology.VELOCITY_STORE, QueryableStoreTypes.windowStore())),
+                    streams.store(StoreQueryParameters.fromNameAndType(
+                            InventoryVelocityTopology.LATEST_STORE, QueryableStoreTypes.keyValueStore())));
+        } catch (InvalidStateStoreException e) {
+            throw unavailable("Velocity stores are not ready: " + e.getMessage());
+        }
+    }
+
+    private KafkaStreams streams() {
+        KafkaStreams streams = streamsFactory.getKafkaStreams();
+        if (streams == null || streams.state() != KafkaStreams.State.RUNNING) {
+            throw unavailable("Velocity streams are not running");
+        }
+        return streams;
+    }
+
+    private HostInfo owner(String warehouseId) {
+        KeyQueryMetadata metadata = streams().queryMetadataForKey(
+                InventoryVelocityTopology.VELOCITY_STORE, warehouseId, Serdes.String().serializer());
+        if (metadata == null || Objects.equals(metadata, KeyQueryMetadata.NOT_AVAILABLE)) {
+            throw unavailable("Owner of warehouse " + warehouseId + " is not known yet");
+        }
+        return metadata.activeHost();
+    }
+
+    // ==================== FORWARDING ====================
+
+    private <T> Mono<T> remote(HostInfo host, String path, Class<T> type) {
+        String separator = path.contains("?") ? "&" : "?";
+        return webClient.get()
+                .uri("http://" + host.host() + ":" + host.port() + path + separator + "local=true")
+                .retrieve()
+                .bodyToMono(type)
+                .timeout(velocityConfig.getQueryTimeout())
+                .onErrorMap(e -> !isNotFound(e), e -> {
+                    log.warn("Velocity query to {} failed: {}", host, e.getMessage());
+                    return unavailable("Reporting instance " + host + " did not answer");
+                });
+    }
+
+    private static ResponseStatusException unavailable(String reason) {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, reason);
+    }
+
+    private static boolean isNotFound(Throwable e) {
+        return e instanceof WebClientResponseException.NotFound;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.lvoxx.srms.reporting.streams;
+
+import io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Quantities imported and exported for a warehouse within one time bucket.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryMovement {
+
+    private long imported;
+    private long exported;
+
+    /**
+     * Adds the quantity of an inventory change event.
+     *
+     * @param event inventory change event
+     * @return this movement
+     */
+    public InventoryMovement add(WarehouseInventoryUpdateMessage event) {
+        if (event.getType() == InventoryUpdateType.IMPORT) {
+            imported += event.getQuantity();
+        } else {
+            exported += event.getQuantity();
+        }
+        return this;
+    }
+
+    /**
+     * Adds the quantities of another movement.
+     *
+     * @param other movement to add
+     * @return this movement
+     */
+    public InventoryMovement add(InventoryMovement other) {
+        imported += other.imported;
+        exported += other.exported;
+        return this;
+    }
+
+    /**
+     * @return total quantity imported and exported
+     */
+    public long moved() {
+        return imported + exported;
+    }
+}
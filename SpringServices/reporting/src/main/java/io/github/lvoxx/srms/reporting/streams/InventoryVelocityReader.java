@@ -0,0 +1,143 @@
+package io.github.lvoxx.srms.reporting.streams;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.apache.kafka.streams.state.ReadOnlyWindowStore;
+import org.apache.kafka.streams.state.WindowStoreIterator;
+
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage;
+import io.github.lvoxx.srms.reporting.dto.InventoryVelocityDTO;
+
+/**
+ * Reads rolling velocity figures from the local stores of
+ * {@link InventoryVelocityTopology}.
+ * <p>
+ * A window covers the buckets starting within it, so figures are accurate
+ * to one bucket. Reads hit local RocksDB and block; callers run them off
+ * the event loop.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+public class InventoryVelocityReader {
+
+    static final Duration LAST_HOUR = Duration.ofHours(1);
+    static final Duration LAST_DAY = Duration.ofDays(1);
+    static final Duration LAST_WEEK = Duration.ofDays(7);
+
+    private final ReadOnlyWindowStore<String, InventoryMovement> velocity;
+    private final ReadOnlyKeyValueStore<String, WarehouseInventoryUpdateMessage> latest;
+
+    public InventoryVelocityReader(ReadOnlyWindowStore<String, InventoryMovement> velocity,
+            ReadOnlyKeyValueStore<String, WarehouseInventoryUpdateMessage> latest) {
+        this.velocity = velocity;
+        this.latest = latest;
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Computes the 1h, 24h and 7d velocity of a warehouse with one range
+     * scan over its buckets of the last 7 days.
+     *
+     * @param warehouseId warehouse to read
+     * @param now         end of the windows
+     * @return velocity, empty when no event of the warehouse was applied
+     */
+    public Optional<InventoryVelocityDTO.WarehouseVelocity> velocity(String warehouseId, Instant now) {
+        WarehouseInventoryUpdateMessage event = latest.get(warehouseId);
+        if (event == null) {
+            return Optional.empty();
+        }
+
+        InventoryMovement hour = new InventoryMovement();
+        InventoryMovement day = new InventoryMovement();
+        InventoryMovement week = new InventoryMovement();
+        long hourStart = now.minus(LAST_HOUR).toEpochMilli();
+        long dayStart = now.minus(LAST_DAY).toEpochMilli();
+
+        try (WindowStoreIterator<InventoryMovement> buckets = velocity.fetch(warehouseId, now.minus(LAST_WEEK), now)) {
+            while (buckets.hasNext()) {
+                KeyValue<Long, InventoryMovement> bucket = buckets.next();
+                week.add(bucket.value);
+                if (bucket.key >= dayStart) {
+                    day.add(bucket.value);
+                }
+                if (bucket.key >= hourStart) {
+                    hour.add(bucket.value);
+                }
+            }
+        }
+
+        return Optional.of(InventoryVelocityDTO.WarehouseVelocity.builder()
+                .warehouseId(warehouseId)
+                .productName(event.getProductName())
+                .currentQuantity(event.getQuantityAfter())
+                .lastHour(rate(hour, LAST_HOUR))
+                .lastDay(rate(day, LAST_DAY))
+                .lastWeek(rate(week, LAST_WEEK))
+                .lastEventAt(event.getTimestamp().toEpochMilli())
+                .build());
+    }
+
+    /**
+     * Ranks the warehouses of the local partitions by quantity moved within
+     * a window.
+     *
+     * @param window window ending now
+     * @param limit  number of movers to return
+     * @param now    end of the window
+     * @return movers, most moved first
+     */
+    public List<InventoryVelocityDTO.Mover> topMovers(Duration window, int limit, Instant now) {
+        Map<String, InventoryMovement> totals = new HashMap<>();
+        try (KeyValueIterator<Windowed<String>, InventoryMovement> buckets = velocity.fetchAll(now.minus(window), now)) {
+            while (buckets.hasNext()) {
+                KeyValue<Windowed<String>, InventoryMovement> bucket = buckets.next();
+                totals.computeIfAbsent(bucket.key.key(), id -> new InventoryMovement()).add(bucket.value);
+            }
+        }
+
+        return totals.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, InventoryMovement> entry) -> entry.getValue().moved()).reversed())
+                .limit(limit)
+                .map(entry -> toMover(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    // ==================== HELPERS ====================
+
+    private InventoryVelocityDTO.Mover toMover(String warehouseId, InventoryMovement movement) {
+        WarehouseInventoryUpdateMessage event = latest.get(warehouseId);
+        return InventoryVelocityDTO.Mover.builder()
+                .warehouseId(warehouseId)
+                .productName(event != null ? event.getProductName() : null)
+                .currentQuantity(event != null ? event.getQuantityAfter() : null)
+                .imported(movement.getImported())
+                .exported(movement.getExported())
+                .moved(movement.moved())
+                .build();
+    }
+
+    private static InventoryVelocityDTO.Rate rate(InventoryMovement movement, Duration window) {
+        double hours = window.toMinutes() / 60.0;
+        return InventoryVelocityDTO.Rate.builder()
+                .imported(movement.getImported())
+                .exported(movement.getExported())
+                .importedPerHour(movement.getImported() / hours)
+                .exportedPerHour(movement.getExported() / hours)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.lvoxx.srms.reporting.streams;
+
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KTable;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.Stores;
+import org.apache.kafka.streams.state.WindowStore;
+import org.springframework.kafka.support.serializer.JsonSerde;
+
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
+import io.confluent.kafka.serializers.subject.RecordNameStrategy;
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage;
+import io.github.lvoxx.srms.reporting.config.InventoryVelocityConfig;
+
+/**
+ * Kafka Streams topology maintaining rolling inventory velocity per
+ * warehouse from {@link Topics#WAREHOUSE_INVENTORY_UPDATES}.
+ * <p>
+ * Events are keyed by warehouse id and bucketed by transaction time into
+ * tumbling windows of {@link InventoryVelocityConfig#getBucket()}, so an
+ * event only updates the small total of its own bucket. Rolling 1h, 24h and
+ * 7d figures are the sum of the buckets inside the window, read with one
+ * range scan of {@link #VELOCITY_STORE}.
+ * <p>
+ * Both stores are persistent RocksDB stores in the Streams state directory,
+ * backed by changelog topics: {@link #LATEST_STORE} is compacted and
+ * {@link #VELOCITY_STORE} is compacted and expires buckets past retention.
+ * A restarted instance reopens its local stores and only replays the
+ * changelog tail it missed.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+public final class InventoryVelocityTopology {
+
+    /**
+     * Store holding the latest applied event of each warehouse.
+     */
+    public static final String LATEST_STORE = "inventory-latest";
+
+    /**
+     * Window store holding imports and exports per warehouse and bucket.
+     */
+    public static final String VELOCITY_STORE = "inventory-velocity";
+
+    private InventoryVelocityTopology() {
+    }
+
+    /**
+     * Adds the velocity aggregation to a topology.
+     *
+     * @param builder     streams builder of the topology
+     * @param eventSerde  Avro serde of inventory change events
+     * @param config      bucket, retention and grace settings
+     * @return windowed table of movements per warehouse and bucket
+     */
+    public static KTable<Windowed<String>, InventoryMovement> build(StreamsBuilder builder,
+            Serde<WarehouseInventoryUpdateMessage> eventSerde, InventoryVelocityConfig config) {
+        builder.addStateStore(Stores.keyValueStoreBuilder(
+                Stores.persistentKeyValueStore(LATEST_STORE), Serdes.String(), eventSerde));
+
+        return builder
+                .stream(Topics.WAREHOUSE_INVENTORY_UPDATES, Consumed.with(Serdes.String(), eventSerde)
+                        .withTimestampExtractor((record, partitionTime) -> record
+                                .value() instanceof WarehouseInventoryUpdateMessage event
+                                        ? event.getTimestamp().toEpochMilli()
+                                        : partitionTime))
+                .filter((warehouseId, event) -> warehouseId != null && event != null)
+                .processValues(LatestInventoryEventProcessor::new, LATEST_STORE)
+                .groupByKey(Grouped.with(Serdes.String(), eventSerde))
+                .windowedBy(TimeWindows.ofSizeAndGrace(config.getBucket(), config.getGrace()))
+                .aggregate(InventoryMovement::new,
+                        (warehouseId, event, movement) -> movement.add(event),
+                        Materialized.<String, InventoryMovement, WindowStore<Bytes, byte[]>>as(VELOCITY_STORE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(movementSerde())
+                                // A bucket must outlive the longest window plus late events
+                                .withRetention(config.getRetention().plus(config.getBucket())
+                                        .plus(config.getGrace())));
+    }
+
+    // ==================== SERDES ====================
+
+    /**
+     * Avro serde of inventory change events, configured like the producers
+     * of the Kafka starter.
+     *
+     * @param schemaRegistryUrl schema registry URL
+     * @return configured serde
+     */
+    @SuppressWarnings("unchecked")
+    public static Serde<WarehouseInventoryUpdateMessage> eventSerde(String schemaRegistryUrl) {
+        Map<String, Object> config = Map.of(
+                KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl,
+                KafkaAvroSerializerConfig.VALUE_SUBJECT_NAME_STRATEGY, RecordNameStrategy.class.getName(),
+                KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+
+        KafkaAvroSerializer serializer = new KafkaAvroSerializer();
+        serializer.configure(config, false);
+        KafkaAvroDeserializer deserializer = new KafkaAvroDeserializer();
+        deserializer.configure(config, false);
+
+        return Serdes.serdeFrom(
+                (Serializer<WarehouseInventoryUpdateMessage>) (Serializer<?>) serializer,
+                (Deserializer<WarehouseInventoryUpdateMessage>) (Deserializer<?>) deserializer);
+    }
+
+    /**
+     * @return JSON serde of bucket movements, without type headers
+     */
+    public static Serde<InventoryMovement> movementSerde() {
+        return new JsonSerde<>(InventoryMovement.class).noTypeInfo().ignoreTypeHeaders();
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.lvoxx.srms.reporting.streams;
+
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the latest inventory change event of each warehouse and forwards
+ * only events newer than it.
+ * <p>
+ * Events are delivered at least once, so a redelivered event carries a
+ * version that was already applied and is dropped before it is counted
+ * twice. The stored event also provides the product name and current
+ * quantity of the warehouse to queries.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public class LatestInventoryEventProcessor
+        implements FixedKeyProcessor<String, WarehouseInventoryUpdateMessage, WarehouseInventoryUpdateMessage> {
+
+    private FixedKeyProcessorContext<String, WarehouseInventoryUpdateMessage> context;
+    private KeyValueStore<String, WarehouseInventoryUpdateMessage> latest;
+
+    @Override
+    public void init(FixedKeyProcessorContext<String, WarehouseInventoryUpdateMessage> context) {
+        this.context = context;
+        this.latest = context.getStateStore(InventoryVelocityTopology.LATEST_STORE);
+    }
+
+    @Override
+    public void process(FixedKeyRecord<String, WarehouseInventoryUpdateMessage> record) {
+        WarehouseInventoryUpdateMessage previous = latest.get(record.key());
+        if (previous != null && record.value().getVersion() <= previous.getVersion()) {
+            log.debug("Dropping inventory event {} of warehouse {}: version {} already applied",
+                    record.value().getEventId(), record.key(), record.value().getVersion());
+            return;
+        }
+        latest.put(record.key(), record.value());
+        context.forward(record);
+    }
+}
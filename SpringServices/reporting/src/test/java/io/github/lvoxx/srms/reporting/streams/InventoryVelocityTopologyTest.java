@@ -0,0 +1,171 @@
+package io.github.lvoxx.srms.reporting.streams;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage;
+import io.github.lvoxx.srms.reporting.config.InventoryVelocityConfig;
+import io.github.lvoxx.srms.reporting.dto.InventoryVelocityDTO;
+
+@DisplayName("Inventory Velocity Topology Tests")
+@Tags({
+        @Tag("Streams"), @Tag("Mock")
+})
+public class InventoryVelocityTopologyTest {
+
+    private static final String RICE = "rice";
+    private static final String SALT = "salt";
+
+    @TempDir
+    private Path stateDir;
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, WarehouseInventoryUpdateMessage> events;
+    private InventoryVelocityReader reader;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        Serde<WarehouseInventoryUpdateMessage> eventSerde = InventoryVelocityTopology
+                .eventSerde("mock://reporting-velocity-test");
+        StreamsBuilder builder = new StreamsBuilder();
+        InventoryVelocityTopology.build(builder, eventSerde, new InventoryVelocityConfig());
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "reporting-velocity-test");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+        driver = new TopologyTestDriver(builder.build(), props);
+
+        events = driver.createInputTopic(Topics.WAREHOUSE_INVENTORY_UPDATES,
+                Serdes.String().serializer(), eventSerde.serializer());
+        reader = new InventoryVelocityReader(
+                driver.getWindowStore(InventoryVelocityTopology.VELOCITY_STORE),
+                driver.getKeyValueStore(InventoryVelocityTopology.LATEST_STORE));
+        now = Instant.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    private void send(String warehouseId, long version, InventoryUpdateType type, int quantity, Duration ago) {
+        events.pipeInput(warehouseId, WarehouseInventoryUpdateMessage.newBuilder()
+                .setEventId(warehouseId + "-" + version)
+                .setWarehouseId(warehouseId)
+                .setProductName("Product " + warehouseId)
+                .setType(type)
+                .setQuantity(quantity)
+                .setQuantityAfter((int) version * 10)
+                .setMinQuantity(5)
+                .setVersion(version)
+                .setUpdatedBy("tester")
+                .setTimestamp(now.minus(ago))
+                .build());
+    }
+
+    @Nested
+    @DisplayName("Velocity Tests")
+    class VelocityTests {
+
+        @Test
+        @DisplayName("Should sum imports and exports into 1h, 24h and 7d windows")
+        void shouldSumRollingWindows() {
+            // Arrange
+            send(RICE, 1, InventoryUpdateType.IMPORT, 7, Duration.ofDays(3));
+            send(RICE, 2, InventoryUpdateType.EXPORT, 4, Duration.ofHours(5));
+            send(RICE, 3, InventoryUpdateType.IMPORT, 10, Duration.ofMinutes(30));
+
+            // Act
+            InventoryVelocityDTO.WarehouseVelocity velocity = reader.velocity(RICE, now).orElseThrow();
+
+            // Assert
+            assertEquals("Product rice", velocity.getProductName());
+            assertEquals(30, velocity.getCurrentQuantity());
+            assertEquals(10, velocity.getLastHour().getImported());
+            assertEquals(0, velocity.getLastHour().getExported());
+            assertEquals(10, velocity.getLastDay().getImported());
+            assertEquals(4, velocity.getLastDay().getExported());
+            assertEquals(17, velocity.getLastWeek().getImported());
+            assertEquals(4, velocity.getLastWeek().getExported());
+            assertEquals(10.0, velocity.getLastHour().getImportedPerHour());
+        }
+
+        @Test
+        @DisplayName("Should count a redelivered event once")
+        void shouldDropAppliedVersions() {
+            // Arrange
+            send(RICE, 1, InventoryUpdateType.IMPORT, 10, Duration.ofMinutes(20));
+            send(RICE, 2, InventoryUpdateType.EXPORT, 3, Duration.ofMinutes(10));
+            send(RICE, 1, InventoryUpdateType.IMPORT, 10, Duration.ofMinutes(20));
+            send(RICE, 2, InventoryUpdateType.EXPORT, 3, Duration.ofMinutes(10));
+
+            // Act
+            InventoryVelocityDTO.WarehouseVelocity velocity = reader.velocity(RICE, now).orElseThrow();
+
+            // Assert
+            assertEquals(10, velocity.getLastHour().getImported());
+            assertEquals(3, velocity.getLastHour().getExported());
+            assertEquals(20, velocity.getCurrentQuantity());
+        }
+
+        @Test
+        @DisplayName("Should find nothing for a warehouse without events")
+        void shouldReturnEmptyForUnknownWarehouse() {
+            // Act & Assert
+            assertTrue(reader.velocity(SALT, now).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Top Movers Tests")
+    class TopMoversTests {
+
+        @Test
+        @DisplayName("Should rank warehouses by quantity moved within the window")
+        void shouldRankMovers() {
+            // Arrange
+            send(SALT, 1, InventoryUpdateType.IMPORT, 100, Duration.ofHours(30));
+            send(RICE, 1, InventoryUpdateType.IMPORT, 8, Duration.ofHours(3));
+            send(SALT, 2, InventoryUpdateType.EXPORT, 5, Duration.ofHours(2));
+            send(RICE, 2, InventoryUpdateType.EXPORT, 4, Duration.ofMinutes(15));
+
+            // Act
+            List<InventoryVelocityDTO.Mover> day = reader.topMovers(Duration.ofDays(1), 10, now);
+            List<InventoryVelocityDTO.Mover> week = reader.topMovers(Duration.ofDays(7), 1, now);
+
+            // Assert
+            assertEquals(List.of(RICE, SALT), day.stream().map(InventoryVelocityDTO.Mover::getWarehouseId).toList());
+            assertEquals(12, day.get(0).getMoved());
+            assertEquals(5, day.get(1).getMoved());
+            assertEquals(1, week.size());
+            assertEquals(SALT, week.get(0).getWarehouseId());
+            assertEquals(105, week.get(0).getMoved());
+            assertEquals("Product salt", week.get(0).getProductName());
+        }
+    }
+}
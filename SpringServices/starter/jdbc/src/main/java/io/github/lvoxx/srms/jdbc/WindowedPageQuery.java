@@ -0,0 +1,121 @@
+package io.github.lvoxx.srms.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Single statement page query for R2DBC entities.
+ * <p>
+ * Fetches one page with {@code LIMIT/OFFSET} and, when requested, the total
+ * number of matching rows in the same round trip through
+ * {@code COUNT(*) OVER()}. Sort properties are resolved against the entity
+ * mapping (property or column name) so client supplied values never reach
+ * the SQL text; unknown properties are ignored and the primary key is always
+ * appended as a tie-breaker to keep pages stable.
+ *
+ * @param <T> entity type
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+public class WindowedPageQuery<T> {
+
+    private static final String TOTAL_COLUMN = "window_total_count";
+
+    private final R2dbcEntityTemplate template;
+    private final Class<T> entityType;
+    private final RelationalPersistentEntity<?> entity;
+
+    public WindowedPageQuery(R2dbcEntityTemplate template, Class<T> entityType) {
+        this.template = template;
+        this.entityType = entityType;
+        this.entity = template.getConverter().getMappingContext().getRequiredPersistentEntity(entityType);
+    }
+
+    /**
+     * One fetched row.
+     *
+     * @param entity mapped entity
+     * @param total  number of rows matching the filter, {@code -1} when the
+     *               total was not requested
+     */
+    public record Row<T>(T entity, long total) {
+    }
+
+    /**
+     * Fetches a page of entities.
+     *
+     * @param where     SQL predicate using named parameters (without
+     *                  {@code WHERE})
+     * @param bindings  values for the named parameters in {@code where}
+     * @param sort      requested order
+     * @param offset    number of rows to skip
+     * @param limit     maximum number of rows to return
+     * @param withTotal whether to compute {@code COUNT(*) OVER()}
+     * @return Flux of rows in the requested order
+     */
+    public Flux<Row<T>> fetch(String where, Map<String, ?> bindings, Sort sort, long offset, int limit,
+            boolean withTotal) {
+        String sql = "SELECT *" + (withTotal ? ", COUNT(*) OVER() AS " + TOTAL_COLUMN : "")
+                + " FROM " + entity.getTableName().toSql(IdentifierProcessing.NONE)
+                + " WHERE " + where
+                + " ORDER BY " + orderBy(sort)
+                + " LIMIT :limit OFFSET :offset";
+
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(sql)
+                .bind("limit", limit)
+                .bind("offset", offset);
+        for (Map.Entry<String, ?> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+
+        return spec.map((row, metadata) -> new Row<>(
+                template.getConverter().read(entityType, row, metadata),
+                withTotal ? row.get(TOTAL_COLUMN, Long.class) : -1L))
+                .all();
+    }
+
+    private String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        boolean idOrdered = false;
+        for (Sort.Order order : sort) {
+            RelationalPersistentProperty property = resolve(order.getProperty());
+            if (property != null) {
+                orders.add(column(property) + (order.isAscending() ? " ASC" : " DESC"));
+                idOrdered |= property.isIdProperty();
+            }
+        }
+        RelationalPersistentProperty id = entity.getIdProperty();
+        if (id != null && !idOrdered) {
+            orders.add(column(id) + " ASC");
+        }
+        return String.join(", ", orders);
+    }
+
+    private RelationalPersistentProperty resolve(String name) {
+        RelationalPersistentProperty byName = entity.getPersistentProperty(name);
+        if (byName != null) {
+            return byName;
+        }
+        for (RelationalPersistentProperty property : entity) {
+            if (property.getColumnName().getReference().equalsIgnoreCase(name)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    private static String column(RelationalPersistentProperty property) {
+        return property.getColumnName().toSql(IdentifierProcessing.NONE);
+    }
+}
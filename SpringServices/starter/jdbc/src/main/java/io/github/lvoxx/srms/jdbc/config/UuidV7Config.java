@@ -0,0 +1,38 @@
+package io.github.lvoxx.srms.jdbc.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+import io.github.lvoxx.srms.jdbc.id.UuidV7Generator;
+import io.github.lvoxx.srms.jdbc.id.UuidV7IdCallback;
+
+/**
+ * Application-side UUIDv7 primary keys for the R2DBC entities.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnClass(R2dbcMappingContext.class)
+public class UuidV7Config {
+
+    @Bean
+    public UuidV7Generator uuidV7Generator() {
+        return UuidV7Generator.getDefault();
+    }
+
+    /**
+     * Picked up by the entity callbacks of the R2DBC entity template.
+     *
+     * @param mappingContext R2DBC mapping context of the entities
+     * @param generator      generator of the ids
+     * @return id assigning callback
+     */
+    @Bean
+    public UuidV7IdCallback uuidV7IdCallback(R2dbcMappingContext mappingContext, UuidV7Generator generator) {
+        return new UuidV7IdCallback(mappingContext, generator);
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.lvoxx.srms.jdbc.id;
+
+import java.util.UUID;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Assigns a UUIDv7 to entities saved without an id.
+ * <p>
+ * Repositories decide between insert and update before this callback runs,
+ * so an entity with a null id is still inserted, now with the generated id
+ * instead of the random database default. Entities whose id is not a
+ * {@link UUID}, or is already set, are left untouched.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+public class UuidV7IdCallback implements BeforeConvertCallback<Object>, Ordered {
+
+    private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
+    private final UuidV7Generator generator;
+
+    /**
+     * @param mappingContext R2DBC mapping context of the entities
+     * @param generator      generator of the ids
+     */
+    public UuidV7IdCallback(
+            MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext,
+            UuidV7Generator generator) {
+        this.mappingContext = mappingContext;
+        this.generator = generator;
+    }
+
+    @Override
+    public Publisher<Object> onBeforeConvert(Object entity, SqlIdentifier table) {
+        RelationalPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entity.getClass());
+        if (persistentEntity == null || !persistentEntity.hasIdProperty()) {
+            return Mono.just(entity);
+        }
+        RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+        if (!UUID.class.equals(idProperty.getType())) {
+            return Mono.just(entity);
+        }
+
+        PersistentPropertyAccessor<Object> accessor = persistentEntity.getPropertyAccessor(entity);
+        if (accessor.getProperty(idProperty) != null) {
+            return Mono.just(entity);
+        }
+        accessor.setProperty(idProperty, generator.next());
+        return Mono.just(accessor.getBean());
+    }
+
+    /**
+     * Runs first, so other callbacks already see the id.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.lvoxx.srms.jdbc.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+import io.github.lvoxx.srms.jdbc.AbstractEntity;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Mono;
+
+@DisplayName("UUIDv7 Generator Tests")
+@Tags({
+        @Tag("Id"), @Tag("Mock")
+})
+public class UuidV7GeneratorTest {
+
+    private static final long NOW = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    private MutableClock clock;
+    private UuidV7Generator generator;
+
+    /**
+     * Clock moved by the tests.
+     */
+    private static final class MutableClock extends Clock {
+
+        private long millis = NOW;
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    @SuperBuilder
+    @Getter
+    @Setter
+    @Table("sample")
+    static class Sample extends AbstractEntity {
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        generator = new UuidV7Generator(clock, () -> ThreadLocalRandom.current().nextLong());
+    }
+
+    @Nested
+    @DisplayName("Layout Tests")
+    class LayoutTests {
+
+        @Test
+        @DisplayName("Should set version 7, the RFC variant and the timestamp")
+        void shouldWriteVersionVariantAndTimestamp() {
+            // Act
+            UUID id = generator.next();
+
+            // Assert
+            assertEquals(7, id.version());
+            assertEquals(2, id.variant());
+            assertEquals(NOW, UuidV7Generator.timestamp(id));
+        }
+
+        @Test
+        @DisplayName("Should sort like its timestamp as text and as uuid")
+        void shouldSortByTime() {
+            // Arrange
+            UUID first = generator.next();
+            clock.millis += 1;
+            UUID second = generator.next();
+
+            // Assert
+            assertTrue(first.toString().compareTo(second.toString()) < 0);
+            assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()) < 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Monotonicity Tests")
+    class MonotonicityTests {
+
+        @Test
+        @DisplayName("Should keep increasing within a millisecond and past counter overflow")
+        void shouldIncreaseWithinMillisecond() {
+            // Act
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(generator.next());
+            }
+
+            // Assert
+            for (int i = 1; i < ids.size(); i++) {
+                assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0);
+            }
+            // 4096 ids per millisecond, the rest is carried into the following ones
+            assertEquals(NOW + 2, UuidV7Generator.timestamp(ids.get(ids.size() - 1)));
+        }
+
+        @Test
+        @DisplayName("Should not go back when the clock does")
+        void shouldIgnoreClockGoingBack() {
+            // Arrange
+            UUID before = generator.next();
+            clock.millis -= 5_000;
+
+            // Act
+            UUID after = generator.next();
+
+            // Assert
+            assertTrue(before.toString().compareTo(after.toString()) < 0);
+            assertEquals(NOW, UuidV7Generator.timestamp(after));
+        }
+
+        @Test
+        @DisplayName("Should hand out unique ids to concurrent callers")
+        void shouldBeUniqueAcrossThreads() throws Exception {
+            // Arrange
+            UuidV7Generator shared = UuidV7Generator.getDefault();
+            Set<UUID> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // Act
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(executor.submit(() -> {
+                    UUID previous = null;
+                    for (int i = 0; i < 20_000; i++) {
+                        UUID id = shared.next();
+                        assertTrue(previous == null || previous.toString().compareTo(id.toString()) < 0);
+                        ids.add(id);
+                        previous = id;
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            executor.shutdown();
+
+            // Assert
+            assertEquals(8 * 20_000, ids.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Callback Tests")
+    class CallbackTests {
+
+        private final UuidV7IdCallback callback = new UuidV7IdCallback(new R2dbcMappingContext(), generator());
+
+        private UuidV7Generator generator() {
+            return new UuidV7Generator(Clock.systemUTC(), () -> 0L);
+        }
+
+        @Test
+        @DisplayName("Should assign a UUIDv7 to new entities")
+        void shouldAssignIdToNewEntity() {
+            // Arrange
+            Sample sample = Sample.builder().build();
+            assertNull(sample.getId());
+
+            // Act
+            Object result = Mono.from(callback.onBeforeConvert(sample, SqlIdentifier.unquoted("sample"))).block();
+
+            // Assert
+            assertSame(sample, result);
+            assertNotNull(sample.getId());
+            assertEquals(7, sample.getId().version());
+        }
+
+        @Test
+        @DisplayName("Should keep the id of existing entities")
+        void shouldKeepExistingId() {
+            // Arrange
+            UUID id = UUID.randomUUID();
+            Sample sample = Sample.builder().id(id).build();
+
+            // Act
+            Mono.from(callback.onBeforeConvert(sample, SqlIdentifier.unquoted("sample"))).block();
+
+            // Assert
+            assertEquals(id, sample.getId());
+        }
+    }
+}
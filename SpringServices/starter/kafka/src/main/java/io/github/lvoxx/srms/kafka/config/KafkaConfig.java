@@ -1,20 +1,53 @@
 package io.github.lvoxx.srms.kafka.config;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.CompositeProducerListener;
+import org.springframework.kafka.support.LoggingProducerListener;
+import org.springframework.kafka.support.ProducerListener;
 
+import io.confluent.kafka.schemaregistry.avro.AvroSchemaProvider;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClientFactory;
 import io.confluent.kafka.serializers.KafkaAvroSerializer;
 import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
+import io.github.lvoxx.srms.kafka.producer.ContactorPartitioner;
+import io.github.lvoxx.srms.kafka.producer.ProducerDeliveryMonitor;
+import io.github.lvoxx.srms.kafka.serialization.PinnedAvroSerializer;
+import io.github.lvoxx.srms.kafka.serialization.SchemaIdResolver;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest;
 import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -72,15 +105,174 @@ public class KafkaConfig {
     @Value("${spring.kafka.producer.properties.max.block.ms:60000}")
     private int maxBlockMs;
 
+    @Value("${spring.kafka.properties.auto.register.schemas:true}")
+    private boolean autoRegisterSchemas;
+
+    @Value("${srms.kafka.avro.schema-ids:}")
+    private String schemaIdsLocation;
+
+    @Value("${srms.kafka.producer.health.window-ms:300000}")
+    private long healthWindowMs;
+
+    /**
+     * Schemas cached by the registry client of the schema-pinned producers,
+     * one per record type.
+     */
+    private static final int SCHEMA_CACHE_CAPACITY = 100;
+
+    private final ResourceLoader resourceLoader;
+    private final Environment environment;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<SchemaIdResolver> schemaIds;
+
     // ==================== PRODUCER CONFIGURATION ====================
 
     /**
      * Producer factory for WarehouseAlertMessage with Avro serialization.
+     * <p>
+     * Alerts are partitioned by contactor ({@link ContactorPartitioner}), so
+     * the digest of a contactor is built by a single consumer.
      * 
      * @return configured producer factory
      */
     @Bean
     public ProducerFactory<String, WarehouseAlertMessage> warehouseAlertProducerFactory() {
+        ProducerFactory<String, WarehouseAlertMessage> factory = producerFactory("warehouse-alert-producer",
+                WarehouseAlertMessage.getClassSchema());
+        factory.updateConfigs(Map.of(ProducerConfig.PARTITIONER_CLASS_CONFIG, ContactorPartitioner.class));
+        return factory;
+    }
+
+    /**
+     * Producer factory for WarehouseInventoryUpdateMessage with Avro
+     * serialization.
+     * 
+     * @return configured producer factory
+     */
+    @Bean
+    public ProducerFactory<String, WarehouseInventoryUpdateMessage> warehouseInventoryProducerFactory() {
+        return producerFactory("warehouse-inventory-producer", WarehouseInventoryUpdateMessage.getClassSchema());
+    }
+
+    /**
+     * Producer factory for WarehouseStatisticsSnapshot with Avro
+     * serialization.
+     * 
+     * @return configured producer factory
+     */
+    @Bean
+    public ProducerFactory<String, WarehouseStatisticsSnapshot> warehouseStatisticsProducerFactory() {
+        return producerFactory("warehouse-statistics-producer", WarehouseStatisticsSnapshot.getClassSchema());
+    }
+
+    /**
+     * Producer factory for WarehouseAlertDigest with Avro serialization.
+     * 
+     * @return configured producer factory
+     */
+    @Bean
+    public ProducerFactory<String, WarehouseAlertDigest> warehouseAlertDigestProducerFactory() {
+        return producerFactory("warehouse-alert-digest-producer", WarehouseAlertDigest.getClassSchema());
+    }
+
+    /**
+     * Resolver of the schema ids used by schema-pinned producers, only
+     * created when {@code srms.kafka.avro.pinned-schemas} is enabled.
+     * <p>
+     * Ids are read from the registry once per schema, through a registry
+     * client configured from {@code spring.kafka.properties} like the
+     * registry serializers, so authentication and SSL settings apply; the
+     * optional schema id file ({@code subject=id} per line, subjects being
+     * record full names) provides them when no registry is reachable.
+     *
+     * @return schema id resolver
+     * @throws IOException if the schema id file cannot be read
+     */
+    @Bean
+    @ConditionalOnProperty(name = "srms.kafka.avro.pinned-schemas", havingValue = "true")
+    public SchemaIdResolver schemaIdResolver() throws IOException {
+        Map<String, Integer> pinnedIds = new HashMap<>();
+        if (!schemaIdsLocation.isBlank()) {
+            Properties ids = PropertiesLoaderUtils.loadProperties(resourceLoader.getResource(schemaIdsLocation));
+            ids.forEach((subject, id) -> pinnedIds.put(subject.toString(), Integer.valueOf(id.toString().trim())));
+            log.info("Loaded {} pinned schema ids from {}", pinnedIds.size(), schemaIdsLocation);
+        }
+        return new SchemaIdResolver(schemaRegistryClient(), autoRegisterSchemas, pinnedIds);
+    }
+
+    /**
+     * Builds the registry client of the schema id resolver. {@code mock://}
+     * URLs are served by the in-memory registry of the same scope as the
+     * registry serializers.
+     */
+    private SchemaRegistryClient schemaRegistryClient() {
+        Map<String, String> properties = Binder.get(environment)
+                .bind("spring.kafka.properties", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        List<String> urls = Arrays.stream(schemaRegistryUrl.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        return SchemaRegistryClientFactory.newClient(urls, SCHEMA_CACHE_CAPACITY,
+                List.of(new AvroSchemaProvider()), properties, Map.of());
+    }
+
+    /**
+     * Builds a producer factory for a record type.
+     * <p>
+     * In schema-pinned mode values are written by a
+     * {@link PinnedAvroSerializer} whose schema id is resolved at startup,
+     * instead of the registry serializer looking the schema up per subject.
+     *
+     * @param clientId client ID for monitoring
+     * @param schema   schema of the record type
+     * @return configured producer factory
+     */
+    private <T extends SpecificRecord> ProducerFactory<String, T> producerFactory(String clientId, Schema schema) {
+        Map<String, Object> config = producerConfig(clientId);
+        SchemaIdResolver resolver = schemaIds.getIfAvailable();
+        DefaultKafkaProducerFactory<String, T> factory = resolver == null
+                ? new DefaultKafkaProducerFactory<>(config)
+                : new DefaultKafkaProducerFactory<>(config, new StringSerializer(),
+                        new PinnedAvroSerializer<>(schema, resolver));
+
+        // Kafka client metrics: batch-size-avg, record-queue-time-avg,
+        // request-latency-avg, buffer-exhausted-rate, per-topic error rates
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            factory.addListener(new MicrometerProducerListener<>(registry));
+        }
+        return factory;
+    }
+
+    /**
+     * Monitor of the sends of all templates, counting outcomes per topic and
+     * tracking delivery timeouts for the producer health indicator.
+     *
+     * @return producer delivery monitor
+     */
+    @Bean
+    public ProducerDeliveryMonitor producerDeliveryMonitor() {
+        return new ProducerDeliveryMonitor(meterRegistry.getIfAvailable(), Duration.ofMillis(healthWindowMs),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Send listener of the templates: failures are still logged, and every
+     * outcome is reported to the {@link ProducerDeliveryMonitor}.
+     */
+    private <V> ProducerListener<String, V> producerListener() {
+        return new CompositeProducerListener<>(new LoggingProducerListener<>(),
+                producerDeliveryMonitor().listener());
+    }
+
+    /**
+     * Builds the Avro producer settings shared by all producers.
+     * 
+     * @param clientId client ID for monitoring
+     * @return producer configuration
+     */
+    private Map<String, Object> producerConfig(String clientId) {
         Map<String, Object> config = new HashMap<>();
         
         // Basic Kafka Configuration
@@ -113,14 +305,14 @@ public class KafkaConfig {
         config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
         
         // Client ID for monitoring
-        config.put(ProducerConfig.CLIENT_ID_CONFIG, "warehouse-alert-producer");
+        config.put(ProducerConfig.CLIENT_ID_CONFIG, clientId);
 
-        log.info("Configured Kafka Producer with bootstrap servers: {}", bootstrapServers);
+        log.info("Configured Kafka Producer {} with bootstrap servers: {}", clientId, bootstrapServers);
         log.info("Schema Registry URL: {}", schemaRegistryUrl);
         log.debug("Producer config: acks={}, retries={}, idempotence={}", 
                  acks, retries, enableIdempotence);
 
-        return new DefaultKafkaProducerFactory<>(config);
+        return config;
     }
 
     /**
@@ -139,9 +331,121 @@ public class KafkaConfig {
         
         // Enable observation for metrics and tracing
         template.setObservationEnabled(true);
+        template.setProducerListener(producerListener());
         
         log.info("KafkaTemplate configured for WarehouseAlertMessage");
         
         return template;
     }
+
+    /**
+     * KafkaTemplate for sending WarehouseInventoryUpdateMessage.
+     * <p>
+     * This template is used by the warehouse outbox relay to publish
+     * inventory change events.
+     * 
+     * @param producerFactory the producer factory
+     * @return configured KafkaTemplate
+     */
+    @Bean
+    public KafkaTemplate<String, WarehouseInventoryUpdateMessage> warehouseInventoryKafkaTemplate(
+            ProducerFactory<String, WarehouseInventoryUpdateMessage> producerFactory) {
+
+        KafkaTemplate<String, WarehouseInventoryUpdateMessage> template = new KafkaTemplate<>(producerFactory);
+        template.setObservationEnabled(true);
+        template.setProducerListener(producerListener());
+
+        log.info("KafkaTemplate configured for WarehouseInventoryUpdateMessage");
+
+        return template;
+    }
+
+    /**
+     * KafkaTemplate for sending WarehouseStatisticsSnapshot.
+     * <p>
+     * This template is used by the warehouse statistics snapshot publisher.
+     * 
+     * @param producerFactory the producer factory
+     * @return configured KafkaTemplate
+     */
+    @Bean
+    public KafkaTemplate<String, WarehouseStatisticsSnapshot> warehouseStatisticsKafkaTemplate(
+            ProducerFactory<String, WarehouseStatisticsSnapshot> producerFactory) {
+
+        KafkaTemplate<String, WarehouseStatisticsSnapshot> template = new KafkaTemplate<>(producerFactory);
+        template.setObservationEnabled(true);
+        template.setProducerListener(producerListener());
+
+        log.info("KafkaTemplate configured for WarehouseStatisticsSnapshot");
+
+        return template;
+    }
+
+    /**
+     * KafkaTemplate for sending WarehouseAlertDigest.
+     * <p>
+     * This template is used by the warehouse alert digest stage.
+     * 
+     * @param producerFactory the producer factory
+     * @return configured KafkaTemplate
+     */
+    @Bean
+    public KafkaTemplate<String, WarehouseAlertDigest> warehouseAlertDigestKafkaTemplate(
+            ProducerFactory<String, WarehouseAlertDigest> producerFactory) {
+
+        KafkaTemplate<String, WarehouseAlertDigest> template = new KafkaTemplate<>(producerFactory);
+        template.setObservationEnabled(true);
+        template.setProducerListener(producerListener());
+
+        log.info("KafkaTemplate configured for WarehouseAlertDigest");
+
+        return template;
+    }
+
+    // ==================== TOPIC CONFIGURATION ====================
+
+    /**
+     * Log-compacted alert state topic, created on startup when missing.
+     * <p>
+     * Compaction keeps the current alert per product and drops resolved
+     * products once their tombstone is compacted.
+     *
+     * @return topic definition
+     */
+    @Bean
+    public NewTopic warehouseAlertStateTopic() {
+        return TopicBuilder.name(Topics.WAREHOUSE_ALERT_STATE)
+                .compact()
+                .build();
+    }
+
+    /**
+     * Log-compacted configuration topic, created on startup when missing.
+     * <p>
+     * Compaction keeps the latest update per scope, so a starting instance
+     * catches up with the current configuration.
+     *
+     * @return topic definition
+     */
+    @Bean
+    public NewTopic configurationTopic() {
+        return TopicBuilder.name(Topics.CONFIGURATION)
+                .compact()
+                .build();
+    }
+
+    /**
+     * Log-compacted statistics topic, created on startup when missing.
+     * <p>
+     * Compaction keeps the latest snapshot per key, so consumers bootstrap
+     * by reading the topic from the beginning.
+     * 
+     * @return topic definition
+     */
+    @Bean
+    public NewTopic warehouseStatisticsTopic() {
+        return TopicBuilder.name(Topics.WAREHOUSE_STATISTICS)
+                .compact()
+                .build();
+    }
 }
\ No newline at end of file
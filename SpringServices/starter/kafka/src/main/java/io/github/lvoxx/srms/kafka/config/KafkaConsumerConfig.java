@@ -0,0 +1,146 @@
+package io.github.lvoxx.srms.kafka.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.github.lvoxx.srms.kafka.consumer.ReactiveKafkaConsumerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka consumer configuration shared by all modules.
+ * <p>
+ * Configures Avro deserialization with Confluent Schema Registry integration
+ * from the same properties as the producers, and exposes a
+ * {@link ReactiveKafkaConsumerFactory} for back-pressured reactive consumers.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.kafka.properties.schema.registry.url:http://localhost:8081}")
+    private String schemaRegistryUrl;
+
+    @Value("${spring.kafka.consumer.auto-offset-reset:earliest}")
+    private String autoOffsetReset;
+
+    @Value("${spring.kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${spring.kafka.consumer.properties.fetch.min.bytes:1}")
+    private int fetchMinBytes;
+
+    @Value("${spring.kafka.consumer.properties.fetch.max.wait.ms:500}")
+    private int fetchMaxWaitMs;
+
+    @Value("${spring.kafka.consumer.properties.max.poll.interval.ms:300000}")
+    private int maxPollIntervalMs;
+
+    @Value("${spring.kafka.listener.concurrency:1}")
+    private int concurrency;
+
+    @Value("${srms.kafka.consumer.record-concurrency:16}")
+    private int recordConcurrency;
+
+    @Value("${srms.kafka.consumer.commit-count:500}")
+    private int commitCount;
+
+    @Value("${srms.kafka.consumer.commit-interval-ms:5000}")
+    private long commitIntervalMs;
+
+    @Value("${srms.kafka.consumer.batch-timeout-ms:60000}")
+    private long batchTimeoutMs;
+
+    @Value("${srms.kafka.consumer.commit-timeout-ms:10000}")
+    private long commitTimeoutMs;
+
+    @Value("${srms.kafka.consumer.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${srms.kafka.consumer.retry-attempts:9}")
+    private long retryAttempts;
+
+    // ==================== CONSUMER CONFIGURATION ====================
+
+    /**
+     * Factory of reactive consumers with Avro deserialization.
+     * <p>
+     * The batch timeout is capped to {@code max.poll.interval.ms} minus the
+     * commit timeout, so a slow batch never makes the consumer leave its
+     * group.
+     *
+     * @param meterRegistry registry the consumer metrics are bound to, if any
+     * @return configured consumer factory
+     */
+    @Bean
+    public ReactiveKafkaConsumerFactory reactiveKafkaConsumerFactory(ObjectProvider<MeterRegistry> meterRegistry) {
+        return ReactiveKafkaConsumerFactory.builder()
+                .consumerConfig(consumerConfig())
+                .concurrency(concurrency)
+                .recordConcurrency(recordConcurrency)
+                .commitCount(commitCount)
+                .commitInterval(Duration.ofMillis(commitIntervalMs))
+                .batchTimeout(Duration.ofMillis(batchTimeoutMs))
+                .commitTimeout(Duration.ofMillis(commitTimeoutMs))
+                .retryBackoff(Duration.ofMillis(retryBackoffMs))
+                .retryAttempts(retryAttempts)
+                .meterRegistry(meterRegistry.getIfAvailable())
+                .build();
+    }
+
+    /**
+     * Builds the Avro consumer settings shared by all consumers.
+     * <p>
+     * Values go through an {@link ErrorHandlingDeserializer}, so a record
+     * that cannot be deserialized is skipped instead of failing every poll.
+     *
+     * @return consumer configuration
+     */
+    private Map<String, Object> consumerConfig() {
+        Map<String, Object> config = new HashMap<>();
+
+        // Basic Kafka Configuration
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, KafkaAvroDeserializer.class);
+
+        // Schema Registry Configuration
+        config.put(KafkaAvroDeserializerConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
+        config.put(KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+
+        // Offsets are committed by the listener container
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+
+        // Fetching Configuration
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetchMinBytes);
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, fetchMaxWaitMs);
+        config.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, maxPollIntervalMs);
+
+        log.info("Configured Kafka consumers with bootstrap servers: {}", bootstrapServers);
+        log.debug("Consumer config: maxPollRecords={}, concurrency={}, recordConcurrency={}",
+                maxPollRecords, concurrency, recordConcurrency);
+
+        return config;
+    }
+}
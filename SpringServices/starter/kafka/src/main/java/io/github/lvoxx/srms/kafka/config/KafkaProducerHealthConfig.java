@@ -0,0 +1,37 @@
+package io.github.lvoxx.srms.kafka.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.lvoxx.srms.kafka.producer.ProducerDeliveryHealthIndicator;
+import io.github.lvoxx.srms.kafka.producer.ProducerDeliveryMonitor;
+
+/**
+ * Health indicator of the Kafka producers, registered when Spring Boot
+ * Actuator is on the classpath.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnClass(HealthIndicator.class)
+public class KafkaProducerHealthConfig {
+
+    @Value("${srms.kafka.producer.health.delivery-timeout-threshold:10}")
+    private int deliveryTimeoutThreshold;
+
+    /**
+     * Exposed as the {@code kafkaProducer} health component.
+     *
+     * @param monitor monitor of the producer sends
+     * @return producer health indicator
+     */
+    @Bean
+    public ProducerDeliveryHealthIndicator kafkaProducerHealthIndicator(ProducerDeliveryMonitor monitor) {
+        return new ProducerDeliveryHealthIndicator(monitor, deliveryTimeoutThreshold);
+    }
+}
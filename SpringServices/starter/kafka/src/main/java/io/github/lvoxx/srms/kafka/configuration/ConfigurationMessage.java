@@ -0,0 +1,631 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package io.github.lvoxx.srms.kafka.configuration;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+/** Runtime configuration update for the properties under a scope, keyed by scope */
+@org.apache.avro.specific.AvroGenerated
+public class ConfigurationMessage extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = 2598860786726410819L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"ConfigurationMessage\",\"namespace\":\"io.github.lvoxx.srms.kafka.configuration\",\"doc\":\"Runtime configuration update for the properties under a scope, keyed by scope\",\"fields\":[{\"name\":\"messageId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for the configuration message\"},{\"name\":\"scope\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Property prefix the update applies to, e.g. warehouse.alert, also the message key\"},{\"name\":\"properties\",\"type\":{\"type\":\"map\",\"values\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"avro.java.string\":\"String\"},\"doc\":\"Property values by name relative to the scope, in kebab-case, e.g. check-interval -> PT30M\"},{\"name\":\"updatedBy\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"User or system that issued the update\",\"default\":null},{\"name\":\"timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"Timestamp when the update was issued in milliseconds\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+  static {
+    MODEL$.addLogicalTypeConversion(new org.apache.avro.data.TimeConversions.TimestampMillisConversion());
+  }
+
+  private static final BinaryMessageEncoder<ConfigurationMessage> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<ConfigurationMessage> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<ConfigurationMessage> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<ConfigurationMessage> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<ConfigurationMessage> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this ConfigurationMessage to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a ConfigurationMessage from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a ConfigurationMessage instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static ConfigurationMessage fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  /** Unique identifier for the configuration message */
+  private java.lang.String messageId;
+  /** Property prefix the update applies to, e.g. warehouse.alert, also the message key */
+  private java.lang.String scope;
+  /** Property values by name relative to the scope, in kebab-case, e.g. check-interval -> PT30M */
+  private java.util.Map<java.lang.String,java.lang.String> properties;
+  /** User or system that issued the update */
+  private java.lang.String updatedBy;
+  /** Timestamp when the update was issued in milliseconds */
+  private java.time.Instant timestamp;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public ConfigurationMessage() {}
+
+  /**
+   * All-args constructor.
+   * @param messageId Unique identifier for the configuration message
+   * @param scope Property prefix the update applies to, e.g. warehouse.alert, also the message key
+   * @param properties Property values by name relative to the scope, in kebab-case, e.g. check-interval -> PT30M
+   * @param updatedBy User or system that issued the update
+   * @param timestamp Timestamp when the update was issued in milliseconds
+   */
+  public ConfigurationMessage(java.lang.String messageId, java.lang.String scope, java.util.Map<java.lang.String,java.lang.String> properties, java.lang.String updatedBy, java.time.Instant timestamp) {
+    this.messageId = messageId;
+    this.scope = scope;
+    this.properties = properties;
+    this.updatedBy = updatedBy;
+    this.timestamp = timestamp.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return messageId;
+    case 1: return scope;
+    case 2: return properties;
+    case 3: return updatedBy;
+    case 4: return timestamp;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  private static final org.apache.avro.Conversion<?>[] conversions =
+      new org.apache.avro.Conversion<?>[] {
+      null,
+      null,
+      null,
+      null,
+      new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
+      null
+  };
+
+  @Override
+  public org.apache.avro.Conversion<?> getConversion(int field) {
+    return conversions[field];
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: messageId = value$ != null ? value$.toString() : null; break;
+    case 1: scope = value$ != null ? value$.toString() : null; break;
+    case 2: properties = (java.util.Map<java.lang.String,java.lang.String>)value$; break;
+    case 3: updatedBy = value$ != null ? value$.toString() : null; break;
+    case 4: timestamp = (java.time.Instant)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'messageId' field.
+   * @return Unique identifier for the configuration message
+   */
+  public java.lang.String getMessageId() {
+    return messageId;
+  }
+
+
+  /**
+   * Sets the value of the 'messageId' field.
+   * Unique identifier for the configuration message
+   * @param value the value to set.
+   */
+  public void setMessageId(java.lang.String value) {
+    this.messageId = value;
+  }
+
+  /**
+   * Gets the value of the 'scope' field.
+   * @return Property prefix the update applies to, e.g. warehouse.alert, also the message key
+   */
+  public java.lang.String getScope() {
+    return scope;
+  }
+
+
+  /**
+   * Sets the value of the 'scope' field.
+   * Property prefix the update applies to, e.g. warehouse.alert, also the message key
+   * @param value the value to set.
+   */
+  public void setScope(java.lang.String value) {
+    this.scope = value;
+  }
+
+  /**
+   * Gets the value of the 'properties' field.
+   * @return Property values by name relative to the scope, in kebab-case, e.g. check-interval -> PT30M
+   */
+  public java.util.Map<java.lang.String,java.lang.String> getProperties() {
+    return properties;
+  }
+
+
+  /**
+   * Sets the value of the 'properties' field.
+   * Property values by name relative to the scope, in kebab-case, e.g. check-interval -> PT30M
+   * @param value the value to set.
+   */
+  public void setProperties(java.util.Map<java.lang.String,java.lang.String> value) {
+    this.properties = value;
+  }
+
+  /**
+   * Gets the value of the 'updatedBy' field.
+   * @return User or system that issued the update
+   */
+  public java.lang.String getUpdatedBy() {
+    return updatedBy;
+  }
+
+
+  /**
+   * Sets the value of the 'updatedBy' field.
+   * User or system that issued the update
+   * @param value the value to set.
+   */
+  public void setUpdatedBy(java.lang.String value) {
+    this.updatedBy = value;
+  }
+
+  /**
+   * Gets the value of the 'timestamp' field.
+   * @return Timestamp when the update was issued in milliseconds
+   */
+  public java.time.Instant getTimestamp() {
+    return timestamp;
+  }
+
+
+  /**
+   * Sets the value of the 'timestamp' field.
+   * Timestamp when the update was issued in milliseconds
+   * @param value the value to set.
+   */
+  public void setTimestamp(java.time.Instant value) {
+    this.timestamp = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  /**
+   * Creates a new ConfigurationMessage RecordBuilder.
+   * @return A new ConfigurationMessage RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder newBuilder() {
+    return new io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder();
+  }
+
+  /**
+   * Creates a new ConfigurationMessage RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new ConfigurationMessage RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder newBuilder(io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new ConfigurationMessage RecordBuilder by copying an existing ConfigurationMessage instance.
+   * @param other The existing instance to copy.
+   * @return A new ConfigurationMessage RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder newBuilder(io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for ConfigurationMessage instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<ConfigurationMessage>
+    implements org.apache.avro.data.RecordBuilder<ConfigurationMessage> {
+
+    /** Unique identifier for the configuration message */
+    private java.lang.String messageId;
+    /** Property prefix the update applies to, e.g. warehouse.alert, also the message key */
+    private java.lang.String scope;
+    /** Property values by name relative to the scope, in kebab-case, e.g. check-interval -> PT30M */
+    private java.util.Map<java.lang.String,java.lang.String> properties;
+    /** User or system that issued the update */
+    private java.lang.String updatedBy;
+    /** Timestamp when the update was issued in milliseconds */
+    private java.time.Instant timestamp;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.messageId)) {
+        this.messageId = data().deepCopy(fields()[0].schema(), other.messageId);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.scope)) {
+        this.scope = data().deepCopy(fields()[1].schema(), other.scope);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.properties)) {
+        this.properties = data().deepCopy(fields()[2].schema(), other.properties);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.updatedBy)) {
+        this.updatedBy = data().deepCopy(fields()[3].schema(), other.updatedBy);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[4].schema(), other.timestamp);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing ConfigurationMessage instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.messageId)) {
+        this.messageId = data().deepCopy(fields()[0].schema(), other.messageId);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.scope)) {
+        this.scope = data().deepCopy(fields()[1].schema(), other.scope);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.properties)) {
+        this.properties = data().deepCopy(fields()[2].schema(), other.properties);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.updatedBy)) {
+        this.updatedBy = data().deepCopy(fields()[3].schema(), other.updatedBy);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[4].schema(), other.timestamp);
+        fieldSetFlags()[4] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'messageId' field.
+      * Unique identifier for the configuration message
+      * @return The value.
+      */
+    public java.lang.String getMessageId() {
+      return messageId;
+    }
+
+
+    /**
+      * Sets the value of the 'messageId' field.
+      * Unique identifier for the configuration message
+      * @param value The value of 'messageId'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder setMessageId(java.lang.String value) {
+      validate(fields()[0], value);
+      this.messageId = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'messageId' field has been set.
+      * Unique identifier for the configuration message
+      * @return True if the 'messageId' field has been set, false otherwise.
+      */
+    public boolean hasMessageId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'messageId' field.
+      * Unique identifier for the configuration message
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder clearMessageId() {
+      messageId = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'scope' field.
+      * Property prefix the update applies to, e.g. warehouse.alert, also the message key
+      * @return The value.
+      */
+    public java.lang.String getScope() {
+      return scope;
+    }
+
+
+    /**
+      * Sets the value of the 'scope' field.
+      * Property prefix the update applies to, e.g. warehouse.alert, also the message key
+      * @param value The value of 'scope'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder setScope(java.lang.String value) {
+      validate(fields()[1], value);
+      this.scope = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'scope' field has been set.
+      * Property prefix the update applies to, e.g. warehouse.alert, also the message key
+      * @return True if the 'scope' field has been set, false otherwise.
+      */
+    public boolean hasScope() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'scope' field.
+      * Property prefix the update applies to, e.g. warehouse.alert, also the message key
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder clearScope() {
+      scope = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'properties' field.
+      * Property values by name relative to the scope, in kebab-case, e.g. check-interval -> PT30M
+      * @return The value.
+      */
+    public java.util.Map<java.lang.String,java.lang.String> getProperties() {
+      return properties;
+    }
+
+
+    /**
+      * Sets the value of the 'properties' field.
+      * Property values by name relative to the scope, in kebab-case, e.g. check-interval -> PT30M
+      * @param value The value of 'properties'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder setProperties(java.util.Map<java.lang.String,java.lang.String> value) {
+      validate(fields()[2], value);
+      this.properties = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'properties' field has been set.
+      * Property values by name relative to the scope, in kebab-case, e.g. check-interval -> PT30M
+      * @return True if the 'properties' field has been set, false otherwise.
+      */
+    public boolean hasProperties() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'properties' field.
+      * Property values by name relative to the scope, in kebab-case, e.g. check-interval -> PT30M
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder clearProperties() {
+      properties = null;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'updatedBy' field.
+      * User or system that issued the update
+      * @return The value.
+      */
+    public java.lang.String getUpdatedBy() {
+      return updatedBy;
+    }
+
+
+    /**
+      * Sets the value of the 'updatedBy' field.
+      * User or system that issued the update
+      * @param value The value of 'updatedBy'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder setUpdatedBy(java.lang.String value) {
+      validate(fields()[3], value);
+      this.updatedBy = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'updatedBy' field has been set.
+      * User or system that issued the update
+      * @return True if the 'updatedBy' field has been set, false otherwise.
+      */
+    public boolean hasUpdatedBy() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'updatedBy' field.
+      * User or system that issued the update
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder clearUpdatedBy() {
+      updatedBy = null;
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'timestamp' field.
+      * Timestamp when the update was issued in milliseconds
+      * @return The value.
+      */
+    public java.time.Instant getTimestamp() {
+      return timestamp;
+    }
+
+
+    /**
+      * Sets the value of the 'timestamp' field.
+      * Timestamp when the update was issued in milliseconds
+      * @param value The value of 'timestamp'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder setTimestamp(java.time.Instant value) {
+      validate(fields()[4], value);
+      this.timestamp = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'timestamp' field has been set.
+      * Timestamp when the update was issued in milliseconds
+      * @return True if the 'timestamp' field has been set, false otherwise.
+      */
+    public boolean hasTimestamp() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'timestamp' field.
+      * Timestamp when the update was issued in milliseconds
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage.Builder clearTimestamp() {
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ConfigurationMessage build() {
+      try {
+        ConfigurationMessage record = new ConfigurationMessage();
+        record.messageId = fieldSetFlags()[0] ? this.messageId : (java.lang.String) defaultValue(fields()[0]);
+        record.scope = fieldSetFlags()[1] ? this.scope : (java.lang.String) defaultValue(fields()[1]);
+        record.properties = fieldSetFlags()[2] ? this.properties : (java.util.Map<java.lang.String,java.lang.String>) defaultValue(fields()[2]);
+        record.updatedBy = fieldSetFlags()[3] ? this.updatedBy : (java.lang.String) defaultValue(fields()[3]);
+        record.timestamp = fieldSetFlags()[4] ? this.timestamp : (java.time.Instant) defaultValue(fields()[4]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<ConfigurationMessage>
+    WRITER$ = (org.apache.avro.io.DatumWriter<ConfigurationMessage>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<ConfigurationMessage>
+    READER$ = (org.apache.avro.io.DatumReader<ConfigurationMessage>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+}
+
+
+
+
+
+
+
+
+
+
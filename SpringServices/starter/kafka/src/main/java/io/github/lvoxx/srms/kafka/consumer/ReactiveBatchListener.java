@@ -0,0 +1,67 @@
+package io.github.lvoxx.srms.kafka.consumer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * Batch listener handing the records of each poll to a
+ * {@link ReactiveRecordHandler}.
+ * <p>
+ * Records are grouped by key, or by partition when they have none. Groups
+ * run concurrently up to {@code recordConcurrency}, records within a group
+ * one after another. The consumer thread waits for the whole batch before
+ * returning to the poll loop, so a slow handler holds back fetching instead
+ * of piling records up in memory.
+ *
+ * @param <V> record value type
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+class ReactiveBatchListener<V> implements BatchMessageListener<String, V> {
+
+    private final ReactiveRecordHandler<V> handler;
+    private final int recordConcurrency;
+    private final Duration batchTimeout;
+
+    @Override
+    public void onMessage(List<ConsumerRecord<String, V>> records) {
+        Map<Object, List<ConsumerRecord<String, V>>> groups = new LinkedHashMap<>();
+        for (ConsumerRecord<String, V> record : records) {
+            if (isUndeserializable(record)) {
+                log.warn("Skipping record {}-{}@{} that could not be deserialized",
+                        record.topic(), record.partition(), record.offset());
+                continue;
+            }
+            groups.computeIfAbsent(orderingKey(record), key -> new ArrayList<>()).add(record);
+        }
+
+        Flux.fromIterable(groups.values())
+                .flatMap(group -> Flux.fromIterable(group).concatMap(handler::handle), recordConcurrency)
+                .then()
+                .block(batchTimeout);
+    }
+
+    private static Object orderingKey(ConsumerRecord<String, ?> record) {
+        return record.key() != null ? record.key() : record.partition();
+    }
+
+    private static boolean isUndeserializable(ConsumerRecord<String, ?> record) {
+        return record.value() == null
+                && record.headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER) != null;
+    }
+}
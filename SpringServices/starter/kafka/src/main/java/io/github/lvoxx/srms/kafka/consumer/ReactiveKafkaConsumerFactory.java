@@ -0,0 +1,161 @@
+package io.github.lvoxx.srms.kafka.consumer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates back-pressured consumers that hand records to a
+ * {@link ReactiveRecordHandler}.
+ * <p>
+ * Each consumer is a batch listener container: a poll returns at most
+ * {@code max.poll.records} records, which are handled before the next poll
+ * (see {@link ReactiveBatchListener}). Offsets are committed once
+ * {@code commitCount} records were handled or {@code commitInterval}
+ * elapsed, whichever comes first. A batch not handled within
+ * {@code batchTimeout} fails; the timeout is capped so that the batch and
+ * the offset commit, bounded by {@code commitTimeout}, both finish before
+ * {@code max.poll.interval.ms}, and the consumer never leaves its group
+ * because of a slow handler. A failed batch is delivered again after
+ * {@code retryBackoff}, up to {@code retryAttempts} times, then logged and
+ * skipped.
+ * <p>
+ * When a {@link MeterRegistry} is available the Kafka client metrics of
+ * every consumer are bound to it, including the consumer lag
+ * ({@code kafka.consumer.fetch.manager.records.lag.max}).
+ * <p>
+ * The returned container is not started; declare it as a bean so that its
+ * lifecycle follows the application context.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Builder
+public class ReactiveKafkaConsumerFactory {
+
+    /**
+     * Kafka client default of {@code max.poll.interval.ms}.
+     */
+    private static final long DEFAULT_MAX_POLL_INTERVAL_MS = 300_000;
+
+    private final Map<String, Object> consumerConfig;
+    private final int concurrency;
+    private final int recordConcurrency;
+    private final int commitCount;
+    private final Duration commitInterval;
+    private final Duration batchTimeout;
+    private final Duration commitTimeout;
+    private final Duration retryBackoff;
+    private final long retryAttempts;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates a consumer of a topic.
+     *
+     * @param <V>     record value type
+     * @param topic   topic to consume
+     * @param groupId consumer group, also used as client id prefix
+     * @param handler handler of the consumed records
+     * @return configured, not yet started container
+     * @throws IllegalArgumentException if {@code commitTimeout} does not
+     *                                  leave time for a batch within
+     *                                  {@code max.poll.interval.ms}
+     */
+    public <V> ConcurrentMessageListenerContainer<String, V> create(String topic, String groupId,
+            ReactiveRecordHandler<V> handler) {
+        return createContainer(topic, groupId, batchTimeout -> new ReactiveBatchListener<>(handler, recordConcurrency,
+                batchTimeout));
+    }
+
+    /**
+     * Creates a consumer reading a topic from the beginning whenever its
+     * partitions are assigned, regardless of committed offsets.
+     * <p>
+     * Meant for compacted topics whose whole content every instance needs,
+     * consumed with a group of its own per instance: a restarted instance
+     * keeps its group, and still replays the latest record of every key.
+     *
+     * @param <V>     record value type
+     * @param topic   topic to consume
+     * @param groupId consumer group of this instance, also used as client id
+     *                prefix
+     * @param handler handler of the consumed records
+     * @return configured, not yet started container
+     * @throws IllegalArgumentException if {@code commitTimeout} does not
+     *                                  leave time for a batch within
+     *                                  {@code max.poll.interval.ms}
+     */
+    public <V> ConcurrentMessageListenerContainer<String, V> createReplaying(String topic, String groupId,
+            ReactiveRecordHandler<V> handler) {
+        return createContainer(topic, groupId, batchTimeout -> new ReplayingBatchListener<>(handler, recordConcurrency,
+                batchTimeout));
+    }
+
+    private <V> ConcurrentMessageListenerContainer<String, V> createContainer(String topic, String groupId,
+            Function<Duration, ReactiveBatchListener<V>> listener) {
+
+        Map<String, Object> config = new HashMap<>(consumerConfig);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+
+        DefaultKafkaConsumerFactory<String, V> consumerFactory = new DefaultKafkaConsumerFactory<>(config);
+        if (meterRegistry != null) {
+            consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        }
+
+        ContainerProperties containerProperties = new ContainerProperties(topic);
+        containerProperties.setGroupId(groupId);
+        containerProperties.setClientId(groupId);
+        containerProperties.setAckMode(ContainerProperties.AckMode.COUNT_TIME);
+        containerProperties.setAckCount(commitCount);
+        containerProperties.setAckTime(commitInterval.toMillis());
+        containerProperties.setSyncCommitTimeout(commitTimeout);
+        containerProperties.setMessageListener(listener.apply(batchTimeout(maxPollInterval(config))));
+
+        ConcurrentMessageListenerContainer<String, V> container = new ConcurrentMessageListenerContainer<>(
+                consumerFactory, containerProperties);
+        container.setConcurrency(concurrency);
+        container.setCommonErrorHandler(
+                new DefaultErrorHandler(new FixedBackOff(retryBackoff.toMillis(), retryAttempts)));
+
+        log.info("Configured reactive Kafka consumer {} of topic {} (concurrency: {}, record concurrency: {})",
+                groupId, topic, concurrency, recordConcurrency);
+
+        return container;
+    }
+
+    /**
+     * Caps the batch timeout so that a timed out batch still leaves
+     * {@code commitTimeout} to commit before {@code max.poll.interval.ms}.
+     *
+     * @param maxPollInterval {@code max.poll.interval.ms} of the consumer
+     * @return batch timeout, strictly below the poll interval
+     */
+    Duration batchTimeout(Duration maxPollInterval) {
+        Duration limit = maxPollInterval.minus(commitTimeout);
+        if (commitTimeout.isNegative() || commitTimeout.isZero() || limit.isNegative() || limit.isZero()) {
+            throw new IllegalArgumentException("Commit timeout " + commitTimeout
+                    + " must be positive and below max.poll.interval.ms " + maxPollInterval);
+        }
+        return batchTimeout.compareTo(limit) < 0 ? batchTimeout : limit;
+    }
+
+    private static Duration maxPollInterval(Map<String, Object> config) {
+        Object value = config.get(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG);
+        return Duration.ofMillis(value != null ? Long.parseLong(value.toString()) : DEFAULT_MAX_POLL_INTERVAL_MS);
+    }
+}
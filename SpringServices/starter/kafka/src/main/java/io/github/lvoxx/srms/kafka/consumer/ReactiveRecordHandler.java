@@ -0,0 +1,33 @@
+package io.github.lvoxx.srms.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive handler of the records consumed through
+ * {@link ReactiveKafkaConsumerFactory}.
+ * <p>
+ * Records sharing a key are handed over one at a time, in partition order;
+ * records of different keys are handled concurrently. Delivery is at least
+ * once, so handlers must tolerate a record seen twice. The value of a
+ * tombstone is {@code null}.
+ *
+ * @param <V> record value type
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ReactiveRecordHandler<V> {
+
+    /**
+     * Handles a record.
+     *
+     * @param record the consumed record
+     * @return Mono completing once the record is handled; an error makes the
+     *         batch it belongs to be delivered again
+     */
+    Mono<Void> handle(ConsumerRecord<String, V> record);
+}
@@ -0,0 +1,33 @@
+package io.github.lvoxx.srms.kafka.consumer;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ReactiveBatchListener} that rewinds every assigned partition to its
+ * beginning, so the whole topic is handled again after each assignment.
+ *
+ * @param <V> record value type
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class ReplayingBatchListener<V> extends ReactiveBatchListener<V> implements ConsumerSeekAware {
+
+    ReplayingBatchListener(ReactiveRecordHandler<V> handler, int recordConcurrency, Duration batchTimeout) {
+        super(handler, recordConcurrency, batchTimeout);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        log.debug("Replaying partitions {} from the beginning", assignments.keySet());
+        callback.seekToBeginning(assignments.keySet());
+    }
+}
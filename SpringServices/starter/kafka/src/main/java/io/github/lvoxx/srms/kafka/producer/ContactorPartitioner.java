@@ -0,0 +1,62 @@
+package io.github.lvoxx.srms.kafka.producer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.utils.Utils;
+
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
+
+/**
+ * Partitions {@link Topics#WAREHOUSE_ALERTS} by contactor.
+ * <p>
+ * Alerts of products with a contactor are placed by a hash of the contactor
+ * id, so all alerts of a supplier land on one partition and are aggregated
+ * by a single consumer of a group. Records keep the product id as key; since
+ * a product has one contactor, its alerts still share a partition and stay
+ * ordered. Any other record is placed by a hash of its key, like the default
+ * partitioner does.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+public class ContactorPartitioner implements Partitioner {
+
+    @Override
+    public int partition(String topic, Object key, byte[] keyBytes, Object value, byte[] valueBytes,
+            Cluster cluster) {
+        int partitions = cluster.partitionCountForTopic(topic);
+        if (Topics.WAREHOUSE_ALERTS.equals(topic) && value instanceof WarehouseAlertMessage alert
+                && alert.getContactorId() != null) {
+            return partition(alert.getContactorId(), partitions);
+        }
+        if (keyBytes == null) {
+            return ThreadLocalRandom.current().nextInt(partitions);
+        }
+        return Utils.toPositive(Utils.murmur2(keyBytes)) % partitions;
+    }
+
+    /**
+     * Partition of the alerts of a contactor.
+     *
+     * @param contactorId contactor id
+     * @param partitions  partition count of the topic
+     * @return partition index
+     */
+    public static int partition(String contactorId, int partitions) {
+        return Utils.toPositive(Utils.murmur2(contactorId.getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+    }
+
+    @Override
+    public void close() {
+    }
+}
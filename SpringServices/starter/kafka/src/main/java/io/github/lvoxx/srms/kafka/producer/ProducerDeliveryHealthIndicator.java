@@ -0,0 +1,47 @@
+package io.github.lvoxx.srms.kafka.producer;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Reports the Kafka producers DOWN while delivery timeouts pile up.
+ * <p>
+ * Timeouts mean records expired in the producer buffer or sends blocked on
+ * a full buffer, i.e. the brokers do not keep up with the send rate; the
+ * indicator turns DOWN once the configured number of timeouts occurred
+ * within the window of the {@link ProducerDeliveryMonitor}, and UP again
+ * once they age out of it.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+public class ProducerDeliveryHealthIndicator implements HealthIndicator {
+
+    private final ProducerDeliveryMonitor monitor;
+    private final int timeoutThreshold;
+
+    /**
+     * @param monitor          monitor of the producer sends
+     * @param timeoutThreshold delivery timeouts within the window that turn
+     *                         the indicator DOWN
+     */
+    public ProducerDeliveryHealthIndicator(ProducerDeliveryMonitor monitor, int timeoutThreshold) {
+        this.monitor = monitor;
+        this.timeoutThreshold = timeoutThreshold;
+    }
+
+    @Override
+    public Health health() {
+        int timeouts = monitor.recentDeliveryTimeouts();
+        Health.Builder health = timeouts >= timeoutThreshold ? Health.down() : Health.up();
+        health.withDetail("deliveryTimeouts", timeouts)
+                .withDetail("threshold", timeoutThreshold)
+                .withDetail("window", monitor.window().toString());
+        String lastError = monitor.lastError();
+        if (lastError != null) {
+            health.withDetail("lastError", lastError);
+        }
+        return health.build();
+    }
+}
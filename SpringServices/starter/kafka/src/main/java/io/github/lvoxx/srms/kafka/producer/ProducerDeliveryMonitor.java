@@ -0,0 +1,149 @@
+package io.github.lvoxx.srms.kafka.producer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.springframework.kafka.support.ProducerListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the outcome of every send of the starter's Kafka templates.
+ * <p>
+ * Sends are counted per topic and outcome in
+ * {@code srms.kafka.producer.records}, failures additionally tagged with
+ * the exception type, so error rates are available per topic. Delivery
+ * timeouts (records expired after {@code delivery.timeout.ms}, or sends
+ * blocked past {@code max.block.ms}) are kept over a sliding window for
+ * {@link ProducerDeliveryHealthIndicator}.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public class ProducerDeliveryMonitor implements ProducerListener<Object, Object> {
+
+    public static final String RECORDS_METER = "srms.kafka.producer.records";
+
+    /**
+     * Timeouts kept at most; enough to report a window that is far past any
+     * sensible threshold.
+     */
+    static final int MAX_TRACKED_TIMEOUTS = 10_000;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration window;
+    private final Clock clock;
+    private final ConcurrentLinkedDeque<Instant> timeouts = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger trackedTimeouts = new AtomicInteger();
+    private final Map<String, Counter> sent = new ConcurrentHashMap<>();
+    private final AtomicReference<String> lastError = new AtomicReference<>();
+
+    /**
+     * @param meterRegistry registry the send counters are bound to, may be
+     *                      null
+     * @param window        window delivery timeouts are counted over
+     * @param clock         clock of the window
+     */
+    public ProducerDeliveryMonitor(MeterRegistry meterRegistry, Duration window, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns this monitor typed for a template.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return this monitor
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> ProducerListener<K, V> listener() {
+        return (ProducerListener<K, V>) (ProducerListener<?, ?>) this;
+    }
+
+    // ==================== LISTENER ====================
+
+    @Override
+    public void onSuccess(ProducerRecord<Object, Object> record, RecordMetadata metadata) {
+        if (meterRegistry != null) {
+            sent.computeIfAbsent(record.topic(), topic -> Counter.builder(RECORDS_METER)
+                    .tag("topic", topic)
+                    .tag("outcome", "sent")
+                    .tag("exception", "none")
+                    .register(meterRegistry))
+                    .increment();
+        }
+    }
+
+    @Override
+    public void onError(ProducerRecord<Object, Object> record, RecordMetadata metadata, Exception exception) {
+        Throwable cause = rootCause(exception);
+        if (meterRegistry != null) {
+            meterRegistry.counter(RECORDS_METER,
+                    "topic", record.topic(),
+                    "outcome", "failed",
+                    "exception", cause.getClass().getSimpleName())
+                    .increment();
+        }
+        lastError.set(record.topic() + ": " + cause.getClass().getSimpleName() + ": " + cause.getMessage());
+
+        if (cause instanceof TimeoutException) {
+            timeouts.addLast(clock.instant());
+            if (trackedTimeouts.incrementAndGet() > MAX_TRACKED_TIMEOUTS && timeouts.pollFirst() != null) {
+                trackedTimeouts.decrementAndGet();
+            }
+        }
+    }
+
+    // ==================== STATE ====================
+
+    /**
+     * @return delivery timeouts within the window
+     */
+    public int recentDeliveryTimeouts() {
+        Instant from = clock.instant().minus(window);
+        Instant oldest;
+        while ((oldest = timeouts.peekFirst()) != null && oldest.isBefore(from)) {
+            if (timeouts.pollFirst() != null) {
+                trackedTimeouts.decrementAndGet();
+            }
+        }
+        return trackedTimeouts.get();
+    }
+
+    /**
+     * @return description of the last failed send, null if none failed
+     */
+    public String lastError() {
+        return lastError.get();
+    }
+
+    /**
+     * @return window delivery timeouts are counted over
+     */
+    public Duration window() {
+        return window;
+    }
+
+    private static Throwable rootCause(Throwable exception) {
+        Throwable cause = exception;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
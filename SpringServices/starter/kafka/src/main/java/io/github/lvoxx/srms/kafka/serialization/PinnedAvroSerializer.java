@@ -0,0 +1,105 @@
+package io.github.lvoxx.srms.kafka.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Avro serializer for one record type with a pinned schema id.
+ * <p>
+ * Records are written in the Schema Registry wire format (magic byte,
+ * schema id, Avro binary), so they are read by the regular Avro
+ * deserializers. Unlike the registry serializer, no schema lookup is made
+ * per record: the schema id is resolved once when the serializer is
+ * created, and a serializer whose id cannot be resolved is not created, so
+ * the send path never waits on the registry. The datum writer is shared and
+ * each thread reuses one output buffer and encoder, so a record costs a
+ * single allocation of its serialized size.
+ *
+ * @param <T> record type
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public class PinnedAvroSerializer<T extends SpecificRecord> implements Serializer<T> {
+
+    private static final byte MAGIC_BYTE = 0x0;
+
+    /**
+     * Buffers grown past this size by a large record are not kept.
+     */
+    static final int MAX_RETAINED_BYTES = 64 * 1024;
+
+    private static final ThreadLocal<Buffer> BUFFERS = ThreadLocal.withInitial(Buffer::new);
+
+    private final Schema schema;
+    private final DatumWriter<T> writer;
+    private final int schemaId;
+
+    /**
+     * Per-thread output buffer and encoder.
+     */
+    private static final class Buffer {
+        private ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        private BinaryEncoder encoder;
+    }
+
+    /**
+     * Creates the serializer and resolves the schema id.
+     *
+     * @param schema    schema of the record type
+     * @param schemaIds resolver of schema ids
+     * @throws SerializationException when the schema id cannot be resolved
+     */
+    public PinnedAvroSerializer(Schema schema, SchemaIdResolver schemaIds) {
+        this.schema = schema;
+        this.writer = new SpecificDatumWriter<>(schema);
+        this.schemaId = schemaIds.resolve(schema);
+        log.debug("Serializing {} with schema id {}", schema.getFullName(), schemaId);
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.getSchema() != schema && !schema.equals(data.getSchema())) {
+            throw new SerializationException("Serializer for " + schema.getFullName()
+                    + " cannot write " + data.getSchema().getFullName());
+        }
+
+        int id = schemaId;
+        Buffer buffer = BUFFERS.get();
+        ByteArrayOutputStream out = buffer.out;
+        out.reset();
+        out.write(MAGIC_BYTE);
+        out.write(id >>> 24);
+        out.write(id >>> 16);
+        out.write(id >>> 8);
+        out.write(id);
+        try {
+            buffer.encoder = EncoderFactory.get().directBinaryEncoder(out, buffer.encoder);
+            writer.write(data, buffer.encoder);
+            buffer.encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed to serialize " + schema.getFullName(), e);
+        }
+
+        byte[] bytes = out.toByteArray();
+        if (bytes.length > MAX_RETAINED_BYTES) {
+            buffer.out = new ByteArrayOutputStream(1024);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.lvoxx.srms.kafka.serialization;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.lang.Nullable;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves the Schema Registry id of record schemas once and keeps it.
+ * <p>
+ * Subjects follow the record name strategy used by the producers: the
+ * subject of a schema is its full name. An id is asked from the registry
+ * client, registering the schema when auto registration is enabled, and
+ * otherwise taken from the pinned ids of a local schema id file, so
+ * producers also start when no registry is reachable.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public class SchemaIdResolver {
+
+    private final SchemaRegistryClient registry;
+    private final boolean autoRegister;
+    private final Map<String, Integer> pinnedIds;
+    private final Map<String, Integer> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry     schema registry client, {@code null} to only use
+     *                     the pinned ids
+     * @param autoRegister register schemas missing from the registry
+     * @param pinnedIds    ids by subject used when the registry cannot
+     *                     answer
+     */
+    public SchemaIdResolver(@Nullable SchemaRegistryClient registry, boolean autoRegister,
+            Map<String, Integer> pinnedIds) {
+        this.registry = registry;
+        this.autoRegister = autoRegister;
+        this.pinnedIds = Map.copyOf(pinnedIds);
+    }
+
+    /**
+     * Resolves the id of a record schema, asking the registry at most once
+     * per subject after a successful answer.
+     *
+     * @param schema record schema
+     * @return schema id
+     * @throws SerializationException when neither the registry nor the
+     *                                pinned ids know the schema
+     */
+    public int resolve(Schema schema) {
+        String subject = schema.getFullName();
+        Integer id = resolved.get(subject);
+        if (id != null) {
+            return id;
+        }
+
+        id = fromRegistry(subject, schema);
+        if (id == null) {
+            id = pinnedIds.get(subject);
+        }
+        if (id == null) {
+            throw new SerializationException("No schema id for subject " + subject);
+        }
+        resolved.put(subject, id);
+        log.info("Pinned schema id {} for subject {}", id, subject);
+        return id;
+    }
+
+    // ==================== REGISTRY ====================
+
+    private Integer fromRegistry(String subject, Schema schema) {
+        if (registry == null) {
+            return null;
+        }
+        AvroSchema avroSchema = new AvroSchema(schema);
+        try {
+            return autoRegister
+                    ? registry.register(subject, avroSchema)
+                    : registry.getId(subject, avroSchema);
+        } catch (IOException | RestClientException e) {
+            log.warn("Schema registry unavailable for subject {}: {}", subject, e.getMessage());
+            return null;
+        }
+    }
+}
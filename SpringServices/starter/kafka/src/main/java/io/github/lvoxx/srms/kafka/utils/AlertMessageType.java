@@ -41,10 +41,23 @@ public enum AlertMessageType {
     OUT_OF_STOCK(
             "CRITICAL",
             "Product is out of stock",
-            "Immediate restocking required - Notify sales and procurement teams");
+            "Immediate restocking required - Notify sales and procurement teams"),
 
     /**
-     * Severity level matching Avro AlertLevel enum (WARNING, CRITICAL)
+     * INFO level notice.
+     * <p>
+     * Sent once a product that was alerted on is back at or above its
+     * minimum threshold.
+     * <p>
+     * Action Required: None, close any open restocking follow-ups.
+     */
+    RESOLVED(
+            "INFO",
+            "Product quantity back above minimum threshold",
+            "No action required");
+
+    /**
+     * Severity level (WARNING, CRITICAL, INFO)
      */
     private final String severity;
 
@@ -76,13 +89,14 @@ public enum AlertMessageType {
         return switch (this) {
             case BELOW_MINIMUM -> io.github.lvoxx.srms.kafka.warehouse.AlertLevel.WARNING;
             case OUT_OF_STOCK -> io.github.lvoxx.srms.kafka.warehouse.AlertLevel.CRITICAL;
+            case RESOLVED -> io.github.lvoxx.srms.kafka.warehouse.AlertLevel.RESOLVED;
         };
     }
 
     /**
      * Creates an AlertMessageType from severity string.
      * 
-     * @param severity severity level ("WARNING" or "CRITICAL")
+     * @param severity severity level ("WARNING", "CRITICAL" or "INFO")
      * @return corresponding AlertMessageType
      * @throws IllegalArgumentException if severity is not recognized
      */
@@ -90,6 +104,7 @@ public enum AlertMessageType {
         return switch (severity.toUpperCase()) {
             case "WARNING" -> BELOW_MINIMUM;
             case "CRITICAL" -> OUT_OF_STOCK;
+            case "INFO" -> RESOLVED;
             default -> throw new IllegalArgumentException("Unknown severity: " + severity);
         };
     }
@@ -104,6 +119,7 @@ public enum AlertMessageType {
         return switch (alertLevel) {
             case WARNING -> BELOW_MINIMUM;
             case CRITICAL -> OUT_OF_STOCK;
+            case RESOLVED -> RESOLVED;
         };
     }
 }
\ No newline at end of file
@@ -19,33 +19,83 @@ public abstract class Topics {
      * Topic for warehouse alert messages.
      * <p>
      * Contains alerts for products that are below minimum quantity (WARNING)
-     * or completely out of stock (CRITICAL).
+     * or completely out of stock (CRITICAL). Keyed by product id but
+     * partitioned by contactor id when the product has one
+     * ({@link io.github.lvoxx.srms.kafka.producer.ContactorPartitioner}).
      * <p>
      * Message Type:
      * {@link io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage}
      */
     public static final String WAREHOUSE_ALERTS = "srms-warehouse-alerts";
 
+    /**
+     * Topic for the current alert state of each product.
+     * <p>
+     * Log-compacted companion of {@link #WAREHOUSE_ALERTS} keyed by product
+     * id: the latest record of a product is its current alert, and a
+     * resolution is written as a tombstone. Reading the topic from the
+     * beginning yields every product currently alerting.
+     * <p>
+     * Message Type:
+     * {@link io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage}
+     */
+    public static final String WAREHOUSE_ALERT_STATE = "srms-warehouse-alert-state";
+
+    /**
+     * Topic for warehouse alert digests.
+     * <p>
+     * Contains one message per contactor and digest window, listing the
+     * latest alert of each of its products together with the contactor's
+     * contact details. Keyed by contactor id; meant for notifying suppliers
+     * instead of one notification per product.
+     * <p>
+     * Message Type:
+     * {@link io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest}
+     */
+    public static final String WAREHOUSE_ALERT_DIGESTS = "srms-warehouse-alert-digests";
+
     /**
      * Topic for warehouse inventory updates.
      * <p>
-     * Contains real-time inventory change events (imports/exports).
+     * Contains real-time inventory change events (imports/exports), keyed by
+     * warehouse id and relayed from the warehouse outbox at least once.
+     * <p>
+     * Message Type:
+     * {@link io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage}
      */
     public static final String WAREHOUSE_INVENTORY_UPDATES = "srms-warehouse-inventory-updates";
 
     /**
      * Topic for warehouse statistics snapshots.
      * <p>
-     * Contains periodic snapshots of warehouse statistics for analytics.
+     * Contains periodic snapshots of warehouse statistics for analytics. The
+     * topic is log-compacted and keyed by warehouse id, plus
+     * {@link #WAREHOUSE_STATISTICS_DASHBOARD_KEY} for the global snapshot; a
+     * deleted warehouse is removed with a tombstone.
+     * <p>
+     * Message Type:
+     * {@link io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot}
      */
     public static final String WAREHOUSE_STATISTICS = "srms-warehouse-statistics";
 
+    /**
+     * Key of the global dashboard snapshot on {@link #WAREHOUSE_STATISTICS}.
+     */
+    public static final String WAREHOUSE_STATISTICS_DASHBOARD_KEY = "dashboard";
+
     // ==================== CONFIGURATION TOPICS ====================
 
     /**
      * Topic for system-wide configuration updates.
      * <p>
      * Contains configuration changes that services should react to in real-time.
+     * The topic is log-compacted and keyed by scope (e.g.
+     * {@code warehouse.alert}); each record holds the full configuration of
+     * its scope, so an instance reading it from the beginning applies the
+     * latest configuration of every scope.
+     * <p>
+     * Message Type:
+     * {@link io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage}
      */
     public static final String CONFIGURATION = "srms-configuration";
 
@@ -65,6 +115,11 @@ public abstract class Topics {
      */
     public static final String WAREHOUSE_ALERT_CONSUMER_GROUP = "warehouse-alert-consumer-group";
 
+    /**
+     * Consumer group ID of the warehouse alert digest stage.
+     */
+    public static final String WAREHOUSE_ALERT_DIGEST_CONSUMER_GROUP = "warehouse-alert-digest-consumer-group";
+
     /**
      * Consumer group ID for notification services.
      */
@@ -0,0 +1,756 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package io.github.lvoxx.srms.kafka.warehouse;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+/** Totals across all warehouses */
+@org.apache.avro.specific.AvroGenerated
+public class DashboardStatistics extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = 5658579973827329554L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"DashboardStatistics\",\"namespace\":\"io.github.lvoxx.srms.kafka.warehouse\",\"doc\":\"Totals across all warehouses\",\"fields\":[{\"name\":\"totalWarehouses\",\"type\":\"long\",\"doc\":\"Number of active warehouses\"},{\"name\":\"belowMinimum\",\"type\":\"long\",\"doc\":\"Warehouses below their minimum quantity\"},{\"name\":\"outOfStock\",\"type\":\"long\",\"doc\":\"Warehouses out of stock\"},{\"name\":\"totalTransactions\",\"type\":\"long\",\"doc\":\"Number of inventory transactions\"},{\"name\":\"totalImportTransactions\",\"type\":\"long\",\"doc\":\"Number of import transactions\"},{\"name\":\"totalExportTransactions\",\"type\":\"long\",\"doc\":\"Number of export transactions\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+
+  private static final BinaryMessageEncoder<DashboardStatistics> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<DashboardStatistics> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<DashboardStatistics> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<DashboardStatistics> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<DashboardStatistics> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this DashboardStatistics to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a DashboardStatistics from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a DashboardStatistics instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static DashboardStatistics fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  /** Number of active warehouses */
+  private long totalWarehouses;
+  /** Warehouses below their minimum quantity */
+  private long belowMinimum;
+  /** Warehouses out of stock */
+  private long outOfStock;
+  /** Number of inventory transactions */
+  private long totalTransactions;
+  /** Number of import transactions */
+  private long totalImportTransactions;
+  /** Number of export transactions */
+  private long totalExportTransactions;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public DashboardStatistics() {}
+
+  /**
+   * All-args constructor.
+   * @param totalWarehouses Number of active warehouses
+   * @param belowMinimum Warehouses below their minimum quantity
+   * @param outOfStock Warehouses out of stock
+   * @param totalTransactions Number of inventory transactions
+   * @param totalImportTransactions Number of import transactions
+   * @param totalExportTransactions Number of export transactions
+   */
+  public DashboardStatistics(java.lang.Long totalWarehouses, java.lang.Long belowMinimum, java.lang.Long outOfStock, java.lang.Long totalTransactions, java.lang.Long totalImportTransactions, java.lang.Long totalExportTransactions) {
+    this.totalWarehouses = totalWarehouses;
+    this.belowMinimum = belowMinimum;
+    this.outOfStock = outOfStock;
+    this.totalTransactions = totalTransactions;
+    this.totalImportTransactions = totalImportTransactions;
+    this.totalExportTransactions = totalExportTransactions;
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return totalWarehouses;
+    case 1: return belowMinimum;
+    case 2: return outOfStock;
+    case 3: return totalTransactions;
+    case 4: return totalImportTransactions;
+    case 5: return totalExportTransactions;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: totalWarehouses = (java.lang.Long)value$; break;
+    case 1: belowMinimum = (java.lang.Long)value$; break;
+    case 2: outOfStock = (java.lang.Long)value$; break;
+    case 3: totalTransactions = (java.lang.Long)value$; break;
+    case 4: totalImportTransactions = (java.lang.Long)value$; break;
+    case 5: totalExportTransactions = (java.lang.Long)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'totalWarehouses' field.
+   * @return Number of active warehouses
+   */
+  public long getTotalWarehouses() {
+    return totalWarehouses;
+  }
+
+
+  /**
+   * Sets the value of the 'totalWarehouses' field.
+   * Number of active warehouses
+   * @param value the value to set.
+   */
+  public void setTotalWarehouses(long value) {
+    this.totalWarehouses = value;
+  }
+
+  /**
+   * Gets the value of the 'belowMinimum' field.
+   * @return Warehouses below their minimum quantity
+   */
+  public long getBelowMinimum() {
+    return belowMinimum;
+  }
+
+
+  /**
+   * Sets the value of the 'belowMinimum' field.
+   * Warehouses below their minimum quantity
+   * @param value the value to set.
+   */
+  public void setBelowMinimum(long value) {
+    this.belowMinimum = value;
+  }
+
+  /**
+   * Gets the value of the 'outOfStock' field.
+   * @return Warehouses out of stock
+   */
+  public long getOutOfStock() {
+    return outOfStock;
+  }
+
+
+  /**
+   * Sets the value of the 'outOfStock' field.
+   * Warehouses out of stock
+   * @param value the value to set.
+   */
+  public void setOutOfStock(long value) {
+    this.outOfStock = value;
+  }
+
+  /**
+   * Gets the value of the 'totalTransactions' field.
+   * @return Number of inventory transactions
+   */
+  public long getTotalTransactions() {
+    return totalTransactions;
+  }
+
+
+  /**
+   * Sets the value of the 'totalTransactions' field.
+   * Number of inventory transactions
+   * @param value the value to set.
+   */
+  public void setTotalTransactions(long value) {
+    this.totalTransactions = value;
+  }
+
+  /**
+   * Gets the value of the 'totalImportTransactions' field.
+   * @return Number of import transactions
+   */
+  public long getTotalImportTransactions() {
+    return totalImportTransactions;
+  }
+
+
+  /**
+   * Sets the value of the 'totalImportTransactions' field.
+   * Number of import transactions
+   * @param value the value to set.
+   */
+  public void setTotalImportTransactions(long value) {
+    this.totalImportTransactions = value;
+  }
+
+  /**
+   * Gets the value of the 'totalExportTransactions' field.
+   * @return Number of export transactions
+   */
+  public long getTotalExportTransactions() {
+    return totalExportTransactions;
+  }
+
+
+  /**
+   * Sets the value of the 'totalExportTransactions' field.
+   * Number of export transactions
+   * @param value the value to set.
+   */
+  public void setTotalExportTransactions(long value) {
+    this.totalExportTransactions = value;
+  }
+
+  /**
+   * Creates a new DashboardStatistics RecordBuilder.
+   * @return A new DashboardStatistics RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder newBuilder() {
+    return new io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder();
+  }
+
+  /**
+   * Creates a new DashboardStatistics RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new DashboardStatistics RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new DashboardStatistics RecordBuilder by copying an existing DashboardStatistics instance.
+   * @param other The existing instance to copy.
+   * @return A new DashboardStatistics RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for DashboardStatistics instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<DashboardStatistics>
+    implements org.apache.avro.data.RecordBuilder<DashboardStatistics> {
+
+    /** Number of active warehouses */
+    private long totalWarehouses;
+    /** Warehouses below their minimum quantity */
+    private long belowMinimum;
+    /** Warehouses out of stock */
+    private long outOfStock;
+    /** Number of inventory transactions */
+    private long totalTransactions;
+    /** Number of import transactions */
+    private long totalImportTransactions;
+    /** Number of export transactions */
+    private long totalExportTransactions;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.totalWarehouses)) {
+        this.totalWarehouses = data().deepCopy(fields()[0].schema(), other.totalWarehouses);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.belowMinimum)) {
+        this.belowMinimum = data().deepCopy(fields()[1].schema(), other.belowMinimum);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.outOfStock)) {
+        this.outOfStock = data().deepCopy(fields()[2].schema(), other.outOfStock);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.totalTransactions)) {
+        this.totalTransactions = data().deepCopy(fields()[3].schema(), other.totalTransactions);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.totalImportTransactions)) {
+        this.totalImportTransactions = data().deepCopy(fields()[4].schema(), other.totalImportTransactions);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+      if (isValidValue(fields()[5], other.totalExportTransactions)) {
+        this.totalExportTransactions = data().deepCopy(fields()[5].schema(), other.totalExportTransactions);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing DashboardStatistics instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.totalWarehouses)) {
+        this.totalWarehouses = data().deepCopy(fields()[0].schema(), other.totalWarehouses);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.belowMinimum)) {
+        this.belowMinimum = data().deepCopy(fields()[1].schema(), other.belowMinimum);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.outOfStock)) {
+        this.outOfStock = data().deepCopy(fields()[2].schema(), other.outOfStock);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.totalTransactions)) {
+        this.totalTransactions = data().deepCopy(fields()[3].schema(), other.totalTransactions);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.totalImportTransactions)) {
+        this.totalImportTransactions = data().deepCopy(fields()[4].schema(), other.totalImportTransactions);
+        fieldSetFlags()[4] = true;
+      }
+      if (isValidValue(fields()[5], other.totalExportTransactions)) {
+        this.totalExportTransactions = data().deepCopy(fields()[5].schema(), other.totalExportTransactions);
+        fieldSetFlags()[5] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'totalWarehouses' field.
+      * Number of active warehouses
+      * @return The value.
+      */
+    public long getTotalWarehouses() {
+      return totalWarehouses;
+    }
+
+
+    /**
+      * Sets the value of the 'totalWarehouses' field.
+      * Number of active warehouses
+      * @param value The value of 'totalWarehouses'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder setTotalWarehouses(long value) {
+      validate(fields()[0], value);
+      this.totalWarehouses = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'totalWarehouses' field has been set.
+      * Number of active warehouses
+      * @return True if the 'totalWarehouses' field has been set, false otherwise.
+      */
+    public boolean hasTotalWarehouses() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'totalWarehouses' field.
+      * Number of active warehouses
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder clearTotalWarehouses() {
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'belowMinimum' field.
+      * Warehouses below their minimum quantity
+      * @return The value.
+      */
+    public long getBelowMinimum() {
+      return belowMinimum;
+    }
+
+
+    /**
+      * Sets the value of the 'belowMinimum' field.
+      * Warehouses below their minimum quantity
+      * @param value The value of 'belowMinimum'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder setBelowMinimum(long value) {
+      validate(fields()[1], value);
+      this.belowMinimum = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'belowMinimum' field has been set.
+      * Warehouses below their minimum quantity
+      * @return True if the 'belowMinimum' field has been set, false otherwise.
+      */
+    public boolean hasBelowMinimum() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'belowMinimum' field.
+      * Warehouses below their minimum quantity
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder clearBelowMinimum() {
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'outOfStock' field.
+      * Warehouses out of stock
+      * @return The value.
+      */
+    public long getOutOfStock() {
+      return outOfStock;
+    }
+
+
+    /**
+      * Sets the value of the 'outOfStock' field.
+      * Warehouses out of stock
+      * @param value The value of 'outOfStock'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder setOutOfStock(long value) {
+      validate(fields()[2], value);
+      this.outOfStock = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'outOfStock' field has been set.
+      * Warehouses out of stock
+      * @return True if the 'outOfStock' field has been set, false otherwise.
+      */
+    public boolean hasOutOfStock() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'outOfStock' field.
+      * Warehouses out of stock
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder clearOutOfStock() {
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'totalTransactions' field.
+      * Number of inventory transactions
+      * @return The value.
+      */
+    public long getTotalTransactions() {
+      return totalTransactions;
+    }
+
+
+    /**
+      * Sets the value of the 'totalTransactions' field.
+      * Number of inventory transactions
+      * @param value The value of 'totalTransactions'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder setTotalTransactions(long value) {
+      validate(fields()[3], value);
+      this.totalTransactions = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'totalTransactions' field has been set.
+      * Number of inventory transactions
+      * @return True if the 'totalTransactions' field has been set, false otherwise.
+      */
+    public boolean hasTotalTransactions() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'totalTransactions' field.
+      * Number of inventory transactions
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder clearTotalTransactions() {
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'totalImportTransactions' field.
+      * Number of import transactions
+      * @return The value.
+      */
+    public long getTotalImportTransactions() {
+      return totalImportTransactions;
+    }
+
+
+    /**
+      * Sets the value of the 'totalImportTransactions' field.
+      * Number of import transactions
+      * @param value The value of 'totalImportTransactions'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder setTotalImportTransactions(long value) {
+      validate(fields()[4], value);
+      this.totalImportTransactions = value;
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'totalImportTransactions' field has been set.
+      * Number of import transactions
+      * @return True if the 'totalImportTransactions' field has been set, false otherwise.
+      */
+    public boolean hasTotalImportTransactions() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'totalImportTransactions' field.
+      * Number of import transactions
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder clearTotalImportTransactions() {
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'totalExportTransactions' field.
+      * Number of export transactions
+      * @return The value.
+      */
+    public long getTotalExportTransactions() {
+      return totalExportTransactions;
+    }
+
+
+    /**
+      * Sets the value of the 'totalExportTransactions' field.
+      * Number of export transactions
+      * @param value The value of 'totalExportTransactions'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder setTotalExportTransactions(long value) {
+      validate(fields()[5], value);
+      this.totalExportTransactions = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'totalExportTransactions' field has been set.
+      * Number of export transactions
+      * @return True if the 'totalExportTransactions' field has been set, false otherwise.
+      */
+    public boolean hasTotalExportTransactions() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'totalExportTransactions' field.
+      * Number of export transactions
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder clearTotalExportTransactions() {
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DashboardStatistics build() {
+      try {
+        DashboardStatistics record = new DashboardStatistics();
+        record.totalWarehouses = fieldSetFlags()[0] ? this.totalWarehouses : (java.lang.Long) defaultValue(fields()[0]);
+        record.belowMinimum = fieldSetFlags()[1] ? this.belowMinimum : (java.lang.Long) defaultValue(fields()[1]);
+        record.outOfStock = fieldSetFlags()[2] ? this.outOfStock : (java.lang.Long) defaultValue(fields()[2]);
+        record.totalTransactions = fieldSetFlags()[3] ? this.totalTransactions : (java.lang.Long) defaultValue(fields()[3]);
+        record.totalImportTransactions = fieldSetFlags()[4] ? this.totalImportTransactions : (java.lang.Long) defaultValue(fields()[4]);
+        record.totalExportTransactions = fieldSetFlags()[5] ? this.totalExportTransactions : (java.lang.Long) defaultValue(fields()[5]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<DashboardStatistics>
+    WRITER$ = (org.apache.avro.io.DatumWriter<DashboardStatistics>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<DashboardStatistics>
+    READER$ = (org.apache.avro.io.DatumReader<DashboardStatistics>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+  @Override protected boolean hasCustomCoders() { return true; }
+
+  @Override public void customEncode(org.apache.avro.io.Encoder out)
+    throws java.io.IOException
+  {
+    out.writeLong(this.totalWarehouses);
+
+    out.writeLong(this.belowMinimum);
+
+    out.writeLong(this.outOfStock);
+
+    out.writeLong(this.totalTransactions);
+
+    out.writeLong(this.totalImportTransactions);
+
+    out.writeLong(this.totalExportTransactions);
+
+  }
+
+  @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
+    throws java.io.IOException
+  {
+    org.apache.avro.Schema.Field[] fieldOrder = in.readFieldOrderIfDiff();
+    if (fieldOrder == null) {
+      this.totalWarehouses = in.readLong();
+
+      this.belowMinimum = in.readLong();
+
+      this.outOfStock = in.readLong();
+
+      this.totalTransactions = in.readLong();
+
+      this.totalImportTransactions = in.readLong();
+
+      this.totalExportTransactions = in.readLong();
+
+    } else {
+      for (int i = 0; i < 6; i++) {
+        switch (fieldOrder[i].pos()) {
+        case 0:
+          this.totalWarehouses = in.readLong();
+          break;
+
+        case 1:
+          this.belowMinimum = in.readLong();
+          break;
+
+        case 2:
+          this.outOfStock = in.readLong();
+          break;
+
+        case 3:
+          this.totalTransactions = in.readLong();
+          break;
+
+        case 4:
+          this.totalImportTransactions = in.readLong();
+          break;
+
+        case 5:
+          this.totalExportTransactions = in.readLong();
+          break;
+
+        default:
+          throw new java.io.IOException("Corrupt ResolvingDecoder.");
+        }
+      }
+    }
+  }
+}
+
+
+
+
+
+
+
+
+
+
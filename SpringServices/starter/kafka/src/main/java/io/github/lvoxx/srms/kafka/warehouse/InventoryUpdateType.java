@@ -0,0 +1,15 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package io.github.lvoxx.srms.kafka.warehouse;
+@org.apache.avro.specific.AvroGenerated
+public enum InventoryUpdateType implements org.apache.avro.generic.GenericEnumSymbol<InventoryUpdateType> {
+  IMPORT, EXPORT  ;
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"enum\",\"name\":\"InventoryUpdateType\",\"namespace\":\"io.github.lvoxx.srms.kafka.warehouse\",\"symbols\":[\"IMPORT\",\"EXPORT\"]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+}
@@ -0,0 +1,870 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package io.github.lvoxx.srms.kafka.warehouse;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+/** Alerts raised for the products of one contactor within a digest window */
+@org.apache.avro.specific.AvroGenerated
+public class WarehouseAlertDigest extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = -5709674211609912129L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"WarehouseAlertDigest\",\"namespace\":\"io.github.lvoxx.srms.kafka.warehouse\",\"doc\":\"Alerts raised for the products of one contactor within a digest window\",\"fields\":[{\"name\":\"digestId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for the digest\"},{\"name\":\"contactorId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Identifier of the contactor supplying the products\"},{\"name\":\"contactorName\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Organization or full name of the contactor, null when it could not be resolved\",\"default\":null},{\"name\":\"email\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Email of the contactor, null when unknown\",\"default\":null},{\"name\":\"phoneNumber\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Phone number of the contactor, null when unknown\",\"default\":null},{\"name\":\"items\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"WarehouseAlertDigestItem\",\"doc\":\"Latest alert of a product within the window\",\"fields\":[{\"name\":\"productId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier of the product\"},{\"name\":\"productName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the product\"},{\"name\":\"currentQuantity\",\"type\":\"int\",\"doc\":\"Current quantity in warehouse inventory\"},{\"name\":\"threshold\",\"type\":\"int\",\"doc\":\"Threshold value that triggers the alert\"},{\"name\":\"level\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Alert level: WARNING, CRITICAL or RESOLVED\"},{\"name\":\"timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"Timestamp of the alert in milliseconds\"}]}},\"doc\":\"Latest alert of each product of the contactor\"},{\"name\":\"windowStart\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"Timestamp of the first alert of the window in milliseconds\"},{\"name\":\"timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"Timestamp when the digest was created in milliseconds\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+  static {
+    MODEL$.addLogicalTypeConversion(new org.apache.avro.data.TimeConversions.TimestampMillisConversion());
+  }
+
+  private static final BinaryMessageEncoder<WarehouseAlertDigest> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<WarehouseAlertDigest> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<WarehouseAlertDigest> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<WarehouseAlertDigest> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<WarehouseAlertDigest> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this WarehouseAlertDigest to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a WarehouseAlertDigest from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a WarehouseAlertDigest instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static WarehouseAlertDigest fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  /** Unique identifier for the digest */
+  private java.lang.String digestId;
+  /** Identifier of the contactor supplying the products */
+  private java.lang.String contactorId;
+  /** Organization or full name of the contactor, null when it could not be resolved */
+  private java.lang.String contactorName;
+  /** Email of the contactor, null when unknown */
+  private java.lang.String email;
+  /** Phone number of the contactor, null when unknown */
+  private java.lang.String phoneNumber;
+  /** Latest alert of each product of the contactor */
+  private java.util.List<io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem> items;
+  /** Timestamp of the first alert of the window in milliseconds */
+  private java.time.Instant windowStart;
+  /** Timestamp when the digest was created in milliseconds */
+  private java.time.Instant timestamp;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public WarehouseAlertDigest() {}
+
+  /**
+   * All-args constructor.
+   * @param digestId Unique identifier for the digest
+   * @param contactorId Identifier of the contactor supplying the products
+   * @param contactorName Organization or full name of the contactor, null when it could not be resolved
+   * @param email Email of the contactor, null when unknown
+   * @param phoneNumber Phone number of the contactor, null when unknown
+   * @param items Latest alert of each product of the contactor
+   * @param windowStart Timestamp of the first alert of the window in milliseconds
+   * @param timestamp Timestamp when the digest was created in milliseconds
+   */
+  public WarehouseAlertDigest(java.lang.String digestId, java.lang.String contactorId, java.lang.String contactorName, java.lang.String email, java.lang.String phoneNumber, java.util.List<io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem> items, java.time.Instant windowStart, java.time.Instant timestamp) {
+    this.digestId = digestId;
+    this.contactorId = contactorId;
+    this.contactorName = contactorName;
+    this.email = email;
+    this.phoneNumber = phoneNumber;
+    this.items = items;
+    this.windowStart = windowStart.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+    this.timestamp = timestamp.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return digestId;
+    case 1: return contactorId;
+    case 2: return contactorName;
+    case 3: return email;
+    case 4: return phoneNumber;
+    case 5: return items;
+    case 6: return windowStart;
+    case 7: return timestamp;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  private static final org.apache.avro.Conversion<?>[] conversions =
+      new org.apache.avro.Conversion<?>[] {
+      null,
+      null,
+      null,
+      null,
+      null,
+      null,
+      new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
+      new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
+      null
+  };
+
+  @Override
+  public org.apache.avro.Conversion<?> getConversion(int field) {
+    return conversions[field];
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: digestId = value$ != null ? value$.toString() : null; break;
+    case 1: contactorId = value$ != null ? value$.toString() : null; break;
+    case 2: contactorName = value$ != null ? value$.toString() : null; break;
+    case 3: email = value$ != null ? value$.toString() : null; break;
+    case 4: phoneNumber = value$ != null ? value$.toString() : null; break;
+    case 5: items = (java.util.List<io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem>)value$; break;
+    case 6: windowStart = (java.time.Instant)value$; break;
+    case 7: timestamp = (java.time.Instant)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'digestId' field.
+   * @return Unique identifier for the digest
+   */
+  public java.lang.String getDigestId() {
+    return digestId;
+  }
+
+
+  /**
+   * Sets the value of the 'digestId' field.
+   * Unique identifier for the digest
+   * @param value the value to set.
+   */
+  public void setDigestId(java.lang.String value) {
+    this.digestId = value;
+  }
+
+  /**
+   * Gets the value of the 'contactorId' field.
+   * @return Identifier of the contactor supplying the products
+   */
+  public java.lang.String getContactorId() {
+    return contactorId;
+  }
+
+
+  /**
+   * Sets the value of the 'contactorId' field.
+   * Identifier of the contactor supplying the products
+   * @param value the value to set.
+   */
+  public void setContactorId(java.lang.String value) {
+    this.contactorId = value;
+  }
+
+  /**
+   * Gets the value of the 'contactorName' field.
+   * @return Organization or full name of the contactor, null when it could not be resolved
+   */
+  public java.lang.String getContactorName() {
+    return contactorName;
+  }
+
+
+  /**
+   * Sets the value of the 'contactorName' field.
+   * Organization or full name of the contactor, null when it could not be resolved
+   * @param value the value to set.
+   */
+  public void setContactorName(java.lang.String value) {
+    this.contactorName = value;
+  }
+
+  /**
+   * Gets the value of the 'email' field.
+   * @return Email of the contactor, null when unknown
+   */
+  public java.lang.String getEmail() {
+    return email;
+  }
+
+
+  /**
+   * Sets the value of the 'email' field.
+   * Email of the contactor, null when unknown
+   * @param value the value to set.
+   */
+  public void setEmail(java.lang.String value) {
+    this.email = value;
+  }
+
+  /**
+   * Gets the value of the 'phoneNumber' field.
+   * @return Phone number of the contactor, null when unknown
+   */
+  public java.lang.String getPhoneNumber() {
+    return phoneNumber;
+  }
+
+
+  /**
+   * Sets the value of the 'phoneNumber' field.
+   * Phone number of the contactor, null when unknown
+   * @param value the value to set.
+   */
+  public void setPhoneNumber(java.lang.String value) {
+    this.phoneNumber = value;
+  }
+
+  /**
+   * Gets the value of the 'items' field.
+   * @return Latest alert of each product of the contactor
+   */
+  public java.util.List<io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem> getItems() {
+    return items;
+  }
+
+
+  /**
+   * Sets the value of the 'items' field.
+   * Latest alert of each product of the contactor
+   * @param value the value to set.
+   */
+  public void setItems(java.util.List<io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem> value) {
+    this.items = value;
+  }
+
+  /**
+   * Gets the value of the 'windowStart' field.
+   * @return Timestamp of the first alert of the window in milliseconds
+   */
+  public java.time.Instant getWindowStart() {
+    return windowStart;
+  }
+
+
+  /**
+   * Sets the value of the 'windowStart' field.
+   * Timestamp of the first alert of the window in milliseconds
+   * @param value the value to set.
+   */
+  public void setWindowStart(java.time.Instant value) {
+    this.windowStart = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  /**
+   * Gets the value of the 'timestamp' field.
+   * @return Timestamp when the digest was created in milliseconds
+   */
+  public java.time.Instant getTimestamp() {
+    return timestamp;
+  }
+
+
+  /**
+   * Sets the value of the 'timestamp' field.
+   * Timestamp when the digest was created in milliseconds
+   * @param value the value to set.
+   */
+  public void setTimestamp(java.time.Instant value) {
+    this.timestamp = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  /**
+   * Creates a new WarehouseAlertDigest RecordBuilder.
+   * @return A new WarehouseAlertDigest RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder newBuilder() {
+    return new io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder();
+  }
+
+  /**
+   * Creates a new WarehouseAlertDigest RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new WarehouseAlertDigest RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new WarehouseAlertDigest RecordBuilder by copying an existing WarehouseAlertDigest instance.
+   * @param other The existing instance to copy.
+   * @return A new WarehouseAlertDigest RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for WarehouseAlertDigest instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<WarehouseAlertDigest>
+    implements org.apache.avro.data.RecordBuilder<WarehouseAlertDigest> {
+
+    /** Unique identifier for the digest */
+    private java.lang.String digestId;
+    /** Identifier of the contactor supplying the products */
+    private java.lang.String contactorId;
+    /** Organization or full name of the contactor, null when it could not be resolved */
+    private java.lang.String contactorName;
+    /** Email of the contactor, null when unknown */
+    private java.lang.String email;
+    /** Phone number of the contactor, null when unknown */
+    private java.lang.String phoneNumber;
+    /** Latest alert of each product of the contactor */
+    private java.util.List<io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem> items;
+    /** Timestamp of the first alert of the window in milliseconds */
+    private java.time.Instant windowStart;
+    /** Timestamp when the digest was created in milliseconds */
+    private java.time.Instant timestamp;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.digestId)) {
+        this.digestId = data().deepCopy(fields()[0].schema(), other.digestId);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.contactorId)) {
+        this.contactorId = data().deepCopy(fields()[1].schema(), other.contactorId);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.contactorName)) {
+        this.contactorName = data().deepCopy(fields()[2].schema(), other.contactorName);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.email)) {
+        this.email = data().deepCopy(fields()[3].schema(), other.email);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.phoneNumber)) {
+        this.phoneNumber = data().deepCopy(fields()[4].schema(), other.phoneNumber);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+      if (isValidValue(fields()[5], other.items)) {
+        this.items = data().deepCopy(fields()[5].schema(), other.items);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
+      if (isValidValue(fields()[6], other.windowStart)) {
+        this.windowStart = data().deepCopy(fields()[6].schema(), other.windowStart);
+        fieldSetFlags()[6] = other.fieldSetFlags()[6];
+      }
+      if (isValidValue(fields()[7], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[7].schema(), other.timestamp);
+        fieldSetFlags()[7] = other.fieldSetFlags()[7];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing WarehouseAlertDigest instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.digestId)) {
+        this.digestId = data().deepCopy(fields()[0].schema(), other.digestId);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.contactorId)) {
+        this.contactorId = data().deepCopy(fields()[1].schema(), other.contactorId);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.contactorName)) {
+        this.contactorName = data().deepCopy(fields()[2].schema(), other.contactorName);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.email)) {
+        this.email = data().deepCopy(fields()[3].schema(), other.email);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.phoneNumber)) {
+        this.phoneNumber = data().deepCopy(fields()[4].schema(), other.phoneNumber);
+        fieldSetFlags()[4] = true;
+      }
+      if (isValidValue(fields()[5], other.items)) {
+        this.items = data().deepCopy(fields()[5].schema(), other.items);
+        fieldSetFlags()[5] = true;
+      }
+      if (isValidValue(fields()[6], other.windowStart)) {
+        this.windowStart = data().deepCopy(fields()[6].schema(), other.windowStart);
+        fieldSetFlags()[6] = true;
+      }
+      if (isValidValue(fields()[7], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[7].schema(), other.timestamp);
+        fieldSetFlags()[7] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'digestId' field.
+      * Unique identifier for the digest
+      * @return The value.
+      */
+    public java.lang.String getDigestId() {
+      return digestId;
+    }
+
+
+    /**
+      * Sets the value of the 'digestId' field.
+      * Unique identifier for the digest
+      * @param value The value of 'digestId'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder setDigestId(java.lang.String value) {
+      validate(fields()[0], value);
+      this.digestId = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'digestId' field has been set.
+      * Unique identifier for the digest
+      * @return True if the 'digestId' field has been set, false otherwise.
+      */
+    public boolean hasDigestId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'digestId' field.
+      * Unique identifier for the digest
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder clearDigestId() {
+      digestId = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'contactorId' field.
+      * Identifier of the contactor supplying the products
+      * @return The value.
+      */
+    public java.lang.String getContactorId() {
+      return contactorId;
+    }
+
+
+    /**
+      * Sets the value of the 'contactorId' field.
+      * Identifier of the contactor supplying the products
+      * @param value The value of 'contactorId'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder setContactorId(java.lang.String value) {
+      validate(fields()[1], value);
+      this.contactorId = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'contactorId' field has been set.
+      * Identifier of the contactor supplying the products
+      * @return True if the 'contactorId' field has been set, false otherwise.
+      */
+    public boolean hasContactorId() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'contactorId' field.
+      * Identifier of the contactor supplying the products
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder clearContactorId() {
+      contactorId = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'contactorName' field.
+      * Organization or full name of the contactor, null when it could not be resolved
+      * @return The value.
+      */
+    public java.lang.String getContactorName() {
+      return contactorName;
+    }
+
+
+    /**
+      * Sets the value of the 'contactorName' field.
+      * Organization or full name of the contactor, null when it could not be resolved
+      * @param value The value of 'contactorName'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder setContactorName(java.lang.String value) {
+      validate(fields()[2], value);
+      this.contactorName = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'contactorName' field has been set.
+      * Organization or full name of the contactor, null when it could not be resolved
+      * @return True if the 'contactorName' field has been set, false otherwise.
+      */
+    public boolean hasContactorName() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'contactorName' field.
+      * Organization or full name of the contactor, null when it could not be resolved
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder clearContactorName() {
+      contactorName = null;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'email' field.
+      * Email of the contactor, null when unknown
+      * @return The value.
+      */
+    public java.lang.String getEmail() {
+      return email;
+    }
+
+
+    /**
+      * Sets the value of the 'email' field.
+      * Email of the contactor, null when unknown
+      * @param value The value of 'email'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder setEmail(java.lang.String value) {
+      validate(fields()[3], value);
+      this.email = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'email' field has been set.
+      * Email of the contactor, null when unknown
+      * @return True if the 'email' field has been set, false otherwise.
+      */
+    public boolean hasEmail() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'email' field.
+      * Email of the contactor, null when unknown
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder clearEmail() {
+      email = null;
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'phoneNumber' field.
+      * Phone number of the contactor, null when unknown
+      * @return The value.
+      */
+    public java.lang.String getPhoneNumber() {
+      return phoneNumber;
+    }
+
+
+    /**
+      * Sets the value of the 'phoneNumber' field.
+      * Phone number of the contactor, null when unknown
+      * @param value The value of 'phoneNumber'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder setPhoneNumber(java.lang.String value) {
+      validate(fields()[4], value);
+      this.phoneNumber = value;
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'phoneNumber' field has been set.
+      * Phone number of the contactor, null when unknown
+      * @return True if the 'phoneNumber' field has been set, false otherwise.
+      */
+    public boolean hasPhoneNumber() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'phoneNumber' field.
+      * Phone number of the contactor, null when unknown
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder clearPhoneNumber() {
+      phoneNumber = null;
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'items' field.
+      * Latest alert of each product of the contactor
+      * @return The value.
+      */
+    public java.util.List<io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem> getItems() {
+      return items;
+    }
+
+
+    /**
+      * Sets the value of the 'items' field.
+      * Latest alert of each product of the contactor
+      * @param value The value of 'items'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder setItems(java.util.List<io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem> value) {
+      validate(fields()[5], value);
+      this.items = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'items' field has been set.
+      * Latest alert of each product of the contactor
+      * @return True if the 'items' field has been set, false otherwise.
+      */
+    public boolean hasItems() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'items' field.
+      * Latest alert of each product of the contactor
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder clearItems() {
+      items = null;
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'windowStart' field.
+      * Timestamp of the first alert of the window in milliseconds
+      * @return The value.
+      */
+    public java.time.Instant getWindowStart() {
+      return windowStart;
+    }
+
+
+    /**
+      * Sets the value of the 'windowStart' field.
+      * Timestamp of the first alert of the window in milliseconds
+      * @param value The value of 'windowStart'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder setWindowStart(java.time.Instant value) {
+      validate(fields()[6], value);
+      this.windowStart = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+      fieldSetFlags()[6] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'windowStart' field has been set.
+      * Timestamp of the first alert of the window in milliseconds
+      * @return True if the 'windowStart' field has been set, false otherwise.
+      */
+    public boolean hasWindowStart() {
+      return fieldSetFlags()[6];
+    }
+
+
+    /**
+      * Clears the value of the 'windowStart' field.
+      * Timestamp of the first alert of the window in milliseconds
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder clearWindowStart() {
+      fieldSetFlags()[6] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'timestamp' field.
+      * Timestamp when the digest was created in milliseconds
+      * @return The value.
+      */
+    public java.time.Instant getTimestamp() {
+      return timestamp;
+    }
+
+
+    /**
+      * Sets the value of the 'timestamp' field.
+      * Timestamp when the digest was created in milliseconds
+      * @param value The value of 'timestamp'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder setTimestamp(java.time.Instant value) {
+      validate(fields()[7], value);
+      this.timestamp = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+      fieldSetFlags()[7] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'timestamp' field has been set.
+      * Timestamp when the digest was created in milliseconds
+      * @return True if the 'timestamp' field has been set, false otherwise.
+      */
+    public boolean hasTimestamp() {
+      return fieldSetFlags()[7];
+    }
+
+
+    /**
+      * Clears the value of the 'timestamp' field.
+      * Timestamp when the digest was created in milliseconds
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest.Builder clearTimestamp() {
+      fieldSetFlags()[7] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public WarehouseAlertDigest build() {
+      try {
+        WarehouseAlertDigest record = new WarehouseAlertDigest();
+        record.digestId = fieldSetFlags()[0] ? this.digestId : (java.lang.String) defaultValue(fields()[0]);
+        record.contactorId = fieldSetFlags()[1] ? this.contactorId : (java.lang.String) defaultValue(fields()[1]);
+        record.contactorName = fieldSetFlags()[2] ? this.contactorName : (java.lang.String) defaultValue(fields()[2]);
+        record.email = fieldSetFlags()[3] ? this.email : (java.lang.String) defaultValue(fields()[3]);
+        record.phoneNumber = fieldSetFlags()[4] ? this.phoneNumber : (java.lang.String) defaultValue(fields()[4]);
+        record.items = fieldSetFlags()[5] ? this.items : (java.util.List<io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem>) defaultValue(fields()[5]);
+        record.windowStart = fieldSetFlags()[6] ? this.windowStart : (java.time.Instant) defaultValue(fields()[6]);
+        record.timestamp = fieldSetFlags()[7] ? this.timestamp : (java.time.Instant) defaultValue(fields()[7]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<WarehouseAlertDigest>
+    WRITER$ = (org.apache.avro.io.DatumWriter<WarehouseAlertDigest>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<WarehouseAlertDigest>
+    READER$ = (org.apache.avro.io.DatumReader<WarehouseAlertDigest>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+}
+
+
+
+
+
+
+
+
+
+
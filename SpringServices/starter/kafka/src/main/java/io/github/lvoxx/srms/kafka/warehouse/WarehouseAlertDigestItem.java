@@ -0,0 +1,709 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package io.github.lvoxx.srms.kafka.warehouse;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+/** Latest alert of a product within the window */
+@org.apache.avro.specific.AvroGenerated
+public class WarehouseAlertDigestItem extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = 1844107942160081255L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"WarehouseAlertDigestItem\",\"namespace\":\"io.github.lvoxx.srms.kafka.warehouse\",\"doc\":\"Latest alert of a product within the window\",\"fields\":[{\"name\":\"productId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier of the product\"},{\"name\":\"productName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the product\"},{\"name\":\"currentQuantity\",\"type\":\"int\",\"doc\":\"Current quantity in warehouse inventory\"},{\"name\":\"threshold\",\"type\":\"int\",\"doc\":\"Threshold value that triggers the alert\"},{\"name\":\"level\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Alert level: WARNING, CRITICAL or RESOLVED\"},{\"name\":\"timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"Timestamp of the alert in milliseconds\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+  static {
+    MODEL$.addLogicalTypeConversion(new org.apache.avro.data.TimeConversions.TimestampMillisConversion());
+  }
+
+  private static final BinaryMessageEncoder<WarehouseAlertDigestItem> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<WarehouseAlertDigestItem> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<WarehouseAlertDigestItem> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<WarehouseAlertDigestItem> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<WarehouseAlertDigestItem> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this WarehouseAlertDigestItem to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a WarehouseAlertDigestItem from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a WarehouseAlertDigestItem instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static WarehouseAlertDigestItem fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  /** Unique identifier of the product */
+  private java.lang.String productId;
+  /** Name of the product */
+  private java.lang.String productName;
+  /** Current quantity in warehouse inventory */
+  private int currentQuantity;
+  /** Threshold value that triggers the alert */
+  private int threshold;
+  /** Alert level: WARNING, CRITICAL or RESOLVED */
+  private java.lang.String level;
+  /** Timestamp of the alert in milliseconds */
+  private java.time.Instant timestamp;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public WarehouseAlertDigestItem() {}
+
+  /**
+   * All-args constructor.
+   * @param productId Unique identifier of the product
+   * @param productName Name of the product
+   * @param currentQuantity Current quantity in warehouse inventory
+   * @param threshold Threshold value that triggers the alert
+   * @param level Alert level: WARNING, CRITICAL or RESOLVED
+   * @param timestamp Timestamp of the alert in milliseconds
+   */
+  public WarehouseAlertDigestItem(java.lang.String productId, java.lang.String productName, java.lang.Integer currentQuantity, java.lang.Integer threshold, java.lang.String level, java.time.Instant timestamp) {
+    this.productId = productId;
+    this.productName = productName;
+    this.currentQuantity = currentQuantity;
+    this.threshold = threshold;
+    this.level = level;
+    this.timestamp = timestamp.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return productId;
+    case 1: return productName;
+    case 2: return currentQuantity;
+    case 3: return threshold;
+    case 4: return level;
+    case 5: return timestamp;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  private static final org.apache.avro.Conversion<?>[] conversions =
+      new org.apache.avro.Conversion<?>[] {
+      null,
+      null,
+      null,
+      null,
+      null,
+      new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
+      null
+  };
+
+  @Override
+  public org.apache.avro.Conversion<?> getConversion(int field) {
+    return conversions[field];
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: productId = value$ != null ? value$.toString() : null; break;
+    case 1: productName = value$ != null ? value$.toString() : null; break;
+    case 2: currentQuantity = (java.lang.Integer)value$; break;
+    case 3: threshold = (java.lang.Integer)value$; break;
+    case 4: level = value$ != null ? value$.toString() : null; break;
+    case 5: timestamp = (java.time.Instant)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'productId' field.
+   * @return Unique identifier of the product
+   */
+  public java.lang.String getProductId() {
+    return productId;
+  }
+
+
+  /**
+   * Sets the value of the 'productId' field.
+   * Unique identifier of the product
+   * @param value the value to set.
+   */
+  public void setProductId(java.lang.String value) {
+    this.productId = value;
+  }
+
+  /**
+   * Gets the value of the 'productName' field.
+   * @return Name of the product
+   */
+  public java.lang.String getProductName() {
+    return productName;
+  }
+
+
+  /**
+   * Sets the value of the 'productName' field.
+   * Name of the product
+   * @param value the value to set.
+   */
+  public void setProductName(java.lang.String value) {
+    this.productName = value;
+  }
+
+  /**
+   * Gets the value of the 'currentQuantity' field.
+   * @return Current quantity in warehouse inventory
+   */
+  public int getCurrentQuantity() {
+    return currentQuantity;
+  }
+
+
+  /**
+   * Sets the value of the 'currentQuantity' field.
+   * Current quantity in warehouse inventory
+   * @param value the value to set.
+   */
+  public void setCurrentQuantity(int value) {
+    this.currentQuantity = value;
+  }
+
+  /**
+   * Gets the value of the 'threshold' field.
+   * @return Threshold value that triggers the alert
+   */
+  public int getThreshold() {
+    return threshold;
+  }
+
+
+  /**
+   * Sets the value of the 'threshold' field.
+   * Threshold value that triggers the alert
+   * @param value the value to set.
+   */
+  public void setThreshold(int value) {
+    this.threshold = value;
+  }
+
+  /**
+   * Gets the value of the 'level' field.
+   * @return Alert level: WARNING, CRITICAL or RESOLVED
+   */
+  public java.lang.String getLevel() {
+    return level;
+  }
+
+
+  /**
+   * Sets the value of the 'level' field.
+   * Alert level: WARNING, CRITICAL or RESOLVED
+   * @param value the value to set.
+   */
+  public void setLevel(java.lang.String value) {
+    this.level = value;
+  }
+
+  /**
+   * Gets the value of the 'timestamp' field.
+   * @return Timestamp of the alert in milliseconds
+   */
+  public java.time.Instant getTimestamp() {
+    return timestamp;
+  }
+
+
+  /**
+   * Sets the value of the 'timestamp' field.
+   * Timestamp of the alert in milliseconds
+   * @param value the value to set.
+   */
+  public void setTimestamp(java.time.Instant value) {
+    this.timestamp = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  /**
+   * Creates a new WarehouseAlertDigestItem RecordBuilder.
+   * @return A new WarehouseAlertDigestItem RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder newBuilder() {
+    return new io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder();
+  }
+
+  /**
+   * Creates a new WarehouseAlertDigestItem RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new WarehouseAlertDigestItem RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new WarehouseAlertDigestItem RecordBuilder by copying an existing WarehouseAlertDigestItem instance.
+   * @param other The existing instance to copy.
+   * @return A new WarehouseAlertDigestItem RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for WarehouseAlertDigestItem instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<WarehouseAlertDigestItem>
+    implements org.apache.avro.data.RecordBuilder<WarehouseAlertDigestItem> {
+
+    /** Unique identifier of the product */
+    private java.lang.String productId;
+    /** Name of the product */
+    private java.lang.String productName;
+    /** Current quantity in warehouse inventory */
+    private int currentQuantity;
+    /** Threshold value that triggers the alert */
+    private int threshold;
+    /** Alert level: WARNING, CRITICAL or RESOLVED */
+    private java.lang.String level;
+    /** Timestamp of the alert in milliseconds */
+    private java.time.Instant timestamp;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.productId)) {
+        this.productId = data().deepCopy(fields()[0].schema(), other.productId);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.productName)) {
+        this.productName = data().deepCopy(fields()[1].schema(), other.productName);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.currentQuantity)) {
+        this.currentQuantity = data().deepCopy(fields()[2].schema(), other.currentQuantity);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.threshold)) {
+        this.threshold = data().deepCopy(fields()[3].schema(), other.threshold);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.level)) {
+        this.level = data().deepCopy(fields()[4].schema(), other.level);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+      if (isValidValue(fields()[5], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[5].schema(), other.timestamp);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing WarehouseAlertDigestItem instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.productId)) {
+        this.productId = data().deepCopy(fields()[0].schema(), other.productId);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.productName)) {
+        this.productName = data().deepCopy(fields()[1].schema(), other.productName);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.currentQuantity)) {
+        this.currentQuantity = data().deepCopy(fields()[2].schema(), other.currentQuantity);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.threshold)) {
+        this.threshold = data().deepCopy(fields()[3].schema(), other.threshold);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.level)) {
+        this.level = data().deepCopy(fields()[4].schema(), other.level);
+        fieldSetFlags()[4] = true;
+      }
+      if (isValidValue(fields()[5], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[5].schema(), other.timestamp);
+        fieldSetFlags()[5] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'productId' field.
+      * Unique identifier of the product
+      * @return The value.
+      */
+    public java.lang.String getProductId() {
+      return productId;
+    }
+
+
+    /**
+      * Sets the value of the 'productId' field.
+      * Unique identifier of the product
+      * @param value The value of 'productId'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder setProductId(java.lang.String value) {
+      validate(fields()[0], value);
+      this.productId = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'productId' field has been set.
+      * Unique identifier of the product
+      * @return True if the 'productId' field has been set, false otherwise.
+      */
+    public boolean hasProductId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'productId' field.
+      * Unique identifier of the product
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder clearProductId() {
+      productId = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'productName' field.
+      * Name of the product
+      * @return The value.
+      */
+    public java.lang.String getProductName() {
+      return productName;
+    }
+
+
+    /**
+      * Sets the value of the 'productName' field.
+      * Name of the product
+      * @param value The value of 'productName'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder setProductName(java.lang.String value) {
+      validate(fields()[1], value);
+      this.productName = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'productName' field has been set.
+      * Name of the product
+      * @return True if the 'productName' field has been set, false otherwise.
+      */
+    public boolean hasProductName() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'productName' field.
+      * Name of the product
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder clearProductName() {
+      productName = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'currentQuantity' field.
+      * Current quantity in warehouse inventory
+      * @return The value.
+      */
+    public int getCurrentQuantity() {
+      return currentQuantity;
+    }
+
+
+    /**
+      * Sets the value of the 'currentQuantity' field.
+      * Current quantity in warehouse inventory
+      * @param value The value of 'currentQuantity'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder setCurrentQuantity(int value) {
+      validate(fields()[2], value);
+      this.currentQuantity = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'currentQuantity' field has been set.
+      * Current quantity in warehouse inventory
+      * @return True if the 'currentQuantity' field has been set, false otherwise.
+      */
+    public boolean hasCurrentQuantity() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'currentQuantity' field.
+      * Current quantity in warehouse inventory
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder clearCurrentQuantity() {
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'threshold' field.
+      * Threshold value that triggers the alert
+      * @return The value.
+      */
+    public int getThreshold() {
+      return threshold;
+    }
+
+
+    /**
+      * Sets the value of the 'threshold' field.
+      * Threshold value that triggers the alert
+      * @param value The value of 'threshold'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder setThreshold(int value) {
+      validate(fields()[3], value);
+      this.threshold = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'threshold' field has been set.
+      * Threshold value that triggers the alert
+      * @return True if the 'threshold' field has been set, false otherwise.
+      */
+    public boolean hasThreshold() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'threshold' field.
+      * Threshold value that triggers the alert
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder clearThreshold() {
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'level' field.
+      * Alert level: WARNING, CRITICAL or RESOLVED
+      * @return The value.
+      */
+    public java.lang.String getLevel() {
+      return level;
+    }
+
+
+    /**
+      * Sets the value of the 'level' field.
+      * Alert level: WARNING, CRITICAL or RESOLVED
+      * @param value The value of 'level'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder setLevel(java.lang.String value) {
+      validate(fields()[4], value);
+      this.level = value;
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'level' field has been set.
+      * Alert level: WARNING, CRITICAL or RESOLVED
+      * @return True if the 'level' field has been set, false otherwise.
+      */
+    public boolean hasLevel() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'level' field.
+      * Alert level: WARNING, CRITICAL or RESOLVED
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder clearLevel() {
+      level = null;
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'timestamp' field.
+      * Timestamp of the alert in milliseconds
+      * @return The value.
+      */
+    public java.time.Instant getTimestamp() {
+      return timestamp;
+    }
+
+
+    /**
+      * Sets the value of the 'timestamp' field.
+      * Timestamp of the alert in milliseconds
+      * @param value The value of 'timestamp'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder setTimestamp(java.time.Instant value) {
+      validate(fields()[5], value);
+      this.timestamp = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'timestamp' field has been set.
+      * Timestamp of the alert in milliseconds
+      * @return True if the 'timestamp' field has been set, false otherwise.
+      */
+    public boolean hasTimestamp() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'timestamp' field.
+      * Timestamp of the alert in milliseconds
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem.Builder clearTimestamp() {
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public WarehouseAlertDigestItem build() {
+      try {
+        WarehouseAlertDigestItem record = new WarehouseAlertDigestItem();
+        record.productId = fieldSetFlags()[0] ? this.productId : (java.lang.String) defaultValue(fields()[0]);
+        record.productName = fieldSetFlags()[1] ? this.productName : (java.lang.String) defaultValue(fields()[1]);
+        record.currentQuantity = fieldSetFlags()[2] ? this.currentQuantity : (java.lang.Integer) defaultValue(fields()[2]);
+        record.threshold = fieldSetFlags()[3] ? this.threshold : (java.lang.Integer) defaultValue(fields()[3]);
+        record.level = fieldSetFlags()[4] ? this.level : (java.lang.String) defaultValue(fields()[4]);
+        record.timestamp = fieldSetFlags()[5] ? this.timestamp : (java.time.Instant) defaultValue(fields()[5]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<WarehouseAlertDigestItem>
+    WRITER$ = (org.apache.avro.io.DatumWriter<WarehouseAlertDigestItem>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<WarehouseAlertDigestItem>
+    READER$ = (org.apache.avro.io.DatumReader<WarehouseAlertDigestItem>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -13,10 +13,10 @@ import org.apache.avro.specific.SpecificData;
 /** Warehouse's product alert message with threshold for monitoring */
 @org.apache.avro.specific.AvroGenerated
 public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = 8095629124301331534L;
+  private static final long serialVersionUID = 7742888288411206794L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"WarehouseAlertMessage\",\"namespace\":\"io.github.lvoxx.srms.kafka.warehouse\",\"doc\":\"Warehouse's product alert message with threshold for monitoring\",\"fields\":[{\"name\":\"messageId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for the alert message\"},{\"name\":\"productId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier of the product\"},{\"name\":\"productName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the product\"},{\"name\":\"currentQuantity\",\"type\":\"int\",\"doc\":\"Current quantity in warehouse inventory\"},{\"name\":\"threshold\",\"type\":\"int\",\"doc\":\"Threshold value that triggers the alert\"},{\"name\":\"level\",\"type\":{\"type\":\"enum\",\"name\":\"AlertLevel\",\"symbols\":[\"WARNING\",\"CRITICAL\"]},\"doc\":\"Severity level of the alert\"},{\"name\":\"message\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Human readable alert message\"},{\"name\":\"timestamp\",\"type\":\"long\",\"doc\":\"Timestamp when the alert was created in milliseconds\",\"logicalType\":\"timestamp-millis\"}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"WarehouseAlertMessage\",\"namespace\":\"io.github.lvoxx.srms.kafka.warehouse\",\"doc\":\"Warehouse's product alert message with threshold for monitoring\",\"fields\":[{\"name\":\"messageId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier for the alert message\"},{\"name\":\"productId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier of the product\"},{\"name\":\"productName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the product\"},{\"name\":\"currentQuantity\",\"type\":\"int\",\"doc\":\"Current quantity in warehouse inventory\"},{\"name\":\"threshold\",\"type\":\"int\",\"doc\":\"Threshold value that triggers the alert\"},{\"name\":\"level\",\"type\":{\"type\":\"enum\",\"name\":\"AlertLevel\",\"symbols\":[\"WARNING\",\"CRITICAL\",\"RESOLVED\"],\"default\":\"WARNING\"},\"doc\":\"Severity level of the alert, RESOLVED once stock is back above the threshold\"},{\"name\":\"message\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Human readable alert message\"},{\"name\":\"timestamp\",\"type\":\"long\",\"doc\":\"Timestamp when the alert was created in milliseconds\",\"logicalType\":\"timestamp-millis\"},{\"name\":\"contactorId\",\"type\":[\"null\",{\"type\":\"string\",\"avro.java.string\":\"String\"}],\"doc\":\"Identifier of the contactor supplying the product, if any\",\"default\":null}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -82,12 +82,14 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
   private int currentQuantity;
   /** Threshold value that triggers the alert */
   private int threshold;
-  /** Severity level of the alert */
+  /** Severity level of the alert, RESOLVED once stock is back above the threshold */
   private io.github.lvoxx.srms.kafka.warehouse.AlertLevel level;
   /** Human readable alert message */
   private java.lang.String message;
   /** Timestamp when the alert was created in milliseconds */
   private long timestamp;
+  /** Identifier of the contactor supplying the product, if any */
+  private java.lang.String contactorId;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -103,11 +105,12 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
    * @param productName Name of the product
    * @param currentQuantity Current quantity in warehouse inventory
    * @param threshold Threshold value that triggers the alert
-   * @param level Severity level of the alert
+   * @param level Severity level of the alert, RESOLVED once stock is back above the threshold
    * @param message Human readable alert message
    * @param timestamp Timestamp when the alert was created in milliseconds
+   * @param contactorId Identifier of the contactor supplying the product, if any
    */
-  public WarehouseAlertMessage(java.lang.String messageId, java.lang.String productId, java.lang.String productName, java.lang.Integer currentQuantity, java.lang.Integer threshold, io.github.lvoxx.srms.kafka.warehouse.AlertLevel level, java.lang.String message, java.lang.Long timestamp) {
+  public WarehouseAlertMessage(java.lang.String messageId, java.lang.String productId, java.lang.String productName, java.lang.Integer currentQuantity, java.lang.Integer threshold, io.github.lvoxx.srms.kafka.warehouse.AlertLevel level, java.lang.String message, java.lang.Long timestamp, java.lang.String contactorId) {
     this.messageId = messageId;
     this.productId = productId;
     this.productName = productName;
@@ -116,6 +119,7 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
     this.level = level;
     this.message = message;
     this.timestamp = timestamp;
+    this.contactorId = contactorId;
   }
 
   @Override
@@ -136,6 +140,7 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
     case 5: return level;
     case 6: return message;
     case 7: return timestamp;
+    case 8: return contactorId;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -153,6 +158,7 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
     case 5: level = (io.github.lvoxx.srms.kafka.warehouse.AlertLevel)value$; break;
     case 6: message = value$ != null ? value$.toString() : null; break;
     case 7: timestamp = (java.lang.Long)value$; break;
+    case 8: contactorId = value$ != null ? value$.toString() : null; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -249,7 +255,7 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
 
   /**
    * Gets the value of the 'level' field.
-   * @return Severity level of the alert
+   * @return Severity level of the alert, RESOLVED once stock is back above the threshold
    */
   public io.github.lvoxx.srms.kafka.warehouse.AlertLevel getLevel() {
     return level;
@@ -258,7 +264,7 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
 
   /**
    * Sets the value of the 'level' field.
-   * Severity level of the alert
+   * Severity level of the alert, RESOLVED once stock is back above the threshold
    * @param value the value to set.
    */
   public void setLevel(io.github.lvoxx.srms.kafka.warehouse.AlertLevel value) {
@@ -301,6 +307,24 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
     this.timestamp = value;
   }
 
+  /**
+   * Gets the value of the 'contactorId' field.
+   * @return Identifier of the contactor supplying the product, if any
+   */
+  public java.lang.String getContactorId() {
+    return contactorId;
+  }
+
+
+  /**
+   * Sets the value of the 'contactorId' field.
+   * Identifier of the contactor supplying the product, if any
+   * @param value the value to set.
+   */
+  public void setContactorId(java.lang.String value) {
+    this.contactorId = value;
+  }
+
   /**
    * Creates a new WarehouseAlertMessage RecordBuilder.
    * @return A new WarehouseAlertMessage RecordBuilder
@@ -352,12 +376,14 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
     private int currentQuantity;
     /** Threshold value that triggers the alert */
     private int threshold;
-    /** Severity level of the alert */
+    /** Severity level of the alert, RESOLVED once stock is back above the threshold */
     private io.github.lvoxx.srms.kafka.warehouse.AlertLevel level;
     /** Human readable alert message */
     private java.lang.String message;
     /** Timestamp when the alert was created in milliseconds */
     private long timestamp;
+    /** Identifier of the contactor supplying the product, if any */
+    private java.lang.String contactorId;
 
     /** Creates a new Builder */
     private Builder() {
@@ -402,6 +428,10 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
         this.timestamp = data().deepCopy(fields()[7].schema(), other.timestamp);
         fieldSetFlags()[7] = other.fieldSetFlags()[7];
       }
+      if (isValidValue(fields()[8], other.contactorId)) {
+        this.contactorId = data().deepCopy(fields()[8].schema(), other.contactorId);
+        fieldSetFlags()[8] = other.fieldSetFlags()[8];
+      }
     }
 
     /**
@@ -442,6 +472,10 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
         this.timestamp = data().deepCopy(fields()[7].schema(), other.timestamp);
         fieldSetFlags()[7] = true;
       }
+      if (isValidValue(fields()[8], other.contactorId)) {
+        this.contactorId = data().deepCopy(fields()[8].schema(), other.contactorId);
+        fieldSetFlags()[8] = true;
+      }
     }
 
     /**
@@ -664,7 +698,7 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
 
     /**
       * Gets the value of the 'level' field.
-      * Severity level of the alert
+      * Severity level of the alert, RESOLVED once stock is back above the threshold
       * @return The value.
       */
     public io.github.lvoxx.srms.kafka.warehouse.AlertLevel getLevel() {
@@ -674,7 +708,7 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
 
     /**
       * Sets the value of the 'level' field.
-      * Severity level of the alert
+      * Severity level of the alert, RESOLVED once stock is back above the threshold
       * @param value The value of 'level'.
       * @return This builder.
       */
@@ -687,7 +721,7 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
 
     /**
       * Checks whether the 'level' field has been set.
-      * Severity level of the alert
+      * Severity level of the alert, RESOLVED once stock is back above the threshold
       * @return True if the 'level' field has been set, false otherwise.
       */
     public boolean hasLevel() {
@@ -697,7 +731,7 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
 
     /**
       * Clears the value of the 'level' field.
-      * Severity level of the alert
+      * Severity level of the alert, RESOLVED once stock is back above the threshold
       * @return This builder.
       */
     public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage.Builder clearLevel() {
@@ -793,6 +827,50 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
       return this;
     }
 
+    /**
+      * Gets the value of the 'contactorId' field.
+      * Identifier of the contactor supplying the product, if any
+      * @return The value.
+      */
+    public java.lang.String getContactorId() {
+      return contactorId;
+    }
+
+
+    /**
+      * Sets the value of the 'contactorId' field.
+      * Identifier of the contactor supplying the product, if any
+      * @param value The value of 'contactorId'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage.Builder setContactorId(java.lang.String value) {
+      validate(fields()[8], value);
+      this.contactorId = value;
+      fieldSetFlags()[8] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'contactorId' field has been set.
+      * Identifier of the contactor supplying the product, if any
+      * @return True if the 'contactorId' field has been set, false otherwise.
+      */
+    public boolean hasContactorId() {
+      return fieldSetFlags()[8];
+    }
+
+
+    /**
+      * Clears the value of the 'contactorId' field.
+      * Identifier of the contactor supplying the product, if any
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage.Builder clearContactorId() {
+      contactorId = null;
+      fieldSetFlags()[8] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public WarehouseAlertMessage build() {
@@ -806,6 +884,7 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
         record.level = fieldSetFlags()[5] ? this.level : (io.github.lvoxx.srms.kafka.warehouse.AlertLevel) defaultValue(fields()[5]);
         record.message = fieldSetFlags()[6] ? this.message : (java.lang.String) defaultValue(fields()[6]);
         record.timestamp = fieldSetFlags()[7] ? this.timestamp : (java.lang.Long) defaultValue(fields()[7]);
+        record.contactorId = fieldSetFlags()[8] ? this.contactorId : (java.lang.String) defaultValue(fields()[8]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -854,6 +933,14 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
 
     out.writeLong(this.timestamp);
 
+    if (this.contactorId == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeString(this.contactorId);
+    }
+
   }
 
   @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
@@ -877,8 +964,15 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
 
       this.timestamp = in.readLong();
 
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.contactorId = null;
+      } else {
+        this.contactorId = in.readString();
+      }
+
     } else {
-      for (int i = 0; i < 8; i++) {
+      for (int i = 0; i < 9; i++) {
         switch (fieldOrder[i].pos()) {
         case 0:
           this.messageId = in.readString();
@@ -912,6 +1006,15 @@ public class WarehouseAlertMessage extends org.apache.avro.specific.SpecificReco
           this.timestamp = in.readLong();
           break;
 
+        case 8:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.contactorId = null;
+          } else {
+            this.contactorId = in.readString();
+          }
+          break;
+
         default:
           throw new java.io.IOException("Corrupt ResolvingDecoder.");
         }
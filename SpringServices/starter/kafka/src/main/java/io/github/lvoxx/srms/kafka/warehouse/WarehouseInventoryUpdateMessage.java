@@ -0,0 +1,1027 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package io.github.lvoxx.srms.kafka.warehouse;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+/** Warehouse inventory change event, one per import or export transaction */
+@org.apache.avro.specific.AvroGenerated
+public class WarehouseInventoryUpdateMessage extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = -117951156642109902L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"WarehouseInventoryUpdateMessage\",\"namespace\":\"io.github.lvoxx.srms.kafka.warehouse\",\"doc\":\"Warehouse inventory change event, one per import or export transaction\",\"fields\":[{\"name\":\"eventId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier of the event (the inventory transaction id), stable across redeliveries\"},{\"name\":\"warehouseId\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Unique identifier of the warehouse (product), also the message key\"},{\"name\":\"productName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the product\"},{\"name\":\"type\",\"type\":{\"type\":\"enum\",\"name\":\"InventoryUpdateType\",\"symbols\":[\"IMPORT\",\"EXPORT\"]},\"doc\":\"Kind of inventory transaction\"},{\"name\":\"quantity\",\"type\":\"int\",\"doc\":\"Quantity imported or exported by the transaction\"},{\"name\":\"quantityAfter\",\"type\":\"int\",\"doc\":\"Quantity in warehouse inventory after the transaction\"},{\"name\":\"minQuantity\",\"type\":\"int\",\"doc\":\"Minimum quantity of the product at the time of the transaction\"},{\"name\":\"version\",\"type\":\"long\",\"doc\":\"Warehouse row version after the transaction, increasing per warehouse; consumers drop events older than the last one applied\"},{\"name\":\"updatedBy\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"User who performed the transaction\"},{\"name\":\"timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"Timestamp of the transaction in milliseconds\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+  static {
+    MODEL$.addLogicalTypeConversion(new org.apache.avro.data.TimeConversions.TimestampMillisConversion());
+  }
+
+  private static final BinaryMessageEncoder<WarehouseInventoryUpdateMessage> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<WarehouseInventoryUpdateMessage> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<WarehouseInventoryUpdateMessage> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<WarehouseInventoryUpdateMessage> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<WarehouseInventoryUpdateMessage> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this WarehouseInventoryUpdateMessage to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a WarehouseInventoryUpdateMessage from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a WarehouseInventoryUpdateMessage instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static WarehouseInventoryUpdateMessage fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  /** Unique identifier of the event (the inventory transaction id), stable across redeliveries */
+  private java.lang.String eventId;
+  /** Unique identifier of the warehouse (product), also the message key */
+  private java.lang.String warehouseId;
+  /** Name of the product */
+  private java.lang.String productName;
+  /** Kind of inventory transaction */
+  private io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType type;
+  /** Quantity imported or exported by the transaction */
+  private int quantity;
+  /** Quantity in warehouse inventory after the transaction */
+  private int quantityAfter;
+  /** Minimum quantity of the product at the time of the transaction */
+  private int minQuantity;
+  /** Warehouse row version after the transaction, increasing per warehouse; consumers drop events older than the last one applied */
+  private long version;
+  /** User who performed the transaction */
+  private java.lang.String updatedBy;
+  /** Timestamp of the transaction in milliseconds */
+  private java.time.Instant timestamp;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public WarehouseInventoryUpdateMessage() {}
+
+  /**
+   * All-args constructor.
+   * @param eventId Unique identifier of the event (the inventory transaction id), stable across redeliveries
+   * @param warehouseId Unique identifier of the warehouse (product), also the message key
+   * @param productName Name of the product
+   * @param type Kind of inventory transaction
+   * @param quantity Quantity imported or exported by the transaction
+   * @param quantityAfter Quantity in warehouse inventory after the transaction
+   * @param minQuantity Minimum quantity of the product at the time of the transaction
+   * @param version Warehouse row version after the transaction, increasing per warehouse; consumers drop events older than the last one applied
+   * @param updatedBy User who performed the transaction
+   * @param timestamp Timestamp of the transaction in milliseconds
+   */
+  public WarehouseInventoryUpdateMessage(java.lang.String eventId, java.lang.String warehouseId, java.lang.String productName, io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType type, java.lang.Integer quantity, java.lang.Integer quantityAfter, java.lang.Integer minQuantity, java.lang.Long version, java.lang.String updatedBy, java.time.Instant timestamp) {
+    this.eventId = eventId;
+    this.warehouseId = warehouseId;
+    this.productName = productName;
+    this.type = type;
+    this.quantity = quantity;
+    this.quantityAfter = quantityAfter;
+    this.minQuantity = minQuantity;
+    this.version = version;
+    this.updatedBy = updatedBy;
+    this.timestamp = timestamp.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return eventId;
+    case 1: return warehouseId;
+    case 2: return productName;
+    case 3: return type;
+    case 4: return quantity;
+    case 5: return quantityAfter;
+    case 6: return minQuantity;
+    case 7: return version;
+    case 8: return updatedBy;
+    case 9: return timestamp;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  private static final org.apache.avro.Conversion<?>[] conversions =
+      new org.apache.avro.Conversion<?>[] {
+      null,
+      null,
+      null,
+      null,
+      null,
+      null,
+      null,
+      null,
+      null,
+      new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
+      null
+  };
+
+  @Override
+  public org.apache.avro.Conversion<?> getConversion(int field) {
+    return conversions[field];
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: eventId = value$ != null ? value$.toString() : null; break;
+    case 1: warehouseId = value$ != null ? value$.toString() : null; break;
+    case 2: productName = value$ != null ? value$.toString() : null; break;
+    case 3: type = (io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType)value$; break;
+    case 4: quantity = (java.lang.Integer)value$; break;
+    case 5: quantityAfter = (java.lang.Integer)value$; break;
+    case 6: minQuantity = (java.lang.Integer)value$; break;
+    case 7: version = (java.lang.Long)value$; break;
+    case 8: updatedBy = value$ != null ? value$.toString() : null; break;
+    case 9: timestamp = (java.time.Instant)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'eventId' field.
+   * @return Unique identifier of the event (the inventory transaction id), stable across redeliveries
+   */
+  public java.lang.String getEventId() {
+    return eventId;
+  }
+
+
+  /**
+   * Sets the value of the 'eventId' field.
+   * Unique identifier of the event (the inventory transaction id), stable across redeliveries
+   * @param value the value to set.
+   */
+  public void setEventId(java.lang.String value) {
+    this.eventId = value;
+  }
+
+  /**
+   * Gets the value of the 'warehouseId' field.
+   * @return Unique identifier of the warehouse (product), also the message key
+   */
+  public java.lang.String getWarehouseId() {
+    return warehouseId;
+  }
+
+
+  /**
+   * Sets the value of the 'warehouseId' field.
+   * Unique identifier of the warehouse (product), also the message key
+   * @param value the value to set.
+   */
+  public void setWarehouseId(java.lang.String value) {
+    this.warehouseId = value;
+  }
+
+  /**
+   * Gets the value of the 'productName' field.
+   * @return Name of the product
+   */
+  public java.lang.String getProductName() {
+    return productName;
+  }
+
+
+  /**
+   * Sets the value of the 'productName' field.
+   * Name of the product
+   * @param value the value to set.
+   */
+  public void setProductName(java.lang.String value) {
+    this.productName = value;
+  }
+
+  /**
+   * Gets the value of the 'type' field.
+   * @return Kind of inventory transaction
+   */
+  public io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType getType() {
+    return type;
+  }
+
+
+  /**
+   * Sets the value of the 'type' field.
+   * Kind of inventory transaction
+   * @param value the value to set.
+   */
+  public void setType(io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType value) {
+    this.type = value;
+  }
+
+  /**
+   * Gets the value of the 'quantity' field.
+   * @return Quantity imported or exported by the transaction
+   */
+  public int getQuantity() {
+    return quantity;
+  }
+
+
+  /**
+   * Sets the value of the 'quantity' field.
+   * Quantity imported or exported by the transaction
+   * @param value the value to set.
+   */
+  public void setQuantity(int value) {
+    this.quantity = value;
+  }
+
+  /**
+   * Gets the value of the 'quantityAfter' field.
+   * @return Quantity in warehouse inventory after the transaction
+   */
+  public int getQuantityAfter() {
+    return quantityAfter;
+  }
+
+
+  /**
+   * Sets the value of the 'quantityAfter' field.
+   * Quantity in warehouse inventory after the transaction
+   * @param value the value to set.
+   */
+  public void setQuantityAfter(int value) {
+    this.quantityAfter = value;
+  }
+
+  /**
+   * Gets the value of the 'minQuantity' field.
+   * @return Minimum quantity of the product at the time of the transaction
+   */
+  public int getMinQuantity() {
+    return minQuantity;
+  }
+
+
+  /**
+   * Sets the value of the 'minQuantity' field.
+   * Minimum quantity of the product at the time of the transaction
+   * @param value the value to set.
+   */
+  public void setMinQuantity(int value) {
+    this.minQuantity = value;
+  }
+
+  /**
+   * Gets the value of the 'version' field.
+   * @return Warehouse row version after the transaction, increasing per warehouse; consumers drop events older than the last one applied
+   */
+  public long getVersion() {
+    return version;
+  }
+
+
+  /**
+   * Sets the value of the 'version' field.
+   * Warehouse row version after the transaction, increasing per warehouse; consumers drop events older than the last one applied
+   * @param value the value to set.
+   */
+  public void setVersion(long value) {
+    this.version = value;
+  }
+
+  /**
+   * Gets the value of the 'updatedBy' field.
+   * @return User who performed the transaction
+   */
+  public java.lang.String getUpdatedBy() {
+    return updatedBy;
+  }
+
+
+  /**
+   * Sets the value of the 'updatedBy' field.
+   * User who performed the transaction
+   * @param value the value to set.
+   */
+  public void setUpdatedBy(java.lang.String value) {
+    this.updatedBy = value;
+  }
+
+  /**
+   * Gets the value of the 'timestamp' field.
+   * @return Timestamp of the transaction in milliseconds
+   */
+  public java.time.Instant getTimestamp() {
+    return timestamp;
+  }
+
+
+  /**
+   * Sets the value of the 'timestamp' field.
+   * Timestamp of the transaction in milliseconds
+   * @param value the value to set.
+   */
+  public void setTimestamp(java.time.Instant value) {
+    this.timestamp = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  /**
+   * Creates a new WarehouseInventoryUpdateMessage RecordBuilder.
+   * @return A new WarehouseInventoryUpdateMessage RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder newBuilder() {
+    return new io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder();
+  }
+
+  /**
+   * Creates a new WarehouseInventoryUpdateMessage RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new WarehouseInventoryUpdateMessage RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new WarehouseInventoryUpdateMessage RecordBuilder by copying an existing WarehouseInventoryUpdateMessage instance.
+   * @param other The existing instance to copy.
+   * @return A new WarehouseInventoryUpdateMessage RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for WarehouseInventoryUpdateMessage instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<WarehouseInventoryUpdateMessage>
+    implements org.apache.avro.data.RecordBuilder<WarehouseInventoryUpdateMessage> {
+
+    /** Unique identifier of the event (the inventory transaction id), stable across redeliveries */
+    private java.lang.String eventId;
+    /** Unique identifier of the warehouse (product), also the message key */
+    private java.lang.String warehouseId;
+    /** Name of the product */
+    private java.lang.String productName;
+    /** Kind of inventory transaction */
+    private io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType type;
+    /** Quantity imported or exported by the transaction */
+    private int quantity;
+    /** Quantity in warehouse inventory after the transaction */
+    private int quantityAfter;
+    /** Minimum quantity of the product at the time of the transaction */
+    private int minQuantity;
+    /** Warehouse row version after the transaction, increasing per warehouse; consumers drop events older than the last one applied */
+    private long version;
+    /** User who performed the transaction */
+    private java.lang.String updatedBy;
+    /** Timestamp of the transaction in milliseconds */
+    private java.time.Instant timestamp;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.eventId)) {
+        this.eventId = data().deepCopy(fields()[0].schema(), other.eventId);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.warehouseId)) {
+        this.warehouseId = data().deepCopy(fields()[1].schema(), other.warehouseId);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.productName)) {
+        this.productName = data().deepCopy(fields()[2].schema(), other.productName);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.type)) {
+        this.type = data().deepCopy(fields()[3].schema(), other.type);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.quantity)) {
+        this.quantity = data().deepCopy(fields()[4].schema(), other.quantity);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+      if (isValidValue(fields()[5], other.quantityAfter)) {
+        this.quantityAfter = data().deepCopy(fields()[5].schema(), other.quantityAfter);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
+      if (isValidValue(fields()[6], other.minQuantity)) {
+        this.minQuantity = data().deepCopy(fields()[6].schema(), other.minQuantity);
+        fieldSetFlags()[6] = other.fieldSetFlags()[6];
+      }
+      if (isValidValue(fields()[7], other.version)) {
+        this.version = data().deepCopy(fields()[7].schema(), other.version);
+        fieldSetFlags()[7] = other.fieldSetFlags()[7];
+      }
+      if (isValidValue(fields()[8], other.updatedBy)) {
+        this.updatedBy = data().deepCopy(fields()[8].schema(), other.updatedBy);
+        fieldSetFlags()[8] = other.fieldSetFlags()[8];
+      }
+      if (isValidValue(fields()[9], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[9].schema(), other.timestamp);
+        fieldSetFlags()[9] = other.fieldSetFlags()[9];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing WarehouseInventoryUpdateMessage instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.eventId)) {
+        this.eventId = data().deepCopy(fields()[0].schema(), other.eventId);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.warehouseId)) {
+        this.warehouseId = data().deepCopy(fields()[1].schema(), other.warehouseId);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.productName)) {
+        this.productName = data().deepCopy(fields()[2].schema(), other.productName);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.type)) {
+        this.type = data().deepCopy(fields()[3].schema(), other.type);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.quantity)) {
+        this.quantity = data().deepCopy(fields()[4].schema(), other.quantity);
+        fieldSetFlags()[4] = true;
+      }
+      if (isValidValue(fields()[5], other.quantityAfter)) {
+        this.quantityAfter = data().deepCopy(fields()[5].schema(), other.quantityAfter);
+        fieldSetFlags()[5] = true;
+      }
+      if (isValidValue(fields()[6], other.minQuantity)) {
+        this.minQuantity = data().deepCopy(fields()[6].schema(), other.minQuantity);
+        fieldSetFlags()[6] = true;
+      }
+      if (isValidValue(fields()[7], other.version)) {
+        this.version = data().deepCopy(fields()[7].schema(), other.version);
+        fieldSetFlags()[7] = true;
+      }
+      if (isValidValue(fields()[8], other.updatedBy)) {
+        this.updatedBy = data().deepCopy(fields()[8].schema(), other.updatedBy);
+        fieldSetFlags()[8] = true;
+      }
+      if (isValidValue(fields()[9], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[9].schema(), other.timestamp);
+        fieldSetFlags()[9] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'eventId' field.
+      * Unique identifier of the event (the inventory transaction id), stable across redeliveries
+      * @return The value.
+      */
+    public java.lang.String getEventId() {
+      return eventId;
+    }
+
+
+    /**
+      * Sets the value of the 'eventId' field.
+      * Unique identifier of the event (the inventory transaction id), stable across redeliveries
+      * @param value The value of 'eventId'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder setEventId(java.lang.String value) {
+      validate(fields()[0], value);
+      this.eventId = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'eventId' field has been set.
+      * Unique identifier of the event (the inventory transaction id), stable across redeliveries
+      * @return True if the 'eventId' field has been set, false otherwise.
+      */
+    public boolean hasEventId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'eventId' field.
+      * Unique identifier of the event (the inventory transaction id), stable across redeliveries
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder clearEventId() {
+      eventId = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'warehouseId' field.
+      * Unique identifier of the warehouse (product), also the message key
+      * @return The value.
+      */
+    public java.lang.String getWarehouseId() {
+      return warehouseId;
+    }
+
+
+    /**
+      * Sets the value of the 'warehouseId' field.
+      * Unique identifier of the warehouse (product), also the message key
+      * @param value The value of 'warehouseId'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder setWarehouseId(java.lang.String value) {
+      validate(fields()[1], value);
+      this.warehouseId = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'warehouseId' field has been set.
+      * Unique identifier of the warehouse (product), also the message key
+      * @return True if the 'warehouseId' field has been set, false otherwise.
+      */
+    public boolean hasWarehouseId() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'warehouseId' field.
+      * Unique identifier of the warehouse (product), also the message key
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder clearWarehouseId() {
+      warehouseId = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'productName' field.
+      * Name of the product
+      * @return The value.
+      */
+    public java.lang.String getProductName() {
+      return productName;
+    }
+
+
+    /**
+      * Sets the value of the 'productName' field.
+      * Name of the product
+      * @param value The value of 'productName'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder setProductName(java.lang.String value) {
+      validate(fields()[2], value);
+      this.productName = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'productName' field has been set.
+      * Name of the product
+      * @return True if the 'productName' field has been set, false otherwise.
+      */
+    public boolean hasProductName() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'productName' field.
+      * Name of the product
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder clearProductName() {
+      productName = null;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'type' field.
+      * Kind of inventory transaction
+      * @return The value.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType getType() {
+      return type;
+    }
+
+
+    /**
+      * Sets the value of the 'type' field.
+      * Kind of inventory transaction
+      * @param value The value of 'type'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder setType(io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType value) {
+      validate(fields()[3], value);
+      this.type = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'type' field has been set.
+      * Kind of inventory transaction
+      * @return True if the 'type' field has been set, false otherwise.
+      */
+    public boolean hasType() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'type' field.
+      * Kind of inventory transaction
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder clearType() {
+      type = null;
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'quantity' field.
+      * Quantity imported or exported by the transaction
+      * @return The value.
+      */
+    public int getQuantity() {
+      return quantity;
+    }
+
+
+    /**
+      * Sets the value of the 'quantity' field.
+      * Quantity imported or exported by the transaction
+      * @param value The value of 'quantity'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder setQuantity(int value) {
+      validate(fields()[4], value);
+      this.quantity = value;
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'quantity' field has been set.
+      * Quantity imported or exported by the transaction
+      * @return True if the 'quantity' field has been set, false otherwise.
+      */
+    public boolean hasQuantity() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'quantity' field.
+      * Quantity imported or exported by the transaction
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder clearQuantity() {
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'quantityAfter' field.
+      * Quantity in warehouse inventory after the transaction
+      * @return The value.
+      */
+    public int getQuantityAfter() {
+      return quantityAfter;
+    }
+
+
+    /**
+      * Sets the value of the 'quantityAfter' field.
+      * Quantity in warehouse inventory after the transaction
+      * @param value The value of 'quantityAfter'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder setQuantityAfter(int value) {
+      validate(fields()[5], value);
+      this.quantityAfter = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'quantityAfter' field has been set.
+      * Quantity in warehouse inventory after the transaction
+      * @return True if the 'quantityAfter' field has been set, false otherwise.
+      */
+    public boolean hasQuantityAfter() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'quantityAfter' field.
+      * Quantity in warehouse inventory after the transaction
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder clearQuantityAfter() {
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'minQuantity' field.
+      * Minimum quantity of the product at the time of the transaction
+      * @return The value.
+      */
+    public int getMinQuantity() {
+      return minQuantity;
+    }
+
+
+    /**
+      * Sets the value of the 'minQuantity' field.
+      * Minimum quantity of the product at the time of the transaction
+      * @param value The value of 'minQuantity'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder setMinQuantity(int value) {
+      validate(fields()[6], value);
+      this.minQuantity = value;
+      fieldSetFlags()[6] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'minQuantity' field has been set.
+      * Minimum quantity of the product at the time of the transaction
+      * @return True if the 'minQuantity' field has been set, false otherwise.
+      */
+    public boolean hasMinQuantity() {
+      return fieldSetFlags()[6];
+    }
+
+
+    /**
+      * Clears the value of the 'minQuantity' field.
+      * Minimum quantity of the product at the time of the transaction
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder clearMinQuantity() {
+      fieldSetFlags()[6] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'version' field.
+      * Warehouse row version after the transaction, increasing per warehouse; consumers drop events older than the last one applied
+      * @return The value.
+      */
+    public long getVersion() {
+      return version;
+    }
+
+
+    /**
+      * Sets the value of the 'version' field.
+      * Warehouse row version after the transaction, increasing per warehouse; consumers drop events older than the last one applied
+      * @param value The value of 'version'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder setVersion(long value) {
+      validate(fields()[7], value);
+      this.version = value;
+      fieldSetFlags()[7] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'version' field has been set.
+      * Warehouse row version after the transaction, increasing per warehouse; consumers drop events older than the last one applied
+      * @return True if the 'version' field has been set, false otherwise.
+      */
+    public boolean hasVersion() {
+      return fieldSetFlags()[7];
+    }
+
+
+    /**
+      * Clears the value of the 'version' field.
+      * Warehouse row version after the transaction, increasing per warehouse; consumers drop events older than the last one applied
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder clearVersion() {
+      fieldSetFlags()[7] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'updatedBy' field.
+      * User who performed the transaction
+      * @return The value.
+      */
+    public java.lang.String getUpdatedBy() {
+      return updatedBy;
+    }
+
+
+    /**
+      * Sets the value of the 'updatedBy' field.
+      * User who performed the transaction
+      * @param value The value of 'updatedBy'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder setUpdatedBy(java.lang.String value) {
+      validate(fields()[8], value);
+      this.updatedBy = value;
+      fieldSetFlags()[8] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'updatedBy' field has been set.
+      * User who performed the transaction
+      * @return True if the 'updatedBy' field has been set, false otherwise.
+      */
+    public boolean hasUpdatedBy() {
+      return fieldSetFlags()[8];
+    }
+
+
+    /**
+      * Clears the value of the 'updatedBy' field.
+      * User who performed the transaction
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder clearUpdatedBy() {
+      updatedBy = null;
+      fieldSetFlags()[8] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'timestamp' field.
+      * Timestamp of the transaction in milliseconds
+      * @return The value.
+      */
+    public java.time.Instant getTimestamp() {
+      return timestamp;
+    }
+
+
+    /**
+      * Sets the value of the 'timestamp' field.
+      * Timestamp of the transaction in milliseconds
+      * @param value The value of 'timestamp'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder setTimestamp(java.time.Instant value) {
+      validate(fields()[9], value);
+      this.timestamp = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+      fieldSetFlags()[9] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'timestamp' field has been set.
+      * Timestamp of the transaction in milliseconds
+      * @return True if the 'timestamp' field has been set, false otherwise.
+      */
+    public boolean hasTimestamp() {
+      return fieldSetFlags()[9];
+    }
+
+
+    /**
+      * Clears the value of the 'timestamp' field.
+      * Timestamp of the transaction in milliseconds
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage.Builder clearTimestamp() {
+      fieldSetFlags()[9] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public WarehouseInventoryUpdateMessage build() {
+      try {
+        WarehouseInventoryUpdateMessage record = new WarehouseInventoryUpdateMessage();
+        record.eventId = fieldSetFlags()[0] ? this.eventId : (java.lang.String) defaultValue(fields()[0]);
+        record.warehouseId = fieldSetFlags()[1] ? this.warehouseId : (java.lang.String) defaultValue(fields()[1]);
+        record.productName = fieldSetFlags()[2] ? this.productName : (java.lang.String) defaultValue(fields()[2]);
+        record.type = fieldSetFlags()[3] ? this.type : (io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType) defaultValue(fields()[3]);
+        record.quantity = fieldSetFlags()[4] ? this.quantity : (java.lang.Integer) defaultValue(fields()[4]);
+        record.quantityAfter = fieldSetFlags()[5] ? this.quantityAfter : (java.lang.Integer) defaultValue(fields()[5]);
+        record.minQuantity = fieldSetFlags()[6] ? this.minQuantity : (java.lang.Integer) defaultValue(fields()[6]);
+        record.version = fieldSetFlags()[7] ? this.version : (java.lang.Long) defaultValue(fields()[7]);
+        record.updatedBy = fieldSetFlags()[8] ? this.updatedBy : (java.lang.String) defaultValue(fields()[8]);
+        record.timestamp = fieldSetFlags()[9] ? this.timestamp : (java.time.Instant) defaultValue(fields()[9]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<WarehouseInventoryUpdateMessage>
+    WRITER$ = (org.apache.avro.io.DatumWriter<WarehouseInventoryUpdateMessage>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<WarehouseInventoryUpdateMessage>
+    READER$ = (org.apache.avro.io.DatumReader<WarehouseInventoryUpdateMessage>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+}
+
+
+
+
+
+
+
+
+
+
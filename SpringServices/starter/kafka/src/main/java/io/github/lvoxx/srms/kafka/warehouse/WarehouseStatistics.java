@@ -0,0 +1,843 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package io.github.lvoxx.srms.kafka.warehouse;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+/** Stock and transaction totals of one warehouse */
+@org.apache.avro.specific.AvroGenerated
+public class WarehouseStatistics extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = 2339111742399927431L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"WarehouseStatistics\",\"namespace\":\"io.github.lvoxx.srms.kafka.warehouse\",\"doc\":\"Stock and transaction totals of one warehouse\",\"fields\":[{\"name\":\"productName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the product\"},{\"name\":\"quantity\",\"type\":\"int\",\"doc\":\"Current quantity in warehouse inventory\"},{\"name\":\"minQuantity\",\"type\":\"int\",\"doc\":\"Minimum quantity before alerting\"},{\"name\":\"totalImport\",\"type\":\"long\",\"doc\":\"Sum of all imported quantities\"},{\"name\":\"totalExport\",\"type\":\"long\",\"doc\":\"Sum of all exported quantities\"},{\"name\":\"transactionCount\",\"type\":\"long\",\"doc\":\"Number of inventory transactions\"},{\"name\":\"version\",\"type\":\"long\",\"doc\":\"Warehouse row version the snapshot was taken at\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+
+  private static final BinaryMessageEncoder<WarehouseStatistics> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<WarehouseStatistics> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<WarehouseStatistics> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<WarehouseStatistics> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<WarehouseStatistics> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this WarehouseStatistics to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a WarehouseStatistics from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a WarehouseStatistics instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static WarehouseStatistics fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  /** Name of the product */
+  private java.lang.String productName;
+  /** Current quantity in warehouse inventory */
+  private int quantity;
+  /** Minimum quantity before alerting */
+  private int minQuantity;
+  /** Sum of all imported quantities */
+  private long totalImport;
+  /** Sum of all exported quantities */
+  private long totalExport;
+  /** Number of inventory transactions */
+  private long transactionCount;
+  /** Warehouse row version the snapshot was taken at */
+  private long version;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public WarehouseStatistics() {}
+
+  /**
+   * All-args constructor.
+   * @param productName Name of the product
+   * @param quantity Current quantity in warehouse inventory
+   * @param minQuantity Minimum quantity before alerting
+   * @param totalImport Sum of all imported quantities
+   * @param totalExport Sum of all exported quantities
+   * @param transactionCount Number of inventory transactions
+   * @param version Warehouse row version the snapshot was taken at
+   */
+  public WarehouseStatistics(java.lang.String productName, java.lang.Integer quantity, java.lang.Integer minQuantity, java.lang.Long totalImport, java.lang.Long totalExport, java.lang.Long transactionCount, java.lang.Long version) {
+    this.productName = productName;
+    this.quantity = quantity;
+    this.minQuantity = minQuantity;
+    this.totalImport = totalImport;
+    this.totalExport = totalExport;
+    this.transactionCount = transactionCount;
+    this.version = version;
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return productName;
+    case 1: return quantity;
+    case 2: return minQuantity;
+    case 3: return totalImport;
+    case 4: return totalExport;
+    case 5: return transactionCount;
+    case 6: return version;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: productName = value$ != null ? value$.toString() : null; break;
+    case 1: quantity = (java.lang.Integer)value$; break;
+    case 2: minQuantity = (java.lang.Integer)value$; break;
+    case 3: totalImport = (java.lang.Long)value$; break;
+    case 4: totalExport = (java.lang.Long)value$; break;
+    case 5: transactionCount = (java.lang.Long)value$; break;
+    case 6: version = (java.lang.Long)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'productName' field.
+   * @return Name of the product
+   */
+  public java.lang.String getProductName() {
+    return productName;
+  }
+
+
+  /**
+   * Sets the value of the 'productName' field.
+   * Name of the product
+   * @param value the value to set.
+   */
+  public void setProductName(java.lang.String value) {
+    this.productName = value;
+  }
+
+  /**
+   * Gets the value of the 'quantity' field.
+   * @return Current quantity in warehouse inventory
+   */
+  public int getQuantity() {
+    return quantity;
+  }
+
+
+  /**
+   * Sets the value of the 'quantity' field.
+   * Current quantity in warehouse inventory
+   * @param value the value to set.
+   */
+  public void setQuantity(int value) {
+    this.quantity = value;
+  }
+
+  /**
+   * Gets the value of the 'minQuantity' field.
+   * @return Minimum quantity before alerting
+   */
+  public int getMinQuantity() {
+    return minQuantity;
+  }
+
+
+  /**
+   * Sets the value of the 'minQuantity' field.
+   * Minimum quantity before alerting
+   * @param value the value to set.
+   */
+  public void setMinQuantity(int value) {
+    this.minQuantity = value;
+  }
+
+  /**
+   * Gets the value of the 'totalImport' field.
+   * @return Sum of all imported quantities
+   */
+  public long getTotalImport() {
+    return totalImport;
+  }
+
+
+  /**
+   * Sets the value of the 'totalImport' field.
+   * Sum of all imported quantities
+   * @param value the value to set.
+   */
+  public void setTotalImport(long value) {
+    this.totalImport = value;
+  }
+
+  /**
+   * Gets the value of the 'totalExport' field.
+   * @return Sum of all exported quantities
+   */
+  public long getTotalExport() {
+    return totalExport;
+  }
+
+
+  /**
+   * Sets the value of the 'totalExport' field.
+   * Sum of all exported quantities
+   * @param value the value to set.
+   */
+  public void setTotalExport(long value) {
+    this.totalExport = value;
+  }
+
+  /**
+   * Gets the value of the 'transactionCount' field.
+   * @return Number of inventory transactions
+   */
+  public long getTransactionCount() {
+    return transactionCount;
+  }
+
+
+  /**
+   * Sets the value of the 'transactionCount' field.
+   * Number of inventory transactions
+   * @param value the value to set.
+   */
+  public void setTransactionCount(long value) {
+    this.transactionCount = value;
+  }
+
+  /**
+   * Gets the value of the 'version' field.
+   * @return Warehouse row version the snapshot was taken at
+   */
+  public long getVersion() {
+    return version;
+  }
+
+
+  /**
+   * Sets the value of the 'version' field.
+   * Warehouse row version the snapshot was taken at
+   * @param value the value to set.
+   */
+  public void setVersion(long value) {
+    this.version = value;
+  }
+
+  /**
+   * Creates a new WarehouseStatistics RecordBuilder.
+   * @return A new WarehouseStatistics RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder newBuilder() {
+    return new io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder();
+  }
+
+  /**
+   * Creates a new WarehouseStatistics RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new WarehouseStatistics RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new WarehouseStatistics RecordBuilder by copying an existing WarehouseStatistics instance.
+   * @param other The existing instance to copy.
+   * @return A new WarehouseStatistics RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for WarehouseStatistics instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<WarehouseStatistics>
+    implements org.apache.avro.data.RecordBuilder<WarehouseStatistics> {
+
+    /** Name of the product */
+    private java.lang.String productName;
+    /** Current quantity in warehouse inventory */
+    private int quantity;
+    /** Minimum quantity before alerting */
+    private int minQuantity;
+    /** Sum of all imported quantities */
+    private long totalImport;
+    /** Sum of all exported quantities */
+    private long totalExport;
+    /** Number of inventory transactions */
+    private long transactionCount;
+    /** Warehouse row version the snapshot was taken at */
+    private long version;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.productName)) {
+        this.productName = data().deepCopy(fields()[0].schema(), other.productName);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.quantity)) {
+        this.quantity = data().deepCopy(fields()[1].schema(), other.quantity);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.minQuantity)) {
+        this.minQuantity = data().deepCopy(fields()[2].schema(), other.minQuantity);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.totalImport)) {
+        this.totalImport = data().deepCopy(fields()[3].schema(), other.totalImport);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.totalExport)) {
+        this.totalExport = data().deepCopy(fields()[4].schema(), other.totalExport);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+      if (isValidValue(fields()[5], other.transactionCount)) {
+        this.transactionCount = data().deepCopy(fields()[5].schema(), other.transactionCount);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
+      if (isValidValue(fields()[6], other.version)) {
+        this.version = data().deepCopy(fields()[6].schema(), other.version);
+        fieldSetFlags()[6] = other.fieldSetFlags()[6];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing WarehouseStatistics instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.productName)) {
+        this.productName = data().deepCopy(fields()[0].schema(), other.productName);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.quantity)) {
+        this.quantity = data().deepCopy(fields()[1].schema(), other.quantity);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.minQuantity)) {
+        this.minQuantity = data().deepCopy(fields()[2].schema(), other.minQuantity);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.totalImport)) {
+        this.totalImport = data().deepCopy(fields()[3].schema(), other.totalImport);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.totalExport)) {
+        this.totalExport = data().deepCopy(fields()[4].schema(), other.totalExport);
+        fieldSetFlags()[4] = true;
+      }
+      if (isValidValue(fields()[5], other.transactionCount)) {
+        this.transactionCount = data().deepCopy(fields()[5].schema(), other.transactionCount);
+        fieldSetFlags()[5] = true;
+      }
+      if (isValidValue(fields()[6], other.version)) {
+        this.version = data().deepCopy(fields()[6].schema(), other.version);
+        fieldSetFlags()[6] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'productName' field.
+      * Name of the product
+      * @return The value.
+      */
+    public java.lang.String getProductName() {
+      return productName;
+    }
+
+
+    /**
+      * Sets the value of the 'productName' field.
+      * Name of the product
+      * @param value The value of 'productName'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder setProductName(java.lang.String value) {
+      validate(fields()[0], value);
+      this.productName = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'productName' field has been set.
+      * Name of the product
+      * @return True if the 'productName' field has been set, false otherwise.
+      */
+    public boolean hasProductName() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'productName' field.
+      * Name of the product
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder clearProductName() {
+      productName = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'quantity' field.
+      * Current quantity in warehouse inventory
+      * @return The value.
+      */
+    public int getQuantity() {
+      return quantity;
+    }
+
+
+    /**
+      * Sets the value of the 'quantity' field.
+      * Current quantity in warehouse inventory
+      * @param value The value of 'quantity'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder setQuantity(int value) {
+      validate(fields()[1], value);
+      this.quantity = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'quantity' field has been set.
+      * Current quantity in warehouse inventory
+      * @return True if the 'quantity' field has been set, false otherwise.
+      */
+    public boolean hasQuantity() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'quantity' field.
+      * Current quantity in warehouse inventory
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder clearQuantity() {
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'minQuantity' field.
+      * Minimum quantity before alerting
+      * @return The value.
+      */
+    public int getMinQuantity() {
+      return minQuantity;
+    }
+
+
+    /**
+      * Sets the value of the 'minQuantity' field.
+      * Minimum quantity before alerting
+      * @param value The value of 'minQuantity'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder setMinQuantity(int value) {
+      validate(fields()[2], value);
+      this.minQuantity = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'minQuantity' field has been set.
+      * Minimum quantity before alerting
+      * @return True if the 'minQuantity' field has been set, false otherwise.
+      */
+    public boolean hasMinQuantity() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'minQuantity' field.
+      * Minimum quantity before alerting
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder clearMinQuantity() {
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'totalImport' field.
+      * Sum of all imported quantities
+      * @return The value.
+      */
+    public long getTotalImport() {
+      return totalImport;
+    }
+
+
+    /**
+      * Sets the value of the 'totalImport' field.
+      * Sum of all imported quantities
+      * @param value The value of 'totalImport'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder setTotalImport(long value) {
+      validate(fields()[3], value);
+      this.totalImport = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'totalImport' field has been set.
+      * Sum of all imported quantities
+      * @return True if the 'totalImport' field has been set, false otherwise.
+      */
+    public boolean hasTotalImport() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'totalImport' field.
+      * Sum of all imported quantities
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder clearTotalImport() {
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'totalExport' field.
+      * Sum of all exported quantities
+      * @return The value.
+      */
+    public long getTotalExport() {
+      return totalExport;
+    }
+
+
+    /**
+      * Sets the value of the 'totalExport' field.
+      * Sum of all exported quantities
+      * @param value The value of 'totalExport'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder setTotalExport(long value) {
+      validate(fields()[4], value);
+      this.totalExport = value;
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'totalExport' field has been set.
+      * Sum of all exported quantities
+      * @return True if the 'totalExport' field has been set, false otherwise.
+      */
+    public boolean hasTotalExport() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'totalExport' field.
+      * Sum of all exported quantities
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder clearTotalExport() {
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'transactionCount' field.
+      * Number of inventory transactions
+      * @return The value.
+      */
+    public long getTransactionCount() {
+      return transactionCount;
+    }
+
+
+    /**
+      * Sets the value of the 'transactionCount' field.
+      * Number of inventory transactions
+      * @param value The value of 'transactionCount'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder setTransactionCount(long value) {
+      validate(fields()[5], value);
+      this.transactionCount = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'transactionCount' field has been set.
+      * Number of inventory transactions
+      * @return True if the 'transactionCount' field has been set, false otherwise.
+      */
+    public boolean hasTransactionCount() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'transactionCount' field.
+      * Number of inventory transactions
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder clearTransactionCount() {
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'version' field.
+      * Warehouse row version the snapshot was taken at
+      * @return The value.
+      */
+    public long getVersion() {
+      return version;
+    }
+
+
+    /**
+      * Sets the value of the 'version' field.
+      * Warehouse row version the snapshot was taken at
+      * @param value The value of 'version'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder setVersion(long value) {
+      validate(fields()[6], value);
+      this.version = value;
+      fieldSetFlags()[6] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'version' field has been set.
+      * Warehouse row version the snapshot was taken at
+      * @return True if the 'version' field has been set, false otherwise.
+      */
+    public boolean hasVersion() {
+      return fieldSetFlags()[6];
+    }
+
+
+    /**
+      * Clears the value of the 'version' field.
+      * Warehouse row version the snapshot was taken at
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder clearVersion() {
+      fieldSetFlags()[6] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public WarehouseStatistics build() {
+      try {
+        WarehouseStatistics record = new WarehouseStatistics();
+        record.productName = fieldSetFlags()[0] ? this.productName : (java.lang.String) defaultValue(fields()[0]);
+        record.quantity = fieldSetFlags()[1] ? this.quantity : (java.lang.Integer) defaultValue(fields()[1]);
+        record.minQuantity = fieldSetFlags()[2] ? this.minQuantity : (java.lang.Integer) defaultValue(fields()[2]);
+        record.totalImport = fieldSetFlags()[3] ? this.totalImport : (java.lang.Long) defaultValue(fields()[3]);
+        record.totalExport = fieldSetFlags()[4] ? this.totalExport : (java.lang.Long) defaultValue(fields()[4]);
+        record.transactionCount = fieldSetFlags()[5] ? this.transactionCount : (java.lang.Long) defaultValue(fields()[5]);
+        record.version = fieldSetFlags()[6] ? this.version : (java.lang.Long) defaultValue(fields()[6]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<WarehouseStatistics>
+    WRITER$ = (org.apache.avro.io.DatumWriter<WarehouseStatistics>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<WarehouseStatistics>
+    READER$ = (org.apache.avro.io.DatumReader<WarehouseStatistics>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+  @Override protected boolean hasCustomCoders() { return true; }
+
+  @Override public void customEncode(org.apache.avro.io.Encoder out)
+    throws java.io.IOException
+  {
+    out.writeString(this.productName);
+
+    out.writeInt(this.quantity);
+
+    out.writeInt(this.minQuantity);
+
+    out.writeLong(this.totalImport);
+
+    out.writeLong(this.totalExport);
+
+    out.writeLong(this.transactionCount);
+
+    out.writeLong(this.version);
+
+  }
+
+  @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
+    throws java.io.IOException
+  {
+    org.apache.avro.Schema.Field[] fieldOrder = in.readFieldOrderIfDiff();
+    if (fieldOrder == null) {
+      this.productName = in.readString();
+
+      this.quantity = in.readInt();
+
+      this.minQuantity = in.readInt();
+
+      this.totalImport = in.readLong();
+
+      this.totalExport = in.readLong();
+
+      this.transactionCount = in.readLong();
+
+      this.version = in.readLong();
+
+    } else {
+      for (int i = 0; i < 7; i++) {
+        switch (fieldOrder[i].pos()) {
+        case 0:
+          this.productName = in.readString();
+          break;
+
+        case 1:
+          this.quantity = in.readInt();
+          break;
+
+        case 2:
+          this.minQuantity = in.readInt();
+          break;
+
+        case 3:
+          this.totalImport = in.readLong();
+          break;
+
+        case 4:
+          this.totalExport = in.readLong();
+          break;
+
+        case 5:
+          this.transactionCount = in.readLong();
+          break;
+
+        case 6:
+          this.version = in.readLong();
+          break;
+
+        default:
+          throw new java.io.IOException("Corrupt ResolvingDecoder.");
+        }
+      }
+    }
+  }
+}
+
+
+
+
+
+
+
+
+
+
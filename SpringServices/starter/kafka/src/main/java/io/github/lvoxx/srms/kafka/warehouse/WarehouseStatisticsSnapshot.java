@@ -0,0 +1,657 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package io.github.lvoxx.srms.kafka.warehouse;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+/** Latest statistics of a warehouse, or of the whole dashboard, on a compacted topic */
+@org.apache.avro.specific.AvroGenerated
+public class WarehouseStatisticsSnapshot extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = -7835244726172855635L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"WarehouseStatisticsSnapshot\",\"namespace\":\"io.github.lvoxx.srms.kafka.warehouse\",\"doc\":\"Latest statistics of a warehouse, or of the whole dashboard, on a compacted topic\",\"fields\":[{\"name\":\"scope\",\"type\":{\"type\":\"enum\",\"name\":\"StatisticsScope\",\"symbols\":[\"WAREHOUSE\",\"DASHBOARD\"]},\"doc\":\"WAREHOUSE when keyed by warehouse id, DASHBOARD for the global snapshot\"},{\"name\":\"warehouse\",\"type\":[\"null\",{\"type\":\"record\",\"name\":\"WarehouseStatistics\",\"doc\":\"Stock and transaction totals of one warehouse\",\"fields\":[{\"name\":\"productName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"doc\":\"Name of the product\"},{\"name\":\"quantity\",\"type\":\"int\",\"doc\":\"Current quantity in warehouse inventory\"},{\"name\":\"minQuantity\",\"type\":\"int\",\"doc\":\"Minimum quantity before alerting\"},{\"name\":\"totalImport\",\"type\":\"long\",\"doc\":\"Sum of all imported quantities\"},{\"name\":\"totalExport\",\"type\":\"long\",\"doc\":\"Sum of all exported quantities\"},{\"name\":\"transactionCount\",\"type\":\"long\",\"doc\":\"Number of inventory transactions\"},{\"name\":\"version\",\"type\":\"long\",\"doc\":\"Warehouse row version the snapshot was taken at\"}]}],\"doc\":\"Set for the WAREHOUSE scope\",\"default\":null},{\"name\":\"dashboard\",\"type\":[\"null\",{\"type\":\"record\",\"name\":\"DashboardStatistics\",\"doc\":\"Totals across all warehouses\",\"fields\":[{\"name\":\"totalWarehouses\",\"type\":\"long\",\"doc\":\"Number of active warehouses\"},{\"name\":\"belowMinimum\",\"type\":\"long\",\"doc\":\"Warehouses below their minimum quantity\"},{\"name\":\"outOfStock\",\"type\":\"long\",\"doc\":\"Warehouses out of stock\"},{\"name\":\"totalTransactions\",\"type\":\"long\",\"doc\":\"Number of inventory transactions\"},{\"name\":\"totalImportTransactions\",\"type\":\"long\",\"doc\":\"Number of import transactions\"},{\"name\":\"totalExportTransactions\",\"type\":\"long\",\"doc\":\"Number of export transactions\"}]}],\"doc\":\"Set for the DASHBOARD scope\",\"default\":null},{\"name\":\"timestamp\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"},\"doc\":\"Timestamp when the snapshot was taken in milliseconds\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+  static {
+    MODEL$.addLogicalTypeConversion(new org.apache.avro.data.TimeConversions.TimestampMillisConversion());
+  }
+
+  private static final BinaryMessageEncoder<WarehouseStatisticsSnapshot> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<WarehouseStatisticsSnapshot> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<WarehouseStatisticsSnapshot> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<WarehouseStatisticsSnapshot> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<WarehouseStatisticsSnapshot> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this WarehouseStatisticsSnapshot to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a WarehouseStatisticsSnapshot from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a WarehouseStatisticsSnapshot instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static WarehouseStatisticsSnapshot fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  /** WAREHOUSE when keyed by warehouse id, DASHBOARD for the global snapshot */
+  private io.github.lvoxx.srms.kafka.warehouse.StatisticsScope scope;
+  /** Set for the WAREHOUSE scope */
+  private io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics warehouse;
+  /** Set for the DASHBOARD scope */
+  private io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics dashboard;
+  /** Timestamp when the snapshot was taken in milliseconds */
+  private java.time.Instant timestamp;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public WarehouseStatisticsSnapshot() {}
+
+  /**
+   * All-args constructor.
+   * @param scope WAREHOUSE when keyed by warehouse id, DASHBOARD for the global snapshot
+   * @param warehouse Set for the WAREHOUSE scope
+   * @param dashboard Set for the DASHBOARD scope
+   * @param timestamp Timestamp when the snapshot was taken in milliseconds
+   */
+  public WarehouseStatisticsSnapshot(io.github.lvoxx.srms.kafka.warehouse.StatisticsScope scope, io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics warehouse, io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics dashboard, java.time.Instant timestamp) {
+    this.scope = scope;
+    this.warehouse = warehouse;
+    this.dashboard = dashboard;
+    this.timestamp = timestamp.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return scope;
+    case 1: return warehouse;
+    case 2: return dashboard;
+    case 3: return timestamp;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  private static final org.apache.avro.Conversion<?>[] conversions =
+      new org.apache.avro.Conversion<?>[] {
+      null,
+      null,
+      null,
+      new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
+      null
+  };
+
+  @Override
+  public org.apache.avro.Conversion<?> getConversion(int field) {
+    return conversions[field];
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: scope = (io.github.lvoxx.srms.kafka.warehouse.StatisticsScope)value$; break;
+    case 1: warehouse = (io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics)value$; break;
+    case 2: dashboard = (io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics)value$; break;
+    case 3: timestamp = (java.time.Instant)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'scope' field.
+   * @return WAREHOUSE when keyed by warehouse id, DASHBOARD for the global snapshot
+   */
+  public io.github.lvoxx.srms.kafka.warehouse.StatisticsScope getScope() {
+    return scope;
+  }
+
+
+  /**
+   * Sets the value of the 'scope' field.
+   * WAREHOUSE when keyed by warehouse id, DASHBOARD for the global snapshot
+   * @param value the value to set.
+   */
+  public void setScope(io.github.lvoxx.srms.kafka.warehouse.StatisticsScope value) {
+    this.scope = value;
+  }
+
+  /**
+   * Gets the value of the 'warehouse' field.
+   * @return Set for the WAREHOUSE scope
+   */
+  public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics getWarehouse() {
+    return warehouse;
+  }
+
+
+  /**
+   * Sets the value of the 'warehouse' field.
+   * Set for the WAREHOUSE scope
+   * @param value the value to set.
+   */
+  public void setWarehouse(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics value) {
+    this.warehouse = value;
+  }
+
+  /**
+   * Gets the value of the 'dashboard' field.
+   * @return Set for the DASHBOARD scope
+   */
+  public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics getDashboard() {
+    return dashboard;
+  }
+
+
+  /**
+   * Sets the value of the 'dashboard' field.
+   * Set for the DASHBOARD scope
+   * @param value the value to set.
+   */
+  public void setDashboard(io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics value) {
+    this.dashboard = value;
+  }
+
+  /**
+   * Gets the value of the 'timestamp' field.
+   * @return Timestamp when the snapshot was taken in milliseconds
+   */
+  public java.time.Instant getTimestamp() {
+    return timestamp;
+  }
+
+
+  /**
+   * Sets the value of the 'timestamp' field.
+   * Timestamp when the snapshot was taken in milliseconds
+   * @param value the value to set.
+   */
+  public void setTimestamp(java.time.Instant value) {
+    this.timestamp = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  /**
+   * Creates a new WarehouseStatisticsSnapshot RecordBuilder.
+   * @return A new WarehouseStatisticsSnapshot RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder newBuilder() {
+    return new io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder();
+  }
+
+  /**
+   * Creates a new WarehouseStatisticsSnapshot RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new WarehouseStatisticsSnapshot RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new WarehouseStatisticsSnapshot RecordBuilder by copying an existing WarehouseStatisticsSnapshot instance.
+   * @param other The existing instance to copy.
+   * @return A new WarehouseStatisticsSnapshot RecordBuilder
+   */
+  public static io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder newBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot other) {
+    if (other == null) {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder();
+    } else {
+      return new io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for WarehouseStatisticsSnapshot instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<WarehouseStatisticsSnapshot>
+    implements org.apache.avro.data.RecordBuilder<WarehouseStatisticsSnapshot> {
+
+    /** WAREHOUSE when keyed by warehouse id, DASHBOARD for the global snapshot */
+    private io.github.lvoxx.srms.kafka.warehouse.StatisticsScope scope;
+    /** Set for the WAREHOUSE scope */
+    private io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics warehouse;
+    private io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder warehouseBuilder;
+    /** Set for the DASHBOARD scope */
+    private io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics dashboard;
+    private io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder dashboardBuilder;
+    /** Timestamp when the snapshot was taken in milliseconds */
+    private java.time.Instant timestamp;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.scope)) {
+        this.scope = data().deepCopy(fields()[0].schema(), other.scope);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.warehouse)) {
+        this.warehouse = data().deepCopy(fields()[1].schema(), other.warehouse);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (other.hasWarehouseBuilder()) {
+        this.warehouseBuilder = io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.newBuilder(other.getWarehouseBuilder());
+      }
+      if (isValidValue(fields()[2], other.dashboard)) {
+        this.dashboard = data().deepCopy(fields()[2].schema(), other.dashboard);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (other.hasDashboardBuilder()) {
+        this.dashboardBuilder = io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.newBuilder(other.getDashboardBuilder());
+      }
+      if (isValidValue(fields()[3], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[3].schema(), other.timestamp);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing WarehouseStatisticsSnapshot instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.scope)) {
+        this.scope = data().deepCopy(fields()[0].schema(), other.scope);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.warehouse)) {
+        this.warehouse = data().deepCopy(fields()[1].schema(), other.warehouse);
+        fieldSetFlags()[1] = true;
+      }
+      this.warehouseBuilder = null;
+      if (isValidValue(fields()[2], other.dashboard)) {
+        this.dashboard = data().deepCopy(fields()[2].schema(), other.dashboard);
+        fieldSetFlags()[2] = true;
+      }
+      this.dashboardBuilder = null;
+      if (isValidValue(fields()[3], other.timestamp)) {
+        this.timestamp = data().deepCopy(fields()[3].schema(), other.timestamp);
+        fieldSetFlags()[3] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'scope' field.
+      * WAREHOUSE when keyed by warehouse id, DASHBOARD for the global snapshot
+      * @return The value.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.StatisticsScope getScope() {
+      return scope;
+    }
+
+
+    /**
+      * Sets the value of the 'scope' field.
+      * WAREHOUSE when keyed by warehouse id, DASHBOARD for the global snapshot
+      * @param value The value of 'scope'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder setScope(io.github.lvoxx.srms.kafka.warehouse.StatisticsScope value) {
+      validate(fields()[0], value);
+      this.scope = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'scope' field has been set.
+      * WAREHOUSE when keyed by warehouse id, DASHBOARD for the global snapshot
+      * @return True if the 'scope' field has been set, false otherwise.
+      */
+    public boolean hasScope() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'scope' field.
+      * WAREHOUSE when keyed by warehouse id, DASHBOARD for the global snapshot
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder clearScope() {
+      scope = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'warehouse' field.
+      * Set for the WAREHOUSE scope
+      * @return The value.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics getWarehouse() {
+      return warehouse;
+    }
+
+
+    /**
+      * Sets the value of the 'warehouse' field.
+      * Set for the WAREHOUSE scope
+      * @param value The value of 'warehouse'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder setWarehouse(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics value) {
+      validate(fields()[1], value);
+      this.warehouseBuilder = null;
+      this.warehouse = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'warehouse' field has been set.
+      * Set for the WAREHOUSE scope
+      * @return True if the 'warehouse' field has been set, false otherwise.
+      */
+    public boolean hasWarehouse() {
+      return fieldSetFlags()[1];
+    }
+
+    /**
+     * Gets the Builder instance for the 'warehouse' field and creates one if it doesn't exist yet.
+     * Set for the WAREHOUSE scope
+     * @return This builder.
+     */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder getWarehouseBuilder() {
+      if (warehouseBuilder == null) {
+        if (hasWarehouse()) {
+          setWarehouseBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.newBuilder(warehouse));
+        } else {
+          setWarehouseBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.newBuilder());
+        }
+      }
+      return warehouseBuilder;
+    }
+
+    /**
+     * Sets the Builder instance for the 'warehouse' field
+     * Set for the WAREHOUSE scope
+     * @param value The builder instance that must be set.
+     * @return This builder.
+     */
+
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder setWarehouseBuilder(io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics.Builder value) {
+      clearWarehouse();
+      warehouseBuilder = value;
+      return this;
+    }
+
+    /**
+     * Checks whether the 'warehouse' field has an active Builder instance
+     * Set for the WAREHOUSE scope
+     * @return True if the 'warehouse' field has an active Builder instance
+     */
+    public boolean hasWarehouseBuilder() {
+      return warehouseBuilder != null;
+    }
+
+    /**
+      * Clears the value of the 'warehouse' field.
+      * Set for the WAREHOUSE scope
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder clearWarehouse() {
+      warehouse = null;
+      warehouseBuilder = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'dashboard' field.
+      * Set for the DASHBOARD scope
+      * @return The value.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics getDashboard() {
+      return dashboard;
+    }
+
+
+    /**
+      * Sets the value of the 'dashboard' field.
+      * Set for the DASHBOARD scope
+      * @param value The value of 'dashboard'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder setDashboard(io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics value) {
+      validate(fields()[2], value);
+      this.dashboardBuilder = null;
+      this.dashboard = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'dashboard' field has been set.
+      * Set for the DASHBOARD scope
+      * @return True if the 'dashboard' field has been set, false otherwise.
+      */
+    public boolean hasDashboard() {
+      return fieldSetFlags()[2];
+    }
+
+    /**
+     * Gets the Builder instance for the 'dashboard' field and creates one if it doesn't exist yet.
+     * Set for the DASHBOARD scope
+     * @return This builder.
+     */
+    public io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder getDashboardBuilder() {
+      if (dashboardBuilder == null) {
+        if (hasDashboard()) {
+          setDashboardBuilder(io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.newBuilder(dashboard));
+        } else {
+          setDashboardBuilder(io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.newBuilder());
+        }
+      }
+      return dashboardBuilder;
+    }
+
+    /**
+     * Sets the Builder instance for the 'dashboard' field
+     * Set for the DASHBOARD scope
+     * @param value The builder instance that must be set.
+     * @return This builder.
+     */
+
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder setDashboardBuilder(io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics.Builder value) {
+      clearDashboard();
+      dashboardBuilder = value;
+      return this;
+    }
+
+    /**
+     * Checks whether the 'dashboard' field has an active Builder instance
+     * Set for the DASHBOARD scope
+     * @return True if the 'dashboard' field has an active Builder instance
+     */
+    public boolean hasDashboardBuilder() {
+      return dashboardBuilder != null;
+    }
+
+    /**
+      * Clears the value of the 'dashboard' field.
+      * Set for the DASHBOARD scope
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder clearDashboard() {
+      dashboard = null;
+      dashboardBuilder = null;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'timestamp' field.
+      * Timestamp when the snapshot was taken in milliseconds
+      * @return The value.
+      */
+    public java.time.Instant getTimestamp() {
+      return timestamp;
+    }
+
+
+    /**
+      * Sets the value of the 'timestamp' field.
+      * Timestamp when the snapshot was taken in milliseconds
+      * @param value The value of 'timestamp'.
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder setTimestamp(java.time.Instant value) {
+      validate(fields()[3], value);
+      this.timestamp = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'timestamp' field has been set.
+      * Timestamp when the snapshot was taken in milliseconds
+      * @return True if the 'timestamp' field has been set, false otherwise.
+      */
+    public boolean hasTimestamp() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'timestamp' field.
+      * Timestamp when the snapshot was taken in milliseconds
+      * @return This builder.
+      */
+    public io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot.Builder clearTimestamp() {
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public WarehouseStatisticsSnapshot build() {
+      try {
+        WarehouseStatisticsSnapshot record = new WarehouseStatisticsSnapshot();
+        record.scope = fieldSetFlags()[0] ? this.scope : (io.github.lvoxx.srms.kafka.warehouse.StatisticsScope) defaultValue(fields()[0]);
+        if (warehouseBuilder != null) {
+          try {
+            record.warehouse = this.warehouseBuilder.build();
+          } catch (org.apache.avro.AvroMissingFieldException e) {
+            e.addParentField(record.getSchema().getField("warehouse"));
+            throw e;
+          }
+        } else {
+          record.warehouse = fieldSetFlags()[1] ? this.warehouse : (io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics) defaultValue(fields()[1]);
+        }
+        if (dashboardBuilder != null) {
+          try {
+            record.dashboard = this.dashboardBuilder.build();
+          } catch (org.apache.avro.AvroMissingFieldException e) {
+            e.addParentField(record.getSchema().getField("dashboard"));
+            throw e;
+          }
+        } else {
+          record.dashboard = fieldSetFlags()[2] ? this.dashboard : (io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics) defaultValue(fields()[2]);
+        }
+        record.timestamp = fieldSetFlags()[3] ? this.timestamp : (java.time.Instant) defaultValue(fields()[3]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<WarehouseStatisticsSnapshot>
+    WRITER$ = (org.apache.avro.io.DatumWriter<WarehouseStatisticsSnapshot>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<WarehouseStatisticsSnapshot>
+    READER$ = (org.apache.avro.io.DatumReader<WarehouseStatisticsSnapshot>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+}
+
+
+
+
+
+
+
+
+
+
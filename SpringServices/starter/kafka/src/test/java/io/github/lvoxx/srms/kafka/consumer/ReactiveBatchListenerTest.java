@@ -0,0 +1,325 @@
+package io.github.lvoxx.srms.kafka.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import reactor.core.publisher.Mono;
+
+@DisplayName("Reactive Batch Listener Tests")
+@Tags({
+        @Tag("Consumer"), @Tag("Mock")
+})
+public class ReactiveBatchListenerTest {
+
+    private static final String TOPIC = "events";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private RecordingHandler handler;
+
+    /**
+     * Handler recording the values handled successfully and how many
+     * records of each group and overall were in flight at once.
+     */
+    private static final class RecordingHandler implements ReactiveRecordHandler<String> {
+
+        private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        private final Map<Object, AtomicInteger> inFlightByGroup = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlightPerGroup = new AtomicInteger();
+        private Function<ConsumerRecord<String, String>, Mono<Void>> behavior = record -> Mono
+                .delay(Duration.ofMillis(10)).then();
+
+        @Override
+        public Mono<Void> handle(ConsumerRecord<String, String> record) {
+            Object group = record.key() != null ? record.key() : record.partition();
+            return Mono.defer(() -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                maxInFlightPerGroup.accumulateAndGet(
+                        inFlightByGroup.computeIfAbsent(group, key -> new AtomicInteger()).incrementAndGet(),
+                        Math::max);
+                return behavior.apply(record);
+            })
+                    .doOnSuccess(ignored -> handled.add(record.value()))
+                    .doOnTerminate(() -> leave(group))
+                    .doOnCancel(() -> leave(group));
+        }
+
+        private void leave(Object group) {
+            inFlight.decrementAndGet();
+            inFlightByGroup.get(group).decrementAndGet();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        handler = new RecordingHandler();
+    }
+
+    private static ConsumerRecord<String, String> record(int partition, long offset, String key, String value) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, key, value);
+    }
+
+    private static ConsumerRecord<String, String> undeserializable(int partition, long offset, String key) {
+        ConsumerRecord<String, String> record = record(partition, offset, key, null);
+        record.headers().add(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER,
+                "broken".getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private ReactiveBatchListener<String> listener(int recordConcurrency, Duration batchTimeout) {
+        return new ReactiveBatchListener<>(handler, recordConcurrency, batchTimeout);
+    }
+
+    @Nested
+    @DisplayName("Ordering Tests")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("Should handle records of a key one after another in offset order")
+        void shouldKeepPerKeyOrder() {
+            // Arrange - the first record of each key is the slowest
+            handler.behavior = record -> Mono.delay(Duration.ofMillis(record.value().endsWith("-0") ? 50 : 1))
+                    .then();
+            List<ConsumerRecord<String, String>> records = List.of(
+                    record(0, 0, "a", "a-0"), record(0, 1, "b", "b-0"), record(0, 2, "a", "a-1"),
+                    record(0, 3, "b", "b-1"), record(0, 4, "a", "a-2"));
+
+            // Act
+            listener(8, TIMEOUT).onMessage(records);
+
+            // Assert
+            List<String> handled = List.copyOf(handler.handled);
+            assertEquals(5, handled.size());
+            assertTrue(handled.indexOf("a-0") < handled.indexOf("a-1"));
+            assertTrue(handled.indexOf("a-1") < handled.indexOf("a-2"));
+            assertTrue(handled.indexOf("b-0") < handled.indexOf("b-1"));
+            assertEquals(1, handler.maxInFlightPerGroup.get());
+            assertEquals(2, handler.maxInFlight.get());
+        }
+
+        @Test
+        @DisplayName("Should group keyless records by partition")
+        void shouldGroupKeylessRecordsByPartition() {
+            // Arrange
+            List<ConsumerRecord<String, String>> records = List.of(
+                    record(0, 0, null, "p0-0"), record(1, 0, null, "p1-0"), record(0, 1, null, "p0-1"),
+                    record(1, 1, null, "p1-1"), record(0, 2, null, "p0-2"));
+
+            // Act
+            listener(8, TIMEOUT).onMessage(records);
+
+            // Assert - partitions in parallel, each in offset order
+            List<String> handled = List.copyOf(handler.handled);
+            assertTrue(handled.indexOf("p0-0") < handled.indexOf("p0-1"));
+            assertTrue(handled.indexOf("p0-1") < handled.indexOf("p0-2"));
+            assertTrue(handled.indexOf("p1-0") < handled.indexOf("p1-1"));
+            assertEquals(1, handler.maxInFlightPerGroup.get());
+            assertEquals(2, handler.maxInFlight.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should handle at most the record concurrency of keys at once")
+        void shouldBoundConcurrency() {
+            // Arrange
+            List<ConsumerRecord<String, String>> records = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                records.add(record(0, i, "key-" + i, "value-" + i));
+            }
+
+            // Act
+            listener(3, TIMEOUT).onMessage(records);
+
+            // Assert
+            assertEquals(20, handler.handled.size());
+            assertEquals(3, handler.maxInFlight.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Deserialization Tests")
+    class DeserializationTests {
+
+        @Test
+        @DisplayName("Should skip records that could not be deserialized and keep tombstones")
+        void shouldSkipUndeserializableRecords() {
+            // Arrange
+            List<ConsumerRecord<String, String>> records = List.of(
+                    record(0, 0, "a", "a-0"), undeserializable(0, 1, "a"), record(0, 2, "b", null));
+
+            // Act
+            listener(8, TIMEOUT).onMessage(records);
+
+            // Assert
+            assertEquals(2, handler.handled.size());
+            assertTrue(handler.handled.contains("a-0"));
+            assertTrue(handler.handled.contains(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Redelivery Tests")
+    class RedeliveryTests {
+
+        @Test
+        @DisplayName("Should fail the batch, for the error handler to deliver it again, when a record fails")
+        void shouldFailBatchOnHandlerError() {
+            // Arrange
+            handler.behavior = record -> "b-0".equals(record.value())
+                    ? Mono.error(new IllegalStateException("Handler failed"))
+                    : Mono.empty();
+            List<ConsumerRecord<String, String>> records = List.of(record(0, 0, "a", "a-0"),
+                    record(0, 1, "b", "b-0"));
+
+            // Act & Assert
+            IllegalStateException error = assertThrows(IllegalStateException.class,
+                    () -> listener(8, TIMEOUT).onMessage(records));
+            assertEquals("Handler failed", error.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should fail the batch, for the error handler to deliver it again, on timeout")
+        void shouldFailBatchOnTimeout() {
+            // Arrange
+            handler.behavior = record -> Mono.never();
+            List<ConsumerRecord<String, String>> records = List.of(record(0, 0, "a", "a-0"));
+
+            // Act & Assert
+            long start = System.nanoTime();
+            assertThrows(IllegalStateException.class,
+                    () -> listener(8, Duration.ofMillis(100)).onMessage(records));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(TIMEOUT) < 0);
+            assertFalse(handler.handled.contains("a-0"));
+        }
+
+        @Test
+        @DisplayName("Should redeliver failed batches through the container error handler")
+        void shouldConfigureRedelivery() {
+            // Arrange
+            ReactiveKafkaConsumerFactory factory = factory(Duration.ofSeconds(60), Duration.ofSeconds(10));
+
+            // Act
+            ConcurrentMessageListenerContainer<String, String> container = factory.create(TOPIC, "test-group",
+                    handler);
+
+            // Assert
+            assertInstanceOf(DefaultErrorHandler.class, container.getCommonErrorHandler());
+            assertInstanceOf(ReactiveBatchListener.class, container.getContainerProperties().getMessageListener());
+            assertEquals(Duration.ofSeconds(10), container.getContainerProperties().getSyncCommitTimeout());
+        }
+    }
+
+    @Nested
+    @DisplayName("Replay Tests")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("Should rewind assigned partitions to their beginning")
+        void shouldSeekToBeginningOnAssignment() {
+            // Arrange
+            ConcurrentMessageListenerContainer<String, String> container = factory(Duration.ofSeconds(60),
+                    Duration.ofSeconds(10)).createReplaying(TOPIC, "test-instance", handler);
+            ConsumerSeekAware listener = assertInstanceOf(ConsumerSeekAware.class,
+                    container.getContainerProperties().getMessageListener());
+            ConsumerSeekAware.ConsumerSeekCallback callback = mock(ConsumerSeekAware.ConsumerSeekCallback.class);
+            Map<TopicPartition, Long> assignments = Map.of(new TopicPartition(TOPIC, 0), 42L,
+                    new TopicPartition(TOPIC, 1), 7L);
+
+            // Act
+            listener.onPartitionsAssigned(assignments, callback);
+
+            // Assert
+            verify(callback).seekToBeginning(assignments.keySet());
+        }
+
+        @Test
+        @DisplayName("Should keep committed offsets of regular consumers")
+        void shouldNotSeekRegularConsumers() {
+            // Act
+            ConcurrentMessageListenerContainer<String, String> container = factory(Duration.ofSeconds(60),
+                    Duration.ofSeconds(10)).create(TOPIC, "test-group", handler);
+
+            // Assert
+            assertFalse(container.getContainerProperties().getMessageListener() instanceof ConsumerSeekAware);
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Timeout Tests")
+    class BatchTimeoutTests {
+
+        @Test
+        @DisplayName("Should keep a batch timeout that leaves time to commit")
+        void shouldKeepShortTimeout() {
+            assertEquals(Duration.ofSeconds(60),
+                    factory(Duration.ofSeconds(60), Duration.ofSeconds(10)).batchTimeout(Duration.ofMinutes(5)));
+        }
+
+        @Test
+        @DisplayName("Should cap the batch timeout below the poll interval by the commit timeout")
+        void shouldCapTimeoutBelowPollInterval() {
+            assertEquals(Duration.ofSeconds(290),
+                    factory(Duration.ofMinutes(5), Duration.ofSeconds(10)).batchTimeout(Duration.ofMinutes(5)));
+            assertEquals(Duration.ofSeconds(290),
+                    factory(Duration.ofMinutes(10), Duration.ofSeconds(10)).batchTimeout(Duration.ofMinutes(5)));
+        }
+
+        @Test
+        @DisplayName("Should reject a commit timeout leaving no time for a batch")
+        void shouldRejectCommitTimeoutBeyondPollInterval() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> factory(Duration.ofSeconds(60), Duration.ofMinutes(5)).batchTimeout(Duration.ofMinutes(5)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> factory(Duration.ofSeconds(60), Duration.ZERO).batchTimeout(Duration.ofMinutes(5)));
+        }
+    }
+
+    private static ReactiveKafkaConsumerFactory factory(Duration batchTimeout, Duration commitTimeout) {
+        return ReactiveKafkaConsumerFactory.builder()
+                .consumerConfig(Map.of(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092",
+                        ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300_000))
+                .concurrency(1)
+                .recordConcurrency(8)
+                .commitCount(100)
+                .commitInterval(Duration.ofSeconds(5))
+                .batchTimeout(batchTimeout)
+                .commitTimeout(commitTimeout)
+                .retryBackoff(Duration.ofSeconds(1))
+                .retryAttempts(3)
+                .build();
+    }
+}
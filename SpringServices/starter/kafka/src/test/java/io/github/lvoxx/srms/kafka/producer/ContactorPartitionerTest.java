@@ -0,0 +1,147 @@
+package io.github.lvoxx.srms.kafka.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.AlertLevel;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
+
+@DisplayName("Contactor Partitioner Tests")
+@Tags({
+        @Tag("Kafka"), @Tag("Mock")
+})
+public class ContactorPartitionerTest {
+
+    private static final int PARTITIONS = 12;
+
+    private final ContactorPartitioner partitioner = new ContactorPartitioner();
+
+    private static Cluster cluster(String... topics) {
+        Node node = new Node(0, "localhost", 9092);
+        List<PartitionInfo> partitions = new ArrayList<>();
+        for (String topic : topics) {
+            IntStream.range(0, PARTITIONS).forEach(partition -> partitions.add(
+                    new PartitionInfo(topic, partition, node, new Node[] { node }, new Node[] { node })));
+        }
+        return new Cluster("test", List.of(node), partitions, Set.of(), Set.of());
+    }
+
+    private static WarehouseAlertMessage alert(String productId, String contactorId) {
+        return WarehouseAlertMessage.newBuilder()
+                .setMessageId(UUID.randomUUID().toString())
+                .setProductId(productId)
+                .setProductName("Product " + productId)
+                .setCurrentQuantity(0)
+                .setThreshold(10)
+                .setLevel(AlertLevel.CRITICAL)
+                .setMessage("alert")
+                .setTimestamp(System.currentTimeMillis())
+                .setContactorId(contactorId)
+                .build();
+    }
+
+    private int partitionOf(String topic, String key, Object value) {
+        return partitioner.partition(topic, key, key.getBytes(StandardCharsets.UTF_8), value, null,
+                cluster(topic));
+    }
+
+    @Nested
+    @DisplayName("Partition Tests")
+    class PartitionTests {
+
+        @Test
+        @DisplayName("Should place all alerts of a contactor on one partition")
+        void shouldGroupAlertsByContactor() {
+            // Arrange
+            String contactorId = UUID.randomUUID().toString();
+            Set<Integer> partitions = new HashSet<>();
+
+            // Act
+            for (int i = 0; i < 50; i++) {
+                String productId = UUID.randomUUID().toString();
+                partitions.add(partitionOf(Topics.WAREHOUSE_ALERTS, productId, alert(productId, contactorId)));
+            }
+
+            // Assert
+            assertEquals(Set.of(ContactorPartitioner.partition(contactorId, PARTITIONS)), partitions);
+        }
+
+        @Test
+        @DisplayName("Should spread contactors over the partitions")
+        void shouldSpreadContactors() {
+            // Arrange
+            Set<Integer> partitions = new HashSet<>();
+
+            // Act
+            for (int i = 0; i < 200; i++) {
+                String productId = UUID.randomUUID().toString();
+                partitions.add(partitionOf(Topics.WAREHOUSE_ALERTS, productId,
+                        alert(productId, UUID.randomUUID().toString())));
+            }
+
+            // Assert
+            assertEquals(PARTITIONS, partitions.size());
+        }
+
+        @Test
+        @DisplayName("Should place alerts without contactor by key")
+        void shouldPartitionAlertsWithoutContactorByKey() {
+            // Arrange
+            String productId = UUID.randomUUID().toString();
+
+            // Act
+            int partition = partitionOf(Topics.WAREHOUSE_ALERTS, productId, alert(productId, null));
+
+            // Assert
+            assertEquals(keyPartition(productId), partition);
+        }
+
+        @Test
+        @DisplayName("Should place records of other topics by key")
+        void shouldPartitionOtherTopicsByKey() {
+            // Arrange
+            String productId = UUID.randomUUID().toString();
+
+            // Act
+            int partition = partitionOf(Topics.WAREHOUSE_ALERT_STATE, productId,
+                    alert(productId, UUID.randomUUID().toString()));
+
+            // Assert
+            assertEquals(keyPartition(productId), partition);
+        }
+
+        @Test
+        @DisplayName("Should place records without key on an existing partition")
+        void shouldPartitionRecordsWithoutKey() {
+            // Act
+            int partition = partitioner.partition(Topics.WAREHOUSE_ALERT_STATE, null, null, null, null,
+                    cluster(Topics.WAREHOUSE_ALERT_STATE));
+
+            // Assert
+            assertTrue(partition >= 0 && partition < PARTITIONS);
+        }
+    }
+
+    private static int keyPartition(String key) {
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % PARTITIONS;
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.lvoxx.srms.kafka.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.kafka.core.KafkaProducerException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Producer Delivery Monitor Tests")
+@Tags({
+        @Tag("Metrics"), @Tag("Mock")
+})
+public class ProducerDeliveryMonitorTest {
+
+    private static final String ALERTS = "alerts";
+    private static final String DIGESTS = "digests";
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private ProducerDeliveryMonitor monitor;
+    private ProducerDeliveryHealthIndicator health;
+
+    /**
+     * Clock moved by the tests.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        monitor = new ProducerDeliveryMonitor(meterRegistry, Duration.ofMinutes(5), clock);
+        health = new ProducerDeliveryHealthIndicator(monitor, 3);
+    }
+
+    private void timeout(String topic) {
+        ProducerRecord<Object, Object> record = new ProducerRecord<>(topic, "key", "value");
+        monitor.onError(record, null, new KafkaProducerException(record, "Send failed",
+                new TimeoutException("Expiring 1 record(s) for " + topic + "-0")));
+    }
+
+    @Nested
+    @DisplayName("Metrics Tests")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Should count sends per topic and outcome")
+        void shouldCountOutcomesPerTopic() {
+            // Act
+            monitor.onSuccess(new ProducerRecord<>(ALERTS, "k", "v"), null);
+            monitor.onSuccess(new ProducerRecord<>(ALERTS, "k", "v"), null);
+            monitor.onError(new ProducerRecord<>(DIGESTS, "k", "v"), null, new RecordTooLargeException("too large"));
+            timeout(ALERTS);
+
+            // Assert
+            assertEquals(2, meterRegistry.counter(ProducerDeliveryMonitor.RECORDS_METER,
+                    "topic", ALERTS, "outcome", "sent", "exception", "none").count());
+            assertEquals(1, meterRegistry.counter(ProducerDeliveryMonitor.RECORDS_METER,
+                    "topic", DIGESTS, "outcome", "failed", "exception", "RecordTooLargeException").count());
+            assertEquals(1, meterRegistry.counter(ProducerDeliveryMonitor.RECORDS_METER,
+                    "topic", ALERTS, "outcome", "failed", "exception", "TimeoutException").count());
+        }
+
+        @Test
+        @DisplayName("Should track only delivery timeouts")
+        void shouldTrackOnlyTimeouts() {
+            // Act
+            monitor.onError(new ProducerRecord<>(DIGESTS, "k", "v"), null, new RecordTooLargeException("too large"));
+            timeout(ALERTS);
+
+            // Assert
+            assertEquals(1, monitor.recentDeliveryTimeouts());
+            assertTrue(monitor.lastError().startsWith(ALERTS + ": TimeoutException"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Health Tests")
+    class HealthTests {
+
+        @Test
+        @DisplayName("Should stay UP below the threshold")
+        void shouldBeUpBelowThreshold() {
+            // Act
+            timeout(ALERTS);
+            timeout(ALERTS);
+            Health result = health.health();
+
+            // Assert
+            assertEquals(Status.UP, result.getStatus());
+            assertEquals(2, result.getDetails().get("deliveryTimeouts"));
+        }
+
+        @Test
+        @DisplayName("Should turn DOWN when timeouts pile up and recover once they age out")
+        void shouldTurnDownAndRecover() {
+            // Arrange
+            timeout(ALERTS);
+            clock.advance(Duration.ofMinutes(2));
+            timeout(ALERTS);
+            timeout(DIGESTS);
+
+            // Act & Assert
+            assertEquals(Status.DOWN, health.health().getStatus());
+
+            clock.advance(Duration.ofMinutes(4));
+            assertEquals(Status.UP, health.health().getStatus());
+            assertEquals(2, monitor.recentDeliveryTimeouts());
+
+            clock.advance(Duration.ofMinutes(2));
+            assertEquals(0, monitor.recentDeliveryTimeouts());
+        }
+    }
+}
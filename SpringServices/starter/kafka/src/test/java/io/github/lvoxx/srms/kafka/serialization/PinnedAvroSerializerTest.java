@@ -0,0 +1,235 @@
+package io.github.lvoxx.srms.kafka.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
+import io.github.lvoxx.srms.kafka.warehouse.AlertLevel;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
+
+@DisplayName("Pinned Avro Serializer Tests")
+@Tags({
+        @Tag("Serialization"), @Tag("Mock")
+})
+public class PinnedAvroSerializerTest {
+
+    private static final String SUBJECT = WarehouseAlertMessage.getClassSchema().getFullName();
+
+    private static WarehouseAlertMessage alert(int quantity) {
+        return WarehouseAlertMessage.newBuilder()
+                .setMessageId("6f1c1f5e-2f0e-4a43-9a57-0c8f7f6f3c11")
+                .setProductId("4d3b8c1a-8b55-4a61-9a8e-5c3f3f0d2b7e")
+                .setProductName("Jasmine Rice 5kg")
+                .setCurrentQuantity(quantity)
+                .setThreshold(20)
+                .setLevel(AlertLevel.WARNING)
+                .setMessage("[WARNING] Jasmine Rice 5kg: Low stock - Below minimum. Current: " + quantity
+                        + ", Minimum: 20, Deficit: " + (20 - quantity) + " units. Reorder soon")
+                .setTimestamp(1_700_000_000_000L)
+                .setContactorId("0b7e2c55-1d4a-4c11-8f3e-7f0e5a9d6c21")
+                .build();
+    }
+
+    private static WarehouseAlertMessage decode(byte[] bytes) throws IOException {
+        return new SpecificDatumReader<WarehouseAlertMessage>(WarehouseAlertMessage.getClassSchema())
+                .read(null, DecoderFactory.get().binaryDecoder(bytes, 5, bytes.length - 5, null));
+    }
+
+    @Nested
+    @DisplayName("Wire Format Tests")
+    class WireFormatTests {
+
+        @Test
+        @DisplayName("Should write magic byte, schema id and Avro binary")
+        void shouldWriteWireFormat() throws IOException {
+            // Arrange
+            PinnedAvroSerializer<WarehouseAlertMessage> serializer = new PinnedAvroSerializer<>(
+                    WarehouseAlertMessage.getClassSchema(),
+                    new SchemaIdResolver(null, true, Map.of(SUBJECT, 7)));
+
+            // Act
+            byte[] bytes = serializer.serialize("alerts", alert(5));
+
+            // Assert
+            assertEquals(0, bytes[0]);
+            assertEquals(7, ByteBuffer.wrap(bytes, 1, 4).getInt());
+            assertEquals(alert(5), decode(bytes));
+        }
+
+        @Test
+        @DisplayName("Should return an independent array per record")
+        void shouldNotShareReusedBuffer() {
+            // Arrange
+            PinnedAvroSerializer<WarehouseAlertMessage> serializer = new PinnedAvroSerializer<>(
+                    WarehouseAlertMessage.getClassSchema(),
+                    new SchemaIdResolver(null, true, Map.of(SUBJECT, 7)));
+
+            // Act
+            byte[] first = serializer.serialize("alerts", alert(5));
+            byte[] copy = Arrays.copyOf(first, first.length);
+            byte[] second = serializer.serialize("alerts", alert(6));
+
+            // Assert
+            assertNotSame(first, second);
+            assertArrayEquals(copy, first);
+        }
+    }
+
+    @Nested
+    @DisplayName("Schema Id Tests")
+    class SchemaIdTests {
+
+        @Test
+        @DisplayName("Should ask the registry once and pin the id")
+        void shouldResolveOnceFromRegistry() throws Exception {
+            // Arrange
+            SchemaRegistryClient registry = mock(SchemaRegistryClient.class);
+            when(registry.register(eq(SUBJECT), any(ParsedSchema.class))).thenReturn(42);
+            PinnedAvroSerializer<WarehouseAlertMessage> serializer = new PinnedAvroSerializer<>(
+                    WarehouseAlertMessage.getClassSchema(), new SchemaIdResolver(registry, true, Map.of()));
+
+            // Act
+            byte[] bytes = null;
+            for (int i = 0; i < 100; i++) {
+                bytes = serializer.serialize("alerts", alert(i));
+            }
+
+            // Assert
+            assertEquals(42, ByteBuffer.wrap(bytes, 1, 4).getInt());
+            verify(registry, times(1)).register(eq(SUBJECT), any(ParsedSchema.class));
+        }
+
+        @Test
+        @DisplayName("Should look the id up without registering when auto registration is off")
+        void shouldLookUpWithoutRegistering() throws Exception {
+            // Arrange
+            SchemaRegistryClient registry = mock(SchemaRegistryClient.class);
+            when(registry.getId(eq(SUBJECT), any(ParsedSchema.class))).thenReturn(43);
+
+            // Act
+            PinnedAvroSerializer<WarehouseAlertMessage> serializer = new PinnedAvroSerializer<>(
+                    WarehouseAlertMessage.getClassSchema(), new SchemaIdResolver(registry, false, Map.of()));
+
+            // Assert
+            assertEquals(43, ByteBuffer.wrap(serializer.serialize("alerts", alert(5)), 1, 4).getInt());
+            verify(registry, never()).register(anyString(), any(ParsedSchema.class));
+        }
+
+        @Test
+        @DisplayName("Should fall back to the pinned id when the registry fails")
+        void shouldFallBackToPinnedIds() throws Exception {
+            // Arrange
+            SchemaRegistryClient registry = mock(SchemaRegistryClient.class);
+            when(registry.register(eq(SUBJECT), any(ParsedSchema.class)))
+                    .thenThrow(new RestClientException("Internal Server Error", 500, 50001));
+            PinnedAvroSerializer<WarehouseAlertMessage> serializer = new PinnedAvroSerializer<>(
+                    WarehouseAlertMessage.getClassSchema(),
+                    new SchemaIdResolver(registry, true, Map.of(SUBJECT, 9)));
+
+            // Act
+            byte[] bytes = serializer.serialize("alerts", alert(5));
+
+            // Assert
+            assertEquals(9, ByteBuffer.wrap(bytes, 1, 4).getInt());
+        }
+
+        @Test
+        @DisplayName("Should not be created when no schema id is known")
+        void shouldFailWithoutSchemaId() throws Exception {
+            // Arrange
+            SchemaRegistryClient registry = mock(SchemaRegistryClient.class);
+            when(registry.register(eq(SUBJECT), any(ParsedSchema.class)))
+                    .thenThrow(new IOException("Connection refused"));
+            SchemaIdResolver schemaIds = new SchemaIdResolver(registry, true, Map.of());
+
+            // Act & Assert
+            assertThrows(SerializationException.class,
+                    () -> new PinnedAvroSerializer<>(WarehouseAlertMessage.getClassSchema(), schemaIds));
+        }
+    }
+
+    @Nested
+    @DisplayName("Allocation Benchmark")
+    @Tag("Benchmark")
+    class AllocationBenchmark {
+
+        private static final int WARMUP = 20_000;
+        private static final int RECORDS = 50_000;
+
+        private long bytesPerRecord(Serializer<Object> serializer, Supplier<WarehouseAlertMessage> records) {
+            com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long sink = 0;
+            for (int i = 0; i < WARMUP; i++) {
+                sink += serializer.serialize("alerts", records.get()).length;
+            }
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < RECORDS; i++) {
+                sink += serializer.serialize("alerts", records.get()).length;
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            assertTrue(sink > 0);
+            return allocated / RECORDS;
+        }
+
+        @Test
+        @DisplayName("Should allocate less per record than the registry serializer")
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        void shouldAllocateLessThanRegistrySerializer() {
+            // Arrange
+            WarehouseAlertMessage record = alert(5);
+            KafkaAvroSerializer registrySerializer = new KafkaAvroSerializer();
+            registrySerializer.configure(Map.of(
+                    KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://benchmark",
+                    KafkaAvroSerializerConfig.AUTO_REGISTER_SCHEMAS, true,
+                    KafkaAvroSerializerConfig.USE_LATEST_VERSION, true), false);
+            PinnedAvroSerializer pinnedSerializer = new PinnedAvroSerializer<>(
+                    WarehouseAlertMessage.getClassSchema(),
+                    new SchemaIdResolver(null, true, Map.of(SUBJECT, 1)));
+            int payload = pinnedSerializer.serialize("alerts", record).length;
+
+            // Act
+            long registry = bytesPerRecord(registrySerializer, () -> record);
+            long pinned = bytesPerRecord(pinnedSerializer, () -> record);
+
+            // Assert
+            assertTrue(pinned < registry,
+                    "pinned " + pinned + " B/record, registry serializer " + registry + " B/record");
+            // The serialized array itself plus a little encoder bookkeeping
+            assertTrue(pinned < payload + 256,
+                    "pinned " + pinned + " B/record for a " + payload + " B payload");
+        }
+    }
+}
@@ -11,7 +11,9 @@ import lombok.Data;
  * Configuration properties for warehouse alert scheduling.
  * <p>
  * These properties are loaded from application.yml and can be overridden
- * via environment variables or external configuration sources.
+ * via environment variables or external configuration sources. The
+ * volatile ones can also be changed at runtime through the configuration
+ * topic (see {@code WarehouseAlertReconfigurer}).
  * 
  * @author lvoxx
  * @version 1.0
@@ -23,11 +25,36 @@ import lombok.Data;
 public class WarehouseAlertConfig {
 
     /**
-     * Interval for checking and sending warehouse alerts.
+     * Interval of the reconciliation scan republishing all active alerts.
      * <p>
-     * Default: 5 minutes
+     * Alerts are raised when a write crosses a threshold; the scan only
+     * catches alerts that were missed.
+     * Default: 1 hour
      */
-    private Duration checkInterval = Duration.ofMinutes(5);
+    private volatile Duration checkInterval = Duration.ofHours(1);
+
+    /**
+     * Shortest interval the scan tightens to while idle.
+     * <p>
+     * The interval is halved after runs that found nothing to send and met
+     * fast queries. Default: 10 minutes
+     */
+    private volatile Duration minCheckInterval = Duration.ofMinutes(10);
+
+    /**
+     * Longest interval the scan backs off to under load.
+     * <p>
+     * The interval is doubled after runs with slow queries, failed sends or
+     * that reached the maximum number of alerts. Default: 4 hours
+     */
+    private volatile Duration maxCheckInterval = Duration.ofHours(4);
+
+    /**
+     * Page query latency above which the database is considered loaded.
+     * <p>
+     * Default: 500 milliseconds
+     */
+    private Duration slowPageLatency = Duration.ofMillis(500);
 
     /**
      * Initial delay before starting alert checks.
@@ -41,7 +68,7 @@ public class WarehouseAlertConfig {
      * <p>
      * Default: 50 items per page
      */
-    private int pageSize = 50;
+    private volatile int pageSize = 50;
 
     /**
      * Enable or disable alert publishing.
@@ -49,7 +76,16 @@ public class WarehouseAlertConfig {
      * Useful for maintenance or testing scenarios.
      * Default: true
      */
-    private boolean enabled = true;
+    private volatile boolean enabled = true;
+
+    /**
+     * Interval after which a product still alerting at the same level is
+     * notified again.
+     * <p>
+     * Alerts are otherwise only sent on level changes and resolution.
+     * Default: 24 hours
+     */
+    private Duration renotifyInterval = Duration.ofHours(24);
 
     /**
      * Retry attempts for failed Kafka message sends.
@@ -65,18 +101,43 @@ public class WarehouseAlertConfig {
      */
     private Duration retryDelay = Duration.ofSeconds(1);
 
+    /**
+     * Maximum number of alert sends in flight at once.
+     * <p>
+     * Bounds the Kafka producer buffer used by a reconciliation run.
+     * Default: 16
+     */
+    private int sendConcurrency = 16;
+
     /**
      * Maximum number of alerts to process in a single run.
      * <p>
      * Prevents overwhelming the system with too many messages at once.
      * Default: 1000
      */
-    private int maxAlertsPerRun = 1000;
+    private volatile int maxAlertsPerRun = 1000;
 
     /**
-     * Timeout for blocking operations.
+     * Timeout of a single alert send attempt.
      * <p>
      * Default: 30 seconds
      */
     private Duration operationTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Whether the reconciliation scan is split across the live instances.
+     * <p>
+     * When disabled every instance scans all products.
+     * Default: true
+     */
+    private boolean sharded = true;
+
+    /**
+     * Interval at which an instance renews its scan shard membership.
+     * <p>
+     * An instance missing three heartbeats is dropped and its products are
+     * reassigned in the next cycle.
+     * Default: 10 seconds
+     */
+    private Duration memberHeartbeat = Duration.ofSeconds(10);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package io.github.lvoxx.srms.warehouse.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import io.github.lvoxx.srms.kafka.consumer.ReactiveKafkaConsumerFactory;
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
+import io.github.lvoxx.srms.warehouse.services.WarehouseAlertDigestService;
+
+/**
+ * Consumer of the alert topic feeding the contactor digests.
+ * <p>
+ * All instances share one consumer group, so each partition, and with it
+ * each contactor, is digested by a single instance.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "warehouse.digest", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarehouseAlertDigestConsumerConfig {
+
+    @Bean
+    public ConcurrentMessageListenerContainer<String, WarehouseAlertMessage> warehouseAlertDigestConsumer(
+            ReactiveKafkaConsumerFactory consumerFactory, WarehouseAlertDigestService digestService) {
+        return consumerFactory.create(Topics.WAREHOUSE_ALERTS, Topics.WAREHOUSE_ALERT_DIGEST_CONSUMER_GROUP,
+                digestService::collect);
+    }
+}
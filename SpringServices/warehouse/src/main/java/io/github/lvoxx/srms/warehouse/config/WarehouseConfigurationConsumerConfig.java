@@ -0,0 +1,55 @@
+package io.github.lvoxx.srms.warehouse.config;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage;
+import io.github.lvoxx.srms.kafka.consumer.ReactiveKafkaConsumerFactory;
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.warehouse.services.WarehouseAlertReconfigurer;
+
+/**
+ * Consumer of the configuration topic.
+ * <p>
+ * Every instance has to apply every update, so each one consumes with a
+ * consumer group of its own, named after the instance id
+ * ({@code warehouse.instance-id}, the host name by default) so that a
+ * restart reuses the group instead of leaving a new one behind. The
+ * compacted topic is replayed from the beginning on every assignment, which
+ * applies the latest update of each scope on startup.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Configuration
+public class WarehouseConfigurationConsumerConfig {
+
+    static final String GROUP_PREFIX = "warehouse-configuration-";
+
+    @Value("${warehouse.instance-id:}")
+    private String instanceId;
+
+    @Bean
+    public ConcurrentMessageListenerContainer<String, ConfigurationMessage> warehouseConfigurationConsumer(
+            ReactiveKafkaConsumerFactory consumerFactory, WarehouseAlertReconfigurer reconfigurer) {
+        return consumerFactory.createReplaying(Topics.CONFIGURATION, GROUP_PREFIX + instanceId(),
+                reconfigurer::apply);
+    }
+
+    private String instanceId() {
+        if (!instanceId.isBlank()) {
+            return instanceId;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Cannot resolve the host name, set warehouse.instance-id", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.lvoxx.srms.warehouse.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the supplier digests of warehouse alerts.
+ * <p>
+ * These properties are loaded from application.yml and can be overridden
+ * via environment variables or external configuration sources.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "warehouse.digest")
+public class WarehouseDigestConfig {
+
+    /**
+     * Enable/disable publishing alert digests per contactor.
+     * <p>
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval over which the alerts of a contactor are collected into one
+     * digest.
+     * <p>
+     * Default: 5 minutes
+     */
+    private Duration window = Duration.ofMinutes(5);
+
+    /**
+     * Maximum alerts held in a window; a full window is published early.
+     * <p>
+     * Default: 5000
+     */
+    private int maxAlertsPerWindow = 5000;
+
+    /**
+     * Consumed alerts buffered ahead of the digest windows, rounded up to a
+     * power of two; alerts beyond it are dropped and counted.
+     * <p>
+     * Default: 16384
+     */
+    private int bufferSize = 16384;
+
+    /**
+     * Base URL of the contactor service, used to resolve contact details.
+     * <p>
+     * Default: http://contactor:9090
+     */
+    private String contactorUrl = "http://contactor:9090";
+
+    /**
+     * Timeout of a batch contact lookup. Digests of contactors that could
+     * not be resolved are sent without contact details.
+     * <p>
+     * Default: 5 seconds
+     */
+    private Duration lookupTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Time resolved contact details are cached.
+     * <p>
+     * Default: 1 hour
+     */
+    private Duration contactTtl = Duration.ofHours(1);
+
+    /**
+     * Time allowed for Kafka to acknowledge the digests of a window.
+     * <p>
+     * Default: 30 seconds
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+}
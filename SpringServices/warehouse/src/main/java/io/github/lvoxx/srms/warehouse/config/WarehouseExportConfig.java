@@ -0,0 +1,53 @@
+package io.github.lvoxx.srms.warehouse.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for bulk warehouse history exports.
+ * <p>
+ * These properties are loaded from application.yml and can be overridden
+ * via environment variables or external configuration sources.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "warehouse.export")
+public class WarehouseExportConfig {
+
+    /**
+     * Local directory where export files and checkpoints are written.
+     * <p>
+     * Default: ./exports
+     */
+    private Path directory = Path.of("exports");
+
+    /**
+     * Number of rows fetched per round trip from the server-side cursor.
+     * <p>
+     * Default: 1000 rows
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Number of rows written to a single part file.
+     * <p>
+     * Every completed part is checkpointed, so at most one part is exported
+     * again when a job is resumed. Default: 100000 rows
+     */
+    private int partSize = 100_000;
+
+    /**
+     * Compression level used by gzip (1-9) and zstd (1-22).
+     * <p>
+     * Default: 6
+     */
+    private int compressionLevel = 6;
+}
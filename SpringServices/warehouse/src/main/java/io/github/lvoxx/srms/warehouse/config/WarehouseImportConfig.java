@@ -0,0 +1,36 @@
+package io.github.lvoxx.srms.warehouse.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for bulk warehouse imports.
+ * <p>
+ * These properties are loaded from application.yml and can be overridden
+ * via environment variables or external configuration sources.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "warehouse.import")
+public class WarehouseImportConfig {
+
+    /**
+     * Number of parsed rows sent to the database in one COPY data message.
+     * <p>
+     * Default: 1000 rows
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Maximum number of row errors included in an import report.
+     * <p>
+     * Rows beyond this limit are still rejected and counted. Default: 1000
+     */
+    private int maxReportedErrors = 1000;
+}
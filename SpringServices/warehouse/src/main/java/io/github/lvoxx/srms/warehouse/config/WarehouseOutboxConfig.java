@@ -0,0 +1,53 @@
+package io.github.lvoxx.srms.warehouse.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the inventory update outbox relay.
+ * <p>
+ * These properties are loaded from application.yml and can be overridden
+ * via environment variables or external configuration sources.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "warehouse.outbox")
+public class WarehouseOutboxConfig {
+
+    /**
+     * Enable/disable relaying outbox events to Kafka.
+     * <p>
+     * While disabled events accumulate in the outbox and are relayed once
+     * enabled again. Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between two drains of the outbox.
+     * <p>
+     * Default: 1 second
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Number of events relayed per batch.
+     * <p>
+     * Default: 100
+     */
+    private int batchSize = 100;
+
+    /**
+     * Time allowed for Kafka to acknowledge a batch.
+     * <p>
+     * A batch not acknowledged in time is relayed again. Default: 30 seconds
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,60 @@
+package io.github.lvoxx.srms.warehouse.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for warehouse statistics snapshots.
+ * <p>
+ * These properties are loaded from application.yml and can be overridden
+ * via environment variables or external configuration sources.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "warehouse.snapshot")
+public class WarehouseSnapshotConfig {
+
+    /**
+     * Enable/disable publishing statistics snapshots.
+     * <p>
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval between two snapshots of all warehouses.
+     * <p>
+     * Warehouses deleted within the last two intervals are removed from the
+     * topic with a tombstone. Default: 5 minutes
+     */
+    private Duration interval = Duration.ofMinutes(5);
+
+    /**
+     * Initial delay before the first snapshot.
+     * <p>
+     * Default: 1 minute
+     */
+    private Duration initialDelay = Duration.ofMinutes(1);
+
+    /**
+     * Number of warehouses read per page.
+     * <p>
+     * Default: 200
+     */
+    private int pageSize = 200;
+
+    /**
+     * Time allowed for Kafka to acknowledge a page of snapshots.
+     * <p>
+     * Default: 30 seconds
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+}
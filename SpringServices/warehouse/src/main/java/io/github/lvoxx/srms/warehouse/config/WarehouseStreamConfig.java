@@ -0,0 +1,133 @@
+package io.github.lvoxx.srms.warehouse.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the shared WebSocket stream publishers.
+ * <p>
+ * These properties are loaded from application.yml and can be overridden
+ * via environment variables or external configuration sources.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "warehouse.stream")
+public class WarehouseStreamConfig {
+
+    /**
+     * How long a shared stream keeps running after its last subscriber left.
+     * <p>
+     * A short grace period avoids restarting the polling loop when clients
+     * reconnect. Default: 0 (stop immediately)
+     */
+    private Duration idleTimeout = Duration.ZERO;
+
+    /**
+     * Window in which inventory changes are coalesced into a single frame.
+     * <p>
+     * A burst of writes to the same warehouse within this window produces one
+     * refresh. Default: 250 milliseconds
+     */
+    private Duration coalesceWindow = Duration.ofMillis(250);
+
+    /**
+     * Interval of the fallback refresh when no change event arrives.
+     * <p>
+     * Covers writes made outside this service (e.g. manual SQL) and missed
+     * bus messages. Default: 60 seconds
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(60);
+
+    /**
+     * Maximum number of topics one multiplexed connection may subscribe to.
+     * <p>
+     * Bounds the per-connection work a single client can cause.
+     * Default: 200
+     */
+    private int maxTopicsPerSession = 200;
+
+    /**
+     * What to do with frames a session cannot receive fast enough.
+     * <p>
+     * Default: KEEP_LATEST
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.KEEP_LATEST;
+
+    /**
+     * Per endpoint overrides of {@link #overflowPolicy}, keyed by
+     * {@code dashboard}, {@code alerts}, {@code warehouse} or {@code stream}.
+     * <p>
+     * Default: none
+     */
+    private Map<String, OverflowPolicy> endpointOverflowPolicies = new HashMap<>();
+
+    /**
+     * Frames buffered per session and stream for the DROP_OLDEST and
+     * DISCONNECT policies.
+     * <p>
+     * Default: 16 frames
+     */
+    private int sessionBufferSize = 16;
+
+    /**
+     * How long a session may keep overflowing its buffer before it is
+     * disconnected under the DISCONNECT policy.
+     * <p>
+     * Default: 30 seconds
+     */
+    private Duration maxLag = Duration.ofSeconds(30);
+
+    /**
+     * Whether stream updates are produced by one elected instance per topic
+     * and fanned out to all instances through Redis.
+     * <p>
+     * When disabled every instance loads its own streams. Default: true
+     */
+    private boolean clusterEnabled = true;
+
+    /**
+     * Lease of the per-topic producer leadership; renewed every third of
+     * the lease and taken over by another instance once it expires.
+     * <p>
+     * Default: 15 seconds
+     */
+    private Duration leaderLease = Duration.ofSeconds(15);
+
+    /**
+     * How long the latest frame of a topic is kept in Redis for instances
+     * that start relaying the topic.
+     * <p>
+     * Default: 10 minutes
+     */
+    private Duration latestFrameTtl = Duration.ofMinutes(10);
+
+    /**
+     * Overflow handling for slow WebSocket sessions.
+     */
+    public enum OverflowPolicy {
+        /** Keep only the newest pending frame; the session resumes from a snapshot. */
+        KEEP_LATEST,
+        /** Buffer up to {@code sessionBufferSize} frames and drop the oldest. */
+        DROP_OLDEST,
+        /** Like DROP_OLDEST, but close sessions lagging longer than {@code maxLag}. */
+        DISCONNECT
+    }
+
+    /**
+     * @param endpoint WebSocket endpoint name
+     * @return overflow policy configured for the endpoint
+     */
+    public OverflowPolicy overflowPolicyFor(String endpoint) {
+        return endpointOverflowPolicies.getOrDefault(endpoint, overflowPolicy);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
 import org.springframework.web.reactive.socket.WebSocketHandler;
 import org.springframework.web.reactive.socket.server.support.WebSocketHandlerAdapter;
 
+import io.github.lvoxx.srms.warehouse.websocket.WarehouseMultiplexWebSocketHandler;
 import io.github.lvoxx.srms.warehouse.websocket.WarehouseWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 
@@ -18,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 public class WebSocketConfig {
 
     private final WarehouseWebSocketHandler warehouseWebSocketHandler;
+    private final WarehouseMultiplexWebSocketHandler warehouseMultiplexWebSocketHandler;
 
     @Bean
     public HandlerMapping webSocketHandlerMapping() {
@@ -28,6 +30,9 @@ public class WebSocketConfig {
         
         // Alerts endpoint
         map.put("/ws/warehouse/alerts", warehouseWebSocketHandler);
+
+        // Multiplexed endpoint (subscribe to any set of topics on one connection)
+        map.put("/ws/warehouse/stream", warehouseMultiplexWebSocketHandler);
         
         // Warehouse details endpoint (supports dynamic ID)
         map.put("/ws/warehouse/**", warehouseWebSocketHandler);
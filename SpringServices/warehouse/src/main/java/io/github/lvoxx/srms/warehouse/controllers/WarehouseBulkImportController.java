@@ -0,0 +1,57 @@
+package io.github.lvoxx.srms.warehouse.controllers;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.lvoxx.srms.warehouse.dto.WarehouseImportDTO;
+import io.github.lvoxx.srms.warehouse.services.WarehouseBulkImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST Controller for bulk warehouse ingestion.
+ * <p>
+ * Accepts streamed {@code text/csv} (with header line) or
+ * {@code application/x-ndjson} uploads; the body is decoded line by line and
+ * never buffered as a whole.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/warehouse/bulk")
+@RequiredArgsConstructor
+public class WarehouseBulkImportController {
+
+        private static final String TEXT_CSV = "text/csv";
+
+        private final WarehouseBulkImportService importService;
+
+        @PostMapping(value = "/warehouses", consumes = { TEXT_CSV, MediaType.APPLICATION_NDJSON_VALUE })
+        public Mono<ResponseEntity<WarehouseImportDTO.Response>> importWarehouses(
+                        @RequestBody Flux<String> lines,
+                        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                        @RequestHeader("X-User-Id") String userId) {
+                log.info("POST /warehouse/bulk/warehouses - {}", contentType);
+
+                return importService.importWarehouses(lines, contentType, userId)
+                                .map(ResponseEntity::ok);
+        }
+
+        @PostMapping(value = "/transactions", consumes = { TEXT_CSV, MediaType.APPLICATION_NDJSON_VALUE })
+        public Mono<ResponseEntity<WarehouseImportDTO.Response>> importTransactions(
+                        @RequestBody Flux<String> lines,
+                        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                        @RequestHeader("X-User-Id") String userId) {
+                log.info("POST /warehouse/bulk/transactions - {}", contentType);
+
+                return importService.importTransactions(lines, contentType, userId)
+                                .map(ResponseEntity::ok);
+        }
+}
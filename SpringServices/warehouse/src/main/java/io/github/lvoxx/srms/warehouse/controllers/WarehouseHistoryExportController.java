@@ -0,0 +1,69 @@
+package io.github.lvoxx.srms.warehouse.controllers;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.lvoxx.srms.warehouse.dto.WarehouseExportDTO;
+import io.github.lvoxx.srms.warehouse.services.WarehouseHistoryExportService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST Controller for bulk warehouse history exports.
+ * <p>
+ * Exports run in the background; clients poll the job for progress and may
+ * resume a failed or cancelled job from its last checkpoint.
+ */
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/warehouse/history/export")
+@RequiredArgsConstructor
+public class WarehouseHistoryExportController {
+
+        private final WarehouseHistoryExportService exportService;
+
+        @PostMapping
+        public Mono<ResponseEntity<WarehouseExportDTO.JobResponse>> startExport(
+                        @Valid @RequestBody WarehouseExportDTO.Request request) {
+                log.info("POST /warehouse/history/export - {} / {}",
+                                request.getFormat(), request.getCompression());
+
+                return exportService.startExport(request)
+                                .map(response -> ResponseEntity.status(HttpStatus.ACCEPTED).body(response));
+        }
+
+        @GetMapping("/{jobId}")
+        public Mono<ResponseEntity<WarehouseExportDTO.JobResponse>> getJob(@PathVariable String jobId) {
+                log.debug("GET /warehouse/history/export/{}", jobId);
+
+                return exportService.getJob(jobId)
+                                .map(ResponseEntity::ok);
+        }
+
+        @PostMapping("/{jobId}/resume")
+        public Mono<ResponseEntity<WarehouseExportDTO.JobResponse>> resumeExport(@PathVariable String jobId) {
+                log.info("POST /warehouse/history/export/{}/resume", jobId);
+
+                return exportService.resumeExport(jobId)
+                                .map(response -> ResponseEntity.status(HttpStatus.ACCEPTED).body(response));
+        }
+
+        @DeleteMapping("/{jobId}")
+        public Mono<ResponseEntity<WarehouseExportDTO.JobResponse>> cancelExport(@PathVariable String jobId) {
+                log.info("DELETE /warehouse/history/export/{}", jobId);
+
+                return exportService.cancelExport(jobId)
+                                .map(ResponseEntity::ok);
+        }
+}
@@ -1,5 +1,6 @@
 package io.github.lvoxx.srms.warehouse.controllers;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.hateoas.CollectionModel;
@@ -225,6 +226,26 @@ public class WarehouseManagementController {
                                 .map(ResponseEntity::ok);
         }
 
+        @PatchMapping("/batch/delete")
+        public Mono<ResponseEntity<WarehouseDTO.BatchStateResponse>> batchSoftDeleteAll(
+                        @RequestBody List<UUID> ids,
+                        @RequestHeader("X-User-Id") String userId) {
+                log.info("PATCH /warehouse/management/batch/delete - {} ids", ids.size());
+
+                return managementService.batchSoftDeleteAll(ids, userId)
+                                .map(ResponseEntity::ok);
+        }
+
+        @PatchMapping("/batch/restore")
+        public Mono<ResponseEntity<WarehouseDTO.BatchStateResponse>> batchRestore(
+                        @RequestBody List<UUID> ids,
+                        @RequestHeader("X-User-Id") String userId) {
+                log.info("PATCH /warehouse/management/batch/restore - {} ids", ids.size());
+
+                return managementService.batchRestore(ids, userId)
+                                .map(ResponseEntity::ok);
+        }
+
         // ==================== HATEOAS RESOURCE METHODS ====================
 
         /**
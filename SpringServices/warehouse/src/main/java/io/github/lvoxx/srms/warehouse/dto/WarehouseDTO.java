@@ -1,6 +1,7 @@
 package io.github.lvoxx.srms.warehouse.dto;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
@@ -107,4 +108,23 @@ public abstract class WarehouseDTO {
         private String updatedBy;
         private OffsetDateTime createdAt;
     }
-}
\ No newline at end of file
+
+    /**
+     * Result of a set-based batch soft delete or restore.
+     * <p>
+     * Every requested id ends up in exactly one of {@code updated},
+     * {@code missing} (no such warehouse) or {@code unchanged} (already in the
+     * target state).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class BatchStateResponse {
+        private int requested;
+        private List<UUID> updated;
+        private List<UUID> missing;
+        private List<UUID> unchanged;
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.lvoxx.srms.warehouse.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public abstract class WarehouseExportDTO {
+
+    public enum Format {
+        CSV("csv"),
+        AVRO("avro");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    public enum Compression {
+        GZIP("gz"),
+        ZSTD("zst");
+
+        private final String extension;
+
+        Compression(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class Request {
+        private UUID warehouseId;
+        private OffsetDateTime createdFrom;
+        private OffsetDateTime createdTo;
+
+        @NotNull(message = "{error.validation.export.formatRequired}")
+        @Builder.Default
+        private Format format = Format.CSV;
+
+        @NotNull(message = "{error.validation.export.compressionRequired}")
+        @Builder.Default
+        private Compression compression = Compression.GZIP;
+    }
+
+    /**
+     * Persisted state of an export job.
+     * <p>
+     * Written next to the export files after every chunk so that a job can be
+     * resumed from the last keyset position after a crash or restart.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class Checkpoint {
+        private String jobId;
+        private Request request;
+        private Status status;
+        private OffsetDateTime lastCreatedAt;
+        private UUID lastId;
+        private long rowsWritten;
+        private int partCount;
+        private List<String> files;
+        private String error;
+        private OffsetDateTime startedAt;
+        private OffsetDateTime updatedAt;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class JobResponse {
+        private String jobId;
+        private Status status;
+        private Format format;
+        private Compression compression;
+        private long rowsWritten;
+        private long bytesWritten;
+        private List<String> files;
+        private String error;
+        private OffsetDateTime startedAt;
+        private OffsetDateTime updatedAt;
+    }
+}
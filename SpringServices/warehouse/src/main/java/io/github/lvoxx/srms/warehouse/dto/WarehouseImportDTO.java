@@ -0,0 +1,43 @@
+package io.github.lvoxx.srms.warehouse.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public abstract class WarehouseImportDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class Response {
+        private long totalRows;
+        private long imported;
+        private long rejected;
+        private List<RowError> errors;
+    }
+
+    /**
+     * A rejected input row.
+     * <p>
+     * {@code line} is the 1-based line number in the uploaded file, including
+     * the CSV header line.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class RowError {
+        private long line;
+        private String value;
+        private String reason;
+    }
+}
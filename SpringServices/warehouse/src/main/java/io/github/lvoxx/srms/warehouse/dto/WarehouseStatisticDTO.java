@@ -2,8 +2,10 @@ package io.github.lvoxx.srms.warehouse.dto;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
@@ -63,6 +65,7 @@ public abstract class WarehouseStatisticDTO {
         private String severity;
         
         private String message;
+        private UUID contactorId;
         private OffsetDateTime updatedAt;
     }
 
@@ -163,12 +166,47 @@ public abstract class WarehouseStatisticDTO {
         @Pattern(regexp = "DASHBOARD_UPDATE|ALERT_UPDATE|WAREHOUSE_UPDATE", message = "{error.validation.event.invalidFormat}")
         private String eventType;
         
+        private String topic;
+
+        @Pattern(regexp = "SNAPSHOT|DELTA", message = "{error.validation.event.invalidFormat}")
+        private String frameType;
+
+        private Long sequence;
+
         @NotNull(message = "{error.validation.event.dataRequired}")
         private Object data;
         
         private OffsetDateTime timestamp;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class WebSocketDelta {
+        private Map<String, Object> changed;
+        private List<String> removed;
+        private List<Object> addedItems;
+        private List<Object> updatedItems;
+        private List<String> removedItems;
+        private List<String> itemOrder;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    public static class WebSocketCommand {
+        @NotNull(message = "{error.validation.event.typeRequired}")
+        @Pattern(regexp = "SUBSCRIBE|UNSUBSCRIBE|RESYNC", message = "{error.validation.event.invalidFormat}")
+        private String action;
+
+        private List<String> topics;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,65 @@
+package io.github.lvoxx.srms.warehouse.models;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Inventory update waiting to be relayed to Kafka.
+ * <p>
+ * Rows are written by a database trigger in the transaction inserting the
+ * matching {@link WarehouseHistory} row, whose id they share.
+ */
+@SuperBuilder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+@Table("warehouse_outbox")
+public class WarehouseOutboxEvent {
+
+    @Id
+    @Column("id")
+    private UUID id;
+
+    @Column("warehouse_id")
+    private UUID warehouseId;
+
+    @Column("product_name")
+    private String productName;
+
+    @Column("type")
+    private String type;
+
+    @Column("quantity")
+    private Integer quantity;
+
+    @Column("quantity_after")
+    private Integer quantityAfter;
+
+    @Column("min_quantity")
+    private Integer minQuantity;
+
+    @Column("version")
+    private Long version;
+
+    @Column("updated_by")
+    private String updatedBy;
+
+    @Column("occurred_at")
+    private OffsetDateTime occurredAt;
+
+    @Column("created_at")
+    private OffsetDateTime createdAt;
+}
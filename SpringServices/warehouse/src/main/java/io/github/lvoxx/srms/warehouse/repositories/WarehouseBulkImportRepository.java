@@ -0,0 +1,288 @@
+package io.github.lvoxx.srms.warehouse.repositories;
+
+import java.util.UUID;
+
+import org.reactivestreams.Publisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.github.lvoxx.srms.warehouse.dto.WarehouseImportDTO;
+import io.netty.buffer.ByteBuf;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Wrapped;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Set-based bulk ingestion into {@code warehouse} and
+ * {@code warehouse_history}.
+ * <p>
+ * Rows are streamed with {@code COPY ... FROM STDIN} into a temporary staging
+ * table, validated with a single set-wise statement and merged into the
+ * target table with one {@code INSERT ... SELECT}. Staging tables are dropped
+ * on commit, so every method must run inside the same transaction.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class WarehouseBulkImportRepository {
+
+        /** Column order expected by {@link #copyWarehouses(Publisher)}. */
+        public static final String WAREHOUSE_COLUMNS = "line_no, product_name, quantity, min_quantity, contactor_id";
+
+        /** Column order expected by {@link #copyHistory(Publisher)}. */
+        public static final String HISTORY_COLUMNS = "line_no, warehouse_id, quantity, type";
+
+        private final DatabaseClient databaseClient;
+
+        // ==================== WAREHOUSE IMPORT ====================
+
+        public Mono<Void> createWarehouseStaging() {
+                return databaseClient.sql("""
+                                CREATE TEMP TABLE warehouse_import_staging (
+                                    line_no BIGINT NOT NULL,
+                                    product_name TEXT NOT NULL,
+                                    quantity INTEGER NOT NULL,
+                                    min_quantity INTEGER NOT NULL,
+                                    contactor_id UUID,
+                                    warehouse_id UUID NOT NULL DEFAULT uuid_generate_v7()
+                                ) ON COMMIT DROP
+                                """)
+                                .then();
+        }
+
+        /**
+         * Streams CSV encoded rows ({@value #WAREHOUSE_COLUMNS}) into the
+         * warehouse staging table.
+         *
+         * @param chunks CSV data, one buffer per chunk of rows
+         * @return Mono emitting the number of copied rows
+         */
+        public Mono<Long> copyWarehouses(Publisher<ByteBuf> chunks) {
+                return copyIn("COPY warehouse_import_staging (" + WAREHOUSE_COLUMNS
+                                + ") FROM STDIN WITH (FORMAT csv)", chunks);
+        }
+
+        /**
+         * Removes staged rows whose product name already exists or appears more
+         * than once in the upload (the first occurrence is kept).
+         *
+         * @return Flux emitting one error per removed row
+         */
+        public Flux<WarehouseImportDTO.RowError> rejectWarehouseConflicts() {
+                return databaseClient.sql("""
+                                DELETE FROM warehouse_import_staging s
+                                USING (
+                                    SELECT t.line_no,
+                                           EXISTS (
+                                               SELECT 1 FROM warehouse w
+                                               WHERE LOWER(w.product_name) = LOWER(t.product_name)
+                                               AND w.is_deleted = false
+                                           ) AS name_exists,
+                                           ROW_NUMBER() OVER (
+                                               PARTITION BY LOWER(t.product_name) ORDER BY t.line_no
+                                           ) AS occurrence
+                                    FROM warehouse_import_staging t
+                                ) r
+                                WHERE s.line_no = r.line_no
+                                AND (r.name_exists OR r.occurrence > 1)
+                                RETURNING s.line_no, s.product_name, r.name_exists
+                                """)
+                                .map(row -> WarehouseImportDTO.RowError.builder()
+                                                .line(row.get("line_no", Long.class))
+                                                .value(row.get("product_name", String.class))
+                                                .reason(Boolean.TRUE.equals(row.get("name_exists", Boolean.class))
+                                                                ? "Product name already exists"
+                                                                : "Duplicate product name in upload")
+                                                .build())
+                                .all();
+        }
+
+        /**
+         * Inserts all remaining staged rows into {@code warehouse}, then records
+         * non-zero initial quantities as import history so that the quantity
+         * trigger sets the stock.
+         *
+         * @param createdBy user performing the import
+         * @return Mono emitting the number of created warehouses
+         */
+        public Mono<Long> mergeWarehouses(String createdBy) {
+                return databaseClient.sql("""
+                                INSERT INTO warehouse (
+                                    id, product_name, quantity, min_quantity, contactor_id,
+                                    last_updated_by, created_at, updated_at)
+                                SELECT warehouse_id, product_name, 0, min_quantity, contactor_id,
+                                       :createdBy, now(), now()
+                                FROM warehouse_import_staging
+                                ORDER BY line_no
+                                """)
+                                .bind("createdBy", createdBy)
+                                .fetch()
+                                .rowsUpdated()
+                                .flatMap(created -> databaseClient.sql("""
+                                                INSERT INTO warehouse_history (
+                                                    warehouse_id, quantity, type, updated_by, created_at)
+                                                SELECT warehouse_id, quantity, 'import', :createdBy, now()
+                                                FROM warehouse_import_staging
+                                                WHERE quantity > 0
+                                                ORDER BY line_no
+                                                """)
+                                                .bind("createdBy", createdBy)
+                                                .fetch()
+                                                .rowsUpdated()
+                                                .thenReturn(created));
+        }
+
+        // ==================== HISTORY IMPORT ====================
+
+        public Mono<Void> createHistoryStaging() {
+                return databaseClient.sql("""
+                                CREATE TEMP TABLE history_import_staging (
+                                    line_no BIGINT NOT NULL,
+                                    warehouse_id UUID NOT NULL,
+                                    quantity INTEGER NOT NULL,
+                                    type TEXT NOT NULL,
+                                    rejection TEXT
+                                ) ON COMMIT DROP
+                                """)
+                                .then();
+        }
+
+        /**
+         * Streams CSV encoded rows ({@value #HISTORY_COLUMNS}) into the history
+         * staging table.
+         *
+         * @param chunks CSV data, one buffer per chunk of rows
+         * @return Mono emitting the number of copied rows
+         */
+        public Mono<Long> copyHistory(Publisher<ByteBuf> chunks) {
+                return copyIn("COPY history_import_staging (" + HISTORY_COLUMNS
+                                + ") FROM STDIN WITH (FORMAT csv)", chunks);
+        }
+
+        /**
+         * Locks every warehouse referenced by the staged history until commit.
+         *
+         * @return Flux emitting the ids of the locked warehouses once the locks
+         *         are held
+         */
+        public Flux<UUID> lockStagedWarehouses() {
+                return databaseClient.sql("""
+                                SELECT w.id FROM warehouse w
+                                WHERE w.id IN (SELECT DISTINCT warehouse_id FROM history_import_staging)
+                                ORDER BY w.id
+                                FOR UPDATE
+                                """)
+                                .map(row -> row.get("id", UUID.class))
+                                .all();
+        }
+
+        /**
+         * Removes staged transactions referencing missing or deleted warehouses,
+         * and exports exceeding the stock of their warehouse at that point of
+         * the upload.
+         * <p>
+         * The transactions of each warehouse are replayed in upload order from
+         * its current stock. A rejected export does not change the running
+         * stock, so later transactions are checked against the stock that
+         * will actually be recorded.
+         *
+         * @return Flux emitting one error per removed row
+         */
+        public Flux<WarehouseImportDTO.RowError> rejectHistoryConflicts() {
+                return databaseClient.sql("""
+                                DO $$
+                                DECLARE
+                                    staged RECORD;
+                                    current_warehouse UUID;
+                                    balance BIGINT;
+                                    missing_lines BIGINT[] := '{}';
+                                    short_lines BIGINT[] := '{}';
+                                BEGIN
+                                    FOR staged IN
+                                        SELECT t.line_no, t.warehouse_id, t.type, t.quantity,
+                                               w.quantity AS stock, w.id IS NULL AS missing
+                                        FROM history_import_staging t
+                                        LEFT JOIN warehouse w ON w.id = t.warehouse_id AND w.is_deleted = false
+                                        ORDER BY t.warehouse_id, t.line_no
+                                    LOOP
+                                        IF staged.missing THEN
+                                            missing_lines := array_append(missing_lines, staged.line_no);
+                                        ELSE
+                                            IF current_warehouse IS DISTINCT FROM staged.warehouse_id THEN
+                                                current_warehouse := staged.warehouse_id;
+                                                balance := staged.stock;
+                                            END IF;
+                                            IF staged.type = 'import' THEN
+                                                balance := balance + staged.quantity;
+                                            ELSIF balance >= staged.quantity THEN
+                                                balance := balance - staged.quantity;
+                                            ELSE
+                                                short_lines := array_append(short_lines, staged.line_no);
+                                            END IF;
+                                        END IF;
+                                    END LOOP;
+
+                                    UPDATE history_import_staging SET rejection = 'Warehouse not found'
+                                    WHERE line_no = ANY (missing_lines);
+                                    UPDATE history_import_staging SET rejection = 'Insufficient inventory'
+                                    WHERE line_no = ANY (short_lines);
+                                END
+                                $$
+                                """)
+                                .then()
+                                .thenMany(databaseClient.sql("""
+                                                DELETE FROM history_import_staging
+                                                WHERE rejection IS NOT NULL
+                                                RETURNING line_no, warehouse_id, rejection
+                                                """)
+                                                .map(row -> WarehouseImportDTO.RowError.builder()
+                                                                .line(row.get("line_no", Long.class))
+                                                                .value(String.valueOf(row.get("warehouse_id", UUID.class)))
+                                                                .reason(row.get("rejection", String.class))
+                                                                .build())
+                                                .all());
+        }
+
+        /**
+         * Inserts all remaining staged transactions into
+         * {@code warehouse_history}.
+         *
+         * @param updatedBy user performing the import
+         * @return Mono emitting the number of inserted history rows
+         */
+        public Mono<Long> mergeHistory(String updatedBy) {
+                return databaseClient.sql("""
+                                INSERT INTO warehouse_history (warehouse_id, quantity, type, updated_by, created_at)
+                                SELECT warehouse_id, quantity, type, :updatedBy, now()
+                                FROM history_import_staging
+                                ORDER BY line_no
+                                """)
+                                .bind("updatedBy", updatedBy)
+                                .fetch()
+                                .rowsUpdated();
+        }
+
+        // ==================== HELPERS ====================
+
+        private Mono<Long> copyIn(String sql, Publisher<ByteBuf> chunks) {
+                return databaseClient.inConnection(connection -> unwrap(connection).copyIn(sql, chunks));
+        }
+
+        private static PostgresqlConnection unwrap(Connection connection) {
+                Object current = connection;
+                while (!(current instanceof PostgresqlConnection) && current instanceof Wrapped<?> wrapped) {
+                        current = wrapped.unwrap();
+                }
+                if (current instanceof PostgresqlConnection postgresqlConnection) {
+                        return postgresqlConnection;
+                }
+                throw new IllegalStateException("COPY requires a PostgreSQL connection, got: "
+                                + connection.getClass().getName());
+        }
+}
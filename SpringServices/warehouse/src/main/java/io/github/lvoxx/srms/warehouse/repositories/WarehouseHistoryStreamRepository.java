@@ -0,0 +1,95 @@
+package io.github.lvoxx.srms.warehouse.repositories;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.github.lvoxx.srms.warehouse.models.WarehouseHistory;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streaming access to {@code warehouse_history} for bulk reads.
+ * <p>
+ * Rows are read through a server-side cursor (portal) with a bounded fetch
+ * size, in {@code (created_at, id)} keyset order. Consumers pull rows with
+ * back-pressure, so the heap used is bounded by the fetch size regardless of
+ * how many rows match.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class WarehouseHistoryStreamRepository {
+
+        private final DatabaseClient databaseClient;
+
+        /**
+         * Streams history rows strictly after the given keyset position.
+         *
+         * @param warehouseId    restrict to a single warehouse (nullable)
+         * @param createdFrom    inclusive lower bound of created_at (nullable)
+         * @param createdTo      inclusive upper bound of created_at (nullable)
+         * @param afterCreatedAt created_at of the last row already consumed
+         *                       (nullable)
+         * @param afterId        id of the last row already consumed (nullable)
+         * @param fetchSize      rows fetched per round trip
+         * @return Flux streaming history rows in keyset order
+         */
+        public Flux<WarehouseHistory> streamAfter(
+                        UUID warehouseId,
+                        OffsetDateTime createdFrom,
+                        OffsetDateTime createdTo,
+                        OffsetDateTime afterCreatedAt,
+                        UUID afterId,
+                        int fetchSize) {
+
+                StringBuilder sql = new StringBuilder("SELECT * FROM warehouse_history WHERE 1 = 1");
+                if (warehouseId != null) {
+                        sql.append(" AND warehouse_id = :warehouseId");
+                }
+                if (createdFrom != null) {
+                        sql.append(" AND created_at >= :createdFrom");
+                }
+                if (createdTo != null) {
+                        sql.append(" AND created_at <= :createdTo");
+                }
+                if (afterCreatedAt != null && afterId != null) {
+                        sql.append(" AND (created_at, id) > (:afterCreatedAt, :afterId)");
+                }
+                sql.append(" ORDER BY created_at, id");
+
+                DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)));
+                if (warehouseId != null) {
+                        spec = spec.bind("warehouseId", warehouseId);
+                }
+                if (createdFrom != null) {
+                        spec = spec.bind("createdFrom", createdFrom);
+                }
+                if (createdTo != null) {
+                        spec = spec.bind("createdTo", createdTo);
+                }
+                if (afterCreatedAt != null && afterId != null) {
+                        spec = spec.bind("afterCreatedAt", afterCreatedAt).bind("afterId", afterId);
+                }
+
+                return spec.map(WarehouseHistoryStreamRepository::toHistory).all();
+        }
+
+        private static WarehouseHistory toHistory(Readable row) {
+                return WarehouseHistory.builder()
+                                .id(row.get("id", UUID.class))
+                                .warehouseId(row.get("warehouse_id", UUID.class))
+                                .quantity(row.get("quantity", Integer.class))
+                                .type(row.get("type", String.class))
+                                .updatedBy(row.get("updated_by", String.class))
+                                .createdAt(row.get("created_at", OffsetDateTime.class))
+                                .build();
+        }
+}
@@ -0,0 +1,37 @@
+package io.github.lvoxx.srms.warehouse.repositories;
+
+import java.util.UUID;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.github.lvoxx.srms.warehouse.models.WarehouseOutboxEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface WarehouseOutboxRepository extends R2dbcRepository<WarehouseOutboxEvent, UUID> {
+
+        // ==================== RELAY LOCK ====================
+        @Query("SELECT pg_try_advisory_xact_lock(hashtext('warehouse_outbox'))")
+        Mono<Boolean> tryLockRelay();
+
+        // ==================== FIND OLDEST ====================
+        @Query("""
+                        SELECT * FROM warehouse_outbox
+                        ORDER BY created_at, id
+                        LIMIT :limit
+                        """)
+        Flux<WarehouseOutboxEvent> findOldest(@Param("limit") int limit);
+
+        // ==================== DELETE RELAYED ====================
+        @Modifying
+        @Query("""
+                        DELETE FROM warehouse_outbox
+                        WHERE id = ANY(:ids)
+                        """)
+        Mono<Integer> deleteRelayed(@Param("ids") UUID[] ids);
+}
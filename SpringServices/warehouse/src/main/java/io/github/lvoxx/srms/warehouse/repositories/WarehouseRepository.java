@@ -99,6 +99,61 @@ public interface WarehouseRepository extends R2dbcRepository<Warehouse, UUID> {
                         """)
         Flux<Warehouse> findOutOfStock(Pageable pageable);
 
+        // ==================== FIND ALERTING (KEYSET) ====================
+        @Query("""
+                        SELECT * FROM warehouse
+                        WHERE (quantity = 0 OR quantity < min_quantity)
+                        AND is_deleted = false
+                        AND (:afterId IS NULL OR id > :afterId)
+                        AND (get_byte(uuid_send(id), 14) * 256 + get_byte(uuid_send(id), 15)) % :shardCount = :shardIndex
+                        ORDER BY id
+                        LIMIT :limit
+                        """)
+        Flux<Warehouse> findAlertingAfter(
+                        @Param("afterId") UUID afterId,
+                        @Param("shardIndex") int shardIndex,
+                        @Param("shardCount") int shardCount,
+                        @Param("limit") int limit);
+
+        // ==================== STATISTICS (KEYSET) ====================
+
+        /**
+         * Stock and transaction totals of one warehouse.
+         *
+         * @param id               warehouse id
+         * @param productName      product name
+         * @param quantity         current quantity
+         * @param minQuantity      minimum quantity
+         * @param totalImport      sum of imported quantities
+         * @param totalExport      sum of exported quantities
+         * @param transactionCount number of inventory transactions
+         * @param version          row version
+         * @param isDeleted        true if the warehouse is soft deleted
+         */
+        record StatisticsRow(UUID id, String productName, Integer quantity, Integer minQuantity,
+                        Long totalImport, Long totalExport, Long transactionCount, Long version,
+                        Boolean isDeleted) {
+        }
+
+        @Query("""
+                        SELECT w.id, w.product_name, w.quantity, w.min_quantity, w.version, w.is_deleted,
+                               COALESCE(SUM(h.quantity) FILTER (WHERE h.type = 'import'), 0) AS total_import,
+                               COALESCE(SUM(h.quantity) FILTER (WHERE h.type = 'export'), 0) AS total_export,
+                               COUNT(h.id) AS transaction_count
+                        FROM warehouse w
+                        LEFT JOIN warehouse_history h ON h.warehouse_id = w.id
+                        WHERE (:afterId IS NULL OR w.id > :afterId)
+                        AND (get_byte(uuid_send(w.id), 14) * 256 + get_byte(uuid_send(w.id), 15)) % :shardCount = :shardIndex
+                        GROUP BY w.id
+                        ORDER BY w.id
+                        LIMIT :limit
+                        """)
+        Flux<StatisticsRow> findStatisticsAfter(
+                        @Param("afterId") UUID afterId,
+                        @Param("shardIndex") int shardIndex,
+                        @Param("shardCount") int shardCount,
+                        @Param("limit") int limit);
+
         // ==================== UPDATE (WITHOUT QUANTITY) ====================
 
         @Modifying
@@ -153,6 +208,62 @@ public interface WarehouseRepository extends R2dbcRepository<Warehouse, UUID> {
                         @Param("updatedAt") OffsetDateTime updatedAt,
                         @Param("lastUpdatedBy") String lastUpdatedBy);
 
+        // ==================== BATCH SOFT DELETE / RESTORE ====================
+
+        /**
+         * Outcome of a set-based state change for one requested id.
+         *
+         * @param id      requested warehouse id
+         * @param changed true if the row was updated by this statement
+         * @param found   true if a warehouse with this id exists
+         */
+        record StateChange(UUID id, Boolean changed, Boolean found) {
+        }
+
+        @Query("""
+                        WITH updated AS (
+                            UPDATE warehouse
+                            SET is_deleted = true,
+                                updated_at = :updatedAt,
+                                last_updated_by = :lastUpdatedBy
+                            WHERE id = ANY(:ids)
+                            AND is_deleted = false
+                            RETURNING id
+                        )
+                        SELECT requested.id,
+                               updated.id IS NOT NULL AS changed,
+                               existing.id IS NOT NULL AS found
+                        FROM unnest(CAST(:ids AS UUID[])) AS requested(id)
+                        LEFT JOIN updated ON updated.id = requested.id
+                        LEFT JOIN warehouse existing ON existing.id = requested.id
+                        """)
+        Flux<StateChange> softDeleteAll(
+                        @Param("ids") UUID[] ids,
+                        @Param("updatedAt") OffsetDateTime updatedAt,
+                        @Param("lastUpdatedBy") String lastUpdatedBy);
+
+        @Query("""
+                        WITH updated AS (
+                            UPDATE warehouse
+                            SET is_deleted = false,
+                                updated_at = :updatedAt,
+                                last_updated_by = :lastUpdatedBy
+                            WHERE id = ANY(:ids)
+                            AND is_deleted = true
+                            RETURNING id
+                        )
+                        SELECT requested.id,
+                               updated.id IS NOT NULL AS changed,
+                               existing.id IS NOT NULL AS found
+                        FROM unnest(CAST(:ids AS UUID[])) AS requested(id)
+                        LEFT JOIN updated ON updated.id = requested.id
+                        LEFT JOIN warehouse existing ON existing.id = requested.id
+                        """)
+        Flux<StateChange> restoreAll(
+                        @Param("ids") UUID[] ids,
+                        @Param("updatedAt") OffsetDateTime updatedAt,
+                        @Param("lastUpdatedBy") String lastUpdatedBy);
+
         // ==================== COUNT ====================
 
         @Query("""
@@ -0,0 +1,173 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.redisson.api.RMapCacheReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.github.lvoxx.srms.warehouse.config.WarehouseDigestConfig;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resolves contact details of contactors from the contactor service.
+ * <p>
+ * Lookups are made in batch, one request for all contactors not found in
+ * a Redis cache shared by the instances. Resolution is best effort: when
+ * the cache or the contactor service is unavailable, the contactors that
+ * could not be resolved are simply missing from the result.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class ContactorDirectory {
+
+    public static final String KEY = "warehouse:contactors";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final WebClient webClient;
+    private final RMapCacheReactive<String, String> contacts;
+    private final WarehouseDigestConfig digestConfig;
+
+    /**
+     * Contact details of a contactor, as returned by the contactor service.
+     */
+    @JsonNaming(PropertyNamingStrategies.KebabCaseStrategy.class)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Contact(UUID id, String organizationName, String fullName, String email, String phoneNumber) {
+
+        /**
+         * @return organization name, or full name for individuals
+         */
+        public String displayName() {
+            return organizationName != null && !organizationName.isBlank() ? organizationName : fullName;
+        }
+    }
+
+    public ContactorDirectory(WebClient.Builder webClientBuilder, RedissonReactiveClient redissonReactive,
+            WarehouseDigestConfig digestConfig) {
+        this.webClient = webClientBuilder.baseUrl(digestConfig.getContactorUrl()).build();
+        this.contacts = redissonReactive.getMapCache(KEY, StringCodec.INSTANCE);
+        this.digestConfig = digestConfig;
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Resolves the given contactors, from the cache where possible and with a
+     * single request to the contactor service for the others.
+     *
+     * @param ids contactors to resolve
+     * @return Mono emitting the resolved contacts by id; unknown or
+     *         unreachable contactors are left out
+     */
+    public Mono<Map<UUID, Contact>> resolve(Set<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return cached(ids).flatMap(hits -> {
+            Set<UUID> missing = ids.stream()
+                    .filter(id -> !hits.containsKey(id))
+                    .collect(Collectors.toSet());
+            if (missing.isEmpty()) {
+                return Mono.just(hits);
+            }
+
+            log.debug("Resolving {} contactors ({} cached)", missing.size(), hits.size());
+            return fetch(missing)
+                    .flatMap(fetched -> cache(fetched).thenReturn(fetched))
+                    .map(fetched -> {
+                        Map<UUID, Contact> resolved = new HashMap<>(hits);
+                        resolved.putAll(fetched);
+                        return resolved;
+                    });
+        });
+    }
+
+    // ==================== HELPERS ====================
+
+    private Mono<Map<UUID, Contact>> cached(Set<UUID> ids) {
+        Set<String> keys = ids.stream().map(UUID::toString).collect(Collectors.toSet());
+        return contacts.getAll(keys)
+                .map(values -> values.values().stream()
+                        .map(ContactorDirectory::decode)
+                        .filter(contact -> contact != null && contact.id() != null)
+                        .collect(Collectors.toMap(Contact::id, contact -> contact, (a, b) -> a)))
+                .onErrorResume(e -> {
+                    log.warn("Contactor cache unavailable: {}", e.getMessage());
+                    return Mono.just(Map.of());
+                });
+    }
+
+    private Mono<Map<UUID, Contact>> fetch(Collection<UUID> ids) {
+        return webClient.get()
+                .uri(uri -> uri.path("/contactors/batch")
+                        .queryParam("ids", ids.stream().map(UUID::toString).collect(Collectors.joining(",")))
+                        .build())
+                .retrieve()
+                .bodyToFlux(Contact.class)
+                .filter(contact -> contact.id() != null)
+                .collectMap(Contact::id)
+                .timeout(digestConfig.getLookupTimeout())
+                .onErrorResume(e -> {
+                    log.warn("Failed to resolve {} contactors: {}", ids.size(), e.getMessage());
+                    return Mono.just(Map.of());
+                });
+    }
+
+    private Mono<Void> cache(Map<UUID, Contact> fetched) {
+        if (fetched.isEmpty()) {
+            return Mono.empty();
+        }
+        Map<String, String> values = new HashMap<>();
+        fetched.forEach((id, contact) -> {
+            String value = encode(contact);
+            if (value != null) {
+                values.put(id.toString(), value);
+            }
+        });
+        return contacts.putAll(values, digestConfig.getContactTtl().toMillis(), TimeUnit.MILLISECONDS)
+                .onErrorResume(e -> {
+                    log.warn("Failed to cache {} contactors: {}", values.size(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static String encode(Contact contact) {
+        try {
+            return MAPPER.writeValueAsString(contact);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to encode contactor {}: {}", contact.id(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static Contact decode(String value) {
+        try {
+            return MAPPER.readValue(value, Contact.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cached contactor: {}", value);
+            return null;
+        }
+    }
+}
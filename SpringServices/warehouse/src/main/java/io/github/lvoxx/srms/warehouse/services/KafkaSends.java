@@ -0,0 +1,62 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.kafka.core.KafkaTemplate;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Kafka sends issued from a reactive pipeline.
+ * <p>
+ * {@link KafkaTemplate#send} blocks while the producer buffer is full or
+ * topic metadata is unavailable, so sends are issued on the bounded elastic
+ * scheduler rather than on the calling thread.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+final class KafkaSends {
+
+    private KafkaSends() {
+    }
+
+    /**
+     * Issues one send off the calling thread.
+     *
+     * @param send issues the send, invoked on subscription
+     * @param <T>  send result type
+     * @return Mono emitting the send result
+     */
+    static <T> Mono<T> send(Supplier<? extends CompletableFuture<? extends T>> send) {
+        return Mono.<T>fromFuture(send)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Issues the sends of all items in order from one thread, keeping the
+     * per-key order, and waits for all acknowledgements.
+     *
+     * @param items   items to send
+     * @param send    issues the send of one item
+     * @param timeout maximum time to wait for all acknowledgements
+     * @param <T>     item type
+     * @return Mono emitting the number of items sent
+     */
+    static <T> Mono<Long> sendAll(List<T> items, Function<? super T, ? extends CompletableFuture<?>> send,
+            Duration timeout) {
+        return Mono.fromCallable(() -> items.stream()
+                .map(send)
+                .toArray(CompletableFuture[]::new))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(sends -> Mono.fromFuture(CompletableFuture.allOf(sends)))
+                .timeout(timeout)
+                .thenReturn((long) items.size());
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Side effects deferred until the surrounding reactive transaction commits.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs the action after the current transaction commits, or immediately
+     * when there is no transaction. The action is dropped on rollback.
+     *
+     * @param action side effect to run
+     * @return Mono completing once the action ran or was scheduled
+     */
+    static Mono<Void> afterCommit(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public Mono<Void> afterCommit() {
+                        return Mono.fromRunnable(action);
+                    }
+                }))
+                .switchIfEmpty(Mono.fromRunnable(action))
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(action))
+                .then();
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import io.github.lvoxx.srms.warehouse.services.WarehouseAlertProducerService.ReconciliationSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adapts the interval of the alert reconciliation to the load it meets.
+ * <p>
+ * After each run the interval is doubled when the run met load (a page
+ * query slower than {@code slowPageLatency}, failed sends, or the
+ * {@code maxAlertsPerRun} limit reached), halved when the run was idle
+ * (nothing to send, fast queries), and moved back towards
+ * {@code checkInterval} otherwise. The result stays within
+ * {@code minCheckInterval} and {@code maxCheckInterval}.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarehouseAlertCadence {
+
+    private static final double MIN_FACTOR = 1.0 / 64;
+    private static final double MAX_FACTOR = 64;
+
+    private final WarehouseAlertConfig alertConfig;
+    private final AtomicLong slowestPageNanos = new AtomicLong();
+    private volatile double factor = 1.0;
+
+    /**
+     * Records the latency of a page query of the current run.
+     *
+     * @param latency time the page took to load
+     */
+    public void recordPageLatency(Duration latency) {
+        slowestPageNanos.accumulateAndGet(latency.toNanos(), Math::max);
+    }
+
+    /**
+     * Adapts the interval to the outcome of a finished run.
+     *
+     * @param summary outcome counts of the run
+     */
+    public void recordRun(ReconciliationSummary summary) {
+        boolean slow = slowestPageNanos.getAndSet(0) > alertConfig.getSlowPageLatency().toNanos();
+        boolean loaded = slow
+                || summary.failed() > 0
+                || summary.total() >= alertConfig.getMaxAlertsPerRun();
+
+        if (loaded) {
+            factor = Math.min(factor * 2, MAX_FACTOR);
+        } else if (summary.sent() == 0) {
+            factor = Math.max(factor / 2, MIN_FACTOR);
+        } else if (factor != 1.0) {
+            factor = factor > 1.0 ? Math.max(factor / 2, 1.0) : Math.min(factor * 2, 1.0);
+        }
+        log.debug("Alert reconciliation interval is now {} (load: {})", nextInterval(), loaded);
+    }
+
+    /**
+     * Interval until the next run.
+     *
+     * @return the configured interval scaled to the recent load, within the
+     *         configured bounds
+     */
+    public Duration nextInterval() {
+        Duration scaled = Duration.ofMillis(Math.round(alertConfig.getCheckInterval().toMillis() * factor));
+        if (scaled.compareTo(alertConfig.getMinCheckInterval()) < 0) {
+            return alertConfig.getMinCheckInterval();
+        }
+        if (scaled.compareTo(alertConfig.getMaxCheckInterval()) > 0) {
+            return alertConfig.getMaxCheckInterval();
+        }
+        return scaled;
+    }
+}
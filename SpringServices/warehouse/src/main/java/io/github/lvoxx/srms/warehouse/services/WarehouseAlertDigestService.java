@@ -0,0 +1,245 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigestItem;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
+import io.github.lvoxx.srms.warehouse.config.WarehouseDigestConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Collects the alerts sent for products into one digest per contactor.
+ * <p>
+ * Alerts are consumed from {@link Topics#WAREHOUSE_ALERTS} by one consumer
+ * group shared by all instances. The topic is partitioned by contactor, so
+ * every contactor is digested by the single instance owning its partition,
+ * whichever instance sent its alerts. Alerts are collected over the
+ * configured window, reduced to the latest alert of each product, and
+ * published to {@link Topics#WAREHOUSE_ALERT_DIGESTS} as one message per
+ * contactor, so a supplier with many low products is notified once per
+ * window. Contact details of all contactors of a window are resolved with
+ * one {@link ContactorDirectory} lookup.
+ * <p>
+ * Consumed alerts wait for their window in a buffer of
+ * {@code buffer-size} alerts; when it is full, alerts are dropped and counted
+ * in {@value #DROPPED_METER} rather than stalling the consumer. Digests are
+ * best effort: alerts of a window are committed once buffered, and a
+ * partition moving to another instance mid-window may split a contactor's
+ * digest in two.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class WarehouseAlertDigestService {
+
+    public static final String DROPPED_METER = "warehouse.alert.digest.dropped";
+
+    private final Sinks.Many<WarehouseAlertMessage> alerts;
+    private final ContactorDirectory contactorDirectory;
+    private final KafkaTemplate<String, WarehouseAlertDigest> kafkaTemplate;
+    private final WarehouseDigestConfig digestConfig;
+    private final Counter dropped;
+
+    public WarehouseAlertDigestService(ContactorDirectory contactorDirectory,
+            KafkaTemplate<String, WarehouseAlertDigest> kafkaTemplate, WarehouseDigestConfig digestConfig,
+            MeterRegistry meterRegistry) {
+        this.alerts = Sinks.many().unicast().onBackpressureBuffer(
+                Queues.<WarehouseAlertMessage>get(digestConfig.getBufferSize()).get());
+        this.contactorDirectory = contactorDirectory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.digestConfig = digestConfig;
+        this.dropped = meterRegistry.counter(DROPPED_METER);
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Starts collecting offered alerts once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!digestConfig.isEnabled()) {
+            log.info("Warehouse alert digests are disabled");
+            return;
+        }
+        digest(alerts.asFlux())
+                .subscribe(
+                        count -> log.info("Published {} warehouse alert digests", count),
+                        e -> log.error("Warehouse alert digest stage stopped: {}", e.getMessage(), e));
+    }
+
+    /**
+     * Closes the stage; the alerts of the current window are published
+     * before the stage completes.
+     */
+    @PreDestroy
+    public void stop() {
+        alerts.tryEmitComplete();
+    }
+
+    // ==================== COLLECT ====================
+
+    /**
+     * Handles an alert consumed from {@link Topics#WAREHOUSE_ALERTS}.
+     *
+     * @param record consumed alert record
+     * @return Mono completing once the alert is buffered or dropped
+     */
+    public Mono<Void> collect(ConsumerRecord<String, WarehouseAlertMessage> record) {
+        return Mono.fromRunnable(() -> offer(record.value()));
+    }
+
+    /**
+     * Offers an alert to the current window. Alerts of products without a
+     * contactor are ignored, and alerts that do not fit in the buffer are
+     * dropped and counted.
+     *
+     * @param message alert that was sent
+     */
+    public void offer(WarehouseAlertMessage message) {
+        if (!digestConfig.isEnabled() || message == null || message.getContactorId() == null) {
+            return;
+        }
+        Sinks.EmitResult result;
+        // Records of a batch are handled concurrently; retry concurrent emissions
+        while ((result = alerts.tryEmitNext(message)) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+            Thread.onSpinWait();
+        }
+        // The sink buffers until the stage subscribes; a full buffer fails the emission
+        if (result.isFailure()) {
+            dropped.increment();
+            log.debug("Dropped alert of product {} from the digest: {}", message.getProductId(), result);
+        }
+    }
+
+    /**
+     * Cuts alerts into windows and publishes the digests of each window.
+     * <p>
+     * A window closes after the configured interval or once it holds the
+     * maximum number of alerts. A window that cannot be published is logged
+     * and dropped without stopping the stage.
+     *
+     * @param alerts offered alerts
+     * @return Flux emitting the number of digests published per window
+     */
+    Flux<Long> digest(Flux<WarehouseAlertMessage> alerts) {
+        return alerts
+                .bufferTimeout(digestConfig.getMaxAlertsPerWindow(), digestConfig.getWindow())
+                .concatMap(window -> publishWindow(window)
+                        .onErrorResume(e -> {
+                            log.error("Failed to publish alert digests of {} alerts: {}",
+                                    window.size(), e.getMessage(), e);
+                            return Mono.just(0L);
+                        }));
+    }
+
+    // ==================== PUBLISH ====================
+
+    private Mono<Long> publishWindow(List<WarehouseAlertMessage> window) {
+        // Latest alert per product, grouped by contactor in arrival order
+        Map<String, Map<String, WarehouseAlertMessage>> byContactor = new LinkedHashMap<>();
+        for (WarehouseAlertMessage alert : window) {
+            byContactor.computeIfAbsent(alert.getContactorId(), id -> new LinkedHashMap<>())
+                    .put(alert.getProductId(), alert);
+        }
+        long windowStart = window.get(0).getTimestamp();
+
+        return contactorDirectory.resolve(contactorIds(byContactor.keySet()))
+                .map(contacts -> byContactor.entrySet().stream()
+                        .map(entry -> toRecord(entry.getKey(), contact(contacts, entry.getKey()),
+                                entry.getValue().values(), windowStart))
+                        .toList())
+                .flatMap(this::send);
+    }
+
+    private Mono<Long> send(List<ProducerRecord<String, WarehouseAlertDigest>> records) {
+        return KafkaSends.sendAll(records, kafkaTemplate::send, digestConfig.getSendTimeout());
+    }
+
+    // ==================== MESSAGE BUILDING ====================
+
+    /**
+     * Builds the digest record of a contactor, keyed by contactor id.
+     *
+     * @param contactorId contactor the products belong to
+     * @param contact     resolved contact details, null when unresolved
+     * @param alerts      latest alert of each product
+     * @param windowStart timestamp of the first alert of the window
+     * @return digest record
+     */
+    static ProducerRecord<String, WarehouseAlertDigest> toRecord(String contactorId,
+            ContactorDirectory.Contact contact, Collection<WarehouseAlertMessage> alerts,
+            long windowStart) {
+        WarehouseAlertDigest digest = WarehouseAlertDigest.newBuilder()
+                .setDigestId(UUID.randomUUID().toString())
+                .setContactorId(contactorId)
+                .setContactorName(contact != null ? contact.displayName() : null)
+                .setEmail(contact != null ? contact.email() : null)
+                .setPhoneNumber(contact != null ? contact.phoneNumber() : null)
+                .setItems(alerts.stream().map(WarehouseAlertDigestService::toItem).toList())
+                .setWindowStart(Instant.ofEpochMilli(windowStart))
+                .setTimestamp(Instant.now())
+                .build();
+        return new ProducerRecord<>(Topics.WAREHOUSE_ALERT_DIGESTS, contactorId, digest);
+    }
+
+    private static WarehouseAlertDigestItem toItem(WarehouseAlertMessage alert) {
+        return WarehouseAlertDigestItem.newBuilder()
+                .setProductId(alert.getProductId())
+                .setProductName(alert.getProductName())
+                .setCurrentQuantity(alert.getCurrentQuantity())
+                .setThreshold(alert.getThreshold())
+                .setLevel(alert.getLevel().name())
+                .setTimestamp(Instant.ofEpochMilli(alert.getTimestamp()))
+                .build();
+    }
+
+    private static Set<UUID> contactorIds(Set<String> ids) {
+        return ids.stream()
+                .map(WarehouseAlertDigestService::parseId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private static ContactorDirectory.Contact contact(Map<UUID, ContactorDirectory.Contact> contacts,
+            String contactorId) {
+        UUID id = parseId(contactorId);
+        return id != null ? contacts.get(id) : null;
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed contactor id: {}", id);
+            return null;
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package io.github.lvoxx.srms.warehouse.services;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import io.github.lvoxx.srms.kafka.utils.AlertMessageType;
@@ -15,17 +20,33 @@ import io.github.lvoxx.srms.kafka.warehouse.AlertLevel;
 import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
 import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
 import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
+import io.github.lvoxx.srms.warehouse.models.Warehouse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.retry.Retry;
 
 /**
  * Service for producing warehouse alert messages to Kafka.
  * <p>
- * Periodically scans warehouse inventory for products that are below minimum
- * quantity or out of stock, then publishes alert messages to Kafka for
- * downstream processing and notifications.
- * 
+ * Alerts are raised as soon as a write moves a product below its minimum
+ * quantity or out of stock (see {@link #publishOnThresholdCrossing}). A
+ * low-frequency scan of all below-minimum and out-of-stock products
+ * reconciles alerts that were missed, e.g. when a send failed or a write
+ * bypassed the service, and a sweep of the alert state store resolves
+ * products that recovered without a threshold crossing being observed.
+ * <p>
+ * Every alert is mirrored to the compacted
+ * {@link Topics#WAREHOUSE_ALERT_STATE} topic, which holds the current alert
+ * of each product so that consumers can rebuild the alert state without
+ * waiting for a reconciliation. Alerts carry their product's contactor and
+ * are partitioned by it, so {@link WarehouseAlertDigestService} can digest
+ * them per contactor.
+ *
  * @author lvoxx
  * @version 1.0
  * @since 1.0
@@ -38,85 +59,261 @@ public class WarehouseAlertProducerService {
     private final KafkaTemplate<String, WarehouseAlertMessage> kafkaTemplate;
     private final WarehouseStatisticService statisticService;
     private final WarehouseAlertConfig alertConfig;
+    private final WarehouseAlertStateStore alertStateStore;
+    private final WarehouseAlertShards alertShards;
+    private final WarehouseAlertCadence cadence;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+
+    private static final String NORMAL_SEVERITY = "INFO";
 
-    // ==================== SCHEDULED ALERT PUBLISHING ====================
+    // ==================== EVENT-DRIVEN ALERTS ====================
 
     /**
-     * Scheduled task to check and publish warehouse alerts.
-     * <p>
-     * Runs at fixed rate based on configuration (default: every 5 minutes).
-     * Fetches all alerts (below minimum + out of stock) and publishes them to
-     * Kafka.
+     * Publishes an alert when a write moved a product across a threshold.
      * <p>
-     * The schedule can be dynamically updated via configuration topic.
+     * An alert is raised when the product enters the below-minimum or
+     * out-of-stock state, or moves between the two, and a resolution when it
+     * returns to a normal level after having been alerted on. Writes that
+     * keep the product in the same state raise nothing. The message is sent
+     * once the current transaction commits, so a rolled back write never
+     * alerts.
+     * 
+     * @param before warehouse as read before the write
+     * @param after  warehouse as read after the write
+     * @return Mono completing once the alert is sent or scheduled
      */
-    @Scheduled(fixedDelayString = "#{@warehouseAlertConfiguration.checkInterval.toMillis()}", initialDelayString = "#{@warehouseAlertConfiguration.initialDelay.toMillis()}")
-    public void publishWarehouseAlerts() {
+    public Mono<Void> publishOnThresholdCrossing(Warehouse before, Warehouse after) {
         if (!alertConfig.isEnabled()) {
-            log.debug("Warehouse alert publishing is disabled");
-            return;
+            return Mono.empty();
+        }
+
+        WarehouseStatisticDTO.AlertItem previous = WarehouseStatisticService.mapToAlertItem(before);
+        WarehouseStatisticDTO.AlertItem current = WarehouseStatisticService.mapToAlertItem(after);
+        if (current.getSeverity().equals(previous.getSeverity())) {
+            return Mono.empty();
+        }
+
+        log.info("Product {} crossed alert threshold: {} -> {}",
+                current.getProductName(), previous.getSeverity(), current.getSeverity());
+
+        Mono<Void> send = NORMAL_SEVERITY.equals(current.getSeverity())
+                ? alertStateStore.resolve(current.getId())
+                        .flatMap(alerted -> deliverResolution(current, alerted))
+                        .then()
+                : alertStateStore.mark(current.getId(), determineAlertLevel(current), current.getContactorId())
+                        .then(Mono.defer(() -> deliver(current)))
+                        .then();
+
+        return TransactionCallbacks.afterCommit(send::subscribe);
+    }
+
+    // ==================== SCHEDULED RECONCILIATION ====================
+
+    /**
+     * Outcome counts of one reconciliation run.
+     *
+     * @param sent       alerts sent
+     * @param suppressed alerts not due according to the state store
+     * @param failed     alerts that could not be sent after all retries
+     */
+    public record ReconciliationSummary(long sent, long suppressed, long failed) {
+
+        static final ReconciliationSummary EMPTY = new ReconciliationSummary(0, 0, 0);
+
+        ReconciliationSummary add(Outcome outcome) {
+            return switch (outcome) {
+                case SENT -> new ReconciliationSummary(sent + 1, suppressed, failed);
+                case SUPPRESSED -> new ReconciliationSummary(sent, suppressed + 1, failed);
+                case FAILED -> new ReconciliationSummary(sent, suppressed, failed + 1);
+            };
         }
 
-        log.info("Starting scheduled warehouse alert check");
+        public long total() {
+            return sent + suppressed + failed;
+        }
+    }
 
-        int page = 0;
-        long totalAlertsSent = 0;
-        long totalAlertsProcessed = 0;
+    enum Outcome {
+        SENT, SUPPRESSED, FAILED
+    }
 
-        try {
-            // Fetch alerts in pages to handle large datasets
-            WarehouseStatisticDTO.AlertListResponse response = statisticService
-                    .getAllWarehouseAlerts(page, alertConfig.getPageSize())
-                    .block();
+    /**
+     * Starts a reconciliation without waiting for it.
+     * <p>
+     * Runs are scheduled by {@link WarehouseAlertScheduler}, whose interval
+     * adapts to the load and can be updated via configuration topic.
+     */
+    public void publishWarehouseAlerts() {
+        runReconciliation()
+                .subscribe(
+                        summary -> {
+                        },
+                        e -> log.error("Error during warehouse alert reconciliation: {}", e.getMessage(), e));
+    }
 
-            if (response == null || response.getItems().isEmpty()) {
-                log.info("No warehouse alerts found");
-                return;
+    /**
+     * Runs {@link #reconcileAlerts()} unless alerts are disabled or a run is
+     * already in progress.
+     *
+     * @return Mono emitting the outcome counts of the run, empty when the run
+     *         was skipped
+     */
+    public Mono<ReconciliationSummary> runReconciliation() {
+        return Mono.defer(() -> {
+            if (!alertConfig.isEnabled()) {
+                log.debug("Warehouse alert publishing is disabled");
+                return Mono.empty();
             }
+            if (!reconciling.compareAndSet(false, true)) {
+                log.warn("Previous warehouse alert reconciliation still running, skipping this run");
+                return Mono.empty();
+            }
+            return reconcileAlerts().doFinally(signal -> reconciling.set(false));
+        });
+    }
+
+    /**
+     * Walks all below-minimum and out-of-stock products and sends the alerts
+     * the {@link WarehouseAlertStateStore} reports as due, covering alerts
+     * the event-driven path missed while suppressing repeats of alerts
+     * already sent. Then sweeps the products the store still holds an alert
+     * for, and sends a resolution for those back at a normal level, soft
+     * deleted or gone, e.g. after a bulk import or an external write.
+     * <p>
+     * Each instance only walks the products of its
+     * {@link WarehouseAlertShards shard}, so a cycle scans every product
+     * once across the cluster. Products are read in keyset pages and at most
+     * {@code maxAlertsPerRun} alerts and resolutions together are processed.
+     * Sends run with bounded
+     * concurrency, each with the configured timeout and retries; an alert
+     * that still fails is counted, logged, and left due for the next run.
+     * <p>
+     * Every run records {@code warehouse.alert.run.alerts} (tagged by
+     * {@code outcome}) and {@code warehouse.alert.run.duration}.
+     * 
+     * @return Mono emitting the outcome counts of the run
+     */
+    public Mono<ReconciliationSummary> reconcileAlerts() {
+        return alertShards.currentShard().flatMap(shard -> {
+            log.info("Starting warehouse alert reconciliation of shard {}/{}", shard.index() + 1, shard.count());
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            return Flux.concat(
+                    alertItems(shard, alertConfig.getPageSize()).map(this::reconcileAlert),
+                    staleAlerts(shard).map(this::reconcileResolution))
+                    .take(alertConfig.getMaxAlertsPerRun())
+                    .flatMap(Function.identity(), alertConfig.getSendConcurrency())
+                    .reduce(ReconciliationSummary.EMPTY, ReconciliationSummary::add)
+                    .doOnSuccess(summary -> {
+                        cadence.recordRun(summary);
+                        sample.stop(meterRegistry.timer("warehouse.alert.run.duration", "result", "success"));
+                        meterRegistry.counter("warehouse.alert.run.alerts", "outcome", "sent")
+                                .increment(summary.sent());
+                        meterRegistry.counter("warehouse.alert.run.alerts", "outcome", "suppressed")
+                                .increment(summary.suppressed());
+                        meterRegistry.counter("warehouse.alert.run.alerts", "outcome", "failed")
+                                .increment(summary.failed());
+                        if (summary.total() >= alertConfig.getMaxAlertsPerRun()) {
+                            log.warn("Warehouse alert reconciliation stopped at the limit of {} alerts",
+                                    alertConfig.getMaxAlertsPerRun());
+                        }
+                        log.info("Warehouse alert check completed. Sent {}/{} alerts, {} suppressed, {} failed",
+                                summary.sent(), summary.total(), summary.suppressed(), summary.failed());
+                    })
+                    .doOnError(e -> sample.stop(
+                            meterRegistry.timer("warehouse.alert.run.duration", "result", "error")));
+        });
+    }
+
+    /**
+     * Streams the alerting products of a shard page by page, each page
+     * starting after the last id of the previous one.
+     */
+    private Flux<WarehouseStatisticDTO.AlertItem> alertItems(WarehouseAlertShards.Shard shard, int pageSize) {
+        return alertPage(null, shard, pageSize)
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : alertPage(page.get(page.size() - 1).getId(), shard, pageSize))
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * Loads a page of alerting products, reporting its latency to the
+     * {@link WarehouseAlertCadence}.
+     */
+    private Mono<List<WarehouseStatisticDTO.AlertItem>> alertPage(UUID afterId, WarehouseAlertShards.Shard shard,
+            int pageSize) {
+        return statisticService.getAlertsAfter(afterId, shard, pageSize)
+                .collectList()
+                .elapsed()
+                .doOnNext(timed -> cadence.recordPageLatency(Duration.ofMillis(timed.getT1())))
+                .map(Tuple2::getT2);
+    }
+
+    private Mono<Outcome> reconcileAlert(WarehouseStatisticDTO.AlertItem alert) {
+        return alertStateStore.markIfDue(alert.getId(), determineAlertLevel(alert), alert.getContactorId())
+                .flatMap(due -> due
+                        ? deliver(alert).map(sent -> sent ? Outcome.SENT : Outcome.FAILED)
+                        : Mono.just(Outcome.SUPPRESSED));
+    }
+
+    /**
+     * Resolution owed for a product that is no longer alerting.
+     *
+     * @param alert    current state of the product, at the normal level
+     * @param previous alert state recorded for the product
+     */
+    private record StaleAlert(WarehouseStatisticDTO.AlertItem alert, WarehouseAlertStateStore.AlertState previous) {
+    }
+
+    /**
+     * Streams the products of a shard the state store holds an alert for
+     * although they are back at a normal level, soft deleted or gone. The
+     * store is read in pages of {@code pageSize} products, each checked
+     * against the database in one query. The resolution of a product that
+     * is gone carries the contactor recorded with its alert.
+     */
+    private Flux<StaleAlert> staleAlerts(WarehouseAlertShards.Shard shard) {
+        return alertStateStore.alertedProducts()
+                .filter(entry -> shard.contains(entry.getKey()))
+                .buffer(alertConfig.getPageSize())
+                .concatMap(page -> statisticService.getAlertStates(page.stream().map(Map.Entry::getKey).toList())
+                        .collectMap(WarehouseStatisticDTO.AlertItem::getId)
+                        .flatMapIterable(current -> page.stream()
+                                .map(entry -> staleAlert(entry.getKey(), entry.getValue(),
+                                        current.get(entry.getKey())))
+                                .filter(Objects::nonNull)
+                                .toList()));
+    }
 
-            totalAlertsProcessed = response.getTotalItems();
-            log.info("Found {} total alerts to process", totalAlertsProcessed);
-
-            // Process all pages
-            do {
-                for (WarehouseStatisticDTO.AlertItem alert : response.getItems()) {
-                    try {
-                        publishAlertMessage(alert)
-                                .thenAccept(result -> {
-                                    log.debug("Successfully sent alert for product {} to partition {}",
-                                            alert.getProductName(),
-                                            result.getRecordMetadata().partition());
-                                })
-                                .exceptionally(ex -> {
-                                    log.error("Failed to send alert for product {}: {}",
-                                            alert.getProductName(), ex.getMessage());
-                                    return null;
-                                });
-
-                        totalAlertsSent++;
-                    } catch (Exception e) {
-                        log.error("Error processing alert for product {}: {}",
-                                alert.getProductName(), e.getMessage(), e);
-                    }
-                }
-
-                // Fetch next page if available
-                page++;
-                if (page * alertConfig.getPageSize() < totalAlertsProcessed) {
-                    response = statisticService.getAllWarehouseAlerts(page, alertConfig.getPageSize())
-                            .block();
-                } else {
-                    break;
-                }
-
-            } while (response != null && !response.getItems().isEmpty());
-
-            log.info("Warehouse alert check completed. Sent {}/{} alerts",
-                    totalAlertsSent, totalAlertsProcessed);
-
-        } catch (Exception e) {
-            log.error("Error during scheduled warehouse alert check: {}", e.getMessage(), e);
+    private static StaleAlert staleAlert(UUID productId, WarehouseAlertStateStore.AlertState previous,
+            WarehouseStatisticDTO.AlertItem current) {
+        if (current == null) {
+            return new StaleAlert(WarehouseStatisticDTO.AlertItem.builder()
+                    .id(productId)
+                    .productName(productId.toString())
+                    .currentQuantity(0)
+                    .minQuantity(0)
+                    .deficit(0)
+                    .severity(NORMAL_SEVERITY)
+                    .message("Product no longer exists")
+                    .contactorId(previous.contactorId())
+                    .build(), previous);
         }
+        return NORMAL_SEVERITY.equals(current.getSeverity()) ? new StaleAlert(current, previous) : null;
+    }
+
+    /**
+     * Sends the resolution of a stale alert, unless the product's state
+     * changed since it was swept.
+     */
+    private Mono<Outcome> reconcileResolution(StaleAlert stale) {
+        return alertStateStore.resolve(stale.alert().getId(), stale.previous())
+                .flatMap(resolved -> resolved
+                        ? deliverResolution(stale.alert(), stale.previous())
+                                .map(sent -> sent ? Outcome.SENT : Outcome.FAILED)
+                        : Mono.just(Outcome.SUPPRESSED));
     }
 
     // ==================== MESSAGE PUBLISHING ====================
@@ -125,23 +322,33 @@ public class WarehouseAlertProducerService {
      * Publishes a single alert message to Kafka.
      * <p>
      * Converts AlertItem to WarehouseAlertMessage and sends it to the
-     * warehouse-alerts topic with retry logic.
-     * 
+     * warehouse-alerts topic with retry logic. The message also replaces the
+     * product's record on the compacted alert state topic, or removes it with
+     * a tombstone when the alert is resolved.
+     *
      * @param alert the alert item to publish
-     * @return CompletableFuture with send result
+     * @return CompletableFuture with the send result of the alert, completing
+     *         once both records are acknowledged
      */
     public CompletableFuture<SendResult<String, WarehouseAlertMessage>> publishAlertMessage(
             WarehouseStatisticDTO.AlertItem alert) {
 
         WarehouseAlertMessage message = buildAlertMessage(alert);
+        String key = alert.getId().toString();
 
         log.debug("Publishing alert message for product: {} (severity: {})",
                 alert.getProductName(), alert.getSeverity());
 
-        return kafkaTemplate.send(
+        CompletableFuture<SendResult<String, WarehouseAlertMessage>> sent = kafkaTemplate.send(
                 Topics.WAREHOUSE_ALERTS,
-                alert.getId().toString(),
+                key,
                 message);
+        CompletableFuture<SendResult<String, WarehouseAlertMessage>> state = kafkaTemplate.send(
+                Topics.WAREHOUSE_ALERT_STATE,
+                key,
+                message.getLevel() == AlertLevel.RESOLVED ? null : message);
+
+        return sent.thenCombine(state, (result, ignored) -> result);
     }
 
     /**
@@ -158,6 +365,65 @@ public class WarehouseAlertProducerService {
                 .then();
     }
 
+    /**
+     * Sends an alert off the calling thread (see {@link KafkaSends}) with the
+     * configured timeout and retries.
+     * 
+     * @param alert the alert item to publish
+     * @return Mono emitting the send result, or the last failure once the
+     *         retries are exhausted
+     */
+    private Mono<SendResult<String, WarehouseAlertMessage>> sendWithRetry(WarehouseStatisticDTO.AlertItem alert) {
+        return KafkaSends.send(() -> publishAlertMessage(alert))
+                .timeout(alertConfig.getOperationTimeout())
+                .retryWhen(Retry.fixedDelay(alertConfig.getRetryAttempts(), alertConfig.getRetryDelay())
+                        .doBeforeRetry(signal -> log.warn("Retrying alert for product {} ({}): {}",
+                                alert.getProductName(), signal.totalRetries() + 1,
+                                signal.failure().getMessage()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * Sends an alert, logging failures instead of propagating them. A
+     * product whose alert failed stays in the state store as not notified,
+     * so the next reconciliation sends it again, or the sweep resolves it
+     * and clears its alert state record should it recover first.
+     * 
+     * @param alert the alert item to publish
+     * @return Mono emitting whether the alert was sent
+     */
+    private Mono<Boolean> deliver(WarehouseStatisticDTO.AlertItem alert) {
+        return deliver(alert,
+                Mono.defer(() -> alertStateStore.markUndelivered(alert.getId(), determineAlertLevel(alert),
+                        alert.getContactorId())));
+    }
+
+    /**
+     * Sends a resolution, logging failures instead of propagating them. The
+     * state cleared by the resolution is put back when it fails, so the next
+     * reconciliation sweep sends it again.
+     * 
+     * @param alert    the alert item to publish, at the normal level
+     * @param previous state cleared by the resolution
+     * @return Mono emitting whether the resolution was sent
+     */
+    private Mono<Boolean> deliverResolution(WarehouseStatisticDTO.AlertItem alert,
+            WarehouseAlertStateStore.AlertState previous) {
+        return deliver(alert, Mono.defer(() -> alertStateStore.restore(alert.getId(), previous)));
+    }
+
+    private Mono<Boolean> deliver(WarehouseStatisticDTO.AlertItem alert, Mono<Void> onFailure) {
+        return sendWithRetry(alert)
+                .doOnNext(result -> log.debug("Successfully sent alert for product {} to partition {}",
+                        alert.getProductName(), result.getRecordMetadata().partition()))
+                .thenReturn(true)
+                .onErrorResume(error -> {
+                    log.error("Failed to send alert for product {} after {} retries: {}",
+                            alert.getProductName(), alertConfig.getRetryAttempts(), error.getMessage());
+                    return onFailure.thenReturn(false);
+                });
+    }
+
     /**
      * Publishes multiple alert messages in batch.
      * 
@@ -183,27 +449,26 @@ public class WarehouseAlertProducerService {
      * Determines alert level based on severity:
      * - CRITICAL -> Out of stock (quantity = 0)
      * - WARNING -> Below minimum threshold
+     * - INFO -> Resolved, back at a normal level
      * 
      * @param alert the alert item
      * @return constructed WarehouseAlertMessage
      */
     private WarehouseAlertMessage buildAlertMessage(WarehouseStatisticDTO.AlertItem alert) {
         AlertLevel level = determineAlertLevel(alert);
-        AlertMessageType messageType = level == AlertLevel.CRITICAL
-                ? AlertMessageType.OUT_OF_STOCK
-                : AlertMessageType.BELOW_MINIMUM;
-
-        // Include product name in the message for better monitoring/alerting
-        String enhancedMessage = String.format(
-                "[%s] %s: %s - %s. Current: %d, Minimum: %d, Deficit: %d units. %s",
-                messageType.getSeverity(),
-                alert.getProductName(), // ADDED: Product name at the beginning
-                messageType.getDescription(),
-                alert.getMessage(),
-                alert.getCurrentQuantity(),
-                alert.getMinQuantity(),
-                alert.getDeficit(),
-                messageType.getRecommendedAction());
+        AlertMessageType messageType = AlertMessageType.fromAlertLevel(level);
+
+        // Include product name in the message for better monitoring/alerting.
+        // Concatenation instead of String.format: no format parsing or
+        // boxing per alert during bursts
+        String enhancedMessage = "[" + messageType.getSeverity() + "] "
+                + alert.getProductName() + ": "
+                + messageType.getDescription() + " - "
+                + alert.getMessage()
+                + ". Current: " + alert.getCurrentQuantity()
+                + ", Minimum: " + alert.getMinQuantity()
+                + ", Deficit: " + alert.getDeficit() + " units. "
+                + messageType.getRecommendedAction();
 
         return WarehouseAlertMessage.newBuilder()
                 .setMessageId(UUID.randomUUID().toString())
@@ -214,6 +479,7 @@ public class WarehouseAlertProducerService {
                 .setLevel(level)
                 .setMessage(enhancedMessage)
                 .setTimestamp(Instant.now().toEpochMilli())
+                .setContactorId(alert.getContactorId() != null ? alert.getContactorId().toString() : null)
                 .build();
     }
 
@@ -227,6 +493,7 @@ public class WarehouseAlertProducerService {
         return switch (alert.getSeverity()) {
             case "CRITICAL" -> AlertLevel.CRITICAL;
             case "WARNING" -> AlertLevel.WARNING;
+            case NORMAL_SEVERITY -> AlertLevel.RESOLVED;
             default -> {
                 log.warn("Unknown severity '{}' for product {}, defaulting to WARNING",
                         alert.getSeverity(), alert.getProductName());
@@ -0,0 +1,172 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage;
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies alert configuration updates received on
+ * {@link Topics#CONFIGURATION} without a restart.
+ * <p>
+ * Updates of the {@value #SCOPE} scope may set {@code enabled},
+ * {@code check-interval}, {@code min-check-interval},
+ * {@code max-check-interval}, {@code page-size} and
+ * {@code max-alerts-per-run}. Each update is the full configuration of the
+ * scope: a property it does not name, or names with an invalid value, goes
+ * back to the value bound at startup. The topic is compacted by scope, so a
+ * restarted instance replaying only the latest update ends up with the same
+ * settings as the instances that saw every update. The intervals are applied
+ * only when the check interval lies within its bounds, since the cadence
+ * would otherwise clamp it without notice; otherwise all three go back to
+ * their startup values. Every instance consumes every update, and the
+ * reconciliation is re-planned so that a new interval applies at once.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class WarehouseAlertReconfigurer {
+
+    public static final String SCOPE = "warehouse.alert";
+
+    private static final String ENABLED = "enabled";
+    private static final String CHECK_INTERVAL = "check-interval";
+    private static final String MIN_CHECK_INTERVAL = "min-check-interval";
+    private static final String MAX_CHECK_INTERVAL = "max-check-interval";
+    private static final String PAGE_SIZE = "page-size";
+    private static final String MAX_ALERTS_PER_RUN = "max-alerts-per-run";
+    private static final Set<String> PROPERTIES = Set.of(ENABLED, CHECK_INTERVAL, MIN_CHECK_INTERVAL,
+            MAX_CHECK_INTERVAL, PAGE_SIZE, MAX_ALERTS_PER_RUN);
+
+    private final WarehouseAlertConfig alertConfig;
+    private final WarehouseAlertScheduler scheduler;
+    private final Defaults defaults;
+
+    /**
+     * Reconfigurable properties as bound at startup.
+     */
+    record Defaults(boolean enabled, Duration checkInterval, Duration minCheckInterval,
+            Duration maxCheckInterval, int pageSize, int maxAlertsPerRun) {
+
+        static Defaults of(WarehouseAlertConfig config) {
+            return new Defaults(config.isEnabled(), config.getCheckInterval(), config.getMinCheckInterval(),
+                    config.getMaxCheckInterval(), config.getPageSize(), config.getMaxAlertsPerRun());
+        }
+    }
+
+    public WarehouseAlertReconfigurer(WarehouseAlertConfig alertConfig, WarehouseAlertScheduler scheduler) {
+        this.alertConfig = alertConfig;
+        this.scheduler = scheduler;
+        this.defaults = Defaults.of(alertConfig);
+    }
+
+    /**
+     * Applies a configuration record if it targets the alert scope.
+     *
+     * @param record consumed configuration record
+     * @return Mono completing once applied
+     */
+    public Mono<Void> apply(ConsumerRecord<String, ConfigurationMessage> record) {
+        ConfigurationMessage message = record.value();
+        if (message == null || !SCOPE.equals(message.getScope())) {
+            return Mono.empty();
+        }
+
+        return Mono.fromRunnable(() -> {
+            log.info("Applying alert configuration update {} from {}", message.getMessageId(),
+                    message.getUpdatedBy());
+            Map<String, String> properties = message.getProperties();
+            properties.keySet().stream()
+                    .filter(name -> !PROPERTIES.contains(name))
+                    .forEach(name -> log.warn("Ignoring unsupported alert property {}", name));
+
+            alertConfig.setEnabled(
+                    parse(properties, ENABLED, WarehouseAlertReconfigurer::parseBoolean, defaults.enabled()));
+            alertConfig.setPageSize(
+                    parse(properties, PAGE_SIZE, WarehouseAlertReconfigurer::parsePositiveInt, defaults.pageSize()));
+            alertConfig.setMaxAlertsPerRun(parse(properties, MAX_ALERTS_PER_RUN,
+                    WarehouseAlertReconfigurer::parsePositiveInt, defaults.maxAlertsPerRun()));
+            applyIntervals(properties);
+            log.info("Alert configuration is now enabled={}, page-size={}, max-alerts-per-run={}",
+                    alertConfig.isEnabled(), alertConfig.getPageSize(), alertConfig.getMaxAlertsPerRun());
+            scheduler.reschedule();
+        });
+    }
+
+    /**
+     * Applies the check interval and its bounds of an update at once, so
+     * that they may move together in any order. When the resulting check
+     * interval falls outside its bounds, all three go back to their startup
+     * values.
+     */
+    private void applyIntervals(Map<String, String> properties) {
+        Duration check = parse(properties, CHECK_INTERVAL, WarehouseAlertReconfigurer::parsePositive,
+                defaults.checkInterval());
+        Duration min = parse(properties, MIN_CHECK_INTERVAL, WarehouseAlertReconfigurer::parsePositive,
+                defaults.minCheckInterval());
+        Duration max = parse(properties, MAX_CHECK_INTERVAL, WarehouseAlertReconfigurer::parsePositive,
+                defaults.maxCheckInterval());
+
+        if (check.compareTo(min) < 0 || check.compareTo(max) > 0) {
+            log.warn("Ignoring alert intervals: check-interval {} is outside min-check-interval {} "
+                    + "and max-check-interval {}", check, min, max);
+            check = defaults.checkInterval();
+            min = defaults.minCheckInterval();
+            max = defaults.maxCheckInterval();
+        }
+        alertConfig.setMinCheckInterval(min);
+        alertConfig.setMaxCheckInterval(max);
+        alertConfig.setCheckInterval(check);
+        log.info("Alert intervals set to {} within [{}, {}]", check, min, max);
+    }
+
+    private static <T> T parse(Map<String, String> properties, String name, Function<String, T> parser,
+            T fallback) {
+        String value = properties.get(name);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring invalid value '{}' of alert property {}: {}", value, name, e.getMessage());
+            return fallback;
+        }
+    }
+
+    private static boolean parseBoolean(String value) {
+        if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+            throw new IllegalArgumentException("expected true or false");
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    private static Duration parsePositive(String value) {
+        Duration duration = DurationStyle.detectAndParse(value);
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("must be positive");
+        }
+        return duration;
+    }
+
+    private static int parsePositiveInt(String value) {
+        int number = Integer.parseInt(value);
+        if (number <= 0) {
+            throw new IllegalArgumentException("must be positive");
+        }
+        return number;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Schedules the alert reconciliation.
+ * <p>
+ * Each run is planned when the previous one ends, at the interval given by
+ * the {@link WarehouseAlertCadence}, so a slow run delays the next one
+ * rather than overlapping it. Unlike a {@code @Scheduled} delay the interval
+ * is read again for every run, and {@link #reschedule()} re-plans a pending
+ * run when the configuration changes.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarehouseAlertScheduler {
+
+    private final WarehouseAlertProducerService producerService;
+    private final WarehouseAlertCadence cadence;
+    private final WarehouseAlertConfig alertConfig;
+    private final TaskScheduler taskScheduler;
+
+    // Guarded by this; a run only proceeds if no other was planned since
+    private ScheduledFuture<?> pending;
+    private long generation;
+    private Instant lastRunEnd;
+    private boolean running;
+    private boolean stopped;
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Plans the first run after the configured initial delay.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        schedule(Instant.now().plus(alertConfig.getInitialDelay()));
+    }
+
+    /**
+     * Cancels the pending run.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        stopped = true;
+        if (pending != null) {
+            pending.cancel(false);
+        }
+    }
+
+    /**
+     * Re-plans the pending run from the current interval, e.g. after the
+     * configuration changed. A run in progress plans the next one itself when
+     * it ends, and the first run keeps its initial delay.
+     */
+    public synchronized void reschedule() {
+        if (running || stopped || lastRunEnd == null) {
+            return;
+        }
+        schedule(lastRunEnd.plus(cadence.nextInterval()));
+    }
+
+    // ==================== RUNS ====================
+
+    private synchronized void schedule(Instant at) {
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        long planned = ++generation;
+        Instant now = Instant.now();
+        pending = taskScheduler.schedule(() -> run(planned), at.isBefore(now) ? now : at);
+        log.debug("Next warehouse alert reconciliation at {}", at);
+    }
+
+    private void run(long planned) {
+        synchronized (this) {
+            if (planned != generation || stopped) {
+                return;
+            }
+            running = true;
+        }
+
+        producerService.runReconciliation()
+                .doFinally(signal -> {
+                    synchronized (this) {
+                        running = false;
+                        lastRunEnd = Instant.now();
+                        if (!stopped) {
+                            schedule(lastRunEnd.plus(cadence.nextInterval()));
+                        }
+                    }
+                })
+                .subscribe(
+                        summary -> {
+                        },
+                        e -> log.error("Error during warehouse alert reconciliation: {}", e.getMessage(), e));
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.redisson.api.RScoredSortedSetReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Splits the alert reconciliation scan across the live warehouse instances.
+ * <p>
+ * Instances register in a Redis sorted set scored by the expiry of their
+ * last heartbeat. At the start of a scan an instance reads the live
+ * members, sorted by id, and takes the products whose id falls into the
+ * bucket matching its position: with N members a product belongs to shard
+ * {@code bucket % N}, the bucket being the last 16 bits of its id. Those
+ * bits are random in both UUIDv4 and UUIDv7 ids, so shards stay even when
+ * ids are time-ordered and every product is scanned by exactly one
+ * instance, whereas ranges on the leading bits would put every UUIDv7 id of
+ * the next decades into the first one. A stopped instance leaves the set on
+ * shutdown; a crashed one once its heartbeat expires.
+ * <p>
+ * Membership changing during a cycle can make a product be scanned twice or
+ * skipped once; the alert state store suppresses the duplicates and the
+ * next cycle covers the skipped products.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class WarehouseAlertShards {
+
+    public static final String KEY = "warehouse:alert-members";
+
+    private final RScoredSortedSetReactive<String> members;
+    private final WarehouseAlertConfig alertConfig;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * Products scanned by one instance, those whose id bucket modulo the
+     * number of live members is the position of the instance. Repository
+     * queries filter on {@code (get_byte(uuid_send(id), 14) * 256
+     * + get_byte(uuid_send(id), 15)) % count = index}, the same rule as
+     * {@link #contains}.
+     *
+     * @param index position of the instance among the live members
+     * @param count number of live members
+     */
+    public record Shard(int index, int count) {
+
+        public static final Shard ALL = of(0, 1);
+
+        private static final int BUCKET_MASK = 0xFFFF;
+
+        static Shard of(int index, int count) {
+            return new Shard(index, count);
+        }
+
+        /**
+         * @param id product id
+         * @return whether the product belongs to this shard
+         */
+        public boolean contains(UUID id) {
+            return bucket(id) % count == index;
+        }
+
+        /**
+         * Last two bytes of the id, random in every UUID version in use.
+         */
+        static int bucket(UUID id) {
+            return (int) (id.getLeastSignificantBits() & BUCKET_MASK);
+        }
+    }
+
+    public WarehouseAlertShards(RedissonReactiveClient redissonReactive, WarehouseAlertConfig alertConfig) {
+        this.members = redissonReactive.getScoredSortedSet(KEY, StringCodec.INSTANCE);
+        this.alertConfig = alertConfig;
+    }
+
+    // ==================== MEMBERSHIP ====================
+
+    /**
+     * Renews the membership of this instance and drops expired members.
+     */
+    @Scheduled(fixedDelayString = "#{@warehouseAlertConfig.memberHeartbeat.toMillis()}")
+    public void heartbeat() {
+        if (!alertConfig.isSharded()) {
+            return;
+        }
+        register().subscribe(
+                members -> {
+                },
+                e -> log.warn("Alert shard heartbeat failed: {}", e.getMessage()));
+    }
+
+    @PreDestroy
+    public void leave() {
+        members.remove(instanceId)
+                .subscribe(
+                        removed -> log.info("Left alert shard membership"),
+                        e -> log.warn("Failed to leave alert shard membership: {}", e.getMessage()));
+    }
+
+    // ==================== ASSIGNMENT ====================
+
+    /**
+     * Resolves the products this instance scans in the current cycle. When
+     * sharding is disabled or Redis cannot be reached all products are
+     * scanned, since a duplicate alert is preferable to a lost one.
+     *
+     * @return Mono emitting the shard of this instance
+     */
+    public Mono<Shard> currentShard() {
+        if (!alertConfig.isSharded()) {
+            return Mono.just(Shard.ALL);
+        }
+        return register()
+                .map(live -> {
+                    int index = live.indexOf(instanceId);
+                    return index < 0 ? Shard.ALL : Shard.of(index, live.size());
+                })
+                .onErrorResume(e -> {
+                    log.warn("Alert shard lookup failed, scanning all products: {}", e.getMessage());
+                    return Mono.just(Shard.ALL);
+                });
+    }
+
+    /**
+     * Adds or renews this instance, drops expired members and reads the
+     * live ones sorted by id.
+     */
+    private Mono<List<String>> register() {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + alertConfig.getMemberHeartbeat().multipliedBy(3).toMillis();
+
+        return members.add(expiresAt, instanceId)
+                .then(members.removeRangeByScore(0, true, now, false))
+                .then(members.readAll())
+                .map(live -> live.stream().sorted().toList());
+    }
+}
@@ -0,0 +1,238 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.redisson.api.RMapReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.srms.kafka.warehouse.AlertLevel;
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Last alert level sent per product, kept in a Redis hash.
+ * <p>
+ * Each entry also records the contactor the alert was sent for, so that a
+ * resolution reaches the same contactor digest even once the product row is
+ * gone.
+ * <p>
+ * The store decides whether an alert is worth sending: a product is
+ * notified when it first alerts, when its level changes, and again once the
+ * re-notify interval elapsed; in between, repeated alerts are suppressed.
+ * Entries are removed when the product is resolved, so every entry is a
+ * product that still owes a resolution. Updates are conditional on the value
+ * read, so concurrent instances agree on a single sender.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class WarehouseAlertStateStore {
+
+    public static final String KEY = "warehouse:alert-state";
+
+    private static final String SEPARATOR = "|";
+
+    private final RMapReactive<String, String> states;
+    private final WarehouseAlertConfig alertConfig;
+
+    /**
+     * Level last sent for a product, when, and to which contactor.
+     *
+     * @param level       level sent
+     * @param notifiedAt  epoch millis of the last notification
+     * @param contactorId contactor of the product, null if it has none
+     */
+    public record AlertState(AlertLevel level, long notifiedAt, UUID contactorId) {
+
+        String encode() {
+            String encoded = level.name() + SEPARATOR + notifiedAt;
+            return contactorId != null ? encoded + SEPARATOR + contactorId : encoded;
+        }
+
+        /**
+         * Decodes an entry, with or without contactor, so that entries
+         * written before the contactor was recorded are still read.
+         */
+        static Optional<AlertState> decode(String value) {
+            try {
+                String[] parts = value.split(Pattern.quote(SEPARATOR), 3);
+                return Optional.of(new AlertState(
+                        AlertLevel.valueOf(parts[0]),
+                        Long.parseLong(parts[1]),
+                        parts.length > 2 ? UUID.fromString(parts[2]) : null));
+            } catch (RuntimeException e) {
+                log.warn("Ignoring malformed alert state: {}", value);
+                return Optional.empty();
+            }
+        }
+    }
+
+    public WarehouseAlertStateStore(RedissonReactiveClient redissonReactive, WarehouseAlertConfig alertConfig) {
+        this.states = redissonReactive.getMap(KEY, StringCodec.INSTANCE);
+        this.alertConfig = alertConfig;
+    }
+
+    // ==================== TRANSITIONS ====================
+
+    /**
+     * Records the level of an alert if it is due for notification.
+     * <p>
+     * An alert is due when the product has no recorded level, its level
+     * changed, or the re-notify interval elapsed since it was last sent.
+     * When the store cannot be reached the alert is considered due, since a
+     * duplicate is preferable to a lost alert.
+     *
+     * @param productId   alerting product
+     * @param level       current alert level
+     * @param contactorId contactor of the product, may be null
+     * @return Mono emitting whether the caller should send the alert
+     */
+    public Mono<Boolean> markIfDue(UUID productId, AlertLevel level, UUID contactorId) {
+        String key = productId.toString();
+        long now = System.currentTimeMillis();
+        String next = new AlertState(level, now, contactorId).encode();
+
+        return states.get(key)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(current -> {
+                    if (current.isEmpty()) {
+                        return states.fastPutIfAbsent(key, next);
+                    }
+                    boolean due = AlertState.decode(current.get())
+                            .map(previous -> previous.level() != level
+                                    || now - previous.notifiedAt() >= alertConfig.getRenotifyInterval().toMillis())
+                            .orElse(true);
+                    return due ? states.replace(key, current.get(), next) : Mono.just(false);
+                })
+                .onErrorResume(e -> {
+                    log.warn("Alert state lookup failed for {}, sending alert: {}", productId, e.getMessage());
+                    return Mono.just(true);
+                });
+    }
+
+    /**
+     * Records a level that is being sent regardless of the previous state,
+     * e.g. for a threshold crossing observed on a write.
+     *
+     * @param productId   alerting product
+     * @param level       level being sent
+     * @param contactorId contactor of the product, may be null
+     * @return Mono completing once recorded
+     */
+    public Mono<Void> mark(UUID productId, AlertLevel level, UUID contactorId) {
+        return states.fastPut(productId.toString(),
+                new AlertState(level, System.currentTimeMillis(), contactorId).encode())
+                .onErrorResume(e -> {
+                    log.warn("Failed to record alert state for {}: {}", productId, e.getMessage());
+                    return Mono.just(false);
+                })
+                .then();
+    }
+
+    /**
+     * Records a level whose alert could not be sent as never notified, so
+     * that the next reconciliation sends it again.
+     * <p>
+     * The product stays tracked rather than being dropped: an earlier alert
+     * may still be on the compacted alert state topic, and only tracked
+     * products are resolved, and their record tombstoned, by the sweep once
+     * they recover.
+     *
+     * @param productId   product whose alert failed
+     * @param level       level of the failed alert
+     * @param contactorId contactor of the product, may be null
+     * @return Mono completing once recorded
+     */
+    public Mono<Void> markUndelivered(UUID productId, AlertLevel level, UUID contactorId) {
+        return states.fastPut(productId.toString(), new AlertState(level, 0L, contactorId).encode())
+                .onErrorResume(e -> {
+                    log.warn("Failed to record undelivered alert for {}: {}", productId, e.getMessage());
+                    return Mono.just(false);
+                })
+                .then();
+    }
+
+    /**
+     * Clears the state of a product back at a normal level.
+     *
+     * @param productId resolved product
+     * @return Mono emitting the state of the alert sent for the product, i.e.
+     *         whether a resolution should be sent; empty if none was sent
+     */
+    public Mono<AlertState> resolve(UUID productId) {
+        return states.remove(productId.toString())
+                .flatMap(previous -> Mono.justOrEmpty(AlertState.decode(previous)))
+                .onErrorResume(e -> {
+                    log.warn("Failed to clear alert state for {}: {}", productId, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Clears the state of a product unless it changed since it was read, so
+     * a sweep never resolves an alert that a concurrent write just raised.
+     *
+     * @param productId resolved product
+     * @param expected  state read by the caller
+     * @return Mono emitting whether the state was cleared and a resolution
+     *         should be sent
+     */
+    public Mono<Boolean> resolve(UUID productId, AlertState expected) {
+        return states.remove(productId.toString(), expected.encode())
+                .onErrorResume(e -> {
+                    log.warn("Failed to clear alert state for {}: {}", productId, e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    /**
+     * Puts back the state of a product whose resolution could not be sent,
+     * so that the next reconciliation sends it again. A state recorded in the
+     * meantime is kept.
+     *
+     * @param productId product whose resolution failed
+     * @param previous  state cleared by the resolution
+     * @return Mono completing once restored
+     */
+    public Mono<Void> restore(UUID productId, AlertState previous) {
+        return states.fastPutIfAbsent(productId.toString(), previous.encode())
+                .onErrorResume(e -> {
+                    log.warn("Failed to restore alert state for {}: {}", productId, e.getMessage());
+                    return Mono.just(false);
+                })
+                .then();
+    }
+
+    // ==================== SWEEP ====================
+
+    /**
+     * Streams the products an alert was sent for and not yet resolved.
+     * Malformed entries are skipped.
+     *
+     * @return Flux emitting the product id and recorded state of each entry
+     */
+    public Flux<Map.Entry<UUID, AlertState>> alertedProducts() {
+        return states.entryIterator()
+                .concatMap(entry -> {
+                    try {
+                        UUID productId = UUID.fromString(entry.getKey());
+                        return Mono.justOrEmpty(AlertState.decode(entry.getValue()))
+                                .map(state -> Map.entry(productId, state));
+                    } catch (IllegalArgumentException e) {
+                        log.warn("Ignoring alert state of malformed product id: {}", entry.getKey());
+                        return Mono.empty();
+                    }
+                });
+    }
+}
@@ -0,0 +1,481 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lvoxx.srms.common.cache.WarehouseCacheNames;
+import io.github.lvoxx.srms.controllerhandler.model.DataPersistantException;
+import io.github.lvoxx.srms.controllerhandler.model.ValidationException;
+import io.github.lvoxx.srms.warehouse.config.WarehouseImportConfig;
+import io.github.lvoxx.srms.warehouse.dto.WarehouseDTO;
+import io.github.lvoxx.srms.warehouse.dto.WarehouseImportDTO;
+import io.github.lvoxx.srms.warehouse.models.Warehouse;
+import io.github.lvoxx.srms.warehouse.models.WarehouseHistory;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseBulkImportRepository;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseRepository;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service for bulk ingestion of warehouses and inventory transactions.
+ * <p>
+ * Uploads are parsed line by line (CSV with header or NDJSON), validated per
+ * row and streamed in chunks through PostgreSQL {@code COPY} into a staging
+ * table. Uniqueness and stock checks then run set-wise in the database and
+ * the remaining rows are merged with a single statement, so the cost no longer
+ * grows with one round trip per row.
+ * <p>
+ * Invalid rows never abort the import; they are returned in a per-row error
+ * report. Caches are invalidated once, after the whole import committed.
+ * Transaction imports run the same threshold alerts and change
+ * notifications as single transactions, for every warehouse they touched.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class WarehouseBulkImportService {
+
+        private static final CsvColumns WAREHOUSE_CSV_COLUMNS = new CsvColumns(
+                        List.of("product-name", "quantity", "min-quantity"), List.of("contactor-id"));
+
+        private static final CsvColumns HISTORY_CSV_COLUMNS = new CsvColumns(
+                        List.of("warehouse-id", "quantity", "type"), List.of());
+
+        private final WarehouseBulkImportRepository importRepository;
+        private final WarehouseRepository warehouseRepository;
+        private final WarehouseImportConfig importConfig;
+        private final ObjectMapper importMapper;
+        private final Validator validator;
+        private final WarehouseChangeNotifier changeNotifier;
+        private final WarehouseAlertProducerService alertProducer;
+
+        public WarehouseBulkImportService(
+                        WarehouseBulkImportRepository importRepository,
+                        WarehouseRepository warehouseRepository,
+                        WarehouseImportConfig importConfig,
+                        ObjectMapper objectMapper,
+                        Validator validator,
+                        WarehouseChangeNotifier changeNotifier,
+                        WarehouseAlertProducerService alertProducer) {
+                this.importRepository = importRepository;
+                this.warehouseRepository = warehouseRepository;
+                this.importConfig = importConfig;
+                this.validator = validator;
+                this.changeNotifier = changeNotifier;
+                this.alertProducer = alertProducer;
+                // Accept both "IMPORT" and "import" for transaction types
+                this.importMapper = objectMapper.copy();
+                this.importMapper.configOverride(WarehouseHistory.HistoryType.class)
+                                .setFormat(JsonFormat.Value.empty()
+                                                .withFeature(JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_VALUES)
+                                                .withFeature(JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES));
+        }
+
+        // ==================== WAREHOUSE IMPORT ====================
+
+        /**
+         * Bulk creates warehouses from an uploaded file.
+         * <p>
+         * Rows whose product name already exists, or repeats an earlier row of
+         * the same upload, are rejected. Initial quantities are recorded as import
+         * history, exactly like {@code createWarehouse}.
+         *
+         * @param lines       uploaded file, one element per line
+         * @param contentType {@code text/csv} or {@code application/x-ndjson}
+         * @param createdBy   username/ID of user importing the warehouses
+         * @return Mono emitting the import report
+         * @throws ValidationException     if the CSV header is invalid
+         * @throws DataPersistantException if the database import fails
+         */
+        @Transactional
+        @Caching(evict = {
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_ALL, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.STATS_DASHBOARD, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_STATISTICS, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_BELOW_MINIMUM, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_OUT_OF_STOCK, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.STATS_TOTAL_IMPORT, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.STATS_BALANCE, allEntries = true)
+        })
+        public Mono<WarehouseImportDTO.Response> importWarehouses(
+                        Flux<String> lines, MediaType contentType, String createdBy) {
+                log.info("Bulk importing warehouses ({})", contentType);
+
+                ImportReport report = new ImportReport(importConfig.getMaxReportedErrors());
+                Flux<ByteBuf> chunks = toCopyChunks(
+                                parse(lines, contentType, WarehouseDTO.Request.class, WAREHOUSE_CSV_COLUMNS, report),
+                                (request, row) -> row.add(request.getProductName())
+                                                .add(request.getQuantity())
+                                                .add(request.getMinQuantity())
+                                                .add(request.getContactorId()));
+
+                return importRepository.createWarehouseStaging()
+                                .then(importRepository.copyWarehouses(chunks))
+                                .doOnNext(copied -> log.debug("Staged {} warehouse rows", copied))
+                                .thenMany(importRepository.rejectWarehouseConflicts())
+                                .doOnNext(report::reject)
+                                .then(importRepository.mergeWarehouses(createdBy))
+                                .map(report::toResponse)
+                                .doOnSuccess(response -> log.info("Bulk warehouse import completed: {} of {} imported",
+                                                response.getImported(), response.getTotalRows()))
+                                .onErrorMap(e -> !(e instanceof ValidationException), e -> {
+                                        log.error("Error bulk importing warehouses: {}", e.getMessage(), e);
+                                        return new DataPersistantException(
+                                                        "Failed to import warehouses: " + e.getMessage());
+                                })
+                                .flatMap(response -> response.getImported() > 0
+                                                ? changeNotifier.publishAllAfterCommit().thenReturn(response)
+                                                : Mono.just(response));
+        }
+
+        // ==================== HISTORY IMPORT ====================
+
+        /**
+         * Bulk records inventory transactions from an uploaded file.
+         * <p>
+         * Rows referencing unknown or deleted warehouses are rejected, as are
+         * exports that would take the running stock of a warehouse below zero
+         * when the upload is applied in order. Rejected exports are not credited
+         * back, so the check never lets a later row overdraw a warehouse.
+         * <p>
+         * Once the import commits, alerts are raised or resolved for every
+         * warehouse whose stock crossed a threshold, and the touched warehouses
+         * are published to the {@link WarehouseChangeNotifier}.
+         *
+         * @param lines       uploaded file, one element per line
+         * @param contentType {@code text/csv} or {@code application/x-ndjson}
+         * @param updatedBy   username/ID of user importing the transactions
+         * @return Mono emitting the import report
+         * @throws ValidationException     if the CSV header is invalid
+         * @throws DataPersistantException if the database import fails
+         */
+        @Transactional
+        @Caching(evict = {
+                        @CacheEvict(value = WarehouseCacheNames.DETAILS, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.STATS_DETAILS, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.STATS_TOTAL_IMPORT, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.STATS_TOTAL_EXPORT, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.STATS_BALANCE, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.STATS_DASHBOARD, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_BELOW_MINIMUM, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_OUT_OF_STOCK, allEntries = true)
+        })
+        public Mono<WarehouseImportDTO.Response> importTransactions(
+                        Flux<String> lines, MediaType contentType, String updatedBy) {
+                log.info("Bulk importing inventory transactions ({})", contentType);
+
+                ImportReport report = new ImportReport(importConfig.getMaxReportedErrors());
+                Flux<ByteBuf> chunks = toCopyChunks(
+                                parse(lines, contentType, WarehouseDTO.InventoryTransactionRequest.class,
+                                                HISTORY_CSV_COLUMNS, report),
+                                (request, row) -> row.add(request.getWarehouseId())
+                                                .add(request.getQuantity())
+                                                .add(request.getType().getValue()));
+
+                return importRepository.createHistoryStaging()
+                                .then(importRepository.copyHistory(chunks))
+                                .doOnNext(copied -> log.debug("Staged {} transaction rows", copied))
+                                .thenMany(importRepository.lockStagedWarehouses())
+                                .collectList()
+                                .flatMap(warehouseIds -> findWarehouses(warehouseIds)
+                                                .flatMap(before -> importRepository.rejectHistoryConflicts()
+                                                                .doOnNext(report::reject)
+                                                                .then(importRepository.mergeHistory(updatedBy))
+                                                                .map(report::toResponse)
+                                                                .flatMap(response -> response.getImported() > 0
+                                                                                ? notifyImported(before, warehouseIds)
+                                                                                                .thenReturn(response)
+                                                                                : Mono.just(response))))
+                                .doOnSuccess(response -> log.info(
+                                                "Bulk transaction import completed: {} of {} imported",
+                                                response.getImported(), response.getTotalRows()))
+                                .onErrorMap(e -> !(e instanceof ValidationException), e -> {
+                                        log.error("Error bulk importing transactions: {}", e.getMessage(), e);
+                                        return new DataPersistantException(
+                                                        "Failed to import transactions: " + e.getMessage());
+                                });
+        }
+
+        private Mono<Map<UUID, Warehouse>> findWarehouses(List<UUID> warehouseIds) {
+                return warehouseIds.isEmpty()
+                                ? Mono.just(Map.of())
+                                : warehouseRepository.findAllById(warehouseIds).collectMap(Warehouse::getId);
+        }
+
+        /**
+         * Runs the threshold alerts of the imported warehouses against their
+         * state before the import, and publishes them as changed. Both happen
+         * once the import commits.
+         */
+        private Mono<Void> notifyImported(Map<UUID, Warehouse> before, List<UUID> warehouseIds) {
+                return findWarehouses(warehouseIds)
+                                .flatMapIterable(Map::values)
+                                .filter(after -> before.containsKey(after.getId()) && !after.isDeleted())
+                                .concatMap(after -> alertProducer.publishOnThresholdCrossing(
+                                                before.get(after.getId()), after))
+                                .then(Mono.defer(() -> changeNotifier.publishAfterCommit(warehouseIds)));
+        }
+
+        // ==================== PARSING ====================
+
+        /**
+         * Parses and validates uploaded lines.
+         * <p>
+         * Blank lines are skipped. Rows that cannot be parsed or fail bean
+         * validation are recorded in the report and dropped from the stream.
+         */
+        <T> Flux<ParsedRow<T>> parse(Flux<String> lines, MediaType contentType, Class<T> type,
+                        CsvColumns csvColumns, ImportReport report) {
+                boolean ndjson = contentType != null && contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON);
+                CsvRowReader<T> csvReader = ndjson ? null : new CsvRowReader<>(type, csvColumns);
+
+                return lines.index()
+                                .filter(line -> !line.getT2().isBlank())
+                                .concatMap(line -> {
+                                        long lineNo = line.getT1() + 1;
+                                        String content = stripCarriageReturn(line.getT2());
+                                        if (csvReader != null && !csvReader.hasHeader()) {
+                                                csvReader.readHeader(content);
+                                                return Mono.empty();
+                                        }
+                                        report.total.incrementAndGet();
+                                        try {
+                                                T value = ndjson
+                                                                ? importMapper.readValue(content, type)
+                                                                : csvReader.apply(content);
+                                                String violations = validate(value);
+                                                if (violations != null) {
+                                                        report.reject(lineNo, content, violations);
+                                                        return Mono.empty();
+                                                }
+                                                return Mono.just(new ParsedRow<>(lineNo, value));
+                                        } catch (Exception e) {
+                                                report.reject(lineNo, content, "Malformed row: " + e.getMessage());
+                                                return Mono.empty();
+                                        }
+                                }, 0);
+        }
+
+        private String validate(Object value) {
+                Set<ConstraintViolation<Object>> violations = validator.validate(value);
+                if (violations.isEmpty()) {
+                        return null;
+                }
+                return violations.stream()
+                                .map(ConstraintViolation::getMessage)
+                                .sorted()
+                                .collect(Collectors.joining("; "));
+        }
+
+        /**
+         * Encodes parsed rows as COPY CSV data, one direct buffer per chunk.
+         */
+        private <T> Flux<ByteBuf> toCopyChunks(Flux<ParsedRow<T>> rows, BiConsumer<T, CsvLine> columns) {
+                return rows
+                                .buffer(importConfig.getChunkSize())
+                                .map(chunk -> {
+                                        StringBuilder data = new StringBuilder(chunk.size() * 64);
+                                        for (ParsedRow<T> row : chunk) {
+                                                CsvLine line = new CsvLine(data).add(row.line());
+                                                columns.accept(row.value(), line);
+                                                data.append('\n');
+                                        }
+                                        ByteBuf buffer = ByteBufAllocator.DEFAULT.buffer(data.length());
+                                        buffer.writeCharSequence(data, StandardCharsets.UTF_8);
+                                        return buffer;
+                                });
+        }
+
+        private static String stripCarriageReturn(String line) {
+                return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+        }
+
+        // ==================== HELPERS ====================
+
+        record ParsedRow<T>(long line, T value) {
+        }
+
+        record CsvColumns(List<String> required, List<String> optional) {
+
+                boolean isKnown(String column) {
+                        return required.contains(column) || optional.contains(column);
+                }
+        }
+
+        /**
+         * Accumulates row counts and errors of a single import.
+         */
+        static final class ImportReport {
+                private final int maxErrors;
+                private final AtomicLong total = new AtomicLong();
+                private final AtomicLong rejected = new AtomicLong();
+                private final List<WarehouseImportDTO.RowError> errors = new ArrayList<>();
+
+                ImportReport(int maxErrors) {
+                        this.maxErrors = maxErrors;
+                }
+
+                void reject(long line, String value, String reason) {
+                        reject(WarehouseImportDTO.RowError.builder()
+                                        .line(line)
+                                        .value(value)
+                                        .reason(reason)
+                                        .build());
+                }
+
+                synchronized void reject(WarehouseImportDTO.RowError error) {
+                        rejected.incrementAndGet();
+                        if (errors.size() < maxErrors) {
+                                errors.add(error);
+                        }
+                }
+
+                synchronized WarehouseImportDTO.Response toResponse(long imported) {
+                        List<WarehouseImportDTO.RowError> sorted = new ArrayList<>(errors);
+                        sorted.sort((a, b) -> Long.compare(a.getLine(), b.getLine()));
+                        return WarehouseImportDTO.Response.builder()
+                                        .totalRows(total.get())
+                                        .imported(imported)
+                                        .rejected(rejected.get())
+                                        .errors(sorted)
+                                        .build();
+                }
+        }
+
+        /**
+         * Writes one COPY CSV record. {@code null} is written as an unquoted empty
+         * field, which COPY reads as NULL.
+         */
+        static final class CsvLine {
+                private final StringBuilder data;
+                private boolean first = true;
+
+                CsvLine(StringBuilder data) {
+                        this.data = data;
+                }
+
+                CsvLine add(Object value) {
+                        if (!first) {
+                                data.append(',');
+                        }
+                        first = false;
+                        if (value != null) {
+                                String text = value.toString();
+                                data.append('"').append(text.replace("\"", "\"\"")).append('"');
+                        }
+                        return this;
+                }
+        }
+
+        /**
+         * Maps CSV records to request objects using the header line.
+         * <p>
+         * Header names are matched case-insensitively, with {@code _} and
+         * {@code -} treated alike; values are converted by Jackson using the same
+         * kebab-case names as the JSON API.
+         */
+        private final class CsvRowReader<T> implements Function<String, T> {
+                private final Class<T> type;
+                private final CsvColumns columns;
+                private List<String> header;
+
+                CsvRowReader(Class<T> type, CsvColumns columns) {
+                        this.type = type;
+                        this.columns = columns;
+                }
+
+                boolean hasHeader() {
+                        return header != null;
+                }
+
+                void readHeader(String line) {
+                        List<String> names = splitCsv(line).stream()
+                                        .map(column -> column.trim().toLowerCase().replace('_', '-'))
+                                        .toList();
+                        List<String> missing = columns.required().stream()
+                                        .filter(column -> !names.contains(column))
+                                        .toList();
+                        if (!missing.isEmpty()) {
+                                throw new ValidationException("CSV header is missing columns: " + missing);
+                        }
+                        this.header = names;
+                }
+
+                @Override
+                public T apply(String line) {
+                        List<String> values = splitCsv(line);
+                        if (values.size() != header.size()) {
+                                throw new IllegalArgumentException(String.format(
+                                                "expected %d columns but found %d", header.size(), values.size()));
+                        }
+                        Map<String, String> fields = new HashMap<>();
+                        for (int i = 0; i < header.size(); i++) {
+                                String value = values.get(i).trim();
+                                if (!value.isEmpty() && columns.isKnown(header.get(i))) {
+                                        fields.put(header.get(i), value);
+                                }
+                        }
+                        return importMapper.convertValue(fields, type);
+                }
+        }
+
+        /**
+         * Splits a single CSV line (RFC 4180 quoting, no embedded line breaks).
+         */
+        static List<String> splitCsv(String line) {
+                List<String> values = new ArrayList<>();
+                StringBuilder current = new StringBuilder();
+                boolean quoted = false;
+                for (int i = 0; i < line.length(); i++) {
+                        char c = line.charAt(i);
+                        if (quoted) {
+                                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                                        current.append('"');
+                                        i++;
+                                } else if (c == '"') {
+                                        quoted = false;
+                                } else {
+                                        current.append(c);
+                                }
+                        } else if (c == '"') {
+                                quoted = true;
+                        } else if (c == ',') {
+                                values.add(current.toString());
+                                current.setLength(0);
+                        } else {
+                                current.append(c);
+                        }
+                }
+                if (quoted) {
+                        throw new IllegalArgumentException("unterminated quoted field");
+                }
+                values.add(current.toString());
+                return values;
+        }
+}
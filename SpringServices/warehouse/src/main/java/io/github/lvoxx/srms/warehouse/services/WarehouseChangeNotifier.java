@@ -0,0 +1,149 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.redisson.api.RTopicReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+/**
+ * Publishes inventory change events for the real-time WebSocket streams.
+ * <p>
+ * Writes publish the ids of the warehouses they touched once their
+ * transaction commits. Events are emitted to an in-process sink and relayed
+ * to other instances through a Redis topic, so every instance can refresh
+ * its streams within milliseconds of a commit instead of polling.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class WarehouseChangeNotifier {
+
+    public static final String TOPIC = "warehouse:inventory-changes";
+
+    private static final String ALL_WAREHOUSES = "*";
+    private static final String SEPARATOR = "|";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Sinks.Many<Change> localChanges = Sinks.many().multicast().directBestEffort();
+    private final RTopicReactive topic;
+    private final Flux<Change> changes;
+
+    /**
+     * A committed change.
+     *
+     * @param warehouseId affected warehouse, {@code null} when the change may
+     *                    affect any warehouse (e.g. bulk imports)
+     */
+    public record Change(@Nullable UUID warehouseId) {
+
+        public boolean affects(UUID id) {
+            return warehouseId == null || warehouseId.equals(id);
+        }
+    }
+
+    public WarehouseChangeNotifier(RedissonReactiveClient redissonReactive) {
+        this.topic = redissonReactive.getTopic(TOPIC, StringCodec.INSTANCE);
+        Flux<Change> remoteChanges = Flux.defer(() -> topic.getMessages(String.class))
+                .filter(message -> !message.startsWith(instanceId + SEPARATOR))
+                .flatMapIterable(WarehouseChangeNotifier::decode)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Change topic subscription failed, retrying: {}",
+                                signal.failure().getMessage())));
+        this.changes = Flux.merge(localChanges.asFlux(), remoteChanges).share();
+    }
+
+    // ==================== SUBSCRIBE ====================
+
+    /**
+     * Local and remote committed changes. The Redis subscription is held only
+     * while at least one stream is listening.
+     *
+     * @return hot Flux of changes
+     */
+    public Flux<Change> changes() {
+        return changes;
+    }
+
+    // ==================== PUBLISH ====================
+
+    /**
+     * Publishes a change for the given warehouses after the current transaction
+     * commits, or immediately when there is no transaction.
+     *
+     * @param warehouseIds affected warehouses
+     * @return Mono completing once the change is published or scheduled
+     */
+    public Mono<Void> publishAfterCommit(Collection<UUID> warehouseIds) {
+        List<UUID> ids = warehouseIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return Mono.empty();
+        }
+        return TransactionCallbacks.afterCommit(() -> publish(ids));
+    }
+
+    /**
+     * Publishes a change that may affect any warehouse after the current
+     * transaction commits.
+     *
+     * @return Mono completing once the change is published or scheduled
+     */
+    public Mono<Void> publishAllAfterCommit() {
+        return TransactionCallbacks.afterCommit(() -> publish(null));
+    }
+
+    // ==================== HELPERS ====================
+
+    private void publish(@Nullable List<UUID> ids) {
+        if (ids == null) {
+            emit(new Change(null));
+        } else {
+            ids.forEach(id -> emit(new Change(id)));
+        }
+
+        String payload = ids == null
+                ? ALL_WAREHOUSES
+                : ids.stream().map(UUID::toString).collect(Collectors.joining(","));
+        topic.publish(instanceId + SEPARATOR + payload)
+                .subscribe(
+                        receivers -> log.debug("Published inventory change to {} instances", receivers),
+                        e -> log.warn("Failed to relay inventory change: {}", e.getMessage()));
+    }
+
+    private void emit(Change change) {
+        localChanges.emitNext(change, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+    private static List<Change> decode(String message) {
+        String payload = message.substring(message.indexOf(SEPARATOR) + 1);
+        if (ALL_WAREHOUSES.equals(payload)) {
+            return List.of(new Change(null));
+        }
+        try {
+            return Arrays.stream(payload.split(","))
+                    .map(id -> new Change(UUID.fromString(id)))
+                    .toList();
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed inventory change message: {}", message);
+            return List.of();
+        }
+    }
+}
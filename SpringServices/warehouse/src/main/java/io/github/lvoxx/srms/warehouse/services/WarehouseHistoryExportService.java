@@ -0,0 +1,580 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import io.github.lvoxx.srms.controllerhandler.model.ConflictException;
+import io.github.lvoxx.srms.controllerhandler.model.InternalServerException;
+import io.github.lvoxx.srms.controllerhandler.model.NotFoundException;
+import io.github.lvoxx.srms.controllerhandler.model.ValidationException;
+import io.github.lvoxx.srms.warehouse.config.WarehouseExportConfig;
+import io.github.lvoxx.srms.warehouse.dto.WarehouseExportDTO;
+import io.github.lvoxx.srms.warehouse.models.WarehouseHistory;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseHistoryStreamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Service for bulk exports of warehouse history.
+ * <p>
+ * History rows are streamed from a server-side cursor in
+ * {@code (created_at, id)} order and written straight to compressed part
+ * files (gzip/zstd CSV or Avro container files), so memory usage stays
+ * constant regardless of the number of exported rows.
+ * <p>
+ * After each completed part the job state is persisted as a JSON checkpoint
+ * next to the export files. A failed, cancelled or interrupted job can be
+ * resumed from the last checkpointed keyset position, even after a restart.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarehouseHistoryExportService {
+
+        private static final String CHECKPOINT_SUFFIX = ".checkpoint.json";
+        private static final String TEMP_SUFFIX = ".tmp";
+        private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+        private static final String[] CSV_HEADER = {
+                        "id", "warehouse_id", "quantity", "type", "updated_by", "created_at" };
+
+        private static final Schema AVRO_SCHEMA = SchemaBuilder
+                        .record("WarehouseHistoryExport")
+                        .namespace("io.github.lvoxx.srms.warehouse.export")
+                        .fields()
+                        .requiredString("id")
+                        .requiredString("warehouse_id")
+                        .requiredInt("quantity")
+                        .requiredString("type")
+                        .requiredString("updated_by")
+                        .name("created_at")
+                        .type(LogicalTypes.timestampMicros().addToSchema(Schema.create(Schema.Type.LONG)))
+                        .noDefault()
+                        .endRecord();
+
+        private final WarehouseHistoryStreamRepository streamRepository;
+        private final WarehouseExportConfig exportConfig;
+        private final ObjectMapper objectMapper;
+
+        private final Map<String, WarehouseExportDTO.Checkpoint> jobs = new ConcurrentHashMap<>();
+        private final Map<String, Disposable> runningJobs = new ConcurrentHashMap<>();
+
+        // ==================== START ====================
+
+        /**
+         * Starts a new export job in the background.
+         *
+         * @param request export filters and output format
+         * @return Mono emitting the initial job state
+         * @throws ValidationException     if the date range is invalid
+         * @throws InternalServerException if the job cannot be initialised
+         */
+        public Mono<WarehouseExportDTO.JobResponse> startExport(WarehouseExportDTO.Request request) {
+                if (request.getCreatedFrom() != null && request.getCreatedTo() != null
+                                && request.getCreatedFrom().isAfter(request.getCreatedTo())) {
+                        return Mono.error(new ValidationException("createdFrom must be before createdTo"));
+                }
+
+                OffsetDateTime now = OffsetDateTime.now();
+                WarehouseExportDTO.Checkpoint checkpoint = WarehouseExportDTO.Checkpoint.builder()
+                                .jobId(UUID.randomUUID().toString())
+                                .request(request)
+                                .status(WarehouseExportDTO.Status.RUNNING)
+                                .files(List.of())
+                                .startedAt(now)
+                                .updatedAt(now)
+                                .build();
+
+                log.info("Starting history export {} ({} / {})",
+                                checkpoint.getJobId(), request.getFormat(), request.getCompression());
+
+                return Mono.fromCallable(() -> {
+                        Files.createDirectories(exportConfig.getDirectory());
+                        saveCheckpoint(checkpoint);
+                        return checkpoint;
+                })
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .doOnNext(this::launch)
+                                .map(this::toResponse)
+                                .onErrorMap(e -> !(e instanceof ValidationException),
+                                                e -> new InternalServerException("Failed to start history export", e));
+        }
+
+        // ==================== READ ====================
+
+        /**
+         * Returns the progress of an export job.
+         * <p>
+         * Falls back to the persisted checkpoint for jobs started before the last
+         * restart.
+         *
+         * @param jobId export job identifier
+         * @return Mono emitting the job state
+         * @throws NotFoundException if no such job exists
+         */
+        public Mono<WarehouseExportDTO.JobResponse> getJob(String jobId) {
+                return findCheckpoint(jobId).map(this::toResponse);
+        }
+
+        // ==================== RESUME ====================
+
+        /**
+         * Resumes an interrupted export from its last checkpoint.
+         * <p>
+         * Rows already covered by a completed part are not exported again; the
+         * remaining rows are written to new part files.
+         *
+         * @param jobId export job identifier
+         * @return Mono emitting the resumed job state
+         * @throws NotFoundException if no such job exists
+         * @throws ConflictException if the job is running or already completed
+         */
+        public Mono<WarehouseExportDTO.JobResponse> resumeExport(String jobId) {
+                return findCheckpoint(jobId)
+                                .flatMap(checkpoint -> {
+                                        if (runningJobs.containsKey(jobId)) {
+                                                return Mono.error(new ConflictException(
+                                                                "Export job is already running: " + jobId));
+                                        }
+                                        if (checkpoint.getStatus() == WarehouseExportDTO.Status.COMPLETED) {
+                                                return Mono.error(new ConflictException(
+                                                                "Export job is already completed: " + jobId));
+                                        }
+
+                                        log.info("Resuming history export {} after {} rows",
+                                                        jobId, checkpoint.getRowsWritten());
+
+                                        WarehouseExportDTO.Checkpoint resumed = checkpoint.toBuilder()
+                                                        .status(WarehouseExportDTO.Status.RUNNING)
+                                                        .error(null)
+                                                        .updatedAt(OffsetDateTime.now())
+                                                        .build();
+                                        launch(resumed);
+                                        return Mono.just(toResponse(resumed));
+                                });
+        }
+
+        // ==================== CANCEL ====================
+
+        /**
+         * Cancels a running export job.
+         * <p>
+         * The part being written is discarded; completed parts are kept and the
+         * job can be resumed later.
+         *
+         * @param jobId export job identifier
+         * @return Mono emitting the cancelled job state
+         * @throws NotFoundException if no such job exists
+         * @throws ConflictException if the job is not running
+         */
+        public Mono<WarehouseExportDTO.JobResponse> cancelExport(String jobId) {
+                return findCheckpoint(jobId)
+                                .flatMap(checkpoint -> {
+                                        Disposable running = runningJobs.remove(jobId);
+                                        if (running == null) {
+                                                return Mono.error(new ConflictException(
+                                                                "Export job is not running: " + jobId));
+                                        }
+                                        running.dispose();
+
+                                        log.info("Cancelled history export {}", jobId);
+                                        return Mono.fromCallable(() -> finish(jobs.get(jobId),
+                                                        WarehouseExportDTO.Status.CANCELLED, null))
+                                                        .subscribeOn(Schedulers.boundedElastic())
+                                                        .map(this::toResponse);
+                                });
+        }
+
+        // ==================== EXPORT PIPELINE ====================
+
+        private void launch(WarehouseExportDTO.Checkpoint checkpoint) {
+                String jobId = checkpoint.getJobId();
+                runningJobs.put(jobId, runExport(checkpoint)
+                                .doFinally(signal -> runningJobs.remove(jobId))
+                                .subscribe(
+                                                done -> log.info("History export {} completed: {} rows in {} parts",
+                                                                jobId, done.getRowsWritten(), done.getPartCount()),
+                                                e -> log.error("History export {} failed: {}",
+                                                                jobId, e.getMessage(), e)));
+        }
+
+        /**
+         * Runs an export from the given checkpoint until the cursor is exhausted.
+         * <p>
+         * The row stream is split into windows of {@code partSize} rows, each
+         * window being written to its own part file. Windows are processed
+         * sequentially, so only one part is open at any time and rows are pulled
+         * from the cursor as fast as they are written.
+         *
+         * @param checkpoint job state to start from
+         * @return Mono emitting the final job state
+         */
+        Mono<WarehouseExportDTO.Checkpoint> runExport(WarehouseExportDTO.Checkpoint checkpoint) {
+                WarehouseExportDTO.Request request = checkpoint.getRequest();
+                String jobId = checkpoint.getJobId();
+                jobs.put(jobId, checkpoint);
+
+                return streamRepository.streamAfter(
+                                request.getWarehouseId(),
+                                request.getCreatedFrom(),
+                                request.getCreatedTo(),
+                                checkpoint.getLastCreatedAt(),
+                                checkpoint.getLastId(),
+                                exportConfig.getFetchSize())
+                                .window(exportConfig.getPartSize())
+                                .concatMap(rows -> writePart(jobs.get(jobId), rows)
+                                                .map(this::saveCheckpoint)
+                                                .doOnNext(saved -> jobs.put(jobId, saved)), 0)
+                                .then(Mono.fromCallable(() -> finish(jobs.get(jobId),
+                                                WarehouseExportDTO.Status.COMPLETED, null)))
+                                .onErrorResume(e -> Mono.fromCallable(() -> finish(jobs.get(jobId),
+                                                WarehouseExportDTO.Status.FAILED, e.getMessage()))
+                                                .then(Mono.error(e)));
+        }
+
+        private Mono<WarehouseExportDTO.Checkpoint> writePart(
+                        WarehouseExportDTO.Checkpoint checkpoint, Flux<WarehouseHistory> rows) {
+                WarehouseExportDTO.Request request = checkpoint.getRequest();
+                String fileName = partFileName(checkpoint.getJobId(), checkpoint.getPartCount() + 1,
+                                request.getFormat(), request.getCompression());
+                Path target = exportConfig.getDirectory().resolve(fileName);
+                Path temp = exportConfig.getDirectory().resolve(fileName + TEMP_SUFFIX);
+
+                return Mono.using(
+                                () -> openPart(temp, request),
+                                writer -> rows
+                                                .publishOn(Schedulers.boundedElastic())
+                                                .doOnNext(writer::write)
+                                                .then(Mono.fromCallable(() -> {
+                                                        writer.close();
+                                                        Files.move(temp, target,
+                                                                        StandardCopyOption.REPLACE_EXISTING,
+                                                                        StandardCopyOption.ATOMIC_MOVE);
+
+                                                        List<String> files = new ArrayList<>(checkpoint.getFiles());
+                                                        files.add(fileName);
+
+                                                        log.debug("History export {} wrote part {} ({} rows)",
+                                                                        checkpoint.getJobId(), fileName,
+                                                                        writer.getRows());
+
+                                                        return checkpoint.toBuilder()
+                                                                        .lastCreatedAt(writer.getLast().getCreatedAt())
+                                                                        .lastId(writer.getLast().getId())
+                                                                        .rowsWritten(checkpoint.getRowsWritten()
+                                                                                        + writer.getRows())
+                                                                        .partCount(checkpoint.getPartCount() + 1)
+                                                                        .files(files)
+                                                                        .updatedAt(OffsetDateTime.now())
+                                                                        .build();
+                                                })),
+                                writer -> discardIncomplete(writer, temp))
+                                .subscribeOn(Schedulers.boundedElastic());
+        }
+
+        /**
+         * Closes a part writer and deletes its temporary file, which only
+         * remains when the part did not complete, e.g. on cancellation or
+         * failure.
+         */
+        private static void discardIncomplete(PartWriter writer, Path temp) {
+                writer.closeQuietly();
+                try {
+                        if (Files.deleteIfExists(temp)) {
+                                log.debug("Discarded incomplete export part {}", temp.getFileName());
+                        }
+                } catch (IOException e) {
+                        log.warn("Failed to delete incomplete export part {}: {}", temp, e.getMessage());
+                }
+        }
+
+        private WarehouseExportDTO.Checkpoint finish(
+                        WarehouseExportDTO.Checkpoint checkpoint, WarehouseExportDTO.Status status,
+                        String error) {
+                WarehouseExportDTO.Checkpoint finished = checkpoint.toBuilder()
+                                .status(status)
+                                .error(error)
+                                .updatedAt(OffsetDateTime.now())
+                                .build();
+                jobs.put(finished.getJobId(), finished);
+                return saveCheckpoint(finished);
+        }
+
+        // ==================== CHECKPOINTS ====================
+
+        private Mono<WarehouseExportDTO.Checkpoint> findCheckpoint(String jobId) {
+                WarehouseExportDTO.Checkpoint cached = jobs.get(jobId);
+                if (cached != null) {
+                        return Mono.just(cached);
+                }
+                // Job ids are generated UUIDs; reject anything else before touching the disk
+                if (!isJobId(jobId)) {
+                        return Mono.error(new NotFoundException("Export job not found: " + jobId));
+                }
+
+                return Mono.fromCallable(() -> {
+                        Path file = checkpointPath(jobId);
+                        if (!Files.isRegularFile(file)) {
+                                return null;
+                        }
+                        WarehouseExportDTO.Checkpoint loaded = objectMapper.readValue(
+                                        file.toFile(), WarehouseExportDTO.Checkpoint.class);
+                        // A job found only on disk is not running in this instance
+                        if (loaded.getStatus() == WarehouseExportDTO.Status.RUNNING) {
+                                loaded = loaded.toBuilder().status(WarehouseExportDTO.Status.FAILED)
+                                                .error("Interrupted").build();
+                        }
+                        jobs.putIfAbsent(jobId, loaded);
+                        return jobs.get(jobId);
+                })
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .switchIfEmpty(Mono.error(new NotFoundException("Export job not found: " + jobId)))
+                                .onErrorMap(e -> !(e instanceof NotFoundException),
+                                                e -> new InternalServerException("Failed to read export checkpoint", e));
+        }
+
+        private WarehouseExportDTO.Checkpoint saveCheckpoint(WarehouseExportDTO.Checkpoint checkpoint) {
+                Path file = checkpointPath(checkpoint.getJobId());
+                Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+                try {
+                        objectMapper.writeValue(temp.toFile(), checkpoint);
+                        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+                                        StandardCopyOption.ATOMIC_MOVE);
+                        return checkpoint;
+                } catch (IOException e) {
+                        throw new InternalServerException("Failed to write export checkpoint", e);
+                }
+        }
+
+        private Path checkpointPath(String jobId) {
+                return exportConfig.getDirectory().resolve(jobId + CHECKPOINT_SUFFIX);
+        }
+
+        private static boolean isJobId(String jobId) {
+                try {
+                        return UUID.fromString(jobId).toString().equals(jobId);
+                } catch (IllegalArgumentException e) {
+                        return false;
+                }
+        }
+
+        // ==================== HELPERS ====================
+
+        private WarehouseExportDTO.JobResponse toResponse(WarehouseExportDTO.Checkpoint checkpoint) {
+                long bytes = 0;
+                for (String file : checkpoint.getFiles()) {
+                        try {
+                                bytes += Files.size(exportConfig.getDirectory().resolve(file));
+                        } catch (IOException e) {
+                                log.warn("Export part not readable: {}", file);
+                        }
+                }
+
+                return WarehouseExportDTO.JobResponse.builder()
+                                .jobId(checkpoint.getJobId())
+                                .status(checkpoint.getStatus())
+                                .format(checkpoint.getRequest().getFormat())
+                                .compression(checkpoint.getRequest().getCompression())
+                                .rowsWritten(checkpoint.getRowsWritten())
+                                .bytesWritten(bytes)
+                                .files(checkpoint.getFiles())
+                                .error(checkpoint.getError())
+                                .startedAt(checkpoint.getStartedAt())
+                                .updatedAt(checkpoint.getUpdatedAt())
+                                .build();
+        }
+
+        static String partFileName(String jobId, int part, WarehouseExportDTO.Format format,
+                        WarehouseExportDTO.Compression compression) {
+                String name = String.format("%s.part-%05d.%s", jobId, part, format.getExtension());
+                // Avro container files compress their blocks internally
+                return format == WarehouseExportDTO.Format.AVRO ? name : name + "." + compression.getExtension();
+        }
+
+        private PartWriter openPart(Path file, WarehouseExportDTO.Request request) throws IOException {
+                OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), WRITE_BUFFER_SIZE);
+                try {
+                        if (request.getFormat() == WarehouseExportDTO.Format.AVRO) {
+                                return new AvroPartWriter(out, request.getCompression(),
+                                                exportConfig.getCompressionLevel());
+                        }
+                        return new CsvPartWriter(compress(out, request.getCompression()));
+                } catch (IOException | RuntimeException e) {
+                        out.close();
+                        throw e;
+                }
+        }
+
+        private OutputStream compress(OutputStream out, WarehouseExportDTO.Compression compression)
+                        throws IOException {
+                int level = exportConfig.getCompressionLevel();
+                if (compression == WarehouseExportDTO.Compression.ZSTD) {
+                        return new ZstdOutputStream(out, level);
+                }
+                return new GZIPOutputStream(out, WRITE_BUFFER_SIZE) {
+                        {
+                                def.setLevel(Math.min(level, 9));
+                        }
+                };
+        }
+
+        // ==================== PART WRITERS ====================
+
+        private abstract static class PartWriter implements Closeable {
+                private long rows;
+                private WarehouseHistory last;
+
+                void write(WarehouseHistory row) {
+                        try {
+                                append(row);
+                        } catch (IOException e) {
+                                throw new InternalServerException("Failed to write export part", e);
+                        }
+                        rows++;
+                        last = row;
+                }
+
+                long getRows() {
+                        return rows;
+                }
+
+                WarehouseHistory getLast() {
+                        return last;
+                }
+
+                void closeQuietly() {
+                        try {
+                                close();
+                        } catch (IOException e) {
+                                log.warn("Failed to close export part: {}", e.getMessage());
+                        }
+                }
+
+                protected abstract void append(WarehouseHistory row) throws IOException;
+        }
+
+        private static final class CsvPartWriter extends PartWriter {
+                private final Writer writer;
+                private boolean closed;
+
+                CsvPartWriter(OutputStream out) throws IOException {
+                        this.writer = new BufferedWriter(
+                                        new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+                        writer.write(String.join(",", CSV_HEADER));
+                        writer.write('\n');
+                }
+
+                @Override
+                protected void append(WarehouseHistory row) throws IOException {
+                        writer.write(row.getId().toString());
+                        writer.write(',');
+                        writer.write(row.getWarehouseId().toString());
+                        writer.write(',');
+                        writer.write(String.valueOf(row.getQuantity()));
+                        writer.write(',');
+                        writeEscaped(row.getType());
+                        writer.write(',');
+                        writeEscaped(row.getUpdatedBy());
+                        writer.write(',');
+                        writer.write(row.getCreatedAt().toString());
+                        writer.write('\n');
+                }
+
+                private void writeEscaped(String value) throws IOException {
+                        if (value == null) {
+                                return;
+                        }
+                        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                                        && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                                writer.write(value);
+                                return;
+                        }
+                        writer.write('"');
+                        writer.write(value.replace("\"", "\"\""));
+                        writer.write('"');
+                }
+
+                @Override
+                public void close() throws IOException {
+                        if (!closed) {
+                                closed = true;
+                                writer.close();
+                        }
+                }
+        }
+
+        private static final class AvroPartWriter extends PartWriter {
+                private final DataFileWriter<GenericRecord> writer;
+                // Reused for every row to keep allocation per row constant
+                private final GenericData.Record record = new GenericData.Record(AVRO_SCHEMA);
+                private boolean closed;
+
+                AvroPartWriter(OutputStream out, WarehouseExportDTO.Compression compression, int level)
+                                throws IOException {
+                        this.writer = new DataFileWriter<GenericRecord>(new GenericDatumWriter<>(AVRO_SCHEMA))
+                                        .setCodec(compression == WarehouseExportDTO.Compression.ZSTD
+                                                        ? CodecFactory.zstandardCodec(level)
+                                                        : CodecFactory.deflateCodec(Math.min(level, 9)))
+                                        .create(AVRO_SCHEMA, out);
+                }
+
+                @Override
+                protected void append(WarehouseHistory row) throws IOException {
+                        record.put("id", row.getId().toString());
+                        record.put("warehouse_id", row.getWarehouseId().toString());
+                        record.put("quantity", row.getQuantity());
+                        record.put("type", row.getType());
+                        record.put("updated_by", row.getUpdatedBy());
+                        record.put("created_at", ChronoUnit.MICROS.between(
+                                        Instant.EPOCH, row.getCreatedAt().toInstant()));
+                        writer.append(record);
+                }
+
+                @Override
+                public void close() throws IOException {
+                        if (!closed) {
+                                closed = true;
+                                writer.close();
+                        }
+                }
+        }
+}
@@ -1,7 +1,12 @@
 package io.github.lvoxx.srms.warehouse.services;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -54,6 +59,8 @@ public class WarehouseManagementService {
         private final WarehouseHistoryRepository warehouseHistoryRepository;
         private final ReactiveRowLockService lockService;
         private final WarehouseMapper warehouseMapper;
+        private final WarehouseChangeNotifier changeNotifier;
+        private final WarehouseAlertProducerService alertProducer;
 
         // ==================== CREATE ====================
 
@@ -114,6 +121,8 @@ public class WarehouseManagementService {
                                                         .doOnSuccess(w -> log.info("Warehouse created successfully: {}",
                                                                         w.getId()))
                                                         .map(warehouseMapper::toResponse)
+                                                        .flatMap(response -> notifyChanged(response,
+                                                                        List.of(response.getId())))
                                                         .onErrorResume(e -> {
                                                                 log.error("Error creating warehouse: {}",
                                                                                 e.getMessage(), e);
@@ -258,6 +267,8 @@ public class WarehouseManagementService {
          * Updates product name, minimum quantity threshold, and contactor ID.
          * Quantity updates must be done through inventory transactions.
          * Uses distributed row-level locking to prevent concurrent modifications.
+         * Raises a stock alert after commit when a changed minimum quantity
+         * crosses the current stock level.
          * 
          * @param id        unique identifier of warehouse to update
          * @param request   update request containing new values
@@ -310,6 +321,11 @@ public class WarehouseManagementService {
                                                                                 return warehouseRepository.findById(id,
                                                                                                 false);
                                                                         })
+                                                                        .flatMap(updated -> alertProducer
+                                                                                        .publishOnThresholdCrossing(
+                                                                                                        existing,
+                                                                                                        updated)
+                                                                                        .thenReturn(updated))
                                                                         .map(warehouseMapper::toResponse)
                                                                         .doOnSuccess(w -> log.info(
                                                                                         "Warehouse updated successfully: {}",
@@ -329,7 +345,8 @@ public class WarehouseManagementService {
                                         log.error("Error updating warehouse {}: {}", id, e.getMessage(), e);
                                         return Mono.error(new InternalServerException(
                                                         "Failed to update warehouse: " + e.getMessage()));
-                                });
+                                })
+                                .flatMap(response -> notifyChanged(response, List.of(id)));
         }
 
         // ==================== INVENTORY TRANSACTIONS ====================
@@ -340,6 +357,8 @@ public class WarehouseManagementService {
          * Acquires distributed lock, validates transaction, creates history record,
          * and relies on database trigger to update warehouse quantity automatically.
          * Validates sufficient stock for exports and positive quantities.
+         * Raises a stock alert after commit when the transaction crosses the
+         * minimum or out-of-stock threshold.
          * 
          * @param request transaction request containing warehouse ID, quantity, and
          *                type
@@ -390,6 +409,11 @@ public class WarehouseManagementService {
                                                                         .then(warehouseRepository.findById(
                                                                                         request.getWarehouseId(),
                                                                                         false))
+                                                                        .flatMap(updated -> alertProducer
+                                                                                        .publishOnThresholdCrossing(
+                                                                                                        warehouse,
+                                                                                                        updated)
+                                                                                        .thenReturn(updated))
                                                                         .map(warehouseMapper::toResponse)
                                                                         .doOnSuccess(w -> log.info(
                                                                                         "Transaction processed successfully: {} {} for warehouse {}",
@@ -406,7 +430,8 @@ public class WarehouseManagementService {
                                                         e.getMessage(), e);
                                         return Mono.error(new InternalServerException(
                                                         "Failed to process transaction: " + e.getMessage()));
-                                });
+                                })
+                                .flatMap(response -> notifyChanged(response, List.of(warehouseId)));
         }
 
         /**
@@ -516,7 +541,8 @@ public class WarehouseManagementService {
                                         log.error("Error soft deleting warehouse {}: {}", id, e.getMessage(), e);
                                         return Mono.<Void>error(new InternalServerException(
                                                         "Failed to delete warehouse: " + e.getMessage()));
-                                });
+                                })
+                                .then(Mono.defer(() -> changeNotifier.publishAfterCommit(List.of(id))));
         }
 
         /**
@@ -575,7 +601,8 @@ public class WarehouseManagementService {
                                         log.error("Error restoring warehouse {}: {}", id, e.getMessage(), e);
                                         return Mono.error(new InternalServerException(
                                                         "Failed to restore warehouse: " + e.getMessage()));
-                                });
+                                })
+                                .flatMap(response -> notifyChanged(response, List.of(id)));
         }
 
         /**
@@ -612,7 +639,8 @@ public class WarehouseManagementService {
                                                         id, e.getMessage(), e);
                                         return Mono.error(new InternalServerException(
                                                         "Failed to permanently delete warehouse: " + e.getMessage()));
-                                });
+                                })
+                                .then(Mono.defer(() -> changeNotifier.publishAfterCommit(List.of(id))));
         }
 
         // ==================== BATCH OPERATIONS ====================
@@ -649,8 +677,8 @@ public class WarehouseManagementService {
         /**
          * Batch soft deletes warehouses.
          * <p>
-         * Processes multiple warehouse deletions.
-         * Errors for individual items are logged but don't stop the batch.
+         * Collects the ids and soft deletes them with a single set-based update.
+         * Ids that don't exist or are already deleted are skipped.
          * 
          * @param ids       Flux of warehouse IDs to delete
          * @param deletedBy username/ID of user performing deletions
@@ -659,26 +687,153 @@ public class WarehouseManagementService {
         @Transactional
         @Caching(evict = {
                         @CacheEvict(value = WarehouseCacheNames.DETAILS, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.BY_NAME, allEntries = true),
                         @CacheEvict(value = WarehouseCacheNames.COUNT_ALL, allEntries = true),
-                        @CacheEvict(value = WarehouseCacheNames.STATS_DASHBOARD, allEntries = true)
+                        @CacheEvict(value = WarehouseCacheNames.STATS_DASHBOARD, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_STATISTICS, allEntries = true)
         })
         public Mono<Long> batchSoftDelete(Flux<UUID> ids, String deletedBy) {
                 log.info("Batch soft deleting warehouses");
 
-                return ids
-                                .flatMap(id -> softDelete(id, deletedBy)
-                                                .thenReturn(1L)
-                                                .onErrorResume(e -> {
-                                                        log.error("Error deleting warehouse {}: {}", id,
-                                                                        e.getMessage());
-                                                        return Mono.just(0L);
-                                                }))
-                                .reduce(0L, Long::sum)
+                return ids.collectList()
+                                .flatMap(list -> applyBatchState(list, "delete",
+                                                array -> warehouseRepository.softDeleteAll(
+                                                                array, OffsetDateTime.now(), deletedBy)))
+                                .map(response -> (long) response.getUpdated().size())
                                 .doOnSuccess(count -> log.info("Batch delete completed: {} deleted", count));
         }
 
+        /**
+         * Soft deletes a set of warehouses in one statement.
+         * <p>
+         * Issues a single {@code UPDATE ... WHERE id = ANY(:ids)} and reports, per
+         * id, whether it was deleted, does not exist, or was already deleted.
+         * Caches are evicted once for the whole batch.
+         * 
+         * @param ids       warehouse IDs to delete
+         * @param deletedBy username/ID of user performing deletions
+         * @return Mono emitting the per-id outcome
+         * @throws InternalServerException if the database update fails
+         */
+        @Transactional
+        @Caching(evict = {
+                        @CacheEvict(value = WarehouseCacheNames.DETAILS, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.BY_NAME, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_ALL, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.STATS_DASHBOARD, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_STATISTICS, allEntries = true)
+        })
+        public Mono<WarehouseDTO.BatchStateResponse> batchSoftDeleteAll(
+                        Collection<UUID> ids, String deletedBy) {
+                log.info("Batch soft deleting {} warehouses", ids.size());
+
+                return applyBatchState(ids, "delete",
+                                array -> warehouseRepository.softDeleteAll(array, OffsetDateTime.now(), deletedBy));
+        }
+
+        /**
+         * Restores a set of soft-deleted warehouses in one statement.
+         * <p>
+         * Issues a single {@code UPDATE ... WHERE id = ANY(:ids)} and reports, per
+         * id, whether it was restored, does not exist, or was not deleted.
+         * Caches are evicted once for the whole batch.
+         * 
+         * @param ids        warehouse IDs to restore
+         * @param restoredBy username/ID of user performing restoration
+         * @return Mono emitting the per-id outcome
+         * @throws InternalServerException if the database update fails
+         */
+        @Transactional
+        @Caching(evict = {
+                        @CacheEvict(value = WarehouseCacheNames.DETAILS, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.BY_NAME, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_ALL, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.STATS_DASHBOARD, allEntries = true),
+                        @CacheEvict(value = WarehouseCacheNames.COUNT_STATISTICS, allEntries = true)
+        })
+        public Mono<WarehouseDTO.BatchStateResponse> batchRestore(
+                        Collection<UUID> ids, String restoredBy) {
+                log.info("Batch restoring {} warehouses", ids.size());
+
+                return applyBatchState(ids, "restore",
+                                array -> warehouseRepository.restoreAll(array, OffsetDateTime.now(), restoredBy));
+        }
+
         // ==================== HELPER METHODS ====================
 
+        /**
+         * Runs a set-based state change and classifies every requested id.
+         * <p>
+         * Duplicate and null ids are dropped before reaching the database.
+         * 
+         * @param ids       requested warehouse IDs
+         * @param operation operation name used in logs and errors
+         * @param update    set-based repository update
+         * @return Mono emitting the per-id outcome
+         */
+        private Mono<WarehouseDTO.BatchStateResponse> applyBatchState(
+                        Collection<UUID> ids, String operation,
+                        Function<UUID[], Flux<WarehouseRepository.StateChange>> update) {
+                UUID[] distinct = ids.stream()
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .toArray(UUID[]::new);
+
+                if (distinct.length == 0) {
+                        return Mono.just(WarehouseDTO.BatchStateResponse.builder()
+                                        .requested(0)
+                                        .updated(List.of())
+                                        .missing(List.of())
+                                        .unchanged(List.of())
+                                        .build());
+                }
+
+                return update.apply(distinct)
+                                .collectList()
+                                .map(changes -> {
+                                        List<UUID> updated = new ArrayList<>();
+                                        List<UUID> missing = new ArrayList<>();
+                                        List<UUID> unchanged = new ArrayList<>();
+                                        for (WarehouseRepository.StateChange change : changes) {
+                                                if (Boolean.TRUE.equals(change.changed())) {
+                                                        updated.add(change.id());
+                                                } else if (Boolean.TRUE.equals(change.found())) {
+                                                        unchanged.add(change.id());
+                                                } else {
+                                                        missing.add(change.id());
+                                                }
+                                        }
+                                        return WarehouseDTO.BatchStateResponse.builder()
+                                                        .requested(distinct.length)
+                                                        .updated(updated)
+                                                        .missing(missing)
+                                                        .unchanged(unchanged)
+                                                        .build();
+                                })
+                                .doOnSuccess(response -> log.info(
+                                                "Batch {} completed: {} updated, {} missing, {} unchanged",
+                                                operation, response.getUpdated().size(),
+                                                response.getMissing().size(), response.getUnchanged().size()))
+                                .onErrorMap(e -> {
+                                        log.error("Error in batch {}: {}", operation, e.getMessage(), e);
+                                        return new InternalServerException(
+                                                        "Failed to batch " + operation + " warehouses: " + e.getMessage());
+                                })
+                                .flatMap(response -> notifyChanged(response, response.getUpdated()));
+        }
+
+        /**
+         * Publishes a change for the given warehouses once the surrounding
+         * transaction commits, then emits the result.
+         * 
+         * @param result       value to emit
+         * @param warehouseIds warehouses affected by the write
+         * @return Mono emitting {@code result}
+         */
+        private <T> Mono<T> notifyChanged(T result, Collection<UUID> warehouseIds) {
+                return changeNotifier.publishAfterCommit(warehouseIds).thenReturn(result);
+        }
+
         /**
          * Validates product name uniqueness.
          * <p>
@@ -0,0 +1,144 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage;
+import io.github.lvoxx.srms.warehouse.config.WarehouseOutboxConfig;
+import io.github.lvoxx.srms.warehouse.models.WarehouseHistory;
+import io.github.lvoxx.srms.warehouse.models.WarehouseOutboxEvent;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Relays inventory updates from the outbox table to
+ * {@link Topics#WAREHOUSE_INVENTORY_UPDATES}.
+ * <p>
+ * Every inventory transaction leaves a row in {@code warehouse_outbox}, written
+ * by a trigger in the same transaction as the history row, so an update is
+ * published if and only if it committed. The relay drains the outbox in
+ * batches: a batch is sent, acknowledged by Kafka, and only then deleted, in a
+ * single transaction. A batch that fails or times out stays in the outbox and
+ * is sent again, so delivery is at least once; consumers deduplicate on
+ * {@code eventId} and drop events whose {@code version} is not newer than the
+ * last one applied for the warehouse.
+ * <p>
+ * An advisory lock lets a single instance drain at a time, which keeps the
+ * events of a warehouse in commit order on its partition.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarehouseOutboxRelay {
+
+    private final WarehouseOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, WarehouseInventoryUpdateMessage> kafkaTemplate;
+    private final TransactionalOperator transactionalOperator;
+    private final WarehouseOutboxConfig outboxConfig;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    // ==================== SCHEDULED DRAIN ====================
+
+    /**
+     * Drains the outbox at the configured interval. A drain still running
+     * when the next one is due makes the next one skip.
+     */
+    @Scheduled(fixedDelayString = "#{@warehouseOutboxConfig.pollInterval.toMillis()}")
+    public void relayOutbox() {
+        if (!outboxConfig.isEnabled() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        drain()
+                .doFinally(signal -> draining.set(false))
+                .subscribe(
+                        relayed -> {
+                            if (relayed > 0) {
+                                log.debug("Relayed {} inventory updates", relayed);
+                            }
+                        },
+                        e -> log.warn("Inventory update relay failed, retrying next poll: {}", e.getMessage()));
+    }
+
+    /**
+     * Relays batches until the outbox holds less than a full batch.
+     *
+     * @return Mono emitting the number of events relayed
+     */
+    public Mono<Long> drain() {
+        return relayBatch()
+                .expand(relayed -> relayed < outboxConfig.getBatchSize() ? Mono.empty() : relayBatch())
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * Sends the oldest events and deletes them once acknowledged, in one
+     * transaction. Emits 0 when another instance holds the relay lock.
+     */
+    private Mono<Long> relayBatch() {
+        return outboxRepository.tryLockRelay()
+                .flatMap(locked -> locked
+                        ? outboxRepository.findOldest(outboxConfig.getBatchSize())
+                                .collectList()
+                                .flatMap(this::publish)
+                        : Mono.just(0L))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Long> publish(List<WarehouseOutboxEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        return KafkaSends.sendAll(events,
+                event -> kafkaTemplate.send(Topics.WAREHOUSE_INVENTORY_UPDATES,
+                        event.getWarehouseId().toString(), toMessage(event)),
+                outboxConfig.getSendTimeout())
+                .then(Mono.defer(() -> outboxRepository.deleteRelayed(events.stream()
+                        .map(WarehouseOutboxEvent::getId)
+                        .toArray(UUID[]::new))))
+                .thenReturn((long) events.size());
+    }
+
+    // ==================== MESSAGE BUILDING ====================
+
+    /**
+     * Builds a WarehouseInventoryUpdateMessage from an outbox event.
+     *
+     * @param event the outbox event
+     * @return constructed WarehouseInventoryUpdateMessage
+     */
+    static WarehouseInventoryUpdateMessage toMessage(WarehouseOutboxEvent event) {
+        InventoryUpdateType type = WarehouseHistory.HistoryType.fromValue(event.getType())
+                == WarehouseHistory.HistoryType.IMPORT
+                        ? InventoryUpdateType.IMPORT
+                        : InventoryUpdateType.EXPORT;
+
+        return WarehouseInventoryUpdateMessage.newBuilder()
+                .setEventId(event.getId().toString())
+                .setWarehouseId(event.getWarehouseId().toString())
+                .setProductName(event.getProductName())
+                .setType(type)
+                .setQuantity(event.getQuantity())
+                .setQuantityAfter(event.getQuantityAfter())
+                .setMinQuantity(event.getMinQuantity())
+                .setVersion(event.getVersion())
+                .setUpdatedBy(event.getUpdatedBy())
+                .setTimestamp(event.getOccurredAt().toInstant())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.lvoxx.srms.warehouse.services;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 import org.springframework.cache.annotation.Cacheable;
@@ -24,8 +25,9 @@ import reactor.core.publisher.Mono;
 /**
  * Service providing statistical analysis and reporting for warehouse data.
  * <p>
- * Handles import/export statistics, warehouse alerts, dashboard metrics,
- * and real-time data streaming for WebSocket connections.
+ * Handles import/export statistics, warehouse alerts and dashboard
+ * metrics. The WebSocket streams are served by
+ * {@link io.github.lvoxx.srms.warehouse.websocket.WarehouseStreamPublisher}.
  * All statistical queries are cached for optimal performance.
  * 
  * @author lvoxx
@@ -189,7 +191,7 @@ public class WarehouseStatisticService {
         Pageable pageable = PageRequest.of(page, size);
 
         return warehouseRepository.findProductsBelowMinimum(pageable)
-                .map(this::mapToAlertItem)
+                .map(WarehouseStatisticService::mapToAlertItem)
                 .collectList()
                 .zipWith(warehouseRepository.countBelowMinimum())
                 .map(tuple -> WarehouseStatisticDTO.AlertListResponse.builder()
@@ -225,7 +227,7 @@ public class WarehouseStatisticService {
         Pageable pageable = PageRequest.of(page, size);
 
         return warehouseRepository.findOutOfStock(pageable)
-                .map(this::mapToAlertItem)
+                .map(WarehouseStatisticService::mapToAlertItem)
                 .collectList()
                 .zipWith(warehouseRepository.countOutOfStock())
                 .map(tuple -> WarehouseStatisticDTO.AlertListResponse.builder()
@@ -262,9 +264,9 @@ public class WarehouseStatisticService {
 
         return Flux.merge(
                 warehouseRepository.findProductsBelowMinimum(pageable)
-                        .map(this::mapToAlertItem),
+                        .map(WarehouseStatisticService::mapToAlertItem),
                 warehouseRepository.findOutOfStock(pageable)
-                        .map(this::mapToAlertItem))
+                        .map(WarehouseStatisticService::mapToAlertItem))
                 .distinct(WarehouseStatisticDTO.AlertItem::getId)
                 .collectList()
                 .zipWith(
@@ -285,6 +287,63 @@ public class WarehouseStatisticService {
                 });
     }
 
+    /**
+     * Gets one page of alerting products (below minimum or out of stock) in
+     * id order, starting after the given id and limited to a shard.
+     * <p>
+     * Keyset paging keeps every page an index range scan however deep the
+     * scan goes, and pages stay stable while stock changes concurrently.
+     * Not cached, as callers walk all pages once.
+     * 
+     * @param afterId id of the last product of the previous page, null for
+     *                the first page
+     * @param shard   shard of the products, {@link WarehouseAlertShards.Shard#ALL}
+     *                for all of them
+     * @param size    number of items per page
+     * @return Flux emitting the alert items of the page
+     * @throws InternalServerException if database operation fails
+     */
+    public Flux<WarehouseStatisticDTO.AlertItem> getAlertsAfter(UUID afterId, WarehouseAlertShards.Shard shard,
+            int size) {
+        log.debug("Getting warehouse alerts after: {} in {}, size: {}", afterId, shard, size);
+
+        return warehouseRepository.findAlertingAfter(afterId, shard.index(), shard.count(), size)
+                .map(WarehouseStatisticService::mapToAlertItem)
+                .onErrorResume(e -> {
+                    log.error("Error getting warehouse alerts after {}: {}", afterId, e.getMessage(), e);
+                    return Mono.error(new InternalServerException(
+                            "Failed to get warehouse alerts: " + e.getMessage()));
+                });
+    }
+
+    /**
+     * Gets the current alert state of the given products.
+     * <p>
+     * Soft deleted products are reported at the normal level, since they no
+     * longer alert; products that no longer exist are omitted. Not cached, as
+     * the alert sweep needs the committed state.
+     *
+     * @param ids product ids
+     * @return Flux emitting one alert item per existing product
+     * @throws InternalServerException if database operation fails
+     */
+    public Flux<WarehouseStatisticDTO.AlertItem> getAlertStates(Collection<UUID> ids) {
+        log.debug("Getting alert states of {} products", ids.size());
+
+        return warehouseRepository.findAllById(ids)
+                .map(warehouse -> warehouse.isDeleted()
+                        ? mapToAlertItem(warehouse).toBuilder()
+                                .severity("INFO")
+                                .message("Product deleted")
+                                .build()
+                        : mapToAlertItem(warehouse))
+                .onErrorResume(e -> {
+                    log.error("Error getting alert states: {}", e.getMessage(), e);
+                    return Mono.error(new InternalServerException(
+                            "Failed to get alert states: " + e.getMessage()));
+                });
+    }
+
     // ==================== DASHBOARD STATISTICS ====================
 
     /**
@@ -448,72 +507,6 @@ public class WarehouseStatisticService {
                 });
     }
 
-    // ==================== REAL-TIME STATISTICS (For WebSocket)
-    // ====================
-
-    /**
-     * Gets real-time statistics stream for WebSocket dashboard.
-     * <p>
-     * Emits dashboard statistics every 5 seconds.
-     * Continues until subscription is cancelled.
-     * 
-     * @return Flux streaming dashboard statistics at 5-second intervals
-     */
-    public Flux<WarehouseStatisticDTO.DashboardResponse> streamDashboardStatistics() {
-        log.debug("Starting dashboard statistics stream");
-
-        return Flux.interval(java.time.Duration.ofSeconds(5))
-                .flatMap(tick -> getDashboardStatistics())
-                .onErrorResume(e -> {
-                    log.error("Error in dashboard statistics stream: {}", e.getMessage(), e);
-                    return Flux.empty();
-                });
-    }
-
-    /**
-     * Gets real-time warehouse details stream.
-     * <p>
-     * Emits warehouse details every 5 seconds.
-     * Continues until subscription is cancelled.
-     * 
-     * @param warehouseId unique identifier of the warehouse
-     * @return Flux streaming warehouse details at 5-second intervals
-     * @throws NotFoundException if warehouse not found
-     */
-    public Flux<WarehouseStatisticDTO.WarehouseDetailsResponse> streamWarehouseDetails(
-            UUID warehouseId) {
-        log.debug("Starting warehouse details stream for: {}", warehouseId);
-
-        return Flux.interval(java.time.Duration.ofSeconds(5))
-                .flatMap(tick -> getWarehouseDetails(warehouseId))
-                .onErrorResume(e -> {
-                    if (e instanceof NotFoundException)
-                        return Mono.error(e);
-                    log.error("Error in warehouse details stream for {}: {}",
-                            warehouseId, e.getMessage(), e);
-                    return Flux.empty();
-                });
-    }
-
-    /**
-     * Gets real-time alerts stream.
-     * <p>
-     * Emits warehouse alerts every 10 seconds.
-     * Continues until subscription is cancelled.
-     * 
-     * @return Flux streaming warehouse alerts at 10-second intervals
-     */
-    public Flux<WarehouseStatisticDTO.AlertListResponse> streamWarehouseAlerts() {
-        log.debug("Starting warehouse alerts stream");
-
-        return Flux.interval(java.time.Duration.ofSeconds(10))
-                .flatMap(tick -> getAllWarehouseAlerts(0, 20))
-                .onErrorResume(e -> {
-                    log.error("Error in warehouse alerts stream: {}", e.getMessage(), e);
-                    return Flux.empty();
-                });
-    }
-
     // ==================== HELPER METHODS ====================
 
     /**
@@ -529,7 +522,7 @@ public class WarehouseStatisticService {
      * @param warehouse warehouse entity to map
      * @return AlertItem with severity, message, and deficit calculation
      */
-    private WarehouseStatisticDTO.AlertItem mapToAlertItem(Warehouse warehouse) {
+    public static WarehouseStatisticDTO.AlertItem mapToAlertItem(Warehouse warehouse) {
         String severity;
         String message;
 
@@ -553,6 +546,7 @@ public class WarehouseStatisticService {
                 .deficit(warehouse.getMinQuantity() - warehouse.getQuantity())
                 .severity(severity)
                 .message(message)
+                .contactorId(warehouse.getContactorId())
                 .updatedAt(warehouse.getUpdatedAt())
                 .build();
     }
@@ -0,0 +1,179 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.DashboardStatistics;
+import io.github.lvoxx.srms.kafka.warehouse.StatisticsScope;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseStatistics;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot;
+import io.github.lvoxx.srms.warehouse.config.WarehouseSnapshotConfig;
+import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseRepository;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseRepository.StatisticsRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Publishes statistics snapshots to the log-compacted
+ * {@link Topics#WAREHOUSE_STATISTICS} topic.
+ * <p>
+ * Every interval each warehouse gets a snapshot keyed by its id, and the
+ * dashboard totals one keyed by
+ * {@link Topics#WAREHOUSE_STATISTICS_DASHBOARD_KEY}. Compaction keeps the
+ * latest snapshot per key, so consumers bootstrap by reading the topic from
+ * the beginning and stay current by following it, without querying the
+ * warehouse database. Soft-deleted warehouses get a tombstone on every run,
+ * so a warehouse deleted while no publisher was running is still removed
+ * from the topic.
+ * <p>
+ * Totals are read with one grouped keyset query per page. The scan is split
+ * across instances like the alert reconciliation (see
+ * {@link WarehouseAlertShards}); the instance holding the first shard also
+ * publishes the dashboard snapshot.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarehouseStatisticsSnapshotPublisher {
+
+    private final WarehouseRepository warehouseRepository;
+    private final WarehouseStatisticService statisticService;
+    private final WarehouseAlertShards shards;
+    private final KafkaTemplate<String, WarehouseStatisticsSnapshot> kafkaTemplate;
+    private final WarehouseSnapshotConfig snapshotConfig;
+    private final AtomicBoolean publishing = new AtomicBoolean();
+
+    // ==================== SCHEDULED PUBLISHING ====================
+
+    /**
+     * Publishes the snapshots at the configured interval. A run still in
+     * progress when the next one is due makes the next one skip.
+     */
+    @Scheduled(fixedDelayString = "#{@warehouseSnapshotConfig.interval.toMillis()}", initialDelayString = "#{@warehouseSnapshotConfig.initialDelay.toMillis()}")
+    public void publishSnapshots() {
+        if (!snapshotConfig.isEnabled() || !publishing.compareAndSet(false, true)) {
+            return;
+        }
+
+        publishAll()
+                .doFinally(signal -> publishing.set(false))
+                .subscribe(
+                        count -> log.info("Published {} warehouse statistics snapshots", count),
+                        e -> log.error("Error publishing warehouse statistics snapshots: {}", e.getMessage(), e));
+    }
+
+    /**
+     * Publishes the snapshots of the warehouses in this instance's shard, and
+     * the dashboard snapshot when holding the first shard.
+     *
+     * @return Mono emitting the number of records published
+     */
+    public Mono<Long> publishAll() {
+        return shards.currentShard().flatMap(shard -> {
+            Mono<Long> warehouses = pages(shard)
+                    .concatMap(page -> send(page.stream().map(WarehouseStatisticsSnapshotPublisher::toRecord).toList()))
+                    .reduce(0L, Long::sum);
+            Mono<Long> dashboard = shard.index() == 0
+                    ? statisticService.getDashboardStatistics()
+                            .flatMap(stats -> send(List.of(toRecord(stats))))
+                    : Mono.just(0L);
+
+            return warehouses.flatMap(count -> dashboard.map(sent -> count + sent));
+        });
+    }
+
+    /**
+     * Streams the statistics of a shard page by page, each page starting
+     * after the last id of the previous one.
+     */
+    private Flux<List<StatisticsRow>> pages(WarehouseAlertShards.Shard shard) {
+        int pageSize = snapshotConfig.getPageSize();
+        Function<UUID, Mono<List<StatisticsRow>>> page = afterId -> warehouseRepository
+                .findStatisticsAfter(afterId, shard.index(), shard.count(), pageSize)
+                .collectList();
+
+        return page.apply(null)
+                .expand(rows -> rows.size() < pageSize
+                        ? Mono.empty()
+                        : page.apply(rows.get(rows.size() - 1).id()))
+                .filter(rows -> !rows.isEmpty());
+    }
+
+    private Mono<Long> send(List<ProducerRecord<String, WarehouseStatisticsSnapshot>> records) {
+        return KafkaSends.sendAll(records, kafkaTemplate::send, snapshotConfig.getSendTimeout());
+    }
+
+    // ==================== MESSAGE BUILDING ====================
+
+    /**
+     * Builds the snapshot record of a warehouse, a tombstone if it was
+     * deleted.
+     *
+     * @param row statistics of the warehouse
+     * @return record keyed by warehouse id
+     */
+    static ProducerRecord<String, WarehouseStatisticsSnapshot> toRecord(StatisticsRow row) {
+        String key = row.id().toString();
+        if (Boolean.TRUE.equals(row.isDeleted())) {
+            return new ProducerRecord<>(Topics.WAREHOUSE_STATISTICS, key, null);
+        }
+
+        WarehouseStatistics statistics = WarehouseStatistics.newBuilder()
+                .setProductName(row.productName())
+                .setQuantity(row.quantity())
+                .setMinQuantity(row.minQuantity())
+                .setTotalImport(row.totalImport())
+                .setTotalExport(row.totalExport())
+                .setTransactionCount(row.transactionCount())
+                .setVersion(row.version())
+                .build();
+
+        return new ProducerRecord<>(Topics.WAREHOUSE_STATISTICS, key, WarehouseStatisticsSnapshot.newBuilder()
+                .setScope(StatisticsScope.WAREHOUSE)
+                .setWarehouse(statistics)
+                .setTimestamp(Instant.now())
+                .build());
+    }
+
+    /**
+     * Builds the dashboard snapshot record.
+     *
+     * @param stats dashboard statistics
+     * @return record keyed by {@link Topics#WAREHOUSE_STATISTICS_DASHBOARD_KEY}
+     */
+    static ProducerRecord<String, WarehouseStatisticsSnapshot> toRecord(WarehouseStatisticDTO.DashboardResponse stats) {
+        DashboardStatistics dashboard = DashboardStatistics.newBuilder()
+                .setTotalWarehouses(stats.getTotalWarehouses())
+                .setBelowMinimum(stats.getBelowMinimum())
+                .setOutOfStock(stats.getOutOfStock())
+                .setTotalTransactions(stats.getTotalTransactions())
+                .setTotalImportTransactions(stats.getTotalImportTransactions())
+                .setTotalExportTransactions(stats.getTotalExportTransactions())
+                .build();
+
+        return new ProducerRecord<>(Topics.WAREHOUSE_STATISTICS, Topics.WAREHOUSE_STATISTICS_DASHBOARD_KEY,
+                WarehouseStatisticsSnapshot.newBuilder()
+                        .setScope(StatisticsScope.DASHBOARD)
+                        .setDashboard(dashboard)
+                        .setTimestamp(stats.getTimestamp() != null
+                                ? stats.getTimestamp().toInstant()
+                                : Instant.now())
+                        .build());
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
+
+/**
+ * Field level diff between two serialized stream payloads.
+ * <p>
+ * Top level fields are compared by value; nested objects are sent whole
+ * when any of their fields changed. One array of the payload may be marked
+ * as an item list, whose elements are matched by their {@code id} and
+ * reported as added, updated or removed items.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+final class FrameDiff {
+
+    private static final String ID_FIELD = "id";
+
+    /**
+     * Fields that change on every load and alone do not justify a frame.
+     */
+    private static final Set<String> VOLATILE_FIELDS = Set.of("timestamp");
+
+    private FrameDiff() {
+    }
+
+    /**
+     * Computes the delta turning {@code previous} into {@code current}.
+     *
+     * @param previous   payload last sent
+     * @param current    payload just loaded
+     * @param itemsField name of the item list field, {@code null} if none
+     * @return delta, empty when nothing but volatile fields changed
+     */
+    static WarehouseStatisticDTO.WebSocketDelta diff(JsonNode previous, JsonNode current,
+            @Nullable String itemsField) {
+        Map<String, Object> changed = new LinkedHashMap<>();
+        List<String> removed = new ArrayList<>();
+        WarehouseStatisticDTO.WebSocketDelta delta = WarehouseStatisticDTO.WebSocketDelta.builder()
+                .changed(changed)
+                .removed(removed)
+                .addedItems(new ArrayList<>())
+                .updatedItems(new ArrayList<>())
+                .removedItems(new ArrayList<>())
+                .build();
+
+        for (Map.Entry<String, JsonNode> field : current.properties()) {
+            JsonNode before = previous.get(field.getKey());
+            if (field.getValue().equals(before)) {
+                continue;
+            }
+            if (field.getKey().equals(itemsField) && isItemList(before) && isItemList(field.getValue())) {
+                diffItems(before, field.getValue(), delta);
+            } else {
+                changed.put(field.getKey(), field.getValue());
+            }
+        }
+        for (Iterator<String> names = previous.fieldNames(); names.hasNext();) {
+            String name = names.next();
+            if (!current.has(name)) {
+                removed.add(name);
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * @param delta delta produced by {@link #diff}
+     * @return whether the delta carries no meaningful change
+     */
+    static boolean isEmpty(WarehouseStatisticDTO.WebSocketDelta delta) {
+        return VOLATILE_FIELDS.containsAll(delta.getChanged().keySet())
+                && delta.getRemoved().isEmpty()
+                && delta.getAddedItems().isEmpty()
+                && delta.getUpdatedItems().isEmpty()
+                && delta.getRemovedItems().isEmpty()
+                && delta.getItemOrder() == null;
+    }
+
+    private static void diffItems(JsonNode before, JsonNode after, WarehouseStatisticDTO.WebSocketDelta delta) {
+        Map<String, JsonNode> previousItems = new LinkedHashMap<>();
+        before.forEach(item -> previousItems.put(item.get(ID_FIELD).asText(), item));
+
+        List<String> order = new ArrayList<>();
+        for (JsonNode item : after) {
+            String id = item.get(ID_FIELD).asText();
+            order.add(id);
+            JsonNode previousItem = previousItems.remove(id);
+            if (previousItem == null) {
+                delta.getAddedItems().add(item);
+            } else if (!previousItem.equals(item)) {
+                delta.getUpdatedItems().add(item);
+            }
+        }
+        delta.getRemovedItems().addAll(previousItems.keySet());
+
+        // Clients apply removals in place and append additions; the full order
+        // is only sent when that does not reproduce it
+        List<String> expectedOrder = new ArrayList<>();
+        before.forEach(item -> expectedOrder.add(item.get(ID_FIELD).asText()));
+        expectedOrder.removeAll(delta.getRemovedItems());
+        delta.getAddedItems().forEach(item -> expectedOrder.add(((JsonNode) item).get(ID_FIELD).asText()));
+        if (!order.equals(expectedOrder)) {
+            delta.setItemOrder(order);
+        }
+    }
+
+    private static boolean isItemList(@Nullable JsonNode node) {
+        if (node == null || !node.isArray()) {
+            return false;
+        }
+        for (JsonNode item : node) {
+            JsonNode id = item.get(ID_FIELD);
+            if (id == null || id.isNull()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.lang.Nullable;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * One update of a shared stream, pre-serialized in both wire forms.
+ * <p>
+ * Every update carries the full snapshot so that late joiners and clients
+ * asking for a resync can be served without touching the upstream, and a
+ * delta against the previous update that is sent to clients already in sync.
+ *
+ * @param sequence position of the update in its stream, starting at 1
+ * @param snapshot serialized {@code SNAPSHOT} frame
+ * @param delta    serialized {@code DELTA} frame, {@code null} for the first
+ *                 update of a stream
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+public record StreamFrame(long sequence, String snapshot, @Nullable String delta) {
+
+    /**
+     * Selects the frames to send to one session.
+     * <p>
+     * The session receives a snapshot first, then deltas as long as it sees
+     * every sequence number. A skipped sequence (e.g. frames lost while the
+     * session lagged) falls back to a snapshot, and every resync request is
+     * answered with the snapshot of the latest update.
+     *
+     * @param frames         shared stream of updates
+     * @param resyncRequests resync requests sent by the session
+     * @return serialized frames for the session
+     */
+    public static Flux<String> forSession(Flux<StreamFrame> frames, Flux<?> resyncRequests) {
+        return Flux.defer(() -> {
+            AtomicReference<StreamFrame> last = new AtomicReference<>();
+            Flux<String> updates = frames.map(frame -> {
+                StreamFrame previous = last.getAndSet(frame);
+                boolean inSync = previous != null
+                        && frame.delta() != null
+                        && frame.sequence() == previous.sequence() + 1;
+                return inSync ? frame.delta() : frame.snapshot();
+            });
+            Flux<String> resyncs = resyncRequests.mapNotNull(request -> {
+                StreamFrame latest = last.get();
+                return latest == null ? null : latest.snapshot();
+            });
+            // Prefetch of one keeps frames in the session's bounded buffer
+            // instead of an operator queue
+            return Flux.merge(1, updates, resyncs);
+        });
+    }
+}
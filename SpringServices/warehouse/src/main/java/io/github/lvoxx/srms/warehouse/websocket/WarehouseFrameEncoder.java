@@ -0,0 +1,139 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Wire encoding of WebSocket frames.
+ * <p>
+ * Frames are produced as JSON text once per shared update. Sessions that
+ * negotiated CBOR, either through the {@code srms.cbor} sub-protocol or the
+ * {@code encoding=cbor} query parameter, receive binary frames transcoded
+ * from that text. The CBOR bytes are cached per frame, so a shared update
+ * is transcoded once no matter how many sessions receive it, and every
+ * session writes the same array wrapped (not copied) into a buffer.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class WarehouseFrameEncoder {
+
+    public static final String JSON_PROTOCOL = "srms.json";
+    public static final String CBOR_PROTOCOL = "srms.cbor";
+
+    private static final String ENCODING_PARAM = "encoding";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+
+    /**
+     * Transcoded frames keyed by their JSON text. Frames are held by the
+     * shared streams only while they are current, so entries are released
+     * with them.
+     */
+    private final Map<String, byte[]> cborCache = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public enum Encoding {
+        JSON, CBOR
+    }
+
+    /**
+     * @return sub-protocols offered during the handshake, in order of
+     *         preference
+     */
+    public List<String> subProtocols() {
+        return List.of(CBOR_PROTOCOL, JSON_PROTOCOL);
+    }
+
+    /**
+     * Picks the encoding for a session from its negotiated sub-protocol,
+     * falling back to the {@code encoding} query parameter and then JSON.
+     *
+     * @param handshakeInfo handshake of the session
+     * @return encoding for the session's frames
+     */
+    public Encoding negotiate(HandshakeInfo handshakeInfo) {
+        if (CBOR_PROTOCOL.equals(handshakeInfo.getSubProtocol())) {
+            return Encoding.CBOR;
+        }
+        if (JSON_PROTOCOL.equals(handshakeInfo.getSubProtocol())) {
+            return Encoding.JSON;
+        }
+        String requested = UriComponentsBuilder.fromUri(handshakeInfo.getUri()).build()
+                .getQueryParams().getFirst(ENCODING_PARAM);
+        return "cbor".equalsIgnoreCase(requested) ? Encoding.CBOR : Encoding.JSON;
+    }
+
+    /**
+     * @param session  target session
+     * @param json     frame as JSON text
+     * @param encoding encoding negotiated for the session
+     * @return message carrying the frame in the session's encoding
+     */
+    public WebSocketMessage encode(WebSocketSession session, String json, Encoding encoding) {
+        if (encoding == Encoding.JSON) {
+            return session.textMessage(json);
+        }
+        byte[] cbor = cborCache.computeIfAbsent(json, this::toCbor);
+        return session.binaryMessage(factory -> factory.wrap(cbor));
+    }
+
+    /**
+     * Reads a client message as JSON text; binary messages are expected to
+     * carry CBOR.
+     *
+     * @param message message received from the client
+     * @return message content as JSON text
+     */
+    public String decode(WebSocketMessage message) {
+        if (message.getType() != WebSocketMessage.Type.BINARY) {
+            return message.getPayloadAsText();
+        }
+        byte[] bytes = new byte[message.getPayload().readableByteCount()];
+        message.getPayload().read(bytes);
+        try (JsonParser parser = cborFactory.createParser(bytes)) {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+                parser.nextToken();
+                generator.copyCurrentStructure(parser);
+            }
+            return writer.toString();
+        } catch (IOException e) {
+            log.warn("Ignoring malformed CBOR message: {}", e.getMessage());
+            return "";
+        }
+    }
+
+    byte[] toCbor(String json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length());
+        try (JsonParser parser = jsonFactory.createParser(json);
+                JsonGenerator generator = cborFactory.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to transcode frame to CBOR", e);
+        }
+        return out.toByteArray();
+    }
+}
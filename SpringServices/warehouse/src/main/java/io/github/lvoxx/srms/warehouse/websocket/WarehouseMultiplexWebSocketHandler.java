@@ -0,0 +1,72 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import java.util.List;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lvoxx.srms.warehouse.config.WarehouseStreamConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Multiplexed WebSocket endpoint carrying any set of topics on one
+ * connection.
+ * <p>
+ * The client sends commands such as
+ * {@code {"action":"SUBSCRIBE","topics":["dashboard","warehouse:<id>"]}},
+ * {@code UNSUBSCRIBE} and {@code RESYNC}; every frame names its
+ * {@code topic}. Frames and commands are JSON text, or CBOR binary
+ * messages when negotiated through {@link WarehouseFrameEncoder}.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarehouseMultiplexWebSocketHandler implements WebSocketHandler {
+
+    private final WarehouseStreamPublisher streamPublisher;
+    private final WarehouseStreamBackpressure backpressure;
+    private final ObjectMapper objectMapper;
+    private final WarehouseStreamConfig streamConfig;
+    private final WarehouseFrameEncoder frameEncoder;
+
+    @Override
+    public @NonNull List<String> getSubProtocols() {
+        return frameEncoder.subProtocols();
+    }
+
+    @Override
+    public Mono<Void> handle(@NonNull WebSocketSession session) {
+        WarehouseFrameEncoder.Encoding encoding = frameEncoder.negotiate(session.getHandshakeInfo());
+        log.info("Multiplexed WebSocket connection established: {} ({})", session.getId(), encoding);
+
+        WarehouseStreamSession streams = new WarehouseStreamSession(
+            streamPublisher, backpressure, objectMapper, streamConfig.getMaxTopicsPerSession());
+
+        Mono<Void> inbound = session.receive()
+            .map(frameEncoder::decode)
+            .doOnNext(streams::handle)
+            .doFinally(signal -> streams.close())
+            .then();
+        Mono<Void> outbound = session.send(streams.frames()
+            .map(json -> frameEncoder.encode(session, json, encoding)));
+
+        return Mono.zip(inbound, outbound)
+            .then()
+            .doFinally(signal -> {
+                streams.close();
+                log.info("Multiplexed WebSocket connection closed: {}", session.getId());
+            })
+            .doOnError(e -> 
+                log.error("Multiplexed WebSocket connection error: {}", e.getMessage(), e));
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.github.lvoxx.srms.warehouse.config.WarehouseStreamConfig;
+import io.github.lvoxx.srms.warehouse.config.WarehouseStreamConfig.OverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Bounded per-session buffers between the shared stream publishers and the
+ * WebSocket sessions.
+ * <p>
+ * Each session consumes a shared stream through its own bounded buffer, so
+ * the shared stream is never slowed down and a slow session never holds
+ * more than a fixed number of frames. What happens on overflow is decided
+ * by the {@link OverflowPolicy} of the endpoint. Dropped frames leave a gap
+ * in the sequence, which {@link StreamFrame#forSession} fills with a
+ * snapshot.
+ * <p>
+ * Metrics, tagged by {@code endpoint}:
+ * <ul>
+ * <li>{@code warehouse.websocket.queue.depth} - frames currently buffered</li>
+ * <li>{@code warehouse.websocket.frames.dropped} - frames dropped on overflow</li>
+ * <li>{@code warehouse.websocket.sessions.disconnected} - sessions closed for lagging</li>
+ * <li>{@code warehouse.websocket.send.latency} - time frames spent buffered</li>
+ * </ul>
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class WarehouseStreamBackpressure {
+
+    private final WarehouseStreamConfig streamConfig;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+    private record EndpointMeters(AtomicInteger queueDepth, Counter dropped, Counter disconnected,
+            Timer sendLatency) {
+    }
+
+    private record Pending(StreamFrame frame, long enqueuedAt) {
+    }
+
+    public WarehouseStreamBackpressure(WarehouseStreamConfig streamConfig, MeterRegistry meterRegistry) {
+        this.streamConfig = streamConfig;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Puts a bounded buffer between a shared stream and one session.
+     *
+     * @param frames   shared stream of frames
+     * @param endpoint endpoint name used for the policy lookup and metrics
+     * @return frames for the session; under the DISCONNECT policy the Flux
+     *         fails with an overflow exception once the session lagged for
+     *         longer than the configured maximum
+     */
+    public Flux<StreamFrame> bound(Flux<StreamFrame> frames, String endpoint) {
+        OverflowPolicy policy = streamConfig.overflowPolicyFor(endpoint);
+        int capacity = policy == OverflowPolicy.KEEP_LATEST ? 1 : streamConfig.getSessionBufferSize();
+        long maxLagNanos = streamConfig.getMaxLag().toNanos();
+        EndpointMeters endpointMeters = meters(endpoint);
+
+        return Flux.defer(() -> {
+            AtomicInteger pending = new AtomicInteger();
+            AtomicLong laggingSince = new AtomicLong();
+            AtomicBoolean lagged = new AtomicBoolean();
+            Sinks.One<Boolean> disconnect = Sinks.one();
+
+            Flux<StreamFrame> buffered = frames
+                    .map(frame -> {
+                        pending.incrementAndGet();
+                        endpointMeters.queueDepth().incrementAndGet();
+                        return new Pending(frame, System.nanoTime());
+                    })
+                    .onBackpressureBuffer(capacity, dropped -> {
+                        release(pending, endpointMeters);
+                        endpointMeters.dropped().increment();
+                        long now = System.nanoTime();
+                        if (laggingSince.get() == 0) {
+                            laggingSince.set(now);
+                        }
+                        if (policy == OverflowPolicy.DISCONNECT && now - laggingSince.get() >= maxLagNanos
+                                && lagged.compareAndSet(false, true)) {
+                            disconnect.tryEmitValue(Boolean.TRUE);
+                        }
+                    }, BufferOverflowStrategy.DROP_OLDEST)
+                    .map(next -> {
+                        if (release(pending, endpointMeters) == 0) {
+                            laggingSince.set(0);
+                        }
+                        endpointMeters.sendLatency().record(System.nanoTime() - next.enqueuedAt(),
+                                TimeUnit.NANOSECONDS);
+                        return next.frame();
+                    })
+                    .doFinally(signal -> endpointMeters.queueDepth().addAndGet(-pending.getAndSet(0)));
+
+            if (policy != OverflowPolicy.DISCONNECT) {
+                return buffered;
+            }
+            return buffered
+                    .takeUntilOther(disconnect.asMono())
+                    .concatWith(Mono.defer(() -> {
+                        if (!lagged.get()) {
+                            return Mono.empty();
+                        }
+                        endpointMeters.disconnected().increment();
+                        log.warn("Disconnecting slow {} session lagging for more than {}",
+                                endpoint, Duration.ofNanos(maxLagNanos));
+                        return Mono.error(Exceptions.failWithOverflow("Session too slow, disconnecting"));
+                    }));
+        });
+    }
+
+    // ==================== HELPERS ====================
+
+    private static int release(AtomicInteger pending, EndpointMeters endpointMeters) {
+        endpointMeters.queueDepth().decrementAndGet();
+        return pending.decrementAndGet();
+    }
+
+    private EndpointMeters meters(String endpoint) {
+        return meters.computeIfAbsent(endpoint, name -> {
+            Tags tags = Tags.of("endpoint", name);
+            return new EndpointMeters(
+                    meterRegistry.gauge("warehouse.websocket.queue.depth", tags, new AtomicInteger()),
+                    Counter.builder("warehouse.websocket.frames.dropped").tags(tags)
+                            .description("Frames dropped for slow WebSocket sessions")
+                            .register(meterRegistry),
+                    Counter.builder("warehouse.websocket.sessions.disconnected").tags(tags)
+                            .description("WebSocket sessions closed for lagging")
+                            .register(meterRegistry),
+                    Timer.builder("warehouse.websocket.send.latency").tags(tags)
+                            .description("Time WebSocket frames spent in session buffers")
+                            .register(meterRegistry));
+        });
+    }
+}
@@ -0,0 +1,255 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.redisson.api.RAtomicLongReactive;
+import org.redisson.api.RBucketReactive;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptReactive;
+import org.redisson.api.RTopicReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lvoxx.srms.controllerhandler.model.NotFoundException;
+import io.github.lvoxx.srms.warehouse.config.WarehouseStreamConfig;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Cross-instance fan-out of the shared WebSocket streams.
+ * <p>
+ * For every topic with local subscribers, instances compete for a lease
+ * in Redis. Only the lease holder runs the topic's producer (the database
+ * loads) and publishes its frames to a Redis topic; every instance relays
+ * the published frames to its own sessions. The latest frame is also kept
+ * in Redis so that instances joining a topic start from a snapshot. The
+ * leader delivers its own frames locally without waiting for the Redis
+ * round trip.
+ * <p>
+ * A leader that stops (last local subscriber left, instance shut down)
+ * releases its lease; a crashed leader is replaced once its lease expires.
+ * Sequence numbers restart with every new leader, which sessions handle as
+ * a gap followed by a snapshot. Every leadership term is numbered from a
+ * counter in Redis, so frames of an earlier term, e.g. a stale stored frame
+ * or the last frames of a replaced leader, are dropped once a later term
+ * was seen.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class WarehouseStreamCluster {
+
+    static final String KEY_PREFIX = "warehouse:stream:";
+
+    /**
+     * Term number of frames produced while the term counter was unavailable.
+     */
+    static final long UNKNOWN_TERM = 0L;
+
+    /**
+     * Extends the lease (KEYS[1]) by ARGV[2] millis if it is still held by
+     * ARGV[1], in one step so that a lease taken over in between is never
+     * extended.
+     */
+    private static final String RENEW_LEASE_SCRIPT = """
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('pexpire', KEYS[1], ARGV[2])
+            end
+            return 0
+            """;
+
+    private final RedissonReactiveClient redissonReactive;
+    private final ObjectMapper objectMapper;
+    private final WarehouseStreamConfig streamConfig;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * Message exchanged between instances.
+     *
+     * @param producer leadership term (instance and run) that produced the
+     *                 frame
+     * @param term     number of the leadership term, increasing with every
+     *                 new term, {@link #UNKNOWN_TERM} if it could not be
+     *                 drawn
+     * @param frame    produced frame, {@code null} for an error
+     * @param error    message of a {@link NotFoundException} ending the topic
+     */
+    record ClusterFrame(String producer, long term, @Nullable StreamFrame frame, @Nullable String error) {
+    }
+
+    public WarehouseStreamCluster(RedissonReactiveClient redissonReactive, ObjectMapper objectMapper,
+            WarehouseStreamConfig streamConfig) {
+        this.redissonReactive = redissonReactive;
+        this.objectMapper = objectMapper;
+        this.streamConfig = streamConfig;
+    }
+
+    /**
+     * Wraps the producer of a topic so that it runs on a single instance of
+     * the cluster.
+     *
+     * @param topic    topic name
+     * @param producer frames of the topic, produced locally
+     * @return frames of the topic, produced by whichever instance leads it
+     */
+    public Flux<StreamFrame> fanOut(String topic, Flux<StreamFrame> producer) {
+        if (!streamConfig.isClusterEnabled()) {
+            return producer;
+        }
+
+        RTopicReactive channel = redissonReactive.getTopic(KEY_PREFIX + topic, StringCodec.INSTANCE);
+        RBucketReactive<String> latest = redissonReactive.getBucket(KEY_PREFIX + topic + ":latest",
+                StringCodec.INSTANCE);
+        RBucketReactive<String> leader = redissonReactive.getBucket(KEY_PREFIX + topic + ":leader",
+                StringCodec.INSTANCE);
+        RAtomicLongReactive terms = redissonReactive.getAtomicLong(KEY_PREFIX + topic + ":term");
+
+        Flux<ClusterFrame> remote = Flux.merge(
+                Flux.defer(() -> channel.getMessages(String.class)),
+                Mono.defer(latest::get))
+                .mapNotNull(this::decode)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Stream relay for {} failed, retrying: {}",
+                                topic, signal.failure().getMessage())));
+
+        Flux<ClusterFrame> local = leadership(leader, topic)
+                .switchMap(leading -> leading ? nextTerm(terms, topic).flatMapMany(number -> {
+                    // Each leadership term restarts the producer and its sequence
+                    String term = instanceId + ":" + UUID.randomUUID();
+                    return producer
+                            .map(frame -> new ClusterFrame(term, number, frame, null))
+                            .onErrorResume(NotFoundException.class,
+                                    e -> Flux.just(new ClusterFrame(term, number, null, e.getMessage())))
+                            .concatMap(frame -> publish(channel, latest, frame).thenReturn(frame));
+                }) : Flux.empty());
+
+        return Flux.defer(() -> {
+            AtomicReference<ClusterFrame> last = new AtomicReference<>();
+            return Flux.merge(remote, local)
+                    .filter(frame -> isNewer(last, frame))
+                    .<StreamFrame>handle((frame, sink) -> {
+                        if (frame.error() != null) {
+                            sink.error(new NotFoundException(frame.error()));
+                        } else {
+                            sink.next(frame.frame());
+                        }
+                    })
+                    .doFinally(signal -> release(leader, topic));
+        });
+    }
+
+    // ==================== LEADERSHIP ====================
+
+    /**
+     * Renews or acquires the topic lease every third of the lease. When
+     * Redis cannot be reached the instance produces locally, since it could
+     * not relay another instance's frames either.
+     */
+    private Flux<Boolean> leadership(RBucketReactive<String> leader, String topic) {
+        Duration lease = streamConfig.getLeaderLease();
+        RScriptReactive script = redissonReactive.getScript(StringCodec.INSTANCE);
+        return Flux.interval(Duration.ZERO, lease.dividedBy(3))
+                .concatMap(tick -> script.<Boolean>eval(RScript.Mode.READ_WRITE, RENEW_LEASE_SCRIPT,
+                        RScript.ReturnType.BOOLEAN, List.of(leader.getName()), instanceId,
+                        String.valueOf(lease.toMillis()))
+                        .filter(Boolean.TRUE::equals)
+                        .switchIfEmpty(Mono.defer(() -> leader.setIfAbsent(instanceId, lease)))
+                        .onErrorResume(e -> {
+                            log.warn("Leader election for {} failed, producing locally: {}", topic, e.getMessage());
+                            return Mono.just(true);
+                        }))
+                .distinctUntilChanged()
+                .doOnNext(leading -> log.info("{} stream {}", leading ? "Producing" : "Relaying", topic));
+    }
+
+    /**
+     * Draws the number of a new leadership term.
+     */
+    private Mono<Long> nextTerm(RAtomicLongReactive terms, String topic) {
+        return terms.incrementAndGet()
+                .onErrorResume(e -> {
+                    log.warn("Failed to number stream term for {}: {}", topic, e.getMessage());
+                    return Mono.just(UNKNOWN_TERM);
+                });
+    }
+
+    private void release(RBucketReactive<String> leader, String topic) {
+        leader.compareAndSet(instanceId, null)
+                .subscribe(
+                        released -> {
+                            if (Boolean.TRUE.equals(released)) {
+                                log.info("Released stream leadership for {}", topic);
+                            }
+                        },
+                        e -> log.warn("Failed to release stream leadership for {}: {}", topic, e.getMessage()));
+    }
+
+    // ==================== HELPERS ====================
+
+    private Mono<Void> publish(RTopicReactive channel, RBucketReactive<String> latest, ClusterFrame frame) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(frame);
+        } catch (Exception e) {
+            log.error("Failed to serialize cluster frame: {}", e.getMessage(), e);
+            return Mono.empty();
+        }
+        Mono<Void> store = frame.frame() != null
+                ? latest.set(payload, streamConfig.getLatestFrameTtl())
+                : latest.delete().then();
+        return store
+                .then(channel.publish(payload))
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("Failed to publish stream frame: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private ClusterFrame decode(String payload) {
+        try {
+            return objectMapper.readValue(payload, ClusterFrame.class);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cluster frame: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Drops frames already seen, e.g. the leader's own frames echoed back by
+     * Redis, and frames of an earlier term than the last frame, e.g. a
+     * stored latest frame older than a live one. Frames of an unknown term
+     * cannot be ordered and are kept.
+     */
+    private static boolean isNewer(AtomicReference<ClusterFrame> last, ClusterFrame frame) {
+        ClusterFrame previous = last.get();
+        boolean newer;
+        if (previous == null) {
+            newer = true;
+        } else if (!previous.producer().equals(frame.producer())) {
+            newer = frame.term() == UNKNOWN_TERM || previous.term() == UNKNOWN_TERM
+                    || frame.term() > previous.term();
+        } else {
+            newer = frame.frame() == null
+                    || previous.frame() == null
+                    || frame.frame().sequence() > previous.frame().sequence();
+        }
+        if (newer) {
+            last.set(frame);
+        }
+        return newer;
+    }
+}
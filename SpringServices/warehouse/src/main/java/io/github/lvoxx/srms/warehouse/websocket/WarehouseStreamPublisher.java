@@ -0,0 +1,258 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lvoxx.srms.controllerhandler.model.NotFoundException;
+import io.github.lvoxx.srms.controllerhandler.model.ValidationException;
+import io.github.lvoxx.srms.warehouse.config.WarehouseStreamConfig;
+import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
+import io.github.lvoxx.srms.warehouse.services.WarehouseChangeNotifier;
+import io.github.lvoxx.srms.warehouse.services.WarehouseStatisticService;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.ConnectableFlux;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shared, multicast sources for the warehouse WebSocket streams.
+ * <p>
+ * Each stream type (and each warehouse for detail streams) has a single
+ * upstream whose frames are serialized to JSON once and fanned out to every
+ * subscribed session. A stream connects with its first subscriber, replays
+ * the latest frame to late joiners and is cancelled once the last subscriber
+ * leaves (after {@link WarehouseStreamConfig#getIdleTimeout()}).
+ * <p>
+ * Every update is numbered and encoded both as a full snapshot and as a
+ * delta against the previous update (see {@link StreamFrame}). Loads that
+ * change nothing but the timestamp produce no frame at all. In a cluster,
+ * each topic is produced by a single instance and relayed to the others
+ * (see {@link WarehouseStreamCluster}).
+ * <p>
+ * Streams are refreshed by committed inventory changes from
+ * {@link WarehouseChangeNotifier}, coalesced per stream over
+ * {@link WarehouseStreamConfig#getCoalesceWindow()}. A slow heartbeat refresh
+ * remains as a fallback for changes made outside the service.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class WarehouseStreamPublisher {
+
+    public static final String DASHBOARD_UPDATE = "DASHBOARD_UPDATE";
+    public static final String ALERT_UPDATE = "ALERT_UPDATE";
+    public static final String WAREHOUSE_UPDATE = "WAREHOUSE_UPDATE";
+
+    public static final String DASHBOARD_TOPIC = "dashboard";
+    public static final String ALERTS_TOPIC = "alerts";
+    public static final String WAREHOUSE_TOPIC_PREFIX = "warehouse:";
+
+    public static final String SNAPSHOT = "SNAPSHOT";
+    public static final String DELTA = "DELTA";
+
+    private static final int ALERT_PAGE_SIZE = 20;
+    private static final String ALERT_ITEMS_FIELD = "items";
+
+    private final WarehouseStatisticService statisticService;
+    private final WarehouseChangeNotifier changeNotifier;
+    private final WarehouseStreamCluster cluster;
+    private final ObjectMapper objectMapper;
+    private final WarehouseStreamConfig streamConfig;
+
+    private final Flux<StreamFrame> dashboardStream;
+    private final Flux<StreamFrame> alertStream;
+    private final Map<UUID, Flux<StreamFrame>> warehouseStreams = new ConcurrentHashMap<>();
+
+    public WarehouseStreamPublisher(WarehouseStatisticService statisticService,
+            WarehouseChangeNotifier changeNotifier, WarehouseStreamCluster cluster, ObjectMapper objectMapper,
+            WarehouseStreamConfig streamConfig) {
+        this.statisticService = statisticService;
+        this.changeNotifier = changeNotifier;
+        this.cluster = cluster;
+        this.objectMapper = objectMapper;
+        this.streamConfig = streamConfig;
+        this.dashboardStream = share(cluster.fanOut(DASHBOARD_TOPIC, encode(refreshOn(changeNotifier.changes(),
+                statisticService::getDashboardStatistics, DASHBOARD_TOPIC), DASHBOARD_TOPIC, DASHBOARD_UPDATE, null))
+                .doOnSubscribe(s -> log.debug("Dashboard stream connected"))
+                .doFinally(signal -> log.debug("Dashboard stream stopped: {}", signal)));
+        this.alertStream = share(cluster.fanOut(ALERTS_TOPIC, encode(refreshOn(changeNotifier.changes(),
+                () -> statisticService.getAllWarehouseAlerts(0, ALERT_PAGE_SIZE), ALERTS_TOPIC),
+                ALERTS_TOPIC, ALERT_UPDATE, ALERT_ITEMS_FIELD))
+                .doOnSubscribe(s -> log.debug("Alert stream connected"))
+                .doFinally(signal -> log.debug("Alert stream stopped: {}", signal)));
+    }
+
+    // ==================== SHARED STREAMS ====================
+
+    /**
+     * @return shared stream of dashboard frames
+     */
+    public Flux<StreamFrame> dashboard() {
+        return dashboardStream;
+    }
+
+    /**
+     * @return shared stream of alert frames, diffed per alert item
+     */
+    public Flux<StreamFrame> alerts() {
+        return alertStream;
+    }
+
+    /**
+     * Shared stream of serialized detail frames for one warehouse.
+     * <p>
+     * The stream is registered on first use and unregistered when its
+     * upstream stops, either because the last subscriber left or because the
+     * warehouse does not exist.
+     *
+     * @param warehouseId unique identifier of the warehouse
+     * @return shared stream of warehouse frames
+     */
+    public Flux<StreamFrame> warehouseDetails(UUID warehouseId) {
+        return Flux.defer(() -> warehouseStreams.computeIfAbsent(warehouseId, this::createWarehouseStream));
+    }
+
+    /**
+     * Resolves a topic name of the multiplexed protocol to its shared stream.
+     *
+     * @param topic {@code dashboard}, {@code alerts} or
+     *              {@code warehouse:<id>}
+     * @return shared stream of the topic, or a {@link ValidationException}
+     *         error for an unknown topic
+     */
+    public Flux<StreamFrame> stream(String topic) {
+        if (DASHBOARD_TOPIC.equals(topic)) {
+            return dashboard();
+        }
+        if (ALERTS_TOPIC.equals(topic)) {
+            return alerts();
+        }
+        if (topic != null && topic.startsWith(WAREHOUSE_TOPIC_PREFIX)) {
+            try {
+                return warehouseDetails(UUID.fromString(topic.substring(WAREHOUSE_TOPIC_PREFIX.length())));
+            } catch (IllegalArgumentException e) {
+                return Flux.error(new ValidationException("Invalid warehouse ID in topic: " + topic));
+            }
+        }
+        return Flux.error(new ValidationException("Unknown topic: " + topic));
+    }
+
+    /**
+     * @param warehouseId unique identifier of the warehouse
+     * @return topic name of the warehouse detail stream
+     */
+    public static String warehouseTopic(UUID warehouseId) {
+        return WAREHOUSE_TOPIC_PREFIX + warehouseId;
+    }
+
+    /**
+     * @return number of warehouse detail streams currently registered
+     */
+    public int activeWarehouseStreams() {
+        return warehouseStreams.size();
+    }
+
+    // ==================== HELPERS ====================
+
+    private Flux<StreamFrame> createWarehouseStream(UUID warehouseId) {
+        AtomicReference<Flux<StreamFrame>> self = new AtomicReference<>();
+        String topic = warehouseTopic(warehouseId);
+        Flux<StreamFrame> shared = share(cluster.fanOut(topic, encode(refreshOn(
+                changeNotifier.changes().filter(change -> change.affects(warehouseId)),
+                () -> statisticService.getWarehouseDetails(warehouseId), topic),
+                topic, WAREHOUSE_UPDATE, null))
+                .doOnSubscribe(s -> log.debug("Warehouse stream connected: {}", warehouseId))
+                .doFinally(signal -> {
+                    warehouseStreams.remove(warehouseId, self.get());
+                    log.debug("Warehouse stream stopped: {} ({})", warehouseId, signal);
+                }));
+        self.set(shared);
+        return shared;
+    }
+
+    /**
+     * Loads a snapshot on subscription, then again for every coalesced burst
+     * of changes and on each heartbeat. Triggers arriving while a load is in
+     * flight collapse into a single follow-up load. Load failures skip the
+     * refresh, except {@link NotFoundException} which ends the stream.
+     */
+    private <T> Flux<T> refreshOn(Flux<?> changes, Supplier<Mono<T>> loader, String name) {
+        Duration heartbeat = streamConfig.getHeartbeatInterval();
+        return Flux.merge(
+                Flux.just(0L),
+                changes.sample(streamConfig.getCoalesceWindow()).map(change -> 0L),
+                Flux.interval(heartbeat, heartbeat))
+                .onBackpressureLatest()
+                .concatMap(trigger -> loader.get()
+                        .onErrorResume(e -> !(e instanceof NotFoundException), e -> {
+                            log.error("Error refreshing {} stream: {}", name, e.getMessage(), e);
+                            return Mono.empty();
+                        }), 0);
+    }
+
+    /**
+     * Numbers the loaded payloads and serializes each one as a snapshot and as
+     * a delta against the previous payload. The sequence restarts whenever the
+     * shared stream reconnects, which is safe because a new connection only
+     * has new subscribers and they always start from a snapshot.
+     */
+    private Flux<StreamFrame> encode(Flux<?> payloads, String topic, String eventType,
+            @Nullable String itemsField) {
+        return Flux.defer(() -> {
+            AtomicLong sequence = new AtomicLong();
+            AtomicReference<JsonNode> previous = new AtomicReference<>();
+            return payloads.handle((payload, sink) -> {
+                JsonNode current = objectMapper.valueToTree(payload);
+                JsonNode last = previous.getAndSet(current);
+                WarehouseStatisticDTO.WebSocketDelta delta = last == null
+                        ? null
+                        : FrameDiff.diff(last, current, itemsField);
+                if (delta != null && FrameDiff.isEmpty(delta)) {
+                    return;
+                }
+                long seq = sequence.incrementAndGet();
+                sink.next(new StreamFrame(seq,
+                        toFrame(topic, eventType, SNAPSHOT, seq, current),
+                        delta == null ? null : toFrame(topic, eventType, DELTA, seq, delta)));
+            });
+        });
+    }
+
+    private Flux<StreamFrame> share(Flux<StreamFrame> frames) {
+        ConnectableFlux<StreamFrame> replayed = frames.replay(1);
+        Duration idleTimeout = streamConfig.getIdleTimeout();
+        return idleTimeout.isZero() ? replayed.refCount() : replayed.refCount(1, idleTimeout);
+    }
+
+    private String toFrame(String topic, String eventType, String frameType, long sequence, Object data) {
+        WarehouseStatisticDTO.WebSocketEvent event = WarehouseStatisticDTO.WebSocketEvent.builder()
+                .eventType(eventType)
+                .topic(topic)
+                .frameType(frameType)
+                .sequence(sequence)
+                .data(data)
+                .timestamp(OffsetDateTime.now())
+                .build();
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            log.error("Failed to serialize {} frame: {}", eventType, e.getMessage(), e);
+            return "{\"error\":\"Serialization failed\"}";
+        }
+    }
+}
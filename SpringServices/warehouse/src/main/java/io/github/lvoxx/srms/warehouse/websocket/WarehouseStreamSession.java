@@ -0,0 +1,184 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Topic subscriptions of one multiplexed WebSocket connection.
+ * <p>
+ * Commands sent by the client add or remove topics; the frames of every
+ * subscribed shared stream are routed into a single outbound stream. Each
+ * topic keeps its own snapshot/delta sequence (see
+ * {@link StreamFrame#forSession}) and its own bounded buffer (see
+ * {@link WarehouseStreamBackpressure}); the outbound stream requests one
+ * frame at a time from each topic, so a slow connection only ever holds
+ * its buffered frames. A failing topic (e.g. an unknown warehouse) produces
+ * an error frame and is dropped without affecting the other topics of the
+ * connection, while a session lagging past its overflow policy is closed.
+ *
+ * @author lvoxx
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class WarehouseStreamSession {
+
+    static final String SUBSCRIBE = "SUBSCRIBE";
+    static final String UNSUBSCRIBE = "UNSUBSCRIBE";
+    static final String RESYNC = "RESYNC";
+
+    static final String ENDPOINT = "stream";
+
+    private final WarehouseStreamPublisher streamPublisher;
+    private final WarehouseStreamBackpressure backpressure;
+    private final ObjectMapper objectMapper;
+    private final int maxTopics;
+
+    private final Sinks.Many<Flux<String>> outbound = Sinks.many().unicast().onBackpressureBuffer();
+    private final Map<String, TopicSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    private record TopicSubscription(Sinks.One<Boolean> stop, Sinks.Many<Boolean> resyncs) {
+    }
+
+    WarehouseStreamSession(WarehouseStreamPublisher streamPublisher, WarehouseStreamBackpressure backpressure,
+            ObjectMapper objectMapper, int maxTopics) {
+        this.streamPublisher = streamPublisher;
+        this.backpressure = backpressure;
+        this.objectMapper = objectMapper;
+        this.maxTopics = maxTopics;
+    }
+
+    // ==================== STREAM ====================
+
+    /**
+     * @return outbound frames of all subscribed topics
+     */
+    Flux<String> frames() {
+        return outbound.asFlux().flatMap(Function.identity(), Integer.MAX_VALUE, 1);
+    }
+
+    /**
+     * @return topics currently subscribed
+     */
+    int topicCount() {
+        return subscriptions.size();
+    }
+
+    // ==================== COMMANDS ====================
+
+    /**
+     * Applies one command message sent by the client.
+     *
+     * @param payload JSON {@link WarehouseStatisticDTO.WebSocketCommand}
+     */
+    void handle(String payload) {
+        WarehouseStatisticDTO.WebSocketCommand command;
+        try {
+            command = objectMapper.readValue(payload, WarehouseStatisticDTO.WebSocketCommand.class);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed WebSocket command: {}", payload);
+            sendError(null, "Malformed command");
+            return;
+        }
+
+        List<String> topics = command.getTopics() == null ? List.of() : command.getTopics();
+        String action = command.getAction() == null ? "" : command.getAction().toUpperCase();
+        switch (action) {
+            case SUBSCRIBE -> topics.forEach(this::subscribe);
+            case UNSUBSCRIBE -> topics.forEach(this::unsubscribe);
+            case RESYNC -> (topics.isEmpty() ? List.copyOf(subscriptions.keySet()) : topics).forEach(this::resync);
+            default -> sendError(null, "Unknown action: " + command.getAction());
+        }
+    }
+
+    /**
+     * Cancels every subscription and completes the outbound stream.
+     */
+    void close() {
+        subscriptions.values().forEach(subscription -> subscription.stop().tryEmitValue(Boolean.TRUE));
+        subscriptions.clear();
+        outbound.tryEmitComplete();
+    }
+
+    // ==================== HELPERS ====================
+
+    private void subscribe(String topic) {
+        if (subscriptions.containsKey(topic)) {
+            resync(topic);
+            return;
+        }
+        if (subscriptions.size() >= maxTopics) {
+            sendError(topic, "Topic limit reached: " + maxTopics);
+            return;
+        }
+
+        TopicSubscription subscription = new TopicSubscription(
+                Sinks.one(), Sinks.many().multicast().directBestEffort());
+        subscriptions.put(topic, subscription);
+        log.debug("Subscribed to topic: {}", topic);
+
+        add(StreamFrame.forSession(
+                backpressure.bound(streamPublisher.stream(topic), ENDPOINT),
+                subscription.resyncs().asFlux())
+                .takeUntilOther(subscription.stop().asMono())
+                .onErrorResume(e -> {
+                    subscriptions.remove(topic, subscription);
+                    if (Exceptions.isOverflow(e)) {
+                        return Flux.error(e);
+                    }
+                    log.debug("Topic {} failed: {}", topic, e.getMessage());
+                    return Flux.just(errorFrame(topic, e.getMessage()));
+                }));
+    }
+
+    private void unsubscribe(String topic) {
+        TopicSubscription subscription = subscriptions.remove(topic);
+        if (subscription != null) {
+            subscription.stop().tryEmitValue(Boolean.TRUE);
+            log.debug("Unsubscribed from topic: {}", topic);
+        }
+    }
+
+    private void resync(String topic) {
+        TopicSubscription subscription = subscriptions.get(topic);
+        if (subscription != null) {
+            subscription.resyncs().tryEmitNext(Boolean.TRUE);
+        }
+    }
+
+    private void add(Flux<String> frames) {
+        outbound.emitNext(frames, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+    private void sendError(@Nullable String topic, String message) {
+        add(Flux.just(errorFrame(topic, message)));
+    }
+
+    private String errorFrame(@Nullable String topic, String message) {
+        Map<String, String> error = new LinkedHashMap<>();
+        error.put("error", message);
+        if (topic != null) {
+            error.put("topic", topic);
+        }
+        try {
+            return objectMapper.writeValueAsString(error);
+        } catch (Exception e) {
+            log.error("Failed to serialize error frame: {}", e.getMessage(), e);
+            return "{\"error\":\"Serialization failed\"}";
+        }
+    }
+}
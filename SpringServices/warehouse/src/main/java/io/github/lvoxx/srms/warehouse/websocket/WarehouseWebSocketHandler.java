@@ -1,5 +1,6 @@
 package io.github.lvoxx.srms.warehouse.websocket;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.lang.NonNull;
@@ -10,7 +11,6 @@ import org.springframework.web.reactive.socket.WebSocketSession;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
-import io.github.lvoxx.srms.warehouse.services.WarehouseStatisticService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
@@ -21,35 +21,49 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class WarehouseWebSocketHandler implements WebSocketHandler {
 
-    private final WarehouseStatisticService statisticService;
+    private static final String RESYNC = "RESYNC";
+
+    private final WarehouseStreamPublisher streamPublisher;
+    private final WarehouseStreamBackpressure backpressure;
     private final ObjectMapper objectMapper;
+    private final WarehouseFrameEncoder frameEncoder;
+
+    @Override
+    public @NonNull List<String> getSubProtocols() {
+        return frameEncoder.subProtocols();
+    }
 
     @Override
     public Mono<Void> handle(@NonNull WebSocketSession session) {
         String path = session.getHandshakeInfo().getUri().getPath();
-        log.info("WebSocket connection established: {} - {}", session.getId(), path);
+        WarehouseFrameEncoder.Encoding encoding = frameEncoder.negotiate(session.getHandshakeInfo());
+        log.info("WebSocket connection established: {} - {} ({})", session.getId(), path, encoding);
 
         Flux<String> messageFlux;
+        Flux<WarehouseStatisticDTO.WebSocketCommand> resyncRequests = session.receive()
+            .map(frameEncoder::decode)
+            .mapNotNull(this::parseCommand)
+            .filter(command -> RESYNC.equalsIgnoreCase(command.getAction()));
 
         if (path.contains("/dashboard")) {
-            messageFlux = handleDashboardStream();
+            messageFlux = handleDashboardStream(resyncRequests);
         } else if (path.contains("/alerts")) {
-            messageFlux = handleAlertsStream();
+            messageFlux = handleAlertsStream(resyncRequests);
         } else if (path.contains("/warehouse/")) {
             UUID warehouseId = extractWarehouseId(path);
-            messageFlux = handleWarehouseDetailsStream(warehouseId);
+            messageFlux = handleWarehouseDetailsStream(warehouseId, resyncRequests);
         } else {
             messageFlux = Flux.just("{\"error\":\"Unknown endpoint\"}");
         }
 
         return session.send(
             messageFlux
-                .map(json -> session.textMessage(json))
+                .map(json -> frameEncoder.encode(session, json, encoding))
                 .onErrorResume(e -> {
                     log.error("WebSocket error for session {}: {}", 
                         session.getId(), e.getMessage(), e);
-                    return Flux.just(session.textMessage(
-                        "{\"error\":\"" + e.getMessage() + "\"}"));
+                    return Flux.just(frameEncoder.encode(session,
+                        "{\"error\":\"" + e.getMessage() + "\"}", encoding));
                 })
         )
         .doOnTerminate(() -> 
@@ -58,71 +72,59 @@ public class WarehouseWebSocketHandler implements WebSocketHandler {
             log.error("WebSocket connection error: {}", e.getMessage(), e));
     }
 
-    private Flux<String> handleDashboardStream() {
-        log.debug("Starting dashboard statistics stream");
+    private Flux<String> handleDashboardStream(Flux<?> resyncRequests) {
+        log.debug("Joining shared dashboard statistics stream");
         
-        return statisticService.streamDashboardStatistics()
-            .map(stats -> createWebSocketEvent("DASHBOARD_UPDATE", stats))
-            .map(this::toJson)
+        return StreamFrame.forSession(
+            backpressure.bound(streamPublisher.dashboard(), "dashboard"), resyncRequests)
             .onErrorResume(e -> {
                 log.error("Error in dashboard stream: {}", e.getMessage(), e);
                 return Flux.just("{\"error\":\"" + e.getMessage() + "\"}");
             });
     }
 
-    private Flux<String> handleAlertsStream() {
-        log.debug("Starting alerts stream");
+    private Flux<String> handleAlertsStream(Flux<?> resyncRequests) {
+        log.debug("Joining shared alerts stream");
         
-        return statisticService.streamWarehouseAlerts()
-            .map(alerts -> createWebSocketEvent("ALERT_UPDATE", alerts))
-            .map(this::toJson)
+        return StreamFrame.forSession(
+            backpressure.bound(streamPublisher.alerts(), "alerts"), resyncRequests)
             .onErrorResume(e -> {
                 log.error("Error in alerts stream: {}", e.getMessage(), e);
                 return Flux.just("{\"error\":\"" + e.getMessage() + "\"}");
             });
     }
 
-    private Flux<String> handleWarehouseDetailsStream(UUID warehouseId) {
-        log.debug("Starting warehouse details stream for: {}", warehouseId);
+    private Flux<String> handleWarehouseDetailsStream(UUID warehouseId, Flux<?> resyncRequests) {
+        log.debug("Joining shared warehouse details stream for: {}", warehouseId);
         
         if (warehouseId == null) {
             return Flux.just("{\"error\":\"Invalid warehouse ID\"}");
         }
         
-        return statisticService.streamWarehouseDetails(warehouseId)
-            .map(details -> createWebSocketEvent("WAREHOUSE_UPDATE", details))
-            .map(this::toJson)
+        return StreamFrame.forSession(
+            backpressure.bound(streamPublisher.warehouseDetails(warehouseId), "warehouse"), resyncRequests)
             .onErrorResume(e -> {
                 log.error("Error in warehouse details stream: {}", e.getMessage(), e);
                 return Flux.just("{\"error\":\"" + e.getMessage() + "\"}");
             });
     }
 
-    private UUID extractWarehouseId(String path) {
+    private WarehouseStatisticDTO.WebSocketCommand parseCommand(String payload) {
         try {
-            String[] parts = path.split("/");
-            return UUID.fromString(parts[parts.length - 1]);
+            return objectMapper.readValue(payload, WarehouseStatisticDTO.WebSocketCommand.class);
         } catch (Exception e) {
-            log.error("Failed to extract warehouse ID from path: {}", path, e);
+            log.warn("Ignoring malformed WebSocket command: {}", payload);
             return null;
         }
     }
 
-    private WarehouseStatisticDTO.WebSocketEvent createWebSocketEvent(
-            String eventType, Object data) {
-        return WarehouseStatisticDTO.WebSocketEvent.builder()
-            .eventType(eventType)
-            .data(data)
-            .timestamp(java.time.OffsetDateTime.now())
-            .build();
-    }
-
-    private String toJson(Object object) {
+    private UUID extractWarehouseId(String path) {
         try {
-            return objectMapper.writeValueAsString(object);
+            String[] parts = path.split("/");
+            return UUID.fromString(parts[parts.length - 1]);
         } catch (Exception e) {
-            log.error("Failed to serialize object to JSON: {}", e.getMessage(), e);
-            return "{\"error\":\"Serialization failed\"}";
+            log.error("Failed to extract warehouse ID from path: {}", path, e);
+            return null;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,169 @@
+package io.github.lvoxx.srms.warehouse.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import io.github.lvoxx.srms.warehouse.AbstractDatabaseTestContainer;
+import io.github.lvoxx.srms.warehouse.dto.WarehouseImportDTO;
+import io.github.lvoxx.srms.warehouse.models.Warehouse;
+import io.netty.buffer.Unpooled;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@DataR2dbcTest
+@ImportAutoConfiguration(exclude = CacheAutoConfiguration.class)
+@Import(WarehouseBulkImportRepository.class)
+@ActiveProfiles("repo")
+@DisplayName("Warehouse Bulk Import Repository Tests")
+@Tags({
+        @Tag("Repository"), @Tag("Integration")
+})
+public class WarehouseBulkImportRepositoryTest extends AbstractDatabaseTestContainer {
+
+    @Autowired
+    private WarehouseBulkImportRepository importRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
+    private Warehouse warehouse;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("TRUNCATE TABLE warehouse_history RESTART IDENTITY CASCADE").then().block();
+        databaseClient.sql("TRUNCATE TABLE warehouse RESTART IDENTITY CASCADE").then().block();
+
+        warehouse = warehouseRepository.save(
+                Warehouse.builder()
+                        .productName("Test Pizza Flour")
+                        .quantity(5)
+                        .minQuantity(1)
+                        .isDeleted(false)
+                        .build())
+                .block();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseClient.sql("TRUNCATE TABLE warehouse_history RESTART IDENTITY CASCADE").then().block();
+        databaseClient.sql("TRUNCATE TABLE warehouse RESTART IDENTITY CASCADE").then().block();
+    }
+
+    /**
+     * Stages CSV history rows and returns the rejected ones, sorted by line,
+     * within one transaction as the staging table is dropped on commit.
+     */
+    private List<WarehouseImportDTO.RowError> reject(String csv) {
+        Flux<WarehouseImportDTO.RowError> errors = importRepository.createHistoryStaging()
+                .then(importRepository.copyHistory(
+                        Flux.just(Unpooled.copiedBuffer(csv, StandardCharsets.UTF_8))))
+                .thenMany(importRepository.rejectHistoryConflicts());
+        return TransactionalOperator.create(transactionManager)
+                .transactional(errors.sort(Comparator.comparing(WarehouseImportDTO.RowError::getLine))
+                        .collectList())
+                .block();
+    }
+
+    @Nested
+    @DisplayName("History Conflict Tests")
+    class HistoryConflictTests {
+
+        @Test
+        @DisplayName("Should accept a valid export that follows a rejected one")
+        void shouldAcceptValidExportAfterRejectedExport() {
+            // Arrange - stock 5: export 10 is rejected, export 3 leaves 2, export 4 is rejected
+            UUID id = warehouse.getId();
+            String csv = "1," + id + ",10,export\n"
+                    + "2," + id + ",3,export\n"
+                    + "3," + id + ",4,export\n";
+
+            // Act
+            List<WarehouseImportDTO.RowError> errors = reject(csv);
+
+            // Assert
+            assertThat(errors).extracting(WarehouseImportDTO.RowError::getLine).containsExactly(1L, 3L);
+            assertThat(errors).extracting(WarehouseImportDTO.RowError::getReason)
+                    .containsOnly("Insufficient inventory");
+        }
+
+        @Test
+        @DisplayName("Should count imports earlier in the upload towards later exports")
+        void shouldCountEarlierImports() {
+            // Arrange
+            UUID id = warehouse.getId();
+            String csv = "1," + id + ",10,import\n"
+                    + "2," + id + ",15,export\n"
+                    + "3," + id + ",1,export\n";
+
+            // Act
+            List<WarehouseImportDTO.RowError> errors = reject(csv);
+
+            // Assert
+            assertThat(errors).extracting(WarehouseImportDTO.RowError::getLine).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("Should reject transactions of unknown warehouses")
+        void shouldRejectUnknownWarehouses() {
+            // Arrange
+            String csv = "1," + UUID.randomUUID() + ",1,import\n"
+                    + "2," + warehouse.getId() + ",1,export\n";
+
+            // Act
+            List<WarehouseImportDTO.RowError> errors = reject(csv);
+
+            // Assert
+            assertThat(errors).singleElement()
+                    .satisfies(error -> {
+                        assertThat(error.getLine()).isEqualTo(1L);
+                        assertThat(error.getReason()).isEqualTo("Warehouse not found");
+                    });
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the accepted transactions for the merge")
+    void shouldMergeAcceptedTransactions() {
+        // Arrange
+        UUID id = warehouse.getId();
+        String csv = "1," + id + ",10,export\n"
+                + "2," + id + ",3,export\n";
+
+        // Act & Assert
+        StepVerifier.create(TransactionalOperator.create(transactionManager)
+                .transactional(importRepository.createHistoryStaging()
+                        .then(importRepository.copyHistory(
+                                Flux.just(Unpooled.copiedBuffer(csv, StandardCharsets.UTF_8))))
+                        .thenMany(importRepository.rejectHistoryConflicts())
+                        .then(importRepository.mergeHistory("bulk-user"))))
+                .expectNext(1L)
+                .verifyComplete();
+    }
+}
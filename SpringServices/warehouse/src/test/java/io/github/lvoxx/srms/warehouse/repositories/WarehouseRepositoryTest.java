@@ -422,6 +422,55 @@ public class WarehouseRepositoryTest extends AbstractDatabaseTestContainer {
                     })
                     .verifyComplete();
         }
+
+        @Test
+        @DisplayName("Should batch soft delete and classify missing and already deleted ids")
+        void shouldBatchSoftDeleteWarehouses() {
+            repository.softDelete(testWarehouse2.getId(), OffsetDateTime.now(), null).block();
+            UUID missingId = UUID.randomUUID();
+
+            StepVerifier.create(
+                    repository.softDeleteAll(
+                            new UUID[] { testWarehouse1.getId(), testWarehouse2.getId(), missingId },
+                            OffsetDateTime.now(),
+                            "batch-user")
+                            .collectMap(WarehouseRepository.StateChange::id))
+                    .assertNext(changes -> {
+                        assertThat(changes).hasSize(3);
+                        assertThat(changes.get(testWarehouse1.getId()).changed()).isTrue();
+                        assertThat(changes.get(testWarehouse2.getId()).changed()).isFalse();
+                        assertThat(changes.get(testWarehouse2.getId()).found()).isTrue();
+                        assertThat(changes.get(missingId).found()).isFalse();
+                    })
+                    .verifyComplete();
+
+            StepVerifier.create(
+                    repository.findById(testWarehouse1.getId(), true))
+                    .assertNext(warehouse -> {
+                        assertThat(warehouse.getIsDeleted()).isTrue();
+                        assertThat(warehouse.getLastUpdatedBy()).isEqualTo("batch-user");
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should batch restore only deleted warehouses")
+        void shouldBatchRestoreWarehouses() {
+            repository.softDelete(testWarehouse1.getId(), OffsetDateTime.now(), null).block();
+
+            StepVerifier.create(
+                    repository.restoreAll(
+                            new UUID[] { testWarehouse1.getId(), testWarehouse3.getId() },
+                            OffsetDateTime.now(),
+                            "batch-user")
+                            .collectMap(WarehouseRepository.StateChange::id))
+                    .assertNext(changes -> {
+                        assertThat(changes.get(testWarehouse1.getId()).changed()).isTrue();
+                        assertThat(changes.get(testWarehouse3.getId()).changed()).isFalse();
+                        assertThat(changes.get(testWarehouse3.getId()).found()).isTrue();
+                    })
+                    .verifyComplete();
+        }
     }
 
     @Nested
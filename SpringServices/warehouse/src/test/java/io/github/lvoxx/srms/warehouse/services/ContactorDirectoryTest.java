@@ -0,0 +1,152 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RMapCacheReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.github.lvoxx.srms.warehouse.config.WarehouseDigestConfig;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Contactor Directory Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ContactorDirectoryTest {
+
+    private static final UUID CACHED = UUID.randomUUID();
+    private static final UUID REMOTE = UUID.randomUUID();
+
+    @Mock
+    private RedissonReactiveClient redissonReactive;
+
+    @Mock
+    private RMapCacheReactive<String, String> contacts;
+
+    private List<URI> requests;
+    private HttpStatus status;
+    private ContactorDirectory directory;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        requests = new ArrayList<>();
+        status = HttpStatus.OK;
+        when(redissonReactive.<String, String>getMapCache(anyString(), any(Codec.class))).thenReturn(contacts);
+        when(contacts.getAll(anySet())).thenReturn(Mono.just(Map.of(CACHED.toString(),
+                "{\"id\":\"" + CACHED + "\",\"organization-name\":\"Cached Farm\"}")));
+        when(contacts.putAll(anyMap(), anyLong(), any(TimeUnit.class))).thenReturn(Mono.empty());
+
+        WebClient.Builder webClient = WebClient.builder().exchangeFunction(request -> {
+            requests.add(request.url());
+            return Mono.just(ClientResponse.create(status)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body("[{\"id\":\"" + REMOTE + "\",\"organization-name\":\"Remote Farm\","
+                            + "\"email\":\"sales@remote.test\",\"rating\":\"HIGH\"}]")
+                    .build());
+        });
+        directory = new ContactorDirectory(webClient, redissonReactive, new WarehouseDigestConfig());
+    }
+
+    @Nested
+    @DisplayName("Resolve Tests")
+    class ResolveTests {
+
+        @Test
+        @DisplayName("Should answer from the cache without calling the contactor service")
+        void shouldUseCache() {
+            // Act & Assert
+            StepVerifier.create(directory.resolve(Set.of(CACHED)))
+                    .assertNext(resolved -> assertEquals("Cached Farm", resolved.get(CACHED).displayName()))
+                    .verifyComplete();
+
+            assertTrue(requests.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should fetch all missing contactors in one request and cache them")
+        void shouldFetchMissingInBatch() {
+            // Act & Assert
+            StepVerifier.create(directory.resolve(Set.of(CACHED, REMOTE)))
+                    .assertNext(resolved -> {
+                        assertEquals(2, resolved.size());
+                        assertEquals("Remote Farm", resolved.get(REMOTE).displayName());
+                        assertEquals("sales@remote.test", resolved.get(REMOTE).email());
+                    })
+                    .verifyComplete();
+
+            assertEquals(1, requests.size());
+            assertEquals("/contactors/batch", requests.get(0).getPath());
+            assertEquals("ids=" + REMOTE, requests.get(0).getQuery());
+            verify(contacts).putAll(argThat(values -> values.keySet().equals(Set.of(REMOTE.toString()))),
+                    eq(3_600_000L), eq(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("Should leave out contactors when the contactor service fails")
+        void shouldDegradeOnServiceFailure() {
+            // Arrange
+            status = HttpStatus.SERVICE_UNAVAILABLE;
+
+            // Act & Assert
+            StepVerifier.create(directory.resolve(Set.of(CACHED, REMOTE)))
+                    .assertNext(resolved -> assertEquals(Set.of(CACHED), resolved.keySet()))
+                    .verifyComplete();
+
+            verify(contacts, never()).putAll(anyMap(), anyLong(), any(TimeUnit.class));
+        }
+
+        @Test
+        @DisplayName("Should fetch every contactor when the cache is unavailable")
+        void shouldFetchWhenCacheFails() {
+            // Arrange
+            when(contacts.getAll(anySet())).thenReturn(Mono.error(new RuntimeException("Redis down")));
+
+            // Act & Assert
+            StepVerifier.create(directory.resolve(Set.of(REMOTE)))
+                    .assertNext(resolved -> assertEquals(Set.of(REMOTE), resolved.keySet()))
+                    .verifyComplete();
+
+            assertEquals(1, requests.size());
+        }
+    }
+}
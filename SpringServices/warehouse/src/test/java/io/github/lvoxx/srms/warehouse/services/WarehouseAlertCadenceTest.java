@@ -0,0 +1,142 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import io.github.lvoxx.srms.warehouse.services.WarehouseAlertProducerService.ReconciliationSummary;
+
+@DisplayName("Warehouse Alert Cadence Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock")
+})
+public class WarehouseAlertCadenceTest {
+
+    private static final ReconciliationSummary IDLE = new ReconciliationSummary(0, 3, 0);
+    private static final ReconciliationSummary NORMAL = new ReconciliationSummary(2, 3, 0);
+
+    private WarehouseAlertConfig alertConfig;
+    private WarehouseAlertCadence cadence;
+
+    @BeforeEach
+    void setUp() {
+        alertConfig = new WarehouseAlertConfig();
+        alertConfig.setCheckInterval(Duration.ofHours(1));
+        alertConfig.setMinCheckInterval(Duration.ofMinutes(10));
+        alertConfig.setMaxCheckInterval(Duration.ofHours(4));
+        alertConfig.setSlowPageLatency(Duration.ofMillis(500));
+        alertConfig.setMaxAlertsPerRun(100);
+        cadence = new WarehouseAlertCadence(alertConfig);
+    }
+
+    @Nested
+    @DisplayName("Interval Adaptation Tests")
+    class IntervalAdaptationTests {
+
+        @Test
+        @DisplayName("Should use the configured interval before any run")
+        void shouldStartAtCheckInterval() {
+            // Act & Assert
+            assertEquals(Duration.ofHours(1), cadence.nextInterval());
+        }
+
+        @Test
+        @DisplayName("Should tighten while idle down to the minimum interval")
+        void shouldTightenWhileIdle() {
+            // Act
+            cadence.recordRun(IDLE);
+            Duration once = cadence.nextInterval();
+            for (int i = 0; i < 10; i++) {
+                cadence.recordRun(IDLE);
+            }
+
+            // Assert
+            assertEquals(Duration.ofMinutes(30), once);
+            assertEquals(Duration.ofMinutes(10), cadence.nextInterval());
+        }
+
+        @Test
+        @DisplayName("Should back off after slow page queries up to the maximum interval")
+        void shouldBackOffOnSlowQueries() {
+            // Act
+            cadence.recordPageLatency(Duration.ofMillis(100));
+            cadence.recordPageLatency(Duration.ofSeconds(2));
+            cadence.recordRun(IDLE);
+            Duration once = cadence.nextInterval();
+            for (int i = 0; i < 10; i++) {
+                cadence.recordPageLatency(Duration.ofSeconds(2));
+                cadence.recordRun(IDLE);
+            }
+
+            // Assert
+            assertEquals(Duration.ofHours(2), once);
+            assertEquals(Duration.ofHours(4), cadence.nextInterval());
+        }
+
+        @Test
+        @DisplayName("Should back off after failed sends or a saturated run")
+        void shouldBackOffOnFailuresAndVolume() {
+            // Act
+            cadence.recordRun(new ReconciliationSummary(5, 0, 1));
+            Duration afterFailure = cadence.nextInterval();
+            cadence.recordRun(new ReconciliationSummary(100, 0, 0));
+
+            // Assert
+            assertEquals(Duration.ofHours(2), afterFailure);
+            assertEquals(Duration.ofHours(4), cadence.nextInterval());
+        }
+
+        @Test
+        @DisplayName("Should only consider the page latency of the last run")
+        void shouldResetPageLatencyAfterRun() {
+            // Arrange
+            cadence.recordPageLatency(Duration.ofSeconds(2));
+            cadence.recordRun(NORMAL);
+
+            // Act
+            cadence.recordPageLatency(Duration.ofMillis(100));
+            cadence.recordRun(NORMAL);
+
+            // Assert
+            assertEquals(Duration.ofHours(1), cadence.nextInterval());
+        }
+
+        @Test
+        @DisplayName("Should return to the configured interval after normal runs")
+        void shouldReturnToCheckInterval() {
+            // Arrange
+            cadence.recordRun(IDLE);
+            cadence.recordRun(IDLE);
+
+            // Act
+            cadence.recordRun(NORMAL);
+            Duration once = cadence.nextInterval();
+            cadence.recordRun(NORMAL);
+
+            // Assert
+            assertEquals(Duration.ofMinutes(30), once);
+            assertEquals(Duration.ofHours(1), cadence.nextInterval());
+        }
+
+        @Test
+        @DisplayName("Should scale an interval changed at runtime")
+        void shouldFollowCheckIntervalChanges() {
+            // Arrange
+            cadence.recordRun(IDLE);
+
+            // Act
+            alertConfig.setCheckInterval(Duration.ofHours(2));
+
+            // Assert
+            assertEquals(Duration.ofHours(1), cadence.nextInterval());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.github.lvoxx.srms.kafka.config.KafkaConfig;
+import io.github.lvoxx.srms.kafka.config.KafkaConsumerConfig;
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.AlertLevel;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertDigestConsumerConfig;
+import io.github.lvoxx.srms.warehouse.config.WarehouseDigestConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Kafka test for WarehouseAlertDigestService.
+ * Tests that alerts partitioned by contactor on the alert topic are consumed
+ * and published as one digest per contactor, with embedded Kafka.
+ */
+@SpringBootTest(classes = {
+        WarehouseAlertDigestService.class,
+        WarehouseDigestConfig.class,
+        WarehouseAlertDigestConsumerConfig.class,
+        KafkaConfig.class,
+        KafkaConsumerConfig.class,
+        ConfigurationPropertiesAutoConfiguration.class,
+        SimpleMeterRegistry.class
+})
+@EmbeddedKafka(partitions = 4, topics = { Topics.WAREHOUSE_ALERTS, Topics.WAREHOUSE_ALERT_DIGESTS })
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.properties.schema.registry.url=mock://test-registry",
+        "spring.kafka.consumer.properties.fetch.max.wait.ms=100",
+        "srms.kafka.consumer.commit-interval-ms=100",
+        "warehouse.digest.window=PT3S"
+})
+@ActiveProfiles("kafka")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("WarehouseAlertDigestService Kafka Tests")
+class WarehouseAlertDigestKafkaTest {
+
+    private static final UUID SUPPLIER_A = UUID.randomUUID();
+    private static final UUID SUPPLIER_B = UUID.randomUUID();
+
+    @Autowired
+    private KafkaTemplate<String, WarehouseAlertMessage> kafkaTemplate;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @MockitoBean
+    private ContactorDirectory contactorDirectory;
+
+    private KafkaMessageListenerContainer<String, WarehouseAlertDigest> container;
+    private BlockingQueue<ConsumerRecord<String, WarehouseAlertDigest>> digests;
+
+    @BeforeEach
+    void setUp() {
+        digests = new LinkedBlockingQueue<>();
+        when(contactorDirectory.resolve(anySet())).thenReturn(Mono.just(Map.of()));
+
+        Map<String, Object> consumerProps = new HashMap<>(
+                KafkaTestUtils.consumerProps("digest-test-group", "true", embeddedKafka));
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, KafkaAvroDeserializer.class);
+        consumerProps.put(KafkaAvroDeserializerConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://test-registry");
+        consumerProps.put(KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        container = new KafkaMessageListenerContainer<>(new DefaultKafkaConsumerFactory<>(consumerProps),
+                new ContainerProperties(Topics.WAREHOUSE_ALERT_DIGESTS));
+        container.setupMessageListener(
+                (MessageListener<String, WarehouseAlertDigest>) record -> digests.add(record));
+        container.start();
+        ContainerTestUtils.waitForAssignment(container, embeddedKafka.getPartitionsPerTopic());
+    }
+
+    @AfterEach
+    void tearDown() {
+        container.stop();
+    }
+
+    private int publish(UUID contactorId, String productId) throws Exception {
+        WarehouseAlertMessage alert = WarehouseAlertMessage.newBuilder()
+                .setMessageId(UUID.randomUUID().toString())
+                .setProductId(productId)
+                .setProductName("Product " + productId)
+                .setCurrentQuantity(0)
+                .setThreshold(10)
+                .setLevel(AlertLevel.CRITICAL)
+                .setMessage("alert")
+                .setTimestamp(System.currentTimeMillis())
+                .setContactorId(contactorId.toString())
+                .build();
+        return kafkaTemplate.send(Topics.WAREHOUSE_ALERTS, productId, alert)
+                .get(10, TimeUnit.SECONDS)
+                .getRecordMetadata()
+                .partition();
+    }
+
+    @Test
+    @DisplayName("Should digest the alerts of a contactor from one partition into one message")
+    void shouldDigestAlertsPerContactor() throws Exception {
+        // Given
+        Set<Integer> partitionsOfA = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            partitionsOfA.add(publish(SUPPLIER_A, UUID.randomUUID().toString()));
+        }
+        publish(SUPPLIER_B, UUID.randomUUID().toString());
+
+        // When
+        Map<String, WarehouseAlertDigest> byContactor = new HashMap<>();
+        await().atMost(Duration.ofSeconds(30)).until(() -> {
+            ConsumerRecord<String, WarehouseAlertDigest> record = digests.poll(100, TimeUnit.MILLISECONDS);
+            if (record != null) {
+                byContactor.merge(record.key(), record.value(), (first, second) -> {
+                    throw new AssertionError("Contactor " + record.key() + " was digested twice");
+                });
+            }
+            return byContactor.size() == 2;
+        });
+
+        // Then
+        assertThat(partitionsOfA).hasSize(1);
+        assertThat(byContactor.get(SUPPLIER_A.toString()).getItems()).hasSize(5);
+        assertThat(byContactor.get(SUPPLIER_B.toString()).getItems()).hasSize(1);
+    }
+}
@@ -0,0 +1,296 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.AlertLevel;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertDigest;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
+import io.github.lvoxx.srms.warehouse.config.WarehouseDigestConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Alert Digest Service Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseAlertDigestServiceTest {
+
+    private static final UUID SUPPLIER_A = UUID.randomUUID();
+    private static final UUID SUPPLIER_B = UUID.randomUUID();
+
+    @Mock
+    private ContactorDirectory contactorDirectory;
+
+    @Mock
+    private KafkaTemplate<String, WarehouseAlertDigest> kafkaTemplate;
+
+    private WarehouseDigestConfig digestConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private WarehouseAlertDigestService digestService;
+    private List<ProducerRecord<String, WarehouseAlertDigest>> sent;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        digestConfig = new WarehouseDigestConfig();
+        digestConfig.setWindow(Duration.ofMinutes(5));
+        digestConfig.setMaxAlertsPerWindow(100);
+        meterRegistry = new SimpleMeterRegistry();
+        digestService = new WarehouseAlertDigestService(contactorDirectory, kafkaTemplate, digestConfig,
+                meterRegistry);
+
+        sent = new ArrayList<>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(null);
+        });
+        when(contactorDirectory.resolve(anySet())).thenReturn(Mono.just(Map.of(
+                SUPPLIER_A, new ContactorDirectory.Contact(SUPPLIER_A, "Fresh Farm", null,
+                        "sales@freshfarm.test", "0901234567"))));
+    }
+
+    private static WarehouseAlertMessage alert(UUID contactorId, String productId, int quantity, AlertLevel level) {
+        return WarehouseAlertMessage.newBuilder()
+                .setMessageId(UUID.randomUUID().toString())
+                .setProductId(productId)
+                .setProductName("Product " + productId)
+                .setCurrentQuantity(quantity)
+                .setThreshold(10)
+                .setLevel(level)
+                .setMessage("alert")
+                .setTimestamp(System.currentTimeMillis())
+                .setContactorId(contactorId != null ? contactorId.toString() : null)
+                .build();
+    }
+
+    private WarehouseAlertDigest digestOf(UUID contactorId) {
+        return sent.stream()
+                .filter(record -> record.key().equals(contactorId.toString()))
+                .map(ProducerRecord::value)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("Windowing Tests")
+    class WindowingTests {
+
+        @Test
+        @DisplayName("Should publish one digest per contactor and window")
+        void shouldPublishOneDigestPerContactor() {
+            // Arrange
+            Sinks.Many<WarehouseAlertMessage> alerts = Sinks.many().unicast().onBackpressureBuffer();
+
+            // Act & Assert
+            StepVerifier.withVirtualTime(() -> digestService.digest(alerts.asFlux()))
+                    .then(() -> {
+                        alerts.tryEmitNext(alert(SUPPLIER_A, "p1", 5, AlertLevel.WARNING));
+                        alerts.tryEmitNext(alert(SUPPLIER_A, "p2", 0, AlertLevel.CRITICAL));
+                        alerts.tryEmitNext(alert(SUPPLIER_B, "p3", 3, AlertLevel.WARNING));
+                    })
+                    .thenAwait(Duration.ofMinutes(5))
+                    .expectNext(2L)
+                    .then(alerts::tryEmitComplete)
+                    .verifyComplete();
+
+            assertEquals(2, sent.size());
+            WarehouseAlertDigest digest = digestOf(SUPPLIER_A);
+            assertEquals(Topics.WAREHOUSE_ALERT_DIGESTS, sent.get(0).topic());
+            assertEquals(2, digest.getItems().size());
+            assertEquals("Fresh Farm", digest.getContactorName());
+            assertEquals("sales@freshfarm.test", digest.getEmail());
+            assertEquals(1, digestOf(SUPPLIER_B).getItems().size());
+            verify(contactorDirectory, times(1)).resolve(Set.of(SUPPLIER_A, SUPPLIER_B));
+        }
+
+        @Test
+        @DisplayName("Should keep only the latest alert of a product within a window")
+        void shouldKeepLatestAlertPerProduct() {
+            // Arrange
+            Sinks.Many<WarehouseAlertMessage> alerts = Sinks.many().unicast().onBackpressureBuffer();
+
+            // Act & Assert
+            StepVerifier.withVirtualTime(() -> digestService.digest(alerts.asFlux()))
+                    .then(() -> {
+                        alerts.tryEmitNext(alert(SUPPLIER_A, "p1", 5, AlertLevel.WARNING));
+                        alerts.tryEmitNext(alert(SUPPLIER_A, "p1", 0, AlertLevel.CRITICAL));
+                    })
+                    .thenAwait(Duration.ofMinutes(5))
+                    .expectNext(1L)
+                    .then(alerts::tryEmitComplete)
+                    .verifyComplete();
+
+            WarehouseAlertDigest digest = digestOf(SUPPLIER_A);
+            assertEquals(1, digest.getItems().size());
+            assertEquals("CRITICAL", digest.getItems().get(0).getLevel());
+            assertEquals(0, digest.getItems().get(0).getCurrentQuantity());
+        }
+
+        @Test
+        @DisplayName("Should send digests without contact details when unresolved")
+        void shouldSendUnresolvedDigest() {
+            // Arrange
+            Sinks.Many<WarehouseAlertMessage> alerts = Sinks.many().unicast().onBackpressureBuffer();
+
+            // Act & Assert
+            StepVerifier.withVirtualTime(() -> digestService.digest(alerts.asFlux()))
+                    .then(() -> alerts.tryEmitNext(alert(SUPPLIER_B, "p3", 3, AlertLevel.WARNING)))
+                    .thenAwait(Duration.ofMinutes(5))
+                    .expectNext(1L)
+                    .then(alerts::tryEmitComplete)
+                    .verifyComplete();
+
+            WarehouseAlertDigest digest = digestOf(SUPPLIER_B);
+            assertNull(digest.getContactorName());
+            assertNull(digest.getEmail());
+        }
+
+        @Test
+        @DisplayName("Should publish a full window early")
+        void shouldPublishFullWindowEarly() {
+            // Arrange
+            digestConfig.setMaxAlertsPerWindow(2);
+            Sinks.Many<WarehouseAlertMessage> alerts = Sinks.many().unicast().onBackpressureBuffer();
+
+            // Act & Assert
+            StepVerifier.withVirtualTime(() -> digestService.digest(alerts.asFlux()))
+                    .then(() -> {
+                        alerts.tryEmitNext(alert(SUPPLIER_A, "p1", 5, AlertLevel.WARNING));
+                        alerts.tryEmitNext(alert(SUPPLIER_A, "p2", 5, AlertLevel.WARNING));
+                    })
+                    .expectNext(1L)
+                    .then(alerts::tryEmitComplete)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should drop a window that cannot be sent and keep digesting")
+        @SuppressWarnings("unchecked")
+        void shouldSurviveSendFailure() {
+            // Arrange
+            when(kafkaTemplate.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka down")))
+                    .thenAnswer(invocation -> {
+                        sent.add(invocation.getArgument(0));
+                        return CompletableFuture.completedFuture(null);
+                    });
+            Sinks.Many<WarehouseAlertMessage> alerts = Sinks.many().unicast().onBackpressureBuffer();
+
+            // Act & Assert
+            StepVerifier.withVirtualTime(() -> digestService.digest(alerts.asFlux()))
+                    .then(() -> alerts.tryEmitNext(alert(SUPPLIER_A, "p1", 5, AlertLevel.WARNING)))
+                    .thenAwait(Duration.ofMinutes(5))
+                    .expectNext(0L)
+                    .then(() -> alerts.tryEmitNext(alert(SUPPLIER_A, "p2", 5, AlertLevel.WARNING)))
+                    .thenAwait(Duration.ofMinutes(5))
+                    .expectNext(1L)
+                    .then(alerts::tryEmitComplete)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Offer Tests")
+    class OfferTests {
+
+        @Test
+        @DisplayName("Should publish the pending window when stopped")
+        void shouldFlushOnStop() {
+            // Arrange
+            digestService.start();
+
+            // Act
+            digestService.offer(alert(SUPPLIER_A, "p1", 5, AlertLevel.WARNING));
+            digestService.stop();
+
+            // Assert
+            await().atMost(Duration.ofSeconds(5)).until(() -> sent.size() == 1);
+            assertEquals(SUPPLIER_A.toString(), sent.get(0).key());
+        }
+
+        @Test
+        @DisplayName("Should collect alerts consumed from the alert topic")
+        void shouldCollectConsumedAlerts() {
+            // Arrange
+            digestService.start();
+            ConsumerRecord<String, WarehouseAlertMessage> record = new ConsumerRecord<>(Topics.WAREHOUSE_ALERTS,
+                    0, 0L, "p1", alert(SUPPLIER_A, "p1", 5, AlertLevel.WARNING));
+
+            // Act
+            StepVerifier.create(digestService.collect(record)).verifyComplete();
+            digestService.stop();
+
+            // Assert
+            await().atMost(Duration.ofSeconds(5)).until(() -> sent.size() == 1);
+            assertEquals(SUPPLIER_A.toString(), sent.get(0).key());
+        }
+
+        @Test
+        @DisplayName("Should drop and count alerts beyond the buffer")
+        void shouldDropAlertsBeyondBuffer() {
+            // Arrange - not started, so nothing drains the buffer
+            digestConfig.setBufferSize(8);
+            digestService = new WarehouseAlertDigestService(contactorDirectory, kafkaTemplate, digestConfig,
+                    meterRegistry);
+
+            // Act
+            for (int i = 0; i < 10; i++) {
+                digestService.offer(alert(SUPPLIER_A, "p" + i, 5, AlertLevel.WARNING));
+            }
+
+            // Assert
+            assertEquals(2.0, meterRegistry.counter(WarehouseAlertDigestService.DROPPED_METER).count());
+        }
+
+        @Test
+        @DisplayName("Should ignore alerts of products without contactor")
+        void shouldIgnoreAlertsWithoutContactor() {
+            // Arrange
+            digestService.start();
+
+            // Act
+            digestService.offer(alert(null, "p1", 5, AlertLevel.WARNING));
+            digestService.stop();
+
+            // Assert
+            verify(contactorDirectory, never()).resolve(anySet());
+            assertEquals(0, sent.size());
+        }
+    }
+}
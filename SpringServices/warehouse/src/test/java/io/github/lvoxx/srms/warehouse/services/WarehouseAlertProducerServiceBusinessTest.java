@@ -1,13 +1,19 @@
 package io.github.lvoxx.srms.warehouse.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -15,11 +21,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +49,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import io.confluent.kafka.serializers.KafkaAvroDeserializer;
 import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
@@ -49,8 +58,13 @@ import io.github.lvoxx.srms.kafka.warehouse.AlertLevel;
 import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
 import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
 import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
+import io.github.lvoxx.srms.warehouse.models.Warehouse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 /**
  * Business logic tests for WarehouseAlertProducerService.
@@ -60,6 +74,8 @@ import reactor.core.publisher.Mono;
 @SpringBootTest(classes = {
         WarehouseAlertProducerService.class,
         WarehouseAlertConfig.class,
+        WarehouseAlertCadence.class,
+        SimpleMeterRegistry.class,
         io.github.lvoxx.srms.kafka.config.KafkaConfig.class
 })
 @EmbeddedKafka(partitions = 1, topics = { Topics.WAREHOUSE_ALERTS }, brokerProperties = {
@@ -80,6 +96,11 @@ import reactor.core.publisher.Mono;
 @DisplayName("WarehouseAlertProducerService Business Tests")
 class WarehouseAlertProducerServiceBusinessTest {
 
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+    private static final UUID CONTACTOR_ID = UUID.randomUUID();
+    private static final WarehouseAlertStateStore.AlertState ALERTED = new WarehouseAlertStateStore.AlertState(
+            AlertLevel.WARNING, System.currentTimeMillis(), CONTACTOR_ID);
+
     @Autowired
     private WarehouseAlertProducerService producerService;
 
@@ -87,11 +108,20 @@ class WarehouseAlertProducerServiceBusinessTest {
     private WarehouseAlertConfig alertConfig;
 
     @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
     private KafkaTemplate<String, WarehouseAlertMessage> kafkaTemplate;
 
     @MockitoBean
     private WarehouseStatisticService statisticService;
 
+    @MockitoBean
+    private WarehouseAlertStateStore alertStateStore;
+
+    @MockitoBean
+    private WarehouseAlertShards alertShards;
+
     @Autowired
     private EmbeddedKafkaBroker embeddedKafka;
 
@@ -101,6 +131,17 @@ class WarehouseAlertProducerServiceBusinessTest {
     @BeforeEach
     void setUp() {
         records = new LinkedBlockingQueue<>();
+        // The test context does not bind warehouse.alert.* properties
+        alertConfig.setPageSize(5);
+        when(alertStateStore.markIfDue(any(), any(), any())).thenReturn(Mono.just(true));
+        when(alertStateStore.mark(any(), any(), any())).thenReturn(Mono.empty());
+        when(alertStateStore.resolve(any())).thenReturn(Mono.just(ALERTED));
+        when(alertStateStore.resolve(any(), any())).thenReturn(Mono.just(true));
+        when(alertStateStore.restore(any(), any())).thenReturn(Mono.empty());
+        when(alertStateStore.alertedProducts()).thenReturn(Flux.empty());
+        when(alertShards.currentShard()).thenReturn(Mono.just(WarehouseAlertShards.Shard.ALL));
+        when(alertStateStore.markUndelivered(any(), any(), any())).thenReturn(Mono.empty());
+        when(statisticService.getAlertsAfter(any(), any(), anyInt())).thenReturn(Flux.empty());
 
         Map<String, Object> consumerProps = new HashMap<>(
                 KafkaTestUtils.consumerProps("business-test-group", "true", embeddedKafka));
@@ -146,32 +187,11 @@ class WarehouseAlertProducerServiceBusinessTest {
         @DisplayName("Should publish all alerts when enabled")
         void shouldPublishAllAlertsWhenEnabled() throws Exception {
             // Given
-            List<WarehouseStatisticDTO.AlertItem> page1 = createAlertItems(5);
-            List<WarehouseStatisticDTO.AlertItem> page2 = createAlertItems(3);
-
-            // PAGE 1
-            when(statisticService.getAllWarehouseAlerts(eq(0), anyInt()))
-                    .thenReturn(Mono.just(createResponse(page1, 8, 0)));
+            stubPages(createAlertItems(5), createAlertItems(3));
 
             // When - manually call the method instead of waiting for scheduler
             producerService.publishWarehouseAlerts();
 
-            // Ensure all messages are flushed to Kafka
-            kafkaTemplate.flush();
-
-            // PAGE 2
-            when(statisticService.getAllWarehouseAlerts(eq(1), anyInt()))
-                    .thenReturn(Mono.just(createResponse(page2, 8, 1)));
-
-            // When - manually call the method instead of waiting for scheduler
-            producerService.publishWarehouseAlerts();
-
-            // Ensure all messages are flushed to Kafka
-            kafkaTemplate.flush();
-
-            // Give a small buffer for consumer to catch up
-            Thread.sleep(500);
-
             // Then - wait for all messages with proper timing
             List<ConsumerRecord<String, WarehouseAlertMessage>> receivedRecords = collectMessages(8, 30,
                     TimeUnit.SECONDS);
@@ -179,7 +199,31 @@ class WarehouseAlertProducerServiceBusinessTest {
             assertThat(receivedRecords)
                     .as("Should receive all 8 messages from 2 pages")
                     .hasSize(8);
-            verify(statisticService, times(2)).getAllWarehouseAlerts(anyInt(), anyInt());
+            verify(statisticService, times(2)).getAlertsAfter(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should suppress alerts already sent at the same level")
+        void shouldSuppressAlertsNotDue() throws Exception {
+            // Given
+            List<WarehouseStatisticDTO.AlertItem> alerts = createAlertItems(3);
+            stubPages(alerts);
+            when(alertStateStore.markIfDue(any(), any(), any()))
+                    .thenReturn(Mono.just(false))
+                    .thenReturn(Mono.just(true))
+                    .thenReturn(Mono.just(false));
+
+            // When
+            WarehouseAlertProducerService.ReconciliationSummary summary = producerService.reconcileAlerts()
+                    .block(Duration.ofSeconds(30));
+
+            // Then
+            assertThat(summary).isEqualTo(new WarehouseAlertProducerService.ReconciliationSummary(1, 2, 0));
+            ConsumerRecord<String, WarehouseAlertMessage> record = records.poll(10, TimeUnit.SECONDS);
+
+            assertThat(record).isNotNull();
+            assertThat(record.key()).isEqualTo(alerts.get(1).getId().toString());
+            assertThat(records.poll(3, TimeUnit.SECONDS)).isNull();
         }
 
         @Test
@@ -187,15 +231,13 @@ class WarehouseAlertProducerServiceBusinessTest {
         void shouldNotPublishWhenDisabled() throws Exception {
             // Given - disable via config property
             alertConfig.setEnabled(false);
-
-            when(statisticService.getAllWarehouseAlerts(anyInt(), anyInt()))
-                    .thenReturn(Mono.just(createResponse(createAlertItems(5), 5, 0)));
+            stubPages(createAlertItems(5));
 
             // When
             producerService.publishWarehouseAlerts();
 
             // Then - should not call service at all
-            verify(statisticService, never()).getAllWarehouseAlerts(anyInt(), anyInt());
+            verify(statisticService, never()).getAlertsAfter(any(), any(), anyInt());
 
             // Wait a bit to ensure no messages
             Thread.sleep(1000);
@@ -209,14 +251,15 @@ class WarehouseAlertProducerServiceBusinessTest {
         @DisplayName("Should handle empty alerts gracefully")
         void shouldHandleEmptyAlertsGracefully() throws Exception {
             // Given
-            when(statisticService.getAllWarehouseAlerts(eq(0), anyInt()))
-                    .thenReturn(Mono.just(createResponse(List.of(), 0, 0)));
+            stubPages(List.of());
 
             // When
-            producerService.publishWarehouseAlerts();
+            WarehouseAlertProducerService.ReconciliationSummary summary = producerService.reconcileAlerts()
+                    .block(Duration.ofSeconds(10));
 
             // Then
-            verify(statisticService, times(1)).getAllWarehouseAlerts(eq(0), anyInt());
+            assertThat(summary.total()).isZero();
+            verify(statisticService, times(1)).getAlertsAfter(isNull(), any(), anyInt());
 
             // Wait a bit to ensure no messages
             Thread.sleep(1000);
@@ -224,21 +267,24 @@ class WarehouseAlertProducerServiceBusinessTest {
         }
 
         @Test
-        @DisplayName("Should handle null response gracefully")
-        void shouldHandleNullResponseGracefully() throws Exception {
+        @DisplayName("Should record the run outcome in metrics")
+        void shouldRecordRunMetrics() {
             // Given
-            when(statisticService.getAllWarehouseAlerts(eq(0), anyInt()))
-                    .thenReturn(Mono.empty());
+            stubPages(createAlertItems(2));
+            when(alertStateStore.markIfDue(any(), any(), any()))
+                    .thenReturn(Mono.just(true))
+                    .thenReturn(Mono.just(false));
 
             // When
-            producerService.publishWarehouseAlerts();
+            producerService.reconcileAlerts().block(Duration.ofSeconds(30));
 
             // Then
-            verify(statisticService, times(1)).getAllWarehouseAlerts(eq(0), anyInt());
-
-            // Wait a bit to ensure no messages
-            Thread.sleep(1000);
-            assertThat(records).isEmpty();
+            assertThat(meterRegistry.counter("warehouse.alert.run.alerts", "outcome", "sent").count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.counter("warehouse.alert.run.alerts", "outcome", "suppressed").count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.timer("warehouse.alert.run.duration", "result", "success").count())
+                    .isEqualTo(1);
         }
     }
 
@@ -255,41 +301,20 @@ class WarehouseAlertProducerServiceBusinessTest {
         }
 
         @Test
-        @DisplayName("Should fetch multiple pages correctly")
+        @DisplayName("Should fetch multiple pages after the last id of each page")
         void shouldFetchMultiplePagesCorrectly() throws Exception {
             // Given - 3 pages of alerts
             List<WarehouseStatisticDTO.AlertItem> page1 = createAlertItems(5);
             List<WarehouseStatisticDTO.AlertItem> page2 = createAlertItems(5);
             List<WarehouseStatisticDTO.AlertItem> page3 = createAlertItems(2);
+            stubPages(page1, page2, page3);
 
-            // When --- PAGE 1
-            when(statisticService.getAllWarehouseAlerts(eq(0), anyInt()))
-                    .thenReturn(Mono.just(createResponse(page1, 12, 0)));
-            producerService.publishWarehouseAlerts();
-
-            // Ensure all messages are flushed
-            kafkaTemplate.flush();
-            Thread.sleep(500);
-
-            // When --- PAGE 2
-            when(statisticService.getAllWarehouseAlerts(eq(1), anyInt()))
-                    .thenReturn(Mono.just(createResponse(page2, 12, 1)));
-            producerService.publishWarehouseAlerts();
-
-            // Ensure all messages are flushed
-            kafkaTemplate.flush();
-            Thread.sleep(500);
-
-            // When --- PAGE 3
-            when(statisticService.getAllWarehouseAlerts(eq(2), anyInt()))
-                    .thenReturn(Mono.just(createResponse(page3, 12, 2)));
-            producerService.publishWarehouseAlerts();
-
-            // Ensure all messages are flushed
-            kafkaTemplate.flush();
-            Thread.sleep(500);
+            // When
+            WarehouseAlertProducerService.ReconciliationSummary summary = producerService.reconcileAlerts()
+                    .block(Duration.ofSeconds(40));
 
-            // Then - collect all messages with extended timeout
+            // Then
+            assertThat(summary.sent()).isEqualTo(12);
             List<ConsumerRecord<String, WarehouseAlertMessage>> receivedRecords = collectMessages(12, 40,
                     TimeUnit.SECONDS);
 
@@ -297,60 +322,43 @@ class WarehouseAlertProducerServiceBusinessTest {
                     .as("Should receive all 12 messages across 3 pages")
                     .hasSize(12);
 
-            verify(statisticService, times(3)).getAllWarehouseAlerts(anyInt(), anyInt());
+            verify(statisticService).getAlertsAfter(isNull(), eq(WarehouseAlertShards.Shard.ALL), eq(5));
+            verify(statisticService).getAlertsAfter(page1.get(4).getId(), WarehouseAlertShards.Shard.ALL, 5);
+            verify(statisticService).getAlertsAfter(page2.get(4).getId(), WarehouseAlertShards.Shard.ALL, 5);
         }
 
         @Test
-        @DisplayName("Should stop at exact page boundary")
+        @DisplayName("Should stop after an empty page at exact page boundary")
         void shouldStopAtExactPageBoundary() throws Exception {
             // Given - exactly 2 pages
             List<WarehouseStatisticDTO.AlertItem> page1 = createAlertItems(5);
             List<WarehouseStatisticDTO.AlertItem> page2 = createAlertItems(5);
+            stubPages(page1, page2);
 
-            // When --- PAGE 1
-            when(statisticService.getAllWarehouseAlerts(eq(0), anyInt()))
-                    .thenReturn(Mono.just(createResponse(page1, 10, 0)));
-            producerService.publishWarehouseAlerts();
-
-            // Ensure all messages are flushed
-            kafkaTemplate.flush();
-            Thread.sleep(500);
-
-            // When --- PAGE 2
-            when(statisticService.getAllWarehouseAlerts(eq(1), anyInt()))
-                    .thenReturn(Mono.just(createResponse(page2, 10, 1)));
-            producerService.publishWarehouseAlerts();
-
-            // Ensure all messages are flushed
-            kafkaTemplate.flush();
-            Thread.sleep(500);
+            // When
+            WarehouseAlertProducerService.ReconciliationSummary summary = producerService.reconcileAlerts()
+                    .block(Duration.ofSeconds(30));
 
             // Then
+            assertThat(summary.sent()).isEqualTo(10);
             List<ConsumerRecord<String, WarehouseAlertMessage>> receivedRecords = collectMessages(10, 30,
                     TimeUnit.SECONDS);
 
             assertThat(receivedRecords)
                     .as("Should receive all 10 messages across 2 pages")
                     .hasSize(10);
-            verify(statisticService, times(2)).getAllWarehouseAlerts(anyInt(), anyInt());
+            verify(statisticService, times(3)).getAlertsAfter(any(), any(), anyInt());
         }
 
         @Test
         @DisplayName("Should handle single page correctly")
         void shouldHandleSinglePageCorrectly() throws Exception {
             // Given
-            List<WarehouseStatisticDTO.AlertItem> page1 = createAlertItems(3);
-
-            when(statisticService.getAllWarehouseAlerts(eq(0), anyInt()))
-                    .thenReturn(Mono.just(createResponse(page1, 3, 0)));
+            stubPages(createAlertItems(3));
 
             // When
             producerService.publishWarehouseAlerts();
 
-            // Ensure all messages are flushed
-            kafkaTemplate.flush();
-            Thread.sleep(500);
-
             // Then
             List<ConsumerRecord<String, WarehouseAlertMessage>> receivedRecords = collectMessages(3, 15,
                     TimeUnit.SECONDS);
@@ -358,7 +366,37 @@ class WarehouseAlertProducerServiceBusinessTest {
             assertThat(receivedRecords)
                     .as("Should receive all 3 messages from single page")
                     .hasSize(3);
-            verify(statisticService, times(1)).getAllWarehouseAlerts(eq(0), anyInt());
+            verify(statisticService, times(1)).getAlertsAfter(isNull(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should only scan the products of this instance's shard")
+        void shouldScanOwnShardOnly() {
+            // Given - second of two live instances
+            WarehouseAlertShards.Shard shard = WarehouseAlertShards.Shard.of(1, 2);
+            when(alertShards.currentShard()).thenReturn(Mono.just(shard));
+            stubPages(createAlertItems(2));
+
+            // When
+            producerService.reconcileAlerts().block(Duration.ofSeconds(30));
+
+            // Then
+            verify(statisticService).getAlertsAfter(isNull(), eq(shard), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should stop at the maximum number of alerts per run")
+        void shouldStopAtMaxAlertsPerRun() throws Exception {
+            // Given
+            alertConfig.setMaxAlertsPerRun(7);
+            stubPages(createAlertItems(5), createAlertItems(5), createAlertItems(5));
+
+            // When
+            WarehouseAlertProducerService.ReconciliationSummary summary = producerService.reconcileAlerts()
+                    .block(Duration.ofSeconds(30));
+
+            // Then
+            assertThat(summary.total()).isEqualTo(7);
         }
     }
 
@@ -374,8 +412,7 @@ class WarehouseAlertProducerServiceBusinessTest {
             // Given
             WarehouseStatisticDTO.AlertItem criticalAlert = createAlertWithSeverity("CRITICAL", 0, 10);
 
-            when(statisticService.getAllWarehouseAlerts(anyInt(), anyInt()))
-                    .thenReturn(Mono.just(createResponse(List.of(criticalAlert), 1, 0)));
+            stubPages(List.of(criticalAlert));
 
             // When
             producerService.publishWarehouseAlerts();
@@ -394,8 +431,7 @@ class WarehouseAlertProducerServiceBusinessTest {
             // Given
             WarehouseStatisticDTO.AlertItem warningAlert = createAlertWithSeverity("WARNING", 5, 10);
 
-            when(statisticService.getAllWarehouseAlerts(anyInt(), anyInt()))
-                    .thenReturn(Mono.just(createResponse(List.of(warningAlert), 1, 0)));
+            stubPages(List.of(warningAlert));
 
             // When
             producerService.publishWarehouseAlerts();
@@ -414,8 +450,7 @@ class WarehouseAlertProducerServiceBusinessTest {
             // Given
             WarehouseStatisticDTO.AlertItem unknownAlert = createAlertWithSeverity("UNKNOWN", 3, 10);
 
-            when(statisticService.getAllWarehouseAlerts(anyInt(), anyInt()))
-                    .thenReturn(Mono.just(createResponse(List.of(unknownAlert), 1, 0)));
+            stubPages(List.of(unknownAlert));
 
             // When
             producerService.publishWarehouseAlerts();
@@ -440,37 +475,53 @@ class WarehouseAlertProducerServiceBusinessTest {
         void shouldContinueAfterIndividualFailure() throws Exception {
             // Given
             List<WarehouseStatisticDTO.AlertItem> alerts = createAlertItems(5);
-
-            when(statisticService.getAllWarehouseAlerts(anyInt(), anyInt()))
-                    .thenReturn(Mono.just(createResponse(alerts, 5, 0)));
+            stubPages(alerts);
 
             // When
             producerService.publishWarehouseAlerts();
 
             // Then - should still process all alerts
-            verify(statisticService).getAllWarehouseAlerts(anyInt(), anyInt());
-
-            // Should receive at least some messages (may not be all if one fails)
-            Thread.sleep(2000);
-            assertThat(records.size()).isGreaterThanOrEqualTo(1);
+            List<ConsumerRecord<String, WarehouseAlertMessage>> receivedRecords = collectMessages(5, 15,
+                    TimeUnit.SECONDS);
+            assertThat(receivedRecords.size()).isGreaterThanOrEqualTo(1);
+            verify(statisticService).getAlertsAfter(isNull(), any(), anyInt());
         }
 
         @Test
         @DisplayName("Should handle service error gracefully")
         void shouldHandleServiceErrorGracefully() throws Exception {
             // Given
-            when(statisticService.getAllWarehouseAlerts(anyInt(), anyInt()))
-                    .thenReturn(Mono.error(new RuntimeException("Service unavailable")));
+            when(statisticService.getAlertsAfter(any(), any(), anyInt()))
+                    .thenReturn(Flux.error(new RuntimeException("Service unavailable")));
 
             // When
             producerService.publishWarehouseAlerts();
 
             // Then - should not crash
-            verify(statisticService, times(1)).getAllWarehouseAlerts(eq(0), anyInt());
+            verify(statisticService, times(1)).getAlertsAfter(isNull(), any(), anyInt());
 
             // Wait a bit
             Thread.sleep(1000);
             assertThat(records).isEmpty();
+            assertThat(meterRegistry.timer("warehouse.alert.run.duration", "result", "error").count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should skip a run while the previous one is still in progress")
+        void shouldSkipOverlappingRun() throws Exception {
+            // Given
+            Sinks.One<WarehouseStatisticDTO.AlertItem> slowPage = Sinks.one();
+            when(statisticService.getAlertsAfter(any(), any(), anyInt()))
+                    .thenReturn(slowPage.asMono().flux());
+
+            // When
+            producerService.publishWarehouseAlerts();
+            producerService.publishWarehouseAlerts();
+            slowPage.tryEmitEmpty();
+
+            // Then
+            verify(statisticService, times(1)).getAlertsAfter(any(), any(), anyInt());
         }
     }
 
@@ -486,8 +537,7 @@ class WarehouseAlertProducerServiceBusinessTest {
             // Given
             WarehouseStatisticDTO.AlertItem alert = createAlertWithSeverity("WARNING", 3, 10);
 
-            when(statisticService.getAllWarehouseAlerts(anyInt(), anyInt()))
-                    .thenReturn(Mono.just(createResponse(List.of(alert), 1, 0)));
+            stubPages(List.of(alert));
 
             // When
             producerService.publishWarehouseAlerts();
@@ -506,8 +556,7 @@ class WarehouseAlertProducerServiceBusinessTest {
             // Given
             WarehouseStatisticDTO.AlertItem alert = createAlertWithSeverity("CRITICAL", 0, 10);
 
-            when(statisticService.getAllWarehouseAlerts(anyInt(), anyInt()))
-                    .thenReturn(Mono.just(createResponse(List.of(alert), 1, 0)));
+            stubPages(List.of(alert));
 
             // When
             producerService.publishWarehouseAlerts();
@@ -526,8 +575,7 @@ class WarehouseAlertProducerServiceBusinessTest {
             // Given
             WarehouseStatisticDTO.AlertItem alert = createAlertItems(1).get(0);
 
-            when(statisticService.getAllWarehouseAlerts(anyInt(), anyInt()))
-                    .thenReturn(Mono.just(createResponse(List.of(alert), 1, 0)));
+            stubPages(List.of(alert));
 
             // When
             producerService.publishWarehouseAlerts();
@@ -541,6 +589,244 @@ class WarehouseAlertProducerServiceBusinessTest {
         }
     }
 
+    // ==================== THRESHOLD CROSSING TESTS ====================
+
+    @Nested
+    @DisplayName("Threshold Crossing")
+    class ThresholdCrossingTests {
+
+        private Warehouse warehouse(int quantity, int minQuantity) {
+            return Warehouse.builder()
+                    .id(PRODUCT_ID)
+                    .productName("Crossing Product")
+                    .quantity(quantity)
+                    .minQuantity(minQuantity)
+                    .updatedAt(OffsetDateTime.now())
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should publish WARNING when stock drops below minimum")
+        void shouldPublishWhenDroppingBelowMinimum() throws Exception {
+            // When
+            producerService.publishOnThresholdCrossing(warehouse(60, 50), warehouse(40, 50)).block();
+
+            // Then
+            ConsumerRecord<String, WarehouseAlertMessage> record = records.poll(10, TimeUnit.SECONDS);
+
+            assertThat(record).isNotNull();
+            assertThat(record.key()).isEqualTo(PRODUCT_ID.toString());
+            assertThat(record.value().getLevel()).isEqualTo(AlertLevel.WARNING);
+            assertThat(record.value().getCurrentQuantity()).isEqualTo(40);
+        }
+
+        @Test
+        @DisplayName("Should publish CRITICAL when a below-minimum product runs out")
+        void shouldPublishWhenRunningOut() throws Exception {
+            // When
+            producerService.publishOnThresholdCrossing(warehouse(10, 50), warehouse(0, 50)).block();
+
+            // Then
+            ConsumerRecord<String, WarehouseAlertMessage> record = records.poll(10, TimeUnit.SECONDS);
+
+            assertThat(record).isNotNull();
+            assertThat(record.value().getLevel()).isEqualTo(AlertLevel.CRITICAL);
+        }
+
+        @Test
+        @DisplayName("Should publish when a raised minimum moves stock below it")
+        void shouldPublishWhenMinimumRaised() throws Exception {
+            // When
+            producerService.publishOnThresholdCrossing(warehouse(40, 30), warehouse(40, 50)).block();
+
+            // Then
+            ConsumerRecord<String, WarehouseAlertMessage> record = records.poll(10, TimeUnit.SECONDS);
+
+            assertThat(record).isNotNull();
+            assertThat(record.value().getThreshold()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("Should not publish when the alert state is unchanged")
+        void shouldNotPublishWithoutCrossing() throws Exception {
+            // When
+            producerService.publishOnThresholdCrossing(warehouse(40, 50), warehouse(30, 50)).block();
+            producerService.publishOnThresholdCrossing(warehouse(80, 50), warehouse(70, 50)).block();
+
+            // Then
+            assertThat(records.poll(3, TimeUnit.SECONDS)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should record the level of a crossing before publishing")
+        void shouldRecordCrossingLevel() throws Exception {
+            // When
+            producerService.publishOnThresholdCrossing(warehouse(60, 50), warehouse(0, 50)).block();
+
+            // Then
+            assertThat(records.poll(10, TimeUnit.SECONDS)).isNotNull();
+            verify(alertStateStore).mark(PRODUCT_ID, AlertLevel.CRITICAL, null);
+        }
+
+        @Test
+        @DisplayName("Should publish RESOLVED when an alerted product recovers")
+        void shouldPublishResolution() throws Exception {
+            // When
+            producerService.publishOnThresholdCrossing(warehouse(40, 50), warehouse(90, 50)).block();
+
+            // Then
+            ConsumerRecord<String, WarehouseAlertMessage> record = records.poll(10, TimeUnit.SECONDS);
+
+            assertThat(record).isNotNull();
+            assertThat(record.value().getLevel()).isEqualTo(AlertLevel.RESOLVED);
+            verify(alertStateStore).resolve(PRODUCT_ID);
+        }
+
+        @Test
+        @DisplayName("Should not publish RESOLVED for a product never alerted on")
+        void shouldNotResolveUnalertedProduct() throws Exception {
+            // Given
+            when(alertStateStore.resolve(any())).thenReturn(Mono.empty());
+
+            // When
+            producerService.publishOnThresholdCrossing(warehouse(40, 50), warehouse(90, 50)).block();
+
+            // Then
+            assertThat(records.poll(3, TimeUnit.SECONDS)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should not publish when disabled")
+        void shouldNotPublishWhenDisabled() throws Exception {
+            // Given
+            alertConfig.setEnabled(false);
+
+            // When
+            producerService.publishOnThresholdCrossing(warehouse(60, 50), warehouse(0, 50)).block();
+
+            // Then
+            assertThat(records.poll(3, TimeUnit.SECONDS)).isNull();
+        }
+    }
+
+    // ==================== RESOLUTION SWEEP TESTS ====================
+
+    @Nested
+    @DisplayName("Resolution Sweep")
+    class ResolutionSweepTests {
+
+        @BeforeEach
+        void setUp() {
+            when(alertStateStore.alertedProducts()).thenReturn(Flux.just(Map.entry(PRODUCT_ID, ALERTED)));
+        }
+
+        @Test
+        @DisplayName("Should resolve an alerted product that recovered without a crossing")
+        void shouldResolveRecoveredProduct() throws Exception {
+            // Given - e.g. restocked by a bulk import
+            when(statisticService.getAlertStates(List.of(PRODUCT_ID)))
+                    .thenReturn(Flux.just(createAlert(PRODUCT_ID, "INFO", 90, 50)));
+
+            // When
+            WarehouseAlertProducerService.ReconciliationSummary summary = producerService.reconcileAlerts()
+                    .block(Duration.ofSeconds(30));
+
+            // Then
+            ConsumerRecord<String, WarehouseAlertMessage> record = records.poll(10, TimeUnit.SECONDS);
+            assertThat(record).isNotNull();
+            assertThat(record.key()).isEqualTo(PRODUCT_ID.toString());
+            assertThat(record.value().getLevel()).isEqualTo(AlertLevel.RESOLVED);
+            assertThat(summary.sent()).isEqualTo(1);
+            verify(alertStateStore).resolve(PRODUCT_ID, ALERTED);
+        }
+
+        @Test
+        @DisplayName("Should resolve an alerted product that no longer exists for its recorded contactor")
+        void shouldResolveMissingProduct() throws Exception {
+            // Given
+            when(statisticService.getAlertStates(List.of(PRODUCT_ID))).thenReturn(Flux.empty());
+
+            // When
+            producerService.reconcileAlerts().block(Duration.ofSeconds(30));
+
+            // Then - routed to the digest partition of the contactor alerted before
+            ConsumerRecord<String, WarehouseAlertMessage> record = records.poll(10, TimeUnit.SECONDS);
+            assertThat(record).isNotNull();
+            assertThat(record.value().getLevel()).isEqualTo(AlertLevel.RESOLVED);
+            assertThat(record.value().getContactorId()).isEqualTo(CONTACTOR_ID.toString());
+        }
+
+        @Test
+        @DisplayName("Should leave products that are still alerting")
+        void shouldKeepAlertingProduct() throws Exception {
+            // Given
+            when(statisticService.getAlertStates(List.of(PRODUCT_ID)))
+                    .thenReturn(Flux.just(createAlert(PRODUCT_ID, "WARNING", 40, 50)));
+
+            // When
+            producerService.reconcileAlerts().block(Duration.ofSeconds(30));
+
+            // Then
+            assertThat(records.poll(3, TimeUnit.SECONDS)).isNull();
+            verify(alertStateStore, never()).resolve(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should not resolve a product whose state changed since the sweep read it")
+        void shouldSkipChangedState() throws Exception {
+            // Given
+            when(statisticService.getAlertStates(List.of(PRODUCT_ID)))
+                    .thenReturn(Flux.just(createAlert(PRODUCT_ID, "INFO", 90, 50)));
+            when(alertStateStore.resolve(any(), any())).thenReturn(Mono.just(false));
+
+            // When
+            WarehouseAlertProducerService.ReconciliationSummary summary = producerService.reconcileAlerts()
+                    .block(Duration.ofSeconds(30));
+
+            // Then
+            assertThat(records.poll(3, TimeUnit.SECONDS)).isNull();
+            assertThat(summary.suppressed()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should put the state back when a resolution cannot be sent")
+        void shouldRestoreStateOfFailedResolution() {
+            // Given
+            alertConfig.setRetryAttempts(0);
+            doReturn(CompletableFuture.failedFuture(new KafkaException("Broker unavailable")))
+                    .when(kafkaTemplate).send(eq(Topics.WAREHOUSE_ALERTS), anyString(), any());
+            Warehouse before = Warehouse.builder().id(PRODUCT_ID).productName("Recovered Product")
+                    .quantity(40).minQuantity(50).build();
+            Warehouse after = before.toBuilder().quantity(90).build();
+
+            // When
+            producerService.publishOnThresholdCrossing(before, after).block();
+
+            // Then
+            verify(alertStateStore, timeout(10_000)).restore(PRODUCT_ID, ALERTED);
+            verify(alertStateStore, never()).markUndelivered(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should keep tracking a product whose alert cannot be sent")
+        void shouldKeepStateOfFailedAlert() {
+            // Given
+            alertConfig.setRetryAttempts(0);
+            doReturn(CompletableFuture.failedFuture(new KafkaException("Broker unavailable")))
+                    .when(kafkaTemplate).send(eq(Topics.WAREHOUSE_ALERTS), anyString(), any());
+            Warehouse before = Warehouse.builder().id(PRODUCT_ID).productName("Falling Product")
+                    .quantity(60).minQuantity(50).build();
+            Warehouse after = before.toBuilder().quantity(0).build();
+
+            // When
+            producerService.publishOnThresholdCrossing(before, after).block();
+
+            // Then - left for the sweep to resolve should the product recover first
+            verify(alertStateStore, timeout(10_000)).markUndelivered(PRODUCT_ID, AlertLevel.CRITICAL, null);
+            verify(alertStateStore, never()).resolve(any());
+        }
+    }
+
     // ==================== HELPER METHODS ====================
 
     /**
@@ -614,6 +900,10 @@ class WarehouseAlertProducerServiceBusinessTest {
         return items;
     }
 
+    private WarehouseStatisticDTO.AlertItem createAlert(UUID id, String severity, int currentQty, int minQty) {
+        return createAlertWithSeverity(severity, currentQty, minQty).toBuilder().id(id).build();
+    }
+
     private WarehouseStatisticDTO.AlertItem createAlertWithSeverity(
             String severity, int currentQty, int minQty) {
         return WarehouseStatisticDTO.AlertItem.builder()
@@ -628,14 +918,20 @@ class WarehouseAlertProducerServiceBusinessTest {
                 .build();
     }
 
-    private WarehouseStatisticDTO.AlertListResponse createResponse(
-            List<WarehouseStatisticDTO.AlertItem> items, long total, int page) {
-        return WarehouseStatisticDTO.AlertListResponse.builder()
-                .items(items)
-                .totalItems(total)
-                .page(page)
-                .size(5)
-                .alertType("ALL_ALERTS")
-                .build();
+    /**
+     * Stubs keyset pages: the first page is read after no id, each following
+     * page after the last id of the previous one.
+     */
+    @SafeVarargs
+    private void stubPages(List<WarehouseStatisticDTO.AlertItem>... pages) {
+        UUID afterId = null;
+        for (List<WarehouseStatisticDTO.AlertItem> page : pages) {
+            if (afterId == null) {
+                when(statisticService.getAlertsAfter(isNull(), any(), anyInt())).thenReturn(Flux.fromIterable(page));
+            } else {
+                when(statisticService.getAlertsAfter(eq(afterId), any(), anyInt())).thenReturn(Flux.fromIterable(page));
+            }
+            afterId = page.isEmpty() ? afterId : page.get(page.size() - 1).getId();
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package io.github.lvoxx.srms.warehouse.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
@@ -16,6 +18,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.AfterEach;
@@ -44,7 +47,9 @@ import io.github.lvoxx.srms.kafka.warehouse.AlertLevel;
 import io.github.lvoxx.srms.kafka.warehouse.WarehouseAlertMessage;
 import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
 import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -56,9 +61,12 @@ import reactor.test.StepVerifier;
 @SpringBootTest(classes = {
         WarehouseAlertProducerService.class,
         WarehouseAlertConfig.class,
+        WarehouseAlertCadence.class,
+        SimpleMeterRegistry.class,
         io.github.lvoxx.srms.kafka.config.KafkaConfig.class
 })
-@EmbeddedKafka(partitions = 1, topics = { Topics.WAREHOUSE_ALERTS }, brokerProperties = {
+@EmbeddedKafka(partitions = 1, topics = { Topics.WAREHOUSE_ALERTS,
+        Topics.WAREHOUSE_ALERT_STATE }, brokerProperties = {
         "listeners=PLAINTEXT://localhost:9092",
         "port=9092"
 })
@@ -83,6 +91,12 @@ class WarehouseAlertProducerServiceKafkaTest {
     @MockitoBean
     private WarehouseStatisticService statisticService;
 
+    @MockitoBean
+    private WarehouseAlertStateStore alertStateStore;
+
+    @MockitoBean
+    private WarehouseAlertShards alertShards;
+
     @Autowired
     private EmbeddedKafkaBroker embeddedKafka;
 
@@ -92,6 +106,12 @@ class WarehouseAlertProducerServiceKafkaTest {
     @BeforeEach
     void setUp() {
         records = new LinkedBlockingQueue<>();
+        when(alertStateStore.markIfDue(any(), any(), any())).thenReturn(Mono.just(true));
+        when(alertStateStore.mark(any(), any(), any())).thenReturn(Mono.empty());
+        when(alertStateStore.resolve(any())).thenReturn(Mono.just(
+                new WarehouseAlertStateStore.AlertState(AlertLevel.WARNING, System.currentTimeMillis(), null)));
+        when(alertStateStore.alertedProducts()).thenReturn(Flux.empty());
+        when(alertShards.currentShard()).thenReturn(Mono.just(WarehouseAlertShards.Shard.ALL));
 
         // Configure consumer
         Map<String, Object> consumerProps = new HashMap<>(
@@ -176,6 +196,26 @@ class WarehouseAlertProducerServiceKafkaTest {
         assertThat(message.getMessage()).containsIgnoringCase("out of stock");
     }
 
+    @Test
+    @DisplayName("Should carry the contactor of the product")
+    void shouldCarryContactor() throws Exception {
+        // Given
+        UUID contactorId = UUID.randomUUID();
+        WarehouseStatisticDTO.AlertItem alertItem = createWarningAlert().toBuilder()
+                .contactorId(contactorId)
+                .build();
+
+        // When
+        producerService.publishAlertMessage(alertItem).get(10, TimeUnit.SECONDS);
+
+        // Then
+        ConsumerRecord<String, WarehouseAlertMessage> record = records.poll(15, TimeUnit.SECONDS);
+
+        assertThat(record).isNotNull();
+        assertThat(record.key()).isEqualTo(alertItem.getId().toString());
+        assertThat(record.value().getContactorId()).isEqualTo(contactorId.toString());
+    }
+
     @Test
     @DisplayName("Should publish alert reactively")
     void shouldPublishAlertReactively() throws Exception {
@@ -395,8 +435,70 @@ class WarehouseAlertProducerServiceKafkaTest {
                 .verify(Duration.ofSeconds(10));
     }
 
+    // ==================== ALERT STATE TESTS ====================
+
+    @Test
+    @DisplayName("Should record the current alert on the alert state topic")
+    void shouldRecordAlertState() throws Exception {
+        // Given
+        WarehouseStatisticDTO.AlertItem alertItem = createCriticalAlert();
+
+        try (Consumer<String, WarehouseAlertMessage> consumer = createStateConsumer()) {
+            // When
+            producerService.publishAlertMessage(alertItem).get(10, TimeUnit.SECONDS);
+
+            // Then
+            ConsumerRecord<String, WarehouseAlertMessage> record = KafkaTestUtils.getSingleRecord(
+                    consumer, Topics.WAREHOUSE_ALERT_STATE, Duration.ofSeconds(15));
+            assertThat(record.key()).isEqualTo(alertItem.getId().toString());
+            assertThat(record.value().getLevel()).isEqualTo(AlertLevel.CRITICAL);
+        }
+    }
+
+    @Test
+    @DisplayName("Should write a tombstone on the alert state topic when an alert resolves")
+    void shouldTombstoneResolvedAlertState() throws Exception {
+        // Given
+        WarehouseStatisticDTO.AlertItem alertItem = createWarningAlert().toBuilder()
+                .currentQuantity(20)
+                .deficit(0)
+                .severity("INFO")
+                .message("Stock back at a normal level")
+                .build();
+
+        try (Consumer<String, WarehouseAlertMessage> consumer = createStateConsumer()) {
+            // When
+            producerService.publishAlertMessage(alertItem).get(10, TimeUnit.SECONDS);
+
+            // Then
+            ConsumerRecord<String, WarehouseAlertMessage> record = KafkaTestUtils.getSingleRecord(
+                    consumer, Topics.WAREHOUSE_ALERT_STATE, Duration.ofSeconds(15));
+            assertThat(record.key()).isEqualTo(alertItem.getId().toString());
+            assertThat(record.value()).isNull();
+        }
+
+        ConsumerRecord<String, WarehouseAlertMessage> alert = records.poll(15, TimeUnit.SECONDS);
+        assertThat(alert).isNotNull();
+        assertThat(alert.value().getLevel()).isEqualTo(AlertLevel.RESOLVED);
+    }
+
     // ==================== HELPER METHODS ====================
 
+    private Consumer<String, WarehouseAlertMessage> createStateConsumer() {
+        Map<String, Object> consumerProps = new HashMap<>(
+                KafkaTestUtils.consumerProps("state-test-consumer", "false", embeddedKafka));
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, KafkaAvroDeserializer.class);
+        consumerProps.put(KafkaAvroDeserializerConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://test-registry");
+        consumerProps.put(KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        Consumer<String, WarehouseAlertMessage> consumer = new DefaultKafkaConsumerFactory<String, WarehouseAlertMessage>(
+                consumerProps).createConsumer();
+        embeddedKafka.consumeFromAnEmbeddedTopic(consumer, Topics.WAREHOUSE_ALERT_STATE);
+        return consumer;
+    }
+
     private WarehouseStatisticDTO.AlertItem createWarningAlert() {
         return WarehouseStatisticDTO.AlertItem.builder()
                 .id(UUID.randomUUID())
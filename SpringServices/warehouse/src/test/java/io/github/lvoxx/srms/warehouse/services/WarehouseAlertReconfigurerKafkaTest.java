@@ -0,0 +1,174 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
+import io.github.lvoxx.srms.kafka.config.KafkaConsumerConfig;
+import io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage;
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import io.github.lvoxx.srms.warehouse.config.WarehouseConfigurationConsumerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Live reconfiguration test for WarehouseAlertReconfigurer.
+ * Tests that updates published to the configuration topic reach the alert
+ * configuration through the reactive consumer, with embedded Kafka.
+ */
+@SpringBootTest(classes = {
+        WarehouseAlertReconfigurer.class,
+        WarehouseAlertConfig.class,
+        WarehouseConfigurationConsumerConfig.class,
+        KafkaConsumerConfig.class,
+        SimpleMeterRegistry.class
+})
+@EmbeddedKafka(partitions = 1, topics = { Topics.CONFIGURATION })
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.properties.schema.registry.url=mock://test-registry",
+        "spring.kafka.consumer.properties.fetch.max.wait.ms=100",
+        "srms.kafka.consumer.commit-interval-ms=100"
+})
+@ActiveProfiles("kafka")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("WarehouseAlertReconfigurer Kafka Tests")
+class WarehouseAlertReconfigurerKafkaTest {
+
+    @Autowired
+    private WarehouseAlertConfig alertConfig;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private ConcurrentMessageListenerContainer<String, ConfigurationMessage> configurationConsumer;
+
+    @MockitoBean
+    private WarehouseAlertScheduler scheduler;
+
+    private DefaultKafkaProducerFactory<String, ConfigurationMessage> producerFactory;
+    private KafkaTemplate<String, ConfigurationMessage> kafkaTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> producerProps = new HashMap<>(KafkaTestUtils.producerProps(embeddedKafka));
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class);
+        producerProps.put(KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://test-registry");
+
+        producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        producerFactory.destroy();
+    }
+
+    private void publish(String scope, Map<String, String> properties) throws Exception {
+        ConfigurationMessage message = ConfigurationMessage.newBuilder()
+                .setMessageId(UUID.randomUUID().toString())
+                .setScope(scope)
+                .setProperties(properties)
+                .setTimestamp(Instant.now())
+                .build();
+        kafkaTemplate.send(Topics.CONFIGURATION, scope, message).get();
+    }
+
+    @Test
+    @DisplayName("Should hot-apply alert configuration published on the configuration topic")
+    void shouldApplyPublishedConfiguration() throws Exception {
+        // When
+        publish(WarehouseAlertReconfigurer.SCOPE, Map.of(
+                "check-interval", "PT5M",
+                "min-check-interval", "PT1M",
+                "max-alerts-per-run", "250"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(20)).untilAsserted(() -> {
+            assertThat(alertConfig.getCheckInterval()).isEqualTo(Duration.ofMinutes(5));
+            assertThat(alertConfig.getMinCheckInterval()).isEqualTo(Duration.ofMinutes(1));
+            assertThat(alertConfig.getMaxAlertsPerRun()).isEqualTo(250);
+        });
+        verify(scheduler, atLeastOnce()).reschedule();
+    }
+
+    @Test
+    @DisplayName("Should apply updates of a scope in publishing order")
+    void shouldApplyUpdatesInOrder() throws Exception {
+        // When
+        publish(WarehouseAlertReconfigurer.SCOPE, Map.of("page-size", "10"));
+        publish("warehouse.snapshot", Map.of("page-size", "99"));
+        publish(WarehouseAlertReconfigurer.SCOPE, Map.of("page-size", "20"));
+        publish(WarehouseAlertReconfigurer.SCOPE, Map.of("page-size", "20", "enabled", "false"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(20)).until(() -> !alertConfig.isEnabled());
+        assertThat(alertConfig.getPageSize()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should apply the retained configuration again after a restart")
+    void shouldReplayConfigurationOnRestart() throws Exception {
+        // Given
+        publish(WarehouseAlertReconfigurer.SCOPE, Map.of("page-size", "40"));
+        await().atMost(Duration.ofSeconds(20)).until(() -> alertConfig.getPageSize() == 40);
+        configurationConsumer.stop();
+        alertConfig.setPageSize(new WarehouseAlertConfig().getPageSize());
+
+        // When
+        configurationConsumer.start();
+
+        // Then
+        await().atMost(Duration.ofSeconds(20)).until(() -> alertConfig.getPageSize() == 40);
+        assertThat(configurationConsumer.getGroupId()).startsWith("warehouse-configuration-")
+                .isNotEqualTo("warehouse-configuration-");
+    }
+
+    @Test
+    @DisplayName("Should expose the consumer lag of the configuration consumer")
+    void shouldBindConsumerMetrics() throws Exception {
+        // When
+        publish(WarehouseAlertReconfigurer.SCOPE, Map.of("page-size", "30"));
+
+        // Then
+        await().atMost(Duration.ofSeconds(20)).untilAsserted(() -> {
+            assertThat(alertConfig.getPageSize()).isEqualTo(30);
+            assertThat(meterRegistry.find("kafka.consumer.fetch.manager.records.lag.max").meters())
+                    .isNotEmpty();
+        });
+    }
+}
@@ -0,0 +1,261 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.github.lvoxx.srms.kafka.configuration.ConfigurationMessage;
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Alert Reconfigurer Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseAlertReconfigurerTest {
+
+    @Mock
+    private WarehouseAlertScheduler scheduler;
+
+    private WarehouseAlertConfig alertConfig;
+    private WarehouseAlertReconfigurer reconfigurer;
+
+    @BeforeEach
+    void setUp() {
+        alertConfig = new WarehouseAlertConfig();
+        reconfigurer = new WarehouseAlertReconfigurer(alertConfig, scheduler);
+    }
+
+    private static ConsumerRecord<String, ConfigurationMessage> record(String scope, Map<String, String> properties) {
+        ConfigurationMessage message = ConfigurationMessage.newBuilder()
+                .setMessageId("message-1")
+                .setScope(scope)
+                .setProperties(properties)
+                .setUpdatedBy("admin")
+                .setTimestamp(Instant.now())
+                .build();
+        return new ConsumerRecord<>(Topics.CONFIGURATION, 0, 0L, scope, message);
+    }
+
+    @Nested
+    @DisplayName("Apply Tests")
+    class ApplyTests {
+
+        @Test
+        @DisplayName("Should apply alert properties and re-plan the reconciliation")
+        void shouldApplyProperties() {
+            // Arrange
+            ConsumerRecord<String, ConfigurationMessage> record = record(WarehouseAlertReconfigurer.SCOPE, Map.of(
+                    "enabled", "false",
+                    "check-interval", "PT15M",
+                    "page-size", "25",
+                    "max-alerts-per-run", "200"));
+
+            // Act
+            StepVerifier.create(reconfigurer.apply(record)).verifyComplete();
+
+            // Assert
+            assertFalse(alertConfig.isEnabled());
+            assertEquals(Duration.ofMinutes(15), alertConfig.getCheckInterval());
+            assertEquals(25, alertConfig.getPageSize());
+            assertEquals(200, alertConfig.getMaxAlertsPerRun());
+            verify(scheduler).reschedule();
+        }
+
+        @Test
+        @DisplayName("Should accept simple duration values")
+        void shouldAcceptSimpleDurations() {
+            // Act
+            StepVerifier.create(reconfigurer.apply(record(WarehouseAlertReconfigurer.SCOPE,
+                    Map.of("check-interval", "30m")))).verifyComplete();
+
+            // Assert
+            assertEquals(Duration.ofMinutes(30), alertConfig.getCheckInterval());
+        }
+
+        @Test
+        @DisplayName("Should ignore invalid values and keep the others")
+        void shouldIgnoreInvalidValues() {
+            // Arrange
+            ConsumerRecord<String, ConfigurationMessage> record = record(WarehouseAlertReconfigurer.SCOPE, Map.of(
+                    "enabled", "maybe",
+                    "check-interval", "-PT5M",
+                    "page-size", "0",
+                    "max-alerts-per-run", "500",
+                    "unknown", "1"));
+
+            // Act
+            StepVerifier.create(reconfigurer.apply(record)).verifyComplete();
+
+            // Assert
+            WarehouseAlertConfig defaults = new WarehouseAlertConfig();
+            assertEquals(defaults.isEnabled(), alertConfig.isEnabled());
+            assertEquals(defaults.getCheckInterval(), alertConfig.getCheckInterval());
+            assertEquals(defaults.getPageSize(), alertConfig.getPageSize());
+            assertEquals(500, alertConfig.getMaxAlertsPerRun());
+        }
+
+        @Test
+        @DisplayName("Should ignore updates of other scopes")
+        void shouldIgnoreOtherScopes() {
+            // Act
+            StepVerifier.create(reconfigurer.apply(record("warehouse.snapshot", Map.of("page-size", "10"))))
+                    .verifyComplete();
+
+            // Assert
+            assertEquals(new WarehouseAlertConfig().getPageSize(), alertConfig.getPageSize());
+            verify(scheduler, never()).reschedule();
+        }
+
+        @Test
+        @DisplayName("Should ignore tombstones")
+        void shouldIgnoreTombstones() {
+            // Act
+            StepVerifier.create(reconfigurer.apply(new ConsumerRecord<>(Topics.CONFIGURATION, 0, 0L,
+                    WarehouseAlertReconfigurer.SCOPE, null))).verifyComplete();
+
+            // Assert
+            verify(scheduler, never()).reschedule();
+        }
+    }
+
+    @Nested
+    @DisplayName("Interval Tests")
+    class IntervalTests {
+
+        @Test
+        @DisplayName("Should reject a check interval below its minimum")
+        void shouldRejectIntervalBelowMinimum() {
+            // Act
+            StepVerifier.create(reconfigurer.apply(record(WarehouseAlertReconfigurer.SCOPE, Map.of(
+                    "check-interval", "PT5M",
+                    "page-size", "25")))).verifyComplete();
+
+            // Assert
+            WarehouseAlertConfig defaults = new WarehouseAlertConfig();
+            assertEquals(defaults.getCheckInterval(), alertConfig.getCheckInterval());
+            assertEquals(25, alertConfig.getPageSize());
+        }
+
+        @Test
+        @DisplayName("Should reject a check interval above its maximum")
+        void shouldRejectIntervalAboveMaximum() {
+            // Act
+            StepVerifier.create(reconfigurer.apply(record(WarehouseAlertReconfigurer.SCOPE,
+                    Map.of("check-interval", "PT5H")))).verifyComplete();
+
+            // Assert
+            assertEquals(new WarehouseAlertConfig().getCheckInterval(), alertConfig.getCheckInterval());
+        }
+
+        @Test
+        @DisplayName("Should move the bounds and the check interval together")
+        void shouldMoveBoundsWithInterval() {
+            // Act
+            StepVerifier.create(reconfigurer.apply(record(WarehouseAlertReconfigurer.SCOPE, Map.of(
+                    "check-interval", "PT5M",
+                    "min-check-interval", "PT1M",
+                    "max-check-interval", "PT30M")))).verifyComplete();
+
+            // Assert
+            assertEquals(Duration.ofMinutes(5), alertConfig.getCheckInterval());
+            assertEquals(Duration.ofMinutes(1), alertConfig.getMinCheckInterval());
+            assertEquals(Duration.ofMinutes(30), alertConfig.getMaxCheckInterval());
+        }
+
+        @Test
+        @DisplayName("Should reject bounds that exclude the current check interval")
+        void shouldRejectBoundsExcludingInterval() {
+            // Act
+            StepVerifier.create(reconfigurer.apply(record(WarehouseAlertReconfigurer.SCOPE,
+                    Map.of("max-check-interval", "PT30M")))).verifyComplete();
+
+            // Assert
+            WarehouseAlertConfig defaults = new WarehouseAlertConfig();
+            assertEquals(defaults.getMaxCheckInterval(), alertConfig.getMaxCheckInterval());
+            assertEquals(defaults.getCheckInterval(), alertConfig.getCheckInterval());
+        }
+
+        @Test
+        @DisplayName("Should reject a minimum above the maximum")
+        void shouldRejectInvertedBounds() {
+            // Act
+            StepVerifier.create(reconfigurer.apply(record(WarehouseAlertReconfigurer.SCOPE, Map.of(
+                    "min-check-interval", "PT2H",
+                    "max-check-interval", "PT1H")))).verifyComplete();
+
+            // Assert
+            WarehouseAlertConfig defaults = new WarehouseAlertConfig();
+            assertEquals(defaults.getMinCheckInterval(), alertConfig.getMinCheckInterval());
+            assertEquals(defaults.getMaxCheckInterval(), alertConfig.getMaxCheckInterval());
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should end up with the live settings when replaying only the latest update")
+        void shouldMatchLiveInstanceOnReplay() {
+            // Arrange - a live instance sees both updates, a restarted one only the compacted latest
+            ConsumerRecord<String, ConfigurationMessage> first = record(WarehouseAlertReconfigurer.SCOPE,
+                    Map.of("page-size", "25"));
+            ConsumerRecord<String, ConfigurationMessage> latest = record(WarehouseAlertReconfigurer.SCOPE,
+                    Map.of("enabled", "false"));
+            WarehouseAlertConfig restartedConfig = new WarehouseAlertConfig();
+            WarehouseAlertReconfigurer restarted = new WarehouseAlertReconfigurer(restartedConfig, scheduler);
+
+            // Act
+            StepVerifier.create(reconfigurer.apply(first).then(reconfigurer.apply(latest))).verifyComplete();
+            StepVerifier.create(restarted.apply(latest)).verifyComplete();
+
+            // Assert
+            assertEquals(restartedConfig, alertConfig);
+            assertFalse(restartedConfig.isEnabled());
+            assertEquals(new WarehouseAlertConfig().getPageSize(), restartedConfig.getPageSize());
+        }
+
+        @Test
+        @DisplayName("Should reset properties missing from an update to their startup values")
+        void shouldResetMissingPropertiesToStartupValues() {
+            // Arrange - values bound at startup differ from the class defaults
+            alertConfig.setPageSize(30);
+            alertConfig.setCheckInterval(Duration.ofHours(2));
+            reconfigurer = new WarehouseAlertReconfigurer(alertConfig, scheduler);
+            StepVerifier.create(reconfigurer.apply(record(WarehouseAlertReconfigurer.SCOPE, Map.of(
+                    "page-size", "10",
+                    "check-interval", "PT30M")))).verifyComplete();
+
+            // Act
+            StepVerifier.create(reconfigurer.apply(record(WarehouseAlertReconfigurer.SCOPE,
+                    Map.of("max-alerts-per-run", "200")))).verifyComplete();
+
+            // Assert
+            assertEquals(30, alertConfig.getPageSize());
+            assertEquals(Duration.ofHours(2), alertConfig.getCheckInterval());
+            assertEquals(200, alertConfig.getMaxAlertsPerRun());
+        }
+    }
+}
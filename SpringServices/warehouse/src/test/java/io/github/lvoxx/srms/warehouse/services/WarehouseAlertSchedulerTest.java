@@ -0,0 +1,170 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.TaskScheduler;
+
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import io.github.lvoxx.srms.warehouse.services.WarehouseAlertProducerService.ReconciliationSummary;
+import reactor.core.publisher.Mono;
+
+@DisplayName("Warehouse Alert Scheduler Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseAlertSchedulerTest {
+
+    @Mock
+    private WarehouseAlertProducerService producerService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private WarehouseAlertConfig alertConfig;
+    private List<Runnable> tasks;
+    private List<Instant> times;
+    private List<ScheduledFuture<?>> futures;
+    private WarehouseAlertScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        alertConfig = new WarehouseAlertConfig();
+        alertConfig.setInitialDelay(Duration.ofSeconds(30));
+        alertConfig.setCheckInterval(Duration.ofHours(1));
+        tasks = new ArrayList<>();
+        times = new ArrayList<>();
+        futures = new ArrayList<>();
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            tasks.add(invocation.getArgument(0));
+            times.add(invocation.getArgument(1));
+            ScheduledFuture<?> future = mock(ScheduledFuture.class);
+            futures.add(future);
+            return future;
+        });
+        when(producerService.runReconciliation()).thenReturn(Mono.just(new ReconciliationSummary(1, 0, 0)));
+        scheduler = new WarehouseAlertScheduler(producerService, new WarehouseAlertCadence(alertConfig), alertConfig,
+                taskScheduler);
+    }
+
+    private static void assertAbout(Instant expected, Instant actual) {
+        assertTrue(Duration.between(expected, actual).abs().compareTo(Duration.ofSeconds(5)) < 0,
+                () -> "expected about " + expected + " but was " + actual);
+    }
+
+    @Nested
+    @DisplayName("Scheduling Tests")
+    class SchedulingTests {
+
+        @Test
+        @DisplayName("Should plan the first run after the initial delay")
+        void shouldPlanFirstRun() {
+            // Act
+            scheduler.start();
+
+            // Assert
+            assertEquals(1, tasks.size());
+            assertAbout(Instant.now().plus(Duration.ofSeconds(30)), times.get(0));
+        }
+
+        @Test
+        @DisplayName("Should plan the next run an interval after the previous one ended")
+        void shouldPlanNextRunAfterRun() {
+            // Arrange
+            scheduler.start();
+
+            // Act
+            tasks.get(0).run();
+
+            // Assert
+            verify(producerService).runReconciliation();
+            assertEquals(2, tasks.size());
+            assertAbout(Instant.now().plus(Duration.ofHours(1)), times.get(1));
+        }
+
+        @Test
+        @DisplayName("Should re-plan a pending run when the interval changes")
+        void shouldReplanOnReschedule() {
+            // Arrange
+            scheduler.start();
+            tasks.get(0).run();
+
+            // Act
+            alertConfig.setCheckInterval(Duration.ofMinutes(15));
+            scheduler.reschedule();
+
+            // Assert
+            verify(futures.get(1)).cancel(false);
+            assertEquals(3, tasks.size());
+            assertAbout(Instant.now().plus(Duration.ofMinutes(15)), times.get(2));
+        }
+
+        @Test
+        @DisplayName("Should keep the initial delay when reconfigured before the first run")
+        void shouldKeepInitialDelay() {
+            // Arrange
+            scheduler.start();
+
+            // Act
+            scheduler.reschedule();
+
+            // Assert
+            assertEquals(1, tasks.size());
+        }
+
+        @Test
+        @DisplayName("Should not run a task that was re-planned")
+        void shouldIgnoreStaleTask() {
+            // Arrange
+            scheduler.start();
+            tasks.get(0).run();
+            scheduler.reschedule();
+
+            // Act
+            tasks.get(1).run();
+
+            // Assert
+            verify(producerService, times(1)).runReconciliation();
+        }
+
+        @Test
+        @DisplayName("Should stop planning runs once stopped")
+        void shouldStop() {
+            // Arrange
+            scheduler.start();
+
+            // Act
+            scheduler.stop();
+            tasks.get(0).run();
+
+            // Assert
+            verify(futures.get(0)).cancel(false);
+            verify(producerService, times(0)).runReconciliation();
+            assertEquals(1, tasks.size());
+        }
+    }
+}
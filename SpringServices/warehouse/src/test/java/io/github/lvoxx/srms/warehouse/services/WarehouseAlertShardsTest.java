@@ -0,0 +1,203 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RScoredSortedSetReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.Codec;
+
+import io.github.lvoxx.srms.jdbc.id.UuidV7Generator;
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import io.github.lvoxx.srms.warehouse.services.WarehouseAlertShards.Shard;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Alert Shards Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseAlertShardsTest {
+
+    @Mock
+    private RedissonReactiveClient redissonReactive;
+
+    @Mock
+    private RScoredSortedSetReactive<Object> members;
+
+    private WarehouseAlertConfig alertConfig;
+    private WarehouseAlertShards shards;
+    private List<String> registered;
+
+    @BeforeEach
+    void setUp() {
+        alertConfig = new WarehouseAlertConfig();
+        registered = new ArrayList<>();
+        when(redissonReactive.getScoredSortedSet(eq(WarehouseAlertShards.KEY), any(Codec.class)))
+                .thenReturn(members);
+        when(members.add(anyDouble(), anyString())).thenAnswer(invocation -> {
+            registered.add(invocation.getArgument(1, String.class));
+            return Mono.just(true);
+        });
+        when(members.removeRangeByScore(anyDouble(), anyBoolean(), anyDouble(), anyBoolean()))
+                .thenReturn(Mono.just(0));
+        shards = new WarehouseAlertShards(redissonReactive, alertConfig);
+    }
+
+    /**
+     * Live members as read from Redis: this instance plus the given others.
+     */
+    private void liveMembers(String... others) {
+        when(members.readAll()).thenAnswer(invocation -> {
+            Collection<Object> live = new ArrayList<>(registered);
+            live.addAll(List.of(others));
+            return Mono.just(live);
+        });
+    }
+
+    @Nested
+    @DisplayName("Shard Bucket Tests")
+    class ShardBucketTests {
+
+        @Test
+        @DisplayName("Should cover every product with a single shard")
+        void shouldCoverAllWithSingleShard() {
+            assertTrue(Shard.ALL.contains(UUID.randomUUID()));
+            assertTrue(Shard.ALL.contains(new UUID(0L, 0L)));
+        }
+
+        @Test
+        @DisplayName("Should bucket on the last two bytes of the id")
+        void shouldBucketOnLastBytes() {
+            // Arrange
+            UUID id = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a0005");
+
+            // Assert
+            assertEquals(5, Shard.bucket(id));
+            assertTrue(Shard.of(1, 4).contains(id));
+            assertFalse(Shard.of(0, 4).contains(id));
+        }
+
+        @Test
+        @DisplayName("Should spread time-ordered UUIDv7 ids evenly over the shards")
+        void shouldSpreadUuidV7Ids() {
+            // Arrange - ids of one generator share their leading bits
+            UuidV7Generator generator = UuidV7Generator.getDefault();
+            int count = 4;
+            int ids = 40_000;
+            int[] sizes = new int[count];
+
+            // Act
+            for (int i = 0; i < ids; i++) {
+                UUID id = generator.next();
+                int owners = 0;
+                for (int index = 0; index < count; index++) {
+                    if (Shard.of(index, count).contains(id)) {
+                        sizes[index]++;
+                        owners++;
+                    }
+                }
+                assertEquals(1, owners);
+            }
+
+            // Assert - within 10% of an even split
+            for (int size : sizes) {
+                assertTrue(Math.abs(size - ids / count) < ids / count / 10, "Uneven shards: " + Arrays.toString(sizes));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Assignment Tests")
+    class AssignmentTests {
+
+        @Test
+        @DisplayName("Should take the shard matching the position among live members")
+        void shouldTakeRangeOfPosition() {
+            // Arrange - one member sorting before any UUID string, one after
+            liveMembers("0", "zz");
+
+            // Act & Assert
+            StepVerifier.create(shards.currentShard())
+                    .assertNext(shard -> {
+                        assertEquals(1, shard.index());
+                        assertEquals(3, shard.count());
+                        assertEquals(Shard.of(1, 3), shard);
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should register with an expiry and drop expired members")
+        void shouldRegisterAndExpire() {
+            // Arrange
+            liveMembers();
+            ArgumentCaptor<Double> expiresAt = ArgumentCaptor.forClass(Double.class);
+            long now = System.currentTimeMillis();
+
+            // Act
+            StepVerifier.create(shards.currentShard())
+                    .expectNext(Shard.ALL)
+                    .verifyComplete();
+
+            // Assert
+            verify(members).add(expiresAt.capture(), anyString());
+            assertTrue(expiresAt.getValue() >= now + alertConfig.getMemberHeartbeat().toMillis() * 3);
+            verify(members).removeRangeByScore(eq(0.0), eq(true), anyDouble(), eq(false));
+        }
+
+        @Test
+        @DisplayName("Should scan everything when Redis cannot be reached")
+        void shouldScanAllWhenRedisFails() {
+            // Arrange
+            when(members.readAll()).thenReturn(Mono.error(new RuntimeException("Redis down")));
+
+            // Act & Assert
+            StepVerifier.create(shards.currentShard())
+                    .expectNext(Shard.ALL)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should scan everything without membership when sharding is disabled")
+        void shouldScanAllWhenDisabled() {
+            // Arrange
+            alertConfig.setSharded(false);
+
+            // Act & Assert
+            StepVerifier.create(shards.currentShard())
+                    .expectNext(Shard.ALL)
+                    .verifyComplete();
+            verify(members, never()).add(anyDouble(), anyString());
+        }
+    }
+}
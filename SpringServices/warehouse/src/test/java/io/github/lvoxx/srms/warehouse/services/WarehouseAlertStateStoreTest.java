@@ -0,0 +1,321 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RMapReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.Codec;
+
+import io.github.lvoxx.srms.kafka.warehouse.AlertLevel;
+import io.github.lvoxx.srms.warehouse.config.WarehouseAlertConfig;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Alert State Store Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseAlertStateStoreTest {
+
+    @Mock
+    private RedissonReactiveClient redissonReactive;
+
+    @Mock
+    private RMapReactive<Object, Object> states;
+
+    private WarehouseAlertConfig alertConfig;
+    private WarehouseAlertStateStore stateStore;
+    private UUID productId;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        alertConfig = new WarehouseAlertConfig();
+        alertConfig.setRenotifyInterval(Duration.ofHours(1));
+        when(redissonReactive.getMap(eq(WarehouseAlertStateStore.KEY), any(Codec.class))).thenReturn(states);
+        stateStore = new WarehouseAlertStateStore(redissonReactive, alertConfig);
+        productId = UUID.randomUUID();
+        key = productId.toString();
+    }
+
+    private static String state(AlertLevel level, Duration age) {
+        return level.name() + "|" + (System.currentTimeMillis() - age.toMillis());
+    }
+
+    @Nested
+    @DisplayName("Mark If Due Tests")
+    class MarkIfDueTests {
+
+        @Test
+        @DisplayName("Should send the first alert of a product")
+        void shouldSendFirstAlert() {
+            // Arrange
+            when(states.get(key)).thenReturn(Mono.empty());
+            when(states.fastPutIfAbsent(eq(key), anyString())).thenReturn(Mono.just(true));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.markIfDue(productId, AlertLevel.WARNING, null))
+                    .expectNext(true)
+                    .verifyComplete();
+            verify(states).fastPutIfAbsent(eq(key), startsWith("WARNING|"));
+        }
+
+        @Test
+        @DisplayName("Should suppress an alert repeated within the re-notify interval")
+        void shouldSuppressRepeatedAlert() {
+            // Arrange
+            when(states.get(key)).thenReturn(Mono.just(state(AlertLevel.CRITICAL, Duration.ofMinutes(5))));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.markIfDue(productId, AlertLevel.CRITICAL, null))
+                    .expectNext(false)
+                    .verifyComplete();
+            verify(states, never()).replace(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should send an alert whose level changed")
+        void shouldSendLevelChange() {
+            // Arrange
+            String previous = state(AlertLevel.WARNING, Duration.ofMinutes(5));
+            when(states.get(key)).thenReturn(Mono.just(previous));
+            when(states.replace(eq(key), eq(previous), anyString())).thenReturn(Mono.just(true));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.markIfDue(productId, AlertLevel.CRITICAL, null))
+                    .expectNext(true)
+                    .verifyComplete();
+            verify(states).replace(eq(key), eq(previous), startsWith("CRITICAL|"));
+        }
+
+        @Test
+        @DisplayName("Should send again once the re-notify interval elapsed")
+        void shouldRenotifyAfterInterval() {
+            // Arrange
+            String previous = state(AlertLevel.WARNING, Duration.ofHours(2));
+            when(states.get(key)).thenReturn(Mono.just(previous));
+            when(states.replace(eq(key), eq(previous), anyString())).thenReturn(Mono.just(true));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.markIfDue(productId, AlertLevel.WARNING, null))
+                    .expectNext(true)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should not send when another instance recorded the alert first")
+        void shouldNotSendWhenRaceLost() {
+            // Arrange
+            String previous = state(AlertLevel.WARNING, Duration.ofHours(2));
+            when(states.get(key)).thenReturn(Mono.just(previous));
+            when(states.replace(eq(key), eq(previous), anyString())).thenReturn(Mono.just(false));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.markIfDue(productId, AlertLevel.WARNING, null))
+                    .expectNext(false)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should send when the store cannot be reached")
+        void shouldSendWhenStoreFails() {
+            // Arrange
+            when(states.get(key)).thenReturn(Mono.error(new RuntimeException("Redis down")));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.markIfDue(productId, AlertLevel.WARNING, null))
+                    .expectNext(true)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Resolve Tests")
+    class ResolveTests {
+
+        @Test
+        @DisplayName("Should report the cleared state of an alerted product")
+        void shouldResolveAlertedProduct() {
+            // Arrange
+            when(states.remove(key)).thenReturn(Mono.just("WARNING|1000"));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.resolve(productId))
+                    .expectNext(new WarehouseAlertStateStore.AlertState(AlertLevel.WARNING, 1000, null))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should not report a resolution for a product never alerted on")
+        void shouldNotResolveUnalertedProduct() {
+            // Arrange
+            when(states.remove(key)).thenReturn(Mono.empty());
+
+            // Act & Assert
+            StepVerifier.create(stateStore.resolve(productId))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should only clear a state that is unchanged since it was read")
+        void shouldResolveUnchangedState() {
+            // Arrange
+            WarehouseAlertStateStore.AlertState read = new WarehouseAlertStateStore.AlertState(
+                    AlertLevel.CRITICAL, 1000, null);
+            when(states.remove(key, "CRITICAL|1000")).thenReturn(Mono.just(false));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.resolve(productId, read))
+                    .expectNext(false)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should put back a state without overwriting a newer one")
+        void shouldRestoreState() {
+            // Arrange
+            when(states.fastPutIfAbsent(key, "WARNING|1000")).thenReturn(Mono.just(true));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.restore(productId,
+                    new WarehouseAlertStateStore.AlertState(AlertLevel.WARNING, 1000, null)))
+                    .verifyComplete();
+            verify(states).fastPutIfAbsent(key, "WARNING|1000");
+        }
+    }
+
+    @Nested
+    @DisplayName("Sweep Tests")
+    class SweepTests {
+
+        @Test
+        @DisplayName("Should list alerted products and skip malformed entries")
+        void shouldListAlertedProducts() {
+            // Arrange
+            when(states.entryIterator()).thenReturn(Flux.just(
+                    Map.entry(key, "CRITICAL|1000"),
+                    Map.entry("not-a-uuid", "WARNING|1000"),
+                    Map.entry(UUID.randomUUID().toString(), "garbage")));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.alertedProducts())
+                    .expectNext(Map.entry(productId,
+                            new WarehouseAlertStateStore.AlertState(AlertLevel.CRITICAL, 1000, null)))
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Contactor Tests")
+    class ContactorTests {
+
+        @Test
+        @DisplayName("Should record the contactor of an alert")
+        void shouldRecordContactor() {
+            // Arrange
+            UUID contactorId = UUID.randomUUID();
+            when(states.get(key)).thenReturn(Mono.empty());
+            when(states.fastPutIfAbsent(eq(key), anyString())).thenReturn(Mono.just(true));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.markIfDue(productId, AlertLevel.WARNING, contactorId))
+                    .expectNext(true)
+                    .verifyComplete();
+            verify(states).fastPutIfAbsent(eq(key), endsWith("|" + contactorId));
+        }
+
+        @Test
+        @DisplayName("Should report the recorded contactor on resolution")
+        void shouldResolveWithContactor() {
+            // Arrange
+            UUID contactorId = UUID.randomUUID();
+            when(states.remove(key)).thenReturn(Mono.just("CRITICAL|1000|" + contactorId));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.resolve(productId))
+                    .expectNext(new WarehouseAlertStateStore.AlertState(AlertLevel.CRITICAL, 1000, contactorId))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should clear a state recorded with its contactor")
+        void shouldResolveUnchangedStateWithContactor() {
+            // Arrange
+            UUID contactorId = UUID.randomUUID();
+            when(states.remove(key, "CRITICAL|1000|" + contactorId)).thenReturn(Mono.just(true));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.resolve(productId,
+                    new WarehouseAlertStateStore.AlertState(AlertLevel.CRITICAL, 1000, contactorId)))
+                    .expectNext(true)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("Mark Undelivered Tests")
+    class MarkUndeliveredTests {
+
+        @Test
+        @DisplayName("Should keep tracking a product whose alert failed as never notified")
+        void shouldKeepUndeliveredProduct() {
+            // Arrange
+            when(states.fastPut(key, "CRITICAL|0")).thenReturn(Mono.just(false));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.markUndelivered(productId, AlertLevel.CRITICAL, null))
+                    .verifyComplete();
+            verify(states).fastPut(key, "CRITICAL|0");
+            verify(states, never()).fastRemove(any());
+        }
+
+        @Test
+        @DisplayName("Should send an undelivered alert on the next reconciliation")
+        void shouldSendUndeliveredAlertAgain() {
+            // Arrange
+            when(states.get(key)).thenReturn(Mono.just("CRITICAL|0"));
+            when(states.replace(eq(key), eq("CRITICAL|0"), startsWith("CRITICAL|"))).thenReturn(Mono.just(true));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.markIfDue(productId, AlertLevel.CRITICAL, null))
+                    .expectNext(true)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should complete when the store cannot be reached")
+        void shouldCompleteWhenStoreFails() {
+            // Arrange
+            when(states.fastPut(eq(key), anyString())).thenReturn(Mono.error(new RuntimeException("Redis down")));
+
+            // Act & Assert
+            StepVerifier.create(stateStore.markUndelivered(productId, AlertLevel.WARNING, null))
+                    .verifyComplete();
+        }
+    }
+}
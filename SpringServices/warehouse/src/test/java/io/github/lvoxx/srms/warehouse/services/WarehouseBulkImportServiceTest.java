@@ -0,0 +1,287 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.reactivestreams.Publisher;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lvoxx.srms.controllerhandler.model.DataPersistantException;
+import io.github.lvoxx.srms.controllerhandler.model.ValidationException;
+import io.github.lvoxx.srms.warehouse.config.WarehouseImportConfig;
+import io.github.lvoxx.srms.warehouse.dto.WarehouseImportDTO;
+import io.github.lvoxx.srms.warehouse.models.Warehouse;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseBulkImportRepository;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseRepository;
+import io.netty.buffer.ByteBuf;
+import jakarta.validation.Validation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Bulk Import Service Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock"), @Tag("Import")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseBulkImportServiceTest {
+
+    private static final String USER_ID = "bulk-user";
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    @Mock
+    private WarehouseBulkImportRepository importRepository;
+
+    @Mock
+    private WarehouseRepository warehouseRepository;
+
+    @Mock
+    private WarehouseChangeNotifier changeNotifier;
+
+    @Mock
+    private WarehouseAlertProducerService alertProducer;
+
+    private WarehouseImportConfig importConfig;
+    private WarehouseBulkImportService importService;
+
+    private StringBuilder copied;
+
+    @BeforeEach
+    void setUp() {
+        importConfig = new WarehouseImportConfig();
+        importConfig.setChunkSize(2);
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        importService = new WarehouseBulkImportService(importRepository, warehouseRepository, importConfig,
+                objectMapper, Validation.buildDefaultValidatorFactory().getValidator(), changeNotifier,
+                alertProducer);
+
+        copied = new StringBuilder();
+        when(importRepository.createWarehouseStaging()).thenReturn(Mono.empty());
+        when(importRepository.createHistoryStaging()).thenReturn(Mono.empty());
+        when(importRepository.lockStagedWarehouses()).thenReturn(Flux.empty());
+        when(importRepository.copyWarehouses(any())).thenAnswer(invocation -> drain(invocation.getArgument(0)));
+        when(importRepository.copyHistory(any())).thenAnswer(invocation -> drain(invocation.getArgument(0)));
+        when(importRepository.rejectWarehouseConflicts()).thenReturn(Flux.empty());
+        when(importRepository.rejectHistoryConflicts()).thenReturn(Flux.empty());
+        when(importRepository.mergeWarehouses(any())).thenReturn(Mono.just(0L));
+        when(importRepository.mergeHistory(any())).thenReturn(Mono.just(0L));
+        when(changeNotifier.publishAllAfterCommit()).thenReturn(Mono.empty());
+        when(changeNotifier.publishAfterCommit(any())).thenReturn(Mono.empty());
+        when(alertProducer.publishOnThresholdCrossing(any(), any())).thenReturn(Mono.empty());
+    }
+
+    private static Warehouse warehouse(UUID id, int quantity) {
+        return Warehouse.builder()
+                .id(id)
+                .productName("Rice")
+                .quantity(quantity)
+                .minQuantity(10)
+                .build();
+    }
+
+    private Mono<Long> drain(Publisher<ByteBuf> chunks) {
+        return Flux.from(chunks)
+                .doOnNext(buffer -> {
+                    copied.append(buffer.toString(StandardCharsets.UTF_8));
+                    buffer.release();
+                })
+                .count();
+    }
+
+    @Nested
+    @DisplayName("Warehouse Import Tests")
+    class WarehouseImportTests {
+
+        @Test
+        @DisplayName("Should stage valid CSV rows in chunks and report invalid ones")
+        void shouldStageValidCsvRows() {
+            // Arrange
+            UUID contactorId = UUID.randomUUID();
+            Flux<String> lines = Flux.just(
+                    "product_name,quantity,min_quantity,contactor_id",
+                    "Rice,10,2," + contactorId,
+                    "\"Salt, sea\",0,1,",
+                    "",
+                    ",5,1,",
+                    "Sugar,abc,1,",
+                    "Flour,3,1,\r");
+            when(importRepository.mergeWarehouses(USER_ID)).thenReturn(Mono.just(3L));
+
+            // Act & Assert
+            StepVerifier.create(importService.importWarehouses(lines, TEXT_CSV, USER_ID))
+                    .assertNext(response -> {
+                        assertEquals(5, response.getTotalRows());
+                        assertEquals(3, response.getImported());
+                        assertEquals(2, response.getRejected());
+                        assertEquals(5, response.getErrors().get(0).getLine());
+                        assertEquals(6, response.getErrors().get(1).getLine());
+                        assertTrue(response.getErrors().get(1).getReason().startsWith("Malformed row"));
+                    })
+                    .verifyComplete();
+
+            assertEquals("\"2\",\"Rice\",\"10\",\"2\",\"" + contactorId + "\"\n"
+                    + "\"3\",\"Salt, sea\",\"0\",\"1\",\n"
+                    + "\"7\",\"Flour\",\"3\",\"1\",\n", copied.toString());
+        }
+
+        @Test
+        @DisplayName("Should parse NDJSON rows and include set-wise conflicts in the report")
+        void shouldReportDatabaseConflicts() {
+            // Arrange
+            Flux<String> lines = Flux.just(
+                    "{\"product-name\":\"Rice\",\"quantity\":1,\"min-quantity\":0}",
+                    "{\"product-name\":\"rice\",\"quantity\":2,\"min-quantity\":0}");
+            when(importRepository.rejectWarehouseConflicts()).thenReturn(Flux.just(
+                    WarehouseImportDTO.RowError.builder()
+                            .line(2).value("rice").reason("Duplicate product name in upload").build()));
+            when(importRepository.mergeWarehouses(USER_ID)).thenReturn(Mono.just(1L));
+
+            // Act & Assert
+            StepVerifier.create(importService.importWarehouses(lines, MediaType.APPLICATION_NDJSON, USER_ID))
+                    .assertNext(response -> {
+                        assertEquals(2, response.getTotalRows());
+                        assertEquals(1, response.getImported());
+                        assertEquals(1, response.getRejected());
+                        assertEquals("Duplicate product name in upload",
+                                response.getErrors().get(0).getReason());
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should cap the number of reported errors")
+        void shouldCapReportedErrors() {
+            // Arrange
+            importConfig.setMaxReportedErrors(1);
+            Flux<String> lines = Flux.just("product-name,quantity,min-quantity", ",1,1", ",2,2", ",3,3");
+            when(importRepository.mergeWarehouses(USER_ID)).thenReturn(Mono.just(0L));
+
+            // Act & Assert
+            StepVerifier.create(importService.importWarehouses(lines, TEXT_CSV, USER_ID))
+                    .assertNext(response -> {
+                        assertEquals(3, response.getRejected());
+                        assertEquals(1, response.getErrors().size());
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should reject a CSV header with missing columns")
+        void shouldRejectInvalidHeader() {
+            // Arrange
+            Flux<String> lines = Flux.just("product-name,quantity", "Rice,1");
+
+            // Act & Assert
+            StepVerifier.create(importService.importWarehouses(lines, TEXT_CSV, USER_ID))
+                    .expectError(ValidationException.class)
+                    .verify();
+
+            assertEquals("", copied.toString());
+        }
+
+        @Test
+        @DisplayName("Should wrap database failures in DataPersistantException")
+        void shouldWrapDatabaseFailures() {
+            // Arrange
+            Flux<String> lines = Flux.just("product-name,quantity,min-quantity", "Rice,1,1");
+            when(importRepository.mergeWarehouses(USER_ID))
+                    .thenReturn(Mono.error(new RuntimeException("Connection lost")));
+
+            // Act & Assert
+            StepVerifier.create(importService.importWarehouses(lines, TEXT_CSV, USER_ID))
+                    .expectError(DataPersistantException.class)
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Transaction Import Tests")
+    class TransactionImportTests {
+
+        @Test
+        @DisplayName("Should stage transactions with lower-case types and lock warehouses before checks")
+        void shouldStageTransactions() {
+            // Arrange
+            UUID warehouseId = UUID.randomUUID();
+            Flux<String> lines = Flux.just(
+                    "warehouse-id,quantity,type",
+                    warehouseId + ",5,import",
+                    warehouseId + ",2,EXPORT",
+                    warehouseId + ",0,export");
+            when(importRepository.rejectHistoryConflicts()).thenReturn(Flux.just(
+                    WarehouseImportDTO.RowError.builder()
+                            .line(3).value(warehouseId.toString()).reason("Insufficient inventory").build()));
+            when(importRepository.mergeHistory(eq(USER_ID))).thenReturn(Mono.just(1L));
+
+            // Act & Assert
+            StepVerifier.create(importService.importTransactions(lines, TEXT_CSV, USER_ID))
+                    .assertNext(response -> {
+                        assertEquals(3, response.getTotalRows());
+                        assertEquals(1, response.getImported());
+                        assertEquals(2, response.getRejected());
+                        List<Long> rejectedLines = response.getErrors().stream()
+                                .map(WarehouseImportDTO.RowError::getLine)
+                                .toList();
+                        assertEquals(List.of(3L, 4L), rejectedLines);
+                    })
+                    .verifyComplete();
+
+            assertEquals("\"2\",\"" + warehouseId + "\",\"5\",\"import\"\n"
+                    + "\"3\",\"" + warehouseId + "\",\"2\",\"export\"\n", copied.toString());
+            verify(importRepository).lockStagedWarehouses();
+        }
+
+        @Test
+        @DisplayName("Should evaluate thresholds and publish changes of the imported warehouses")
+        void shouldNotifyImportedWarehouses() {
+            // Arrange
+            UUID warehouseId = UUID.randomUUID();
+            Warehouse before = warehouse(warehouseId, 12);
+            Warehouse after = warehouse(warehouseId, 4);
+            Flux<String> lines = Flux.just(
+                    "warehouse-id,quantity,type",
+                    warehouseId + ",8,export");
+            when(importRepository.lockStagedWarehouses()).thenReturn(Flux.just(warehouseId));
+            when(warehouseRepository.findAllById(List.of(warehouseId)))
+                    .thenReturn(Flux.just(before), Flux.just(after));
+            when(importRepository.mergeHistory(eq(USER_ID))).thenReturn(Mono.just(1L));
+
+            // Act & Assert
+            StepVerifier.create(importService.importTransactions(lines, TEXT_CSV, USER_ID))
+                    .assertNext(response -> assertEquals(1, response.getImported()))
+                    .verifyComplete();
+
+            verify(alertProducer).publishOnThresholdCrossing(before, after);
+            verify(changeNotifier).publishAfterCommit(List.of(warehouseId));
+            verify(changeNotifier, never()).publishAllAfterCommit();
+        }
+    }
+}
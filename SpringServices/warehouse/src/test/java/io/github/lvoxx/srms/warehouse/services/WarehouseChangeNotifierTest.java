@@ -0,0 +1,136 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RTopicReactive;
+import org.redisson.api.RedissonReactiveClient;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Change Notifier Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseChangeNotifierTest {
+
+    @Mock
+    private RedissonReactiveClient redissonReactive;
+
+    @Mock
+    private RTopicReactive topic;
+
+    private Sinks.Many<String> remoteMessages;
+    private WarehouseChangeNotifier changeNotifier;
+
+    @BeforeEach
+    void setUp() {
+        remoteMessages = Sinks.many().multicast().directBestEffort();
+        when(redissonReactive.getTopic(eq(WarehouseChangeNotifier.TOPIC), any())).thenReturn(topic);
+        when(topic.getMessages(String.class)).thenReturn(remoteMessages.asFlux());
+        when(topic.publish(anyString())).thenReturn(Mono.just(1L));
+        changeNotifier = new WarehouseChangeNotifier(redissonReactive);
+    }
+
+    @Nested
+    @DisplayName("Publish Tests")
+    class PublishTests {
+
+        @Test
+        @DisplayName("Should emit locally and relay when there is no transaction")
+        void shouldEmitWithoutTransaction() {
+            // Arrange
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+
+            // Act & Assert
+            StepVerifier.create(changeNotifier.changes().take(2))
+                    .then(() -> changeNotifier.publishAfterCommit(List.of(first, second, first)).block())
+                    .expectNext(new WarehouseChangeNotifier.Change(first))
+                    .expectNext(new WarehouseChangeNotifier.Change(second))
+                    .verifyComplete();
+
+            ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+            verify(topic).publish(message.capture());
+            assertEquals(first + "," + second, message.getValue().substring(message.getValue().indexOf('|') + 1));
+        }
+
+        @Test
+        @DisplayName("Should skip publishing an empty id list")
+        void shouldSkipEmptyIds() {
+            // Act & Assert
+            StepVerifier.create(changeNotifier.publishAfterCommit(List.of()))
+                    .verifyComplete();
+
+            verify(topic, never()).publish(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Remote Change Tests")
+    class RemoteChangeTests {
+
+        @Test
+        @DisplayName("Should decode changes relayed by other instances")
+        void shouldDecodeRemoteChanges() {
+            // Arrange
+            UUID warehouseId = UUID.randomUUID();
+
+            // Act & Assert
+            StepVerifier.create(changeNotifier.changes().take(2))
+                    .then(() -> {
+                        remoteMessages.tryEmitNext("other-instance|" + warehouseId);
+                        remoteMessages.tryEmitNext("other-instance|*");
+                    })
+                    .expectNext(new WarehouseChangeNotifier.Change(warehouseId))
+                    .assertNext(change -> assertNull(change.warehouseId()))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should ignore messages published by this instance")
+        void shouldIgnoreOwnMessages() {
+            // Arrange
+            UUID warehouseId = UUID.randomUUID();
+            ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+
+            // Act & Assert
+            StepVerifier.create(changeNotifier.changes().take(2))
+                    .then(() -> changeNotifier.publishAllAfterCommit().block())
+                    .assertNext(change -> assertNull(change.warehouseId()))
+                    .then(() -> {
+                        verify(topic).publish(message.capture());
+                        remoteMessages.tryEmitNext(message.getValue());
+                        remoteMessages.tryEmitNext("other-instance|malformed");
+                        remoteMessages.tryEmitNext("other-instance|" + warehouseId);
+                    })
+                    .expectNext(new WarehouseChangeNotifier.Change(warehouseId))
+                    .verifyComplete();
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+
+import io.github.lvoxx.srms.controllerhandler.model.NotFoundException;
+import io.github.lvoxx.srms.controllerhandler.model.ValidationException;
+import io.github.lvoxx.srms.warehouse.config.WarehouseExportConfig;
+import io.github.lvoxx.srms.warehouse.dto.WarehouseExportDTO;
+import io.github.lvoxx.srms.warehouse.models.WarehouseHistory;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseHistoryStreamRepository;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse History Export Service Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock"), @Tag("Export")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseHistoryExportServiceTest {
+
+    @Mock
+    private WarehouseHistoryStreamRepository streamRepository;
+
+    @TempDir
+    private Path exportDirectory;
+
+    private WarehouseExportConfig exportConfig;
+    private ObjectMapper objectMapper;
+    private WarehouseHistoryExportService exportService;
+
+    private List<WarehouseHistory> rows;
+
+    @BeforeEach
+    void setUp() {
+        exportConfig = new WarehouseExportConfig();
+        exportConfig.setDirectory(exportDirectory);
+        exportConfig.setPartSize(2);
+        exportConfig.setFetchSize(10);
+
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        exportService = new WarehouseHistoryExportService(streamRepository, exportConfig, objectMapper);
+
+        OffsetDateTime base = OffsetDateTime.of(2025, 1, 1, 8, 0, 0, 0, ZoneOffset.UTC);
+        UUID warehouseId = UUID.randomUUID();
+        rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(WarehouseHistory.builder()
+                    .id(UUID.randomUUID())
+                    .warehouseId(warehouseId)
+                    .quantity(i + 1)
+                    .type(i % 2 == 0 ? "import" : "export")
+                    .updatedBy(i == 4 ? "user,\"quoted\"" : "user-" + i)
+                    .createdAt(base.plusMinutes(i))
+                    .build());
+        }
+    }
+
+    private WarehouseExportDTO.Checkpoint newCheckpoint(WarehouseExportDTO.Format format,
+            WarehouseExportDTO.Compression compression) {
+        return WarehouseExportDTO.Checkpoint.builder()
+                .jobId(UUID.randomUUID().toString())
+                .request(WarehouseExportDTO.Request.builder()
+                        .format(format)
+                        .compression(compression)
+                        .build())
+                .status(WarehouseExportDTO.Status.RUNNING)
+                .files(List.of())
+                .startedAt(OffsetDateTime.now())
+                .updatedAt(OffsetDateTime.now())
+                .build();
+    }
+
+    private List<String> readGzipLines(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV Export Tests")
+    class CsvExportTests {
+
+        @Test
+        @DisplayName("Should split rows into gzip CSV parts and checkpoint the last row")
+        void shouldWriteGzipCsvParts() throws IOException {
+            // Arrange
+            when(streamRepository.streamAfter(any(), any(), any(), isNull(), isNull(), eq(10)))
+                    .thenReturn(Flux.fromIterable(rows));
+            WarehouseExportDTO.Checkpoint checkpoint = newCheckpoint(
+                    WarehouseExportDTO.Format.CSV, WarehouseExportDTO.Compression.GZIP);
+
+            // Act & Assert
+            StepVerifier.create(exportService.runExport(checkpoint))
+                    .assertNext(result -> {
+                        assertEquals(WarehouseExportDTO.Status.COMPLETED, result.getStatus());
+                        assertEquals(5, result.getRowsWritten());
+                        assertEquals(3, result.getPartCount());
+                        assertEquals(rows.get(4).getId(), result.getLastId());
+                        assertEquals(checkpoint.getJobId() + ".part-00001.csv.gz", result.getFiles().get(0));
+                    })
+                    .verifyComplete();
+
+            List<String> first = readGzipLines(exportDirectory.resolve(checkpoint.getJobId() + ".part-00001.csv.gz"));
+            assertEquals("id,warehouse_id,quantity,type,updated_by,created_at", first.get(0));
+            assertEquals(3, first.size());
+            assertTrue(first.get(1).startsWith(rows.get(0).getId() + ","));
+
+            List<String> last = readGzipLines(exportDirectory.resolve(checkpoint.getJobId() + ".part-00003.csv.gz"));
+            assertEquals(2, last.size());
+            assertTrue(last.get(1).contains(",\"user,\"\"quoted\"\"\","));
+            assertTrue(Files.exists(exportDirectory.resolve(checkpoint.getJobId() + ".checkpoint.json")));
+        }
+
+        @Test
+        @DisplayName("Should resume a failed export after the last completed part")
+        void shouldResumeFromCheckpoint() throws IOException {
+            // Arrange
+            WarehouseHistory lastCommitted = rows.get(1);
+            when(streamRepository.streamAfter(any(), any(), any(), isNull(), isNull(), anyInt()))
+                    .thenReturn(Flux.fromIterable(rows.subList(0, 3))
+                            .concatWith(Flux.error(new RuntimeException("Connection reset"))));
+            when(streamRepository.streamAfter(any(), any(), any(),
+                    eq(lastCommitted.getCreatedAt()), eq(lastCommitted.getId()), anyInt()))
+                    .thenReturn(Flux.fromIterable(rows.subList(2, 5)));
+            WarehouseExportDTO.Checkpoint checkpoint = newCheckpoint(
+                    WarehouseExportDTO.Format.CSV, WarehouseExportDTO.Compression.GZIP);
+
+            // Act - first run fails while writing the second part
+            StepVerifier.create(exportService.runExport(checkpoint))
+                    .expectErrorMessage("Connection reset")
+                    .verify();
+
+            // Assert - only the completed part is checkpointed
+            WarehouseExportDTO.Checkpoint failed = objectMapper.readValue(
+                    exportDirectory.resolve(checkpoint.getJobId() + ".checkpoint.json").toFile(),
+                    WarehouseExportDTO.Checkpoint.class);
+            assertEquals(WarehouseExportDTO.Status.FAILED, failed.getStatus());
+            assertEquals(2, failed.getRowsWritten());
+            assertEquals(lastCommitted.getId(), failed.getLastId());
+            assertFalse(Files.exists(exportDirectory.resolve(checkpoint.getJobId() + ".part-00002.csv.gz.tmp")));
+
+            // Act - resume from the persisted checkpoint
+            StepVerifier.create(exportService.runExport(failed))
+                    .assertNext(result -> {
+                        assertEquals(WarehouseExportDTO.Status.COMPLETED, result.getStatus());
+                        assertEquals(5, result.getRowsWritten());
+                        assertEquals(3, result.getFiles().size());
+                    })
+                    .verifyComplete();
+
+            List<String> resumed = readGzipLines(exportDirectory.resolve(checkpoint.getJobId() + ".part-00002.csv.gz"));
+            assertTrue(resumed.get(1).startsWith(rows.get(2).getId() + ","));
+        }
+    }
+
+    @Nested
+    @DisplayName("Avro Export Tests")
+    class AvroExportTests {
+
+        @Test
+        @DisplayName("Should write zstd compressed Avro container files")
+        void shouldWriteZstdAvroParts() throws IOException {
+            // Arrange
+            exportConfig.setPartSize(10);
+            when(streamRepository.streamAfter(any(), any(), any(), isNull(), isNull(), anyInt()))
+                    .thenReturn(Flux.fromIterable(rows));
+            WarehouseExportDTO.Checkpoint checkpoint = newCheckpoint(
+                    WarehouseExportDTO.Format.AVRO, WarehouseExportDTO.Compression.ZSTD);
+
+            // Act
+            StepVerifier.create(exportService.runExport(checkpoint))
+                    .assertNext(result -> assertEquals(1, result.getPartCount()))
+                    .verifyComplete();
+
+            // Assert
+            Path part = exportDirectory.resolve(checkpoint.getJobId() + ".part-00001.avro");
+            List<GenericRecord> records = new ArrayList<>();
+            try (DataFileReader<GenericRecord> reader = new DataFileReader<>(
+                    part.toFile(), new GenericDatumReader<>())) {
+                assertEquals("zstandard", reader.getMetaString("avro.codec"));
+                reader.forEach(records::add);
+            }
+            assertEquals(5, records.size());
+            assertEquals(rows.get(0).getId().toString(), records.get(0).get("id").toString());
+            assertEquals(rows.get(4).getQuantity(), records.get(4).get("quantity"));
+        }
+
+        @Test
+        @DisplayName("Should write zstd compressed CSV parts")
+        void shouldWriteZstdCsvParts() throws IOException {
+            // Arrange
+            exportConfig.setPartSize(10);
+            when(streamRepository.streamAfter(any(), any(), any(), isNull(), isNull(), anyInt()))
+                    .thenReturn(Flux.fromIterable(rows));
+            WarehouseExportDTO.Checkpoint checkpoint = newCheckpoint(
+                    WarehouseExportDTO.Format.CSV, WarehouseExportDTO.Compression.ZSTD);
+
+            // Act
+            StepVerifier.create(exportService.runExport(checkpoint))
+                    .expectNextCount(1)
+                    .verifyComplete();
+
+            // Assert
+            Path part = exportDirectory.resolve(checkpoint.getJobId() + ".part-00001.csv.zst");
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new ZstdInputStream(Files.newInputStream(part)), StandardCharsets.UTF_8))) {
+                assertEquals(6, reader.lines().count());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Cancellation Tests")
+    class CancellationTests {
+
+        @Test
+        @DisplayName("Should delete the temporary file of the part being written")
+        void shouldDiscardIncompletePart() {
+            // Arrange - the second part stays open until cancelled
+            when(streamRepository.streamAfter(any(), any(), any(), isNull(), isNull(), anyInt()))
+                    .thenReturn(Flux.fromIterable(rows.subList(0, 3)).concatWith(Flux.never()));
+            WarehouseExportDTO.Checkpoint checkpoint = newCheckpoint(
+                    WarehouseExportDTO.Format.CSV, WarehouseExportDTO.Compression.GZIP);
+            Path temp = exportDirectory.resolve(checkpoint.getJobId() + ".part-00002.csv.gz.tmp");
+
+            // Act
+            StepVerifier.create(exportService.runExport(checkpoint))
+                    .then(() -> await().atMost(Duration.ofSeconds(5)).until(() -> Files.exists(temp)))
+                    .thenCancel()
+                    .verify();
+
+            // Assert - the completed part is kept
+            assertFalse(Files.exists(temp));
+            assertTrue(Files.exists(exportDirectory.resolve(checkpoint.getJobId() + ".part-00001.csv.gz")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Job Lookup Tests")
+    class JobLookupTests {
+
+        @Test
+        @DisplayName("Should throw NotFoundException for unknown job")
+        void shouldThrowNotFoundForUnknownJob() {
+            StepVerifier.create(exportService.getJob(UUID.randomUUID().toString()))
+                    .expectError(NotFoundException.class)
+                    .verify();
+
+            StepVerifier.create(exportService.getJob("../etc/passwd"))
+                    .expectError(NotFoundException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should report an interrupted job from its checkpoint after restart")
+        void shouldLoadInterruptedJobFromDisk() throws IOException {
+            // Arrange
+            WarehouseExportDTO.Checkpoint checkpoint = newCheckpoint(
+                    WarehouseExportDTO.Format.CSV, WarehouseExportDTO.Compression.GZIP)
+                    .toBuilder().rowsWritten(42).build();
+            objectMapper.writeValue(
+                    exportDirectory.resolve(checkpoint.getJobId() + ".checkpoint.json").toFile(), checkpoint);
+
+            // Act & Assert
+            StepVerifier.create(exportService.getJob(checkpoint.getJobId()))
+                    .assertNext(response -> {
+                        assertEquals(WarehouseExportDTO.Status.FAILED, response.getStatus());
+                        assertEquals(42, response.getRowsWritten());
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should reject an inverted date range")
+        void shouldRejectInvertedDateRange() {
+            WarehouseExportDTO.Request request = WarehouseExportDTO.Request.builder()
+                    .createdFrom(OffsetDateTime.now())
+                    .createdTo(OffsetDateTime.now().minusDays(1))
+                    .build();
+
+            StepVerifier.create(exportService.startExport(request))
+                    .expectError(ValidationException.class)
+                    .verify();
+        }
+    }
+}
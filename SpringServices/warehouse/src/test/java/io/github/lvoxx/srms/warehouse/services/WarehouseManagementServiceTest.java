@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Tags;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,6 +32,7 @@ import org.springframework.data.domain.Pageable;
 
 import io.github.lvoxx.srms.controllerhandler.model.ConflictException;
 import io.github.lvoxx.srms.controllerhandler.model.DataPersistantException;
+import io.github.lvoxx.srms.controllerhandler.model.InternalServerException;
 import io.github.lvoxx.srms.controllerhandler.model.NotFoundException;
 import io.github.lvoxx.srms.controllerhandler.model.ValidationException;
 import io.github.lvoxx.srms.redisson.services.ReactiveRowLockService;
@@ -64,6 +67,12 @@ public class WarehouseManagementServiceTest {
     @Mock
     private ReactiveRowLockService reactiveRowLockService;
 
+    @Mock
+    private WarehouseChangeNotifier changeNotifier;
+
+    @Mock
+    private WarehouseAlertProducerService alertProducer;
+
     @InjectMocks
     private WarehouseManagementService managementService;
 
@@ -109,6 +118,8 @@ public class WarehouseManagementServiceTest {
                 .build();
 
         RowLockServiceMockHelper.setupSuccessfulLock(reactiveRowLockService);
+        when(changeNotifier.publishAfterCommit(any())).thenReturn(Mono.empty());
+        when(alertProducer.publishOnThresholdCrossing(any(), any())).thenReturn(Mono.empty());
     }
 
     @Nested
@@ -411,6 +422,38 @@ public class WarehouseManagementServiceTest {
             verify(warehouseHistoryRepository).save(any(WarehouseHistory.class));
         }
 
+        @Test
+        @DisplayName("Should publish an inventory change only for committed transactions")
+        void shouldPublishInventoryChange() {
+            // Arrange
+            WarehouseDTO.InventoryTransactionRequest request = WarehouseDTO.InventoryTransactionRequest.builder()
+                    .warehouseId(testWarehouseId)
+                    .quantity(10)
+                    .type(WarehouseHistory.HistoryType.IMPORT)
+                    .updatedBy(testUserId)
+                    .build();
+
+            when(warehouseRepository.findById(testWarehouseId, false))
+                    .thenReturn(Mono.just(testWarehouse));
+            when(warehouseMapper.toHistoryEntity(any()))
+                    .thenReturn(new WarehouseHistory());
+            when(warehouseHistoryRepository.save(any(WarehouseHistory.class)))
+                    .thenReturn(Mono.just(new WarehouseHistory()))
+                    .thenReturn(Mono.error(new RuntimeException("Connection lost")));
+            when(warehouseMapper.toResponse(any(Warehouse.class)))
+                    .thenReturn(testResponse);
+
+            // Act & Assert
+            StepVerifier.create(managementService.processInventoryTransaction(request))
+                    .expectNext(testResponse)
+                    .verifyComplete();
+            StepVerifier.create(managementService.processInventoryTransaction(request))
+                    .expectError(InternalServerException.class)
+                    .verify();
+
+            verify(changeNotifier, times(1)).publishAfterCommit(List.of(testWarehouseId));
+        }
+
         @Test
         @DisplayName("Should export inventory successfully")
         void shouldExportInventorySuccessfully() {
@@ -443,6 +486,39 @@ public class WarehouseManagementServiceTest {
                     .verifyComplete();
         }
 
+        @Test
+        @DisplayName("Should check alert thresholds against stock before and after the transaction")
+        void shouldCheckAlertThresholdsOnTransaction() {
+            // Arrange
+            WarehouseDTO.InventoryTransactionRequest request = WarehouseDTO.InventoryTransactionRequest.builder()
+                    .warehouseId(testWarehouseId)
+                    .quantity(60)
+                    .type(WarehouseHistory.HistoryType.EXPORT)
+                    .updatedBy(testUserId)
+                    .build();
+
+            Warehouse updatedWarehouse = testWarehouse.toBuilder()
+                    .quantity(40) // 100 - 60, below minimum of 50
+                    .build();
+
+            when(warehouseRepository.findById(testWarehouseId, false))
+                    .thenReturn(Mono.just(testWarehouse))
+                    .thenReturn(Mono.just(updatedWarehouse));
+            when(warehouseMapper.toHistoryEntity(any()))
+                    .thenReturn(new WarehouseHistory());
+            when(warehouseHistoryRepository.save(any(WarehouseHistory.class)))
+                    .thenReturn(Mono.just(new WarehouseHistory()));
+            when(warehouseMapper.toResponse(any(Warehouse.class)))
+                    .thenReturn(testResponse);
+
+            // Act & Assert
+            StepVerifier.create(managementService.processInventoryTransaction(request))
+                    .expectNext(testResponse)
+                    .verifyComplete();
+
+            verify(alertProducer).publishOnThresholdCrossing(testWarehouse, updatedWarehouse);
+        }
+
         @Test
         @DisplayName("Should throw ValidationException when exporting more than available")
         void shouldThrowValidationExceptionWhenExportingTooMuch() {
@@ -669,10 +745,10 @@ public class WarehouseManagementServiceTest {
             UUID id1 = UUID.randomUUID();
             UUID id2 = UUID.randomUUID();
 
-            when(warehouseRepository.findById(any(UUID.class), eq(false)))
-                    .thenReturn(Mono.just(testWarehouse));
-            when(warehouseRepository.softDelete(any(UUID.class), any(), any()))
-                    .thenReturn(Mono.just(1));
+            when(warehouseRepository.softDeleteAll(any(UUID[].class), any(), eq(testUserId)))
+                    .thenReturn(Flux.just(
+                            new WarehouseRepository.StateChange(id1, true, true),
+                            new WarehouseRepository.StateChange(id2, true, true)));
 
             // Act
             Mono<Long> result = managementService.batchSoftDelete(Flux.just(id1, id2), testUserId);
@@ -690,18 +766,90 @@ public class WarehouseManagementServiceTest {
             UUID id1 = UUID.randomUUID();
             UUID id2 = UUID.randomUUID();
 
-            when(warehouseRepository.findById(eq(id1), eq(false)))
-                    .thenReturn(Mono.just(testWarehouse));
-            when(warehouseRepository.findById(eq(id2), eq(false)))
-                    .thenReturn(Mono.empty());
-            when(warehouseRepository.softDelete(eq(id1), any(), any()))
-                    .thenReturn(Mono.just(1));
+            when(warehouseRepository.softDeleteAll(any(UUID[].class), any(), eq(testUserId)))
+                    .thenReturn(Flux.just(
+                            new WarehouseRepository.StateChange(id1, true, true),
+                            new WarehouseRepository.StateChange(id2, false, false)));
 
             // Act & Assert - Should complete with 1 success
             StepVerifier.create(managementService.batchSoftDelete(Flux.just(id1, id2), testUserId))
                     .assertNext(count -> assertEquals(1L, count))
                     .verifyComplete();
         }
+
+        @Test
+        @DisplayName("Should batch soft delete in one statement and classify every id")
+        void shouldBatchSoftDeleteAllWithReport() {
+            // Arrange
+            UUID deleted = UUID.randomUUID();
+            UUID missing = UUID.randomUUID();
+            UUID alreadyDeleted = UUID.randomUUID();
+
+            when(warehouseRepository.softDeleteAll(any(UUID[].class), any(), eq(testUserId)))
+                    .thenReturn(Flux.just(
+                            new WarehouseRepository.StateChange(deleted, true, true),
+                            new WarehouseRepository.StateChange(missing, false, false),
+                            new WarehouseRepository.StateChange(alreadyDeleted, false, true)));
+
+            // Act & Assert
+            StepVerifier.create(managementService.batchSoftDeleteAll(
+                    List.of(deleted, missing, alreadyDeleted, deleted), testUserId))
+                    .assertNext(response -> {
+                        assertEquals(3, response.getRequested());
+                        assertEquals(List.of(deleted), response.getUpdated());
+                        assertEquals(List.of(missing), response.getMissing());
+                        assertEquals(List.of(alreadyDeleted), response.getUnchanged());
+                    })
+                    .verifyComplete();
+
+            ArgumentCaptor<UUID[]> idsCaptor = ArgumentCaptor.forClass(UUID[].class);
+            verify(warehouseRepository, times(1)).softDeleteAll(idsCaptor.capture(), any(), eq(testUserId));
+            assertEquals(3, idsCaptor.getValue().length);
+            verify(warehouseRepository, never()).softDelete(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should batch restore in one statement")
+        void shouldBatchRestore() {
+            // Arrange
+            UUID restored = UUID.randomUUID();
+            UUID notDeleted = UUID.randomUUID();
+
+            when(warehouseRepository.restoreAll(any(UUID[].class), any(), eq(testUserId)))
+                    .thenReturn(Flux.just(
+                            new WarehouseRepository.StateChange(restored, true, true),
+                            new WarehouseRepository.StateChange(notDeleted, false, true)));
+
+            // Act & Assert
+            StepVerifier.create(managementService.batchRestore(List.of(restored, notDeleted), testUserId))
+                    .assertNext(response -> {
+                        assertEquals(List.of(restored), response.getUpdated());
+                        assertEquals(List.of(notDeleted), response.getUnchanged());
+                        assertEquals(List.of(), response.getMissing());
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should skip the database for an empty batch")
+        void shouldSkipDatabaseForEmptyBatch() {
+            StepVerifier.create(managementService.batchRestore(List.of(), testUserId))
+                    .assertNext(response -> assertEquals(0, response.getRequested()))
+                    .verifyComplete();
+
+            verify(warehouseRepository, never()).restoreAll(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw InternalServerException when batch update fails")
+        void shouldThrowWhenBatchUpdateFails() {
+            when(warehouseRepository.softDeleteAll(any(UUID[].class), any(), any()))
+                    .thenReturn(Flux.error(new RuntimeException("Database error")));
+
+            StepVerifier.create(managementService.batchSoftDeleteAll(List.of(UUID.randomUUID()), testUserId))
+                    .expectError(InternalServerException.class)
+                    .verify();
+        }
     }
 
     @Nested
@@ -0,0 +1,231 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.InventoryUpdateType;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseInventoryUpdateMessage;
+import io.github.lvoxx.srms.warehouse.config.WarehouseOutboxConfig;
+import io.github.lvoxx.srms.warehouse.models.WarehouseOutboxEvent;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseOutboxRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Outbox Relay Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseOutboxRelayTest {
+
+    @Mock
+    private WarehouseOutboxRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, WarehouseInventoryUpdateMessage> kafkaTemplate;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private WarehouseOutboxConfig outboxConfig;
+    private WarehouseOutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxConfig = new WarehouseOutboxConfig();
+        outboxConfig.setBatchSize(2);
+        outboxConfig.setSendTimeout(Duration.ofSeconds(1));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(outboxRepository.tryLockRelay()).thenReturn(Mono.just(true));
+        when(outboxRepository.deleteRelayed(any())).thenAnswer(
+                invocation -> Mono.just(invocation.getArgument(0, UUID[].class).length));
+        when(kafkaTemplate.send(anyString(), anyString(), any(WarehouseInventoryUpdateMessage.class)))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+        relay = new WarehouseOutboxRelay(outboxRepository, kafkaTemplate, transactionalOperator, outboxConfig);
+    }
+
+    private static WarehouseOutboxEvent event(String type) {
+        return WarehouseOutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .warehouseId(UUID.randomUUID())
+                .productName("Mozzarella Cheese")
+                .type(type)
+                .quantity(30)
+                .quantityAfter(170)
+                .minQuantity(50)
+                .version(4L)
+                .updatedBy("user-1")
+                .occurredAt(OffsetDateTime.now())
+                .createdAt(OffsetDateTime.now())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Drain Tests")
+    class DrainTests {
+
+        @Test
+        @DisplayName("Should relay batches until the outbox is drained")
+        void shouldRelayUntilDrained() {
+            // Arrange
+            when(outboxRepository.findOldest(2))
+                    .thenReturn(Flux.just(event("import"), event("export")))
+                    .thenReturn(Flux.just(event("import")));
+
+            // Act & Assert
+            StepVerifier.create(relay.drain())
+                    .expectNext(3L)
+                    .verifyComplete();
+            verify(kafkaTemplate, times(3)).send(eq(Topics.WAREHOUSE_INVENTORY_UPDATES), anyString(),
+                    any(WarehouseInventoryUpdateMessage.class));
+            verify(outboxRepository, times(2)).deleteRelayed(any());
+        }
+
+        @Test
+        @DisplayName("Should key events by warehouse id and delete them once sent")
+        void shouldKeyByWarehouseAndDelete() {
+            // Arrange
+            WarehouseOutboxEvent event = event("import");
+            when(outboxRepository.findOldest(anyInt())).thenReturn(Flux.just(event));
+            ArgumentCaptor<UUID[]> deleted = ArgumentCaptor.forClass(UUID[].class);
+
+            // Act
+            StepVerifier.create(relay.drain())
+                    .expectNext(1L)
+                    .verifyComplete();
+
+            // Assert
+            verify(kafkaTemplate).send(eq(Topics.WAREHOUSE_INVENTORY_UPDATES), eq(event.getWarehouseId().toString()),
+                    any(WarehouseInventoryUpdateMessage.class));
+            verify(outboxRepository).deleteRelayed(deleted.capture());
+            assertEquals(List.of(event.getId()), List.of(deleted.getValue()));
+        }
+
+        @Test
+        @DisplayName("Should keep events in the outbox when a send fails")
+        void shouldKeepEventsWhenSendFails() {
+            // Arrange
+            when(outboxRepository.findOldest(anyInt())).thenReturn(Flux.just(event("export")));
+            when(kafkaTemplate.send(anyString(), anyString(), any(WarehouseInventoryUpdateMessage.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker unavailable")));
+
+            // Act & Assert
+            StepVerifier.create(relay.drain())
+                    .expectError(RuntimeException.class)
+                    .verify();
+            verify(outboxRepository, never()).deleteRelayed(any());
+        }
+
+        @Test
+        @DisplayName("Should keep events in the outbox when Kafka does not acknowledge in time")
+        void shouldKeepEventsOnTimeout() {
+            // Arrange
+            when(outboxRepository.findOldest(anyInt())).thenReturn(Flux.just(event("import")));
+            when(kafkaTemplate.send(anyString(), anyString(), any(WarehouseInventoryUpdateMessage.class)))
+                    .thenReturn(new CompletableFuture<>());
+
+            // Act & Assert
+            StepVerifier.create(relay.drain())
+                    .expectError(TimeoutException.class)
+                    .verify(Duration.ofSeconds(5));
+            verify(outboxRepository, never()).deleteRelayed(any());
+        }
+
+        @Test
+        @DisplayName("Should skip the drain while another instance holds the relay lock")
+        void shouldSkipWhenLocked() {
+            // Arrange
+            when(outboxRepository.tryLockRelay()).thenReturn(Mono.just(false));
+
+            // Act & Assert
+            StepVerifier.create(relay.drain())
+                    .expectNext(0L)
+                    .verifyComplete();
+            verify(outboxRepository, never()).findOldest(anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Message Building Tests")
+    class MessageBuildingTests {
+
+        @Test
+        @DisplayName("Should map an outbox event to an inventory update message")
+        void shouldMapEvent() {
+            // Arrange
+            WarehouseOutboxEvent event = event("export");
+
+            // Act
+            WarehouseInventoryUpdateMessage message = WarehouseOutboxRelay.toMessage(event);
+
+            // Assert
+            assertEquals(event.getId().toString(), message.getEventId());
+            assertEquals(event.getWarehouseId().toString(), message.getWarehouseId());
+            assertEquals(InventoryUpdateType.EXPORT, message.getType());
+            assertEquals(30, message.getQuantity());
+            assertEquals(170, message.getQuantityAfter());
+            assertEquals(50, message.getMinQuantity());
+            assertEquals(4L, message.getVersion());
+            assertEquals(event.getOccurredAt().toInstant().truncatedTo(ChronoUnit.MILLIS),
+                    message.getTimestamp());
+        }
+
+        @Test
+        @DisplayName("Should preserve the order of a batch when sending")
+        void shouldPreserveBatchOrder() {
+            // Arrange
+            List<WarehouseOutboxEvent> events = List.of(event("import"), event("export"));
+            List<String> sentKeys = new ArrayList<>();
+            when(kafkaTemplate.send(anyString(), anyString(), any(WarehouseInventoryUpdateMessage.class)))
+                    .thenAnswer(invocation -> {
+                        sentKeys.add(invocation.getArgument(1, String.class));
+                        return CompletableFuture.completedFuture(new SendResult<>(null, null));
+                    });
+            when(outboxRepository.findOldest(anyInt()))
+                    .thenReturn(Flux.fromIterable(events))
+                    .thenReturn(Flux.empty());
+
+            // Act
+            relay.drain().block(Duration.ofSeconds(5));
+
+            // Assert
+            assertEquals(events.stream().map(e -> e.getWarehouseId().toString()).toList(), sentKeys);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -362,6 +363,56 @@ public class WarehouseStatisticServiceTest {
                 })
                 .verifyComplete();
         }
+
+        @Test
+        @DisplayName("Should get alerts after a keyset cursor")
+        void shouldGetAlertsAfterCursor() {
+            // Arrange
+            Warehouse outOfStock = createWarehouse("Out of Stock", 0, 50);
+            Warehouse belowMin = createWarehouse("Below Min", 30, 50);
+
+            when(warehouseRepository.findAlertingAfter(testWarehouseId, 0, 1, 2))
+                .thenReturn(Flux.just(outOfStock, belowMin));
+
+            // Act & Assert
+            StepVerifier.create(statisticService.getAlertsAfter(testWarehouseId, WarehouseAlertShards.Shard.ALL, 2))
+                .assertNext(item -> assertEquals("CRITICAL", item.getSeverity()))
+                .assertNext(item -> assertEquals("WARNING", item.getSeverity()))
+                .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should wrap keyset alert lookup errors")
+        void shouldWrapAlertsAfterErrors() {
+            // Arrange
+            when(warehouseRepository.findAlertingAfter(null, 0, 1, 10))
+                .thenReturn(Flux.error(new RuntimeException("Database error")));
+
+            // Act & Assert
+            StepVerifier.create(statisticService.getAlertsAfter(null, WarehouseAlertShards.Shard.ALL, 10))
+                .expectError(InternalServerException.class)
+                .verify();
+        }
+
+        @Test
+        @DisplayName("Should report deleted products at the normal level")
+        void shouldReportDeletedProductsAsNormal() {
+            // Arrange
+            Warehouse alerting = createWarehouse("Alerting", 2, 10);
+            Warehouse deleted = createWarehouse("Deleted", 0, 10);
+            deleted.markAsDeleted();
+            List<UUID> ids = List.of(alerting.getId(), deleted.getId());
+            when(warehouseRepository.findAllById(ids)).thenReturn(Flux.just(alerting, deleted));
+
+            // Act & Assert
+            StepVerifier.create(statisticService.getAlertStates(ids))
+                .assertNext(item -> assertEquals("WARNING", item.getSeverity()))
+                .assertNext(item -> {
+                    assertEquals(deleted.getId(), item.getId());
+                    assertEquals("INFO", item.getSeverity());
+                })
+                .verifyComplete();
+        }
     }
 
     @Nested
@@ -623,74 +674,6 @@ public class WarehouseStatisticServiceTest {
         }
     }
 
-    @Nested
-    @DisplayName("Stream Tests")
-    class StreamTests {
-
-        @Test
-        @DisplayName("Should create dashboard statistics stream")
-        void shouldCreateDashboardStatisticsStream() {
-            // Arrange
-            when(warehouseRepository.countAll(false)).thenReturn(Mono.just(100L));
-            when(warehouseRepository.countBelowMinimum()).thenReturn(Mono.just(20L));
-            when(warehouseRepository.countOutOfStock()).thenReturn(Mono.just(5L));
-            when(warehouseHistoryRepository.countAll()).thenReturn(Mono.just(500L));
-            when(warehouseHistoryRepository.countByType("import")).thenReturn(Mono.just(300L));
-            when(warehouseHistoryRepository.countByType("export")).thenReturn(Mono.just(200L));
-
-            // Act
-            Flux<WarehouseStatisticDTO.DashboardResponse> stream = 
-                statisticService.streamDashboardStatistics();
-
-            // Assert
-            StepVerifier.create(stream.take(2))
-                .expectNextCount(2)
-                .verifyComplete();
-        }
-
-        @Test
-        @DisplayName("Should create warehouse details stream")
-        void shouldCreateWarehouseDetailsStream() {
-            // Arrange
-            when(warehouseRepository.findById(testWarehouseId, false))
-                .thenReturn(Mono.just(testWarehouse));
-            when(warehouseHistoryRepository.getTotalImportQuantity(testWarehouseId))
-                .thenReturn(Mono.just(1000L));
-            when(warehouseHistoryRepository.getTotalExportQuantity(testWarehouseId))
-                .thenReturn(Mono.just(600L));
-            when(warehouseHistoryRepository.countByWarehouseId(testWarehouseId))
-                .thenReturn(Mono.just(50L));
-            when(warehouseMapper.toResponse(testWarehouse))
-                .thenReturn(testWarehouseResponse);
-
-            // Act
-            Flux<WarehouseStatisticDTO.WarehouseDetailsResponse> stream = 
-                statisticService.streamWarehouseDetails(testWarehouseId);
-
-            // Assert
-            StepVerifier.create(stream.take(1))
-                .expectNextCount(1)
-                .verifyComplete();
-        }
-
-        @Test
-        @DisplayName("Should handle errors in stream gracefully")
-        void shouldHandleErrorsInStreamGracefully() {
-            // Arrange
-            when(warehouseRepository.countAll(false))
-                .thenReturn(Mono.error(new RuntimeException("Stream error")));
-
-            // Act
-            Flux<WarehouseStatisticDTO.DashboardResponse> stream = 
-                statisticService.streamDashboardStatistics();
-
-            // Assert - Stream should complete without errors
-            StepVerifier.create(stream.take(1))
-                .expectComplete()
-                .verify();
-        }
-    }
-
     // Helper method
     private Warehouse createWarehouse(String name, int quantity, int minQuantity) {
         return Warehouse.builder()
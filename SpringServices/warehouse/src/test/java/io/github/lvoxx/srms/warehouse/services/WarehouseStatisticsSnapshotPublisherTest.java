@@ -0,0 +1,223 @@
+package io.github.lvoxx.srms.warehouse.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import io.github.lvoxx.srms.kafka.utils.Topics;
+import io.github.lvoxx.srms.kafka.warehouse.StatisticsScope;
+import io.github.lvoxx.srms.kafka.warehouse.WarehouseStatisticsSnapshot;
+import io.github.lvoxx.srms.warehouse.config.WarehouseSnapshotConfig;
+import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseRepository;
+import io.github.lvoxx.srms.warehouse.repositories.WarehouseRepository.StatisticsRow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Statistics Snapshot Publisher Tests")
+@Tags({
+        @Tag("Service"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseStatisticsSnapshotPublisherTest {
+
+    @Mock
+    private WarehouseRepository warehouseRepository;
+
+    @Mock
+    private WarehouseStatisticService statisticService;
+
+    @Mock
+    private WarehouseAlertShards shards;
+
+    @Mock
+    private KafkaTemplate<String, WarehouseStatisticsSnapshot> kafkaTemplate;
+
+    private List<ProducerRecord<String, WarehouseStatisticsSnapshot>> sent;
+    private WarehouseStatisticsSnapshotPublisher publisher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        WarehouseSnapshotConfig snapshotConfig = new WarehouseSnapshotConfig();
+        snapshotConfig.setPageSize(2);
+        snapshotConfig.setSendTimeout(Duration.ofSeconds(1));
+        sent = new ArrayList<>();
+        when(shards.currentShard()).thenReturn(Mono.just(WarehouseAlertShards.Shard.ALL));
+        when(statisticService.getDashboardStatistics()).thenReturn(Mono.just(dashboard()));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(new SendResult<>(null, null));
+        });
+        publisher = new WarehouseStatisticsSnapshotPublisher(warehouseRepository, statisticService, shards,
+                kafkaTemplate, snapshotConfig);
+    }
+
+    private static StatisticsRow row(boolean deleted) {
+        return new StatisticsRow(UUID.randomUUID(), "Mozzarella Cheese", 120, 50, 300L, 180L, 12L, 7L, deleted);
+    }
+
+    private static WarehouseStatisticDTO.DashboardResponse dashboard() {
+        return WarehouseStatisticDTO.DashboardResponse.builder()
+                .totalWarehouses(10L)
+                .healthyWarehouses(7L)
+                .belowMinimum(2L)
+                .outOfStock(1L)
+                .healthPercentage(70.0)
+                .totalTransactions(40L)
+                .totalImportTransactions(25L)
+                .totalExportTransactions(15L)
+                .timestamp(OffsetDateTime.now())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Publishing Tests")
+    class PublishingTests {
+
+        @Test
+        @DisplayName("Should page through warehouses and publish the dashboard")
+        void shouldPageAndPublishDashboard() {
+            // Arrange
+            StatisticsRow first = row(false);
+            StatisticsRow second = row(false);
+            StatisticsRow third = row(false);
+            when(warehouseRepository.findStatisticsAfter(any(), anyInt(), anyInt(), anyInt()))
+                    .thenReturn(Flux.just(first, second))
+                    .thenReturn(Flux.just(third));
+
+            // Act & Assert
+            StepVerifier.create(publisher.publishAll())
+                    .expectNext(4L)
+                    .verifyComplete();
+            verify(warehouseRepository).findStatisticsAfter(eq(second.id()), anyInt(), anyInt(), eq(2));
+            assertEquals(List.of(first.id().toString(), second.id().toString(), third.id().toString(),
+                    Topics.WAREHOUSE_STATISTICS_DASHBOARD_KEY), sent.stream().map(ProducerRecord::key).toList());
+        }
+
+        @Test
+        @DisplayName("Should send a tombstone for a deleted warehouse")
+        void shouldSendTombstone() {
+            // Arrange
+            StatisticsRow deleted = row(true);
+            when(warehouseRepository.findStatisticsAfter(any(), anyInt(), anyInt(), anyInt()))
+                    .thenReturn(Flux.just(deleted));
+
+            // Act
+            publisher.publishAll().block(Duration.ofSeconds(5));
+
+            // Assert
+            assertEquals(deleted.id().toString(), sent.get(0).key());
+            assertNull(sent.get(0).value());
+        }
+
+        @Test
+        @DisplayName("Should publish the dashboard only from the first shard")
+        void shouldSkipDashboardOnOtherShards() {
+            // Arrange
+            when(shards.currentShard()).thenReturn(Mono.just(WarehouseAlertShards.Shard.of(1, 2)));
+            when(warehouseRepository.findStatisticsAfter(any(), anyInt(), anyInt(), anyInt()))
+                    .thenReturn(Flux.just(row(false)));
+
+            // Act & Assert
+            StepVerifier.create(publisher.publishAll())
+                    .expectNext(1L)
+                    .verifyComplete();
+            verify(statisticService, never()).getDashboardStatistics();
+        }
+
+        @Test
+        @DisplayName("Should fail when Kafka does not acknowledge a page")
+        @SuppressWarnings("unchecked")
+        void shouldFailWhenSendFails() {
+            // Arrange
+            when(warehouseRepository.findStatisticsAfter(any(), anyInt(), anyInt(), anyInt()))
+                    .thenReturn(Flux.just(row(false)));
+            when(kafkaTemplate.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker unavailable")));
+
+            // Act & Assert
+            StepVerifier.create(publisher.publishAll())
+                    .expectError(RuntimeException.class)
+                    .verify();
+            verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Message Building Tests")
+    class MessageBuildingTests {
+
+        @Test
+        @DisplayName("Should map warehouse statistics to a snapshot")
+        void shouldMapWarehouse() {
+            // Arrange
+            StatisticsRow row = row(false);
+
+            // Act
+            ProducerRecord<String, WarehouseStatisticsSnapshot> record = WarehouseStatisticsSnapshotPublisher
+                    .toRecord(row);
+
+            // Assert
+            assertEquals(Topics.WAREHOUSE_STATISTICS, record.topic());
+            assertEquals(StatisticsScope.WAREHOUSE, record.value().getScope());
+            assertEquals(120, record.value().getWarehouse().getQuantity());
+            assertEquals(300L, record.value().getWarehouse().getTotalImport());
+            assertEquals(180L, record.value().getWarehouse().getTotalExport());
+            assertEquals(12L, record.value().getWarehouse().getTransactionCount());
+            assertEquals(7L, record.value().getWarehouse().getVersion());
+            assertNull(record.value().getDashboard());
+        }
+
+        @Test
+        @DisplayName("Should map dashboard statistics to a snapshot")
+        void shouldMapDashboard() {
+            // Arrange
+            WarehouseStatisticDTO.DashboardResponse stats = dashboard();
+
+            // Act
+            ProducerRecord<String, WarehouseStatisticsSnapshot> record = WarehouseStatisticsSnapshotPublisher
+                    .toRecord(stats);
+
+            // Assert
+            assertEquals(Topics.WAREHOUSE_STATISTICS_DASHBOARD_KEY, record.key());
+            assertEquals(StatisticsScope.DASHBOARD, record.value().getScope());
+            assertEquals(10L, record.value().getDashboard().getTotalWarehouses());
+            assertEquals(2L, record.value().getDashboard().getBelowMinimum());
+            assertEquals(1L, record.value().getDashboard().getOutOfStock());
+            assertEquals(stats.getTimestamp().toInstant().truncatedTo(ChronoUnit.MILLIS),
+                    record.value().getTimestamp());
+        }
+    }
+}
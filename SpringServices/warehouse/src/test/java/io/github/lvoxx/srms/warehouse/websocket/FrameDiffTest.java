@@ -0,0 +1,76 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
+
+@DisplayName("Frame Diff Tests")
+@Tags({
+        @Tag("WebSocket"), @Tag("Mock")
+})
+public class FrameDiffTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode json(String value) throws Exception {
+        return objectMapper.readTree(value.replace('\'', '"'));
+    }
+
+    @Test
+    @DisplayName("Should report only changed and removed fields")
+    void shouldDiffFields() throws Exception {
+        WarehouseStatisticDTO.WebSocketDelta delta = FrameDiff.diff(
+                json("{'a':1,'b':{'x':1},'c':3,'timestamp':1}"),
+                json("{'a':1,'b':{'x':2},'timestamp':2}"),
+                null);
+
+        assertEquals(List.of("b", "timestamp"), List.copyOf(delta.getChanged().keySet()));
+        assertEquals(List.of("c"), delta.getRemoved());
+        assertFalse(FrameDiff.isEmpty(delta));
+    }
+
+    @Test
+    @DisplayName("Should treat a timestamp only change as empty")
+    void shouldIgnoreVolatileFields() throws Exception {
+        WarehouseStatisticDTO.WebSocketDelta delta = FrameDiff.diff(
+                json("{'a':1,'timestamp':1}"), json("{'a':1,'timestamp':2}"), null);
+
+        assertTrue(FrameDiff.isEmpty(delta));
+    }
+
+    @Test
+    @DisplayName("Should diff items by id and send the order only when it moved")
+    void shouldDiffItems() throws Exception {
+        WarehouseStatisticDTO.WebSocketDelta appended = FrameDiff.diff(
+                json("{'items':[{'id':'1','q':1},{'id':'2','q':2}]}"),
+                json("{'items':[{'id':'1','q':0},{'id':'3','q':3}]}"),
+                "items");
+
+        assertEquals(1, appended.getUpdatedItems().size());
+        assertEquals(1, appended.getAddedItems().size());
+        assertEquals(List.of("2"), appended.getRemovedItems());
+        assertTrue(appended.getChanged().isEmpty());
+        assertNull(appended.getItemOrder());
+
+        WarehouseStatisticDTO.WebSocketDelta reordered = FrameDiff.diff(
+                json("{'items':[{'id':'1'},{'id':'2'}]}"),
+                json("{'items':[{'id':'2'},{'id':'1'}]}"),
+                "items");
+
+        assertEquals(List.of("2", "1"), reordered.getItemOrder());
+        assertFalse(FrameDiff.isEmpty(reordered));
+    }
+}
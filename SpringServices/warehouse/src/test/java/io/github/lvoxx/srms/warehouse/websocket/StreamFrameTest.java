@@ -0,0 +1,66 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("Stream Frame Tests")
+@Tags({
+        @Tag("WebSocket"), @Tag("Mock")
+})
+public class StreamFrameTest {
+
+    private static StreamFrame frame(long sequence) {
+        return new StreamFrame(sequence, "snapshot-" + sequence, sequence == 1 ? null : "delta-" + sequence);
+    }
+
+    @Test
+    @DisplayName("Should start with a snapshot and continue with deltas")
+    void shouldSendSnapshotThenDeltas() {
+        StepVerifier.create(StreamFrame.forSession(Flux.just(frame(1), frame(2), frame(3)), Flux.never()).take(3))
+                .expectNext("snapshot-1", "delta-2", "delta-3")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should start a late joiner with a snapshot")
+    void shouldSendSnapshotToLateJoiner() {
+        StepVerifier.create(StreamFrame.forSession(Flux.just(frame(5), frame(6)), Flux.never()).take(2))
+                .expectNext("snapshot-5", "delta-6")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should fall back to a snapshot when a sequence was skipped")
+    void shouldSendSnapshotAfterGap() {
+        StepVerifier.create(StreamFrame.forSession(Flux.just(frame(1), frame(2), frame(4), frame(5)), Flux.never())
+                .take(4))
+                .expectNext("snapshot-1", "delta-2", "snapshot-4", "delta-5")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should answer a resync request with the latest snapshot")
+    void shouldResendSnapshotOnResync() {
+        Sinks.Many<StreamFrame> frames = Sinks.many().multicast().directBestEffort();
+        Sinks.Many<String> resyncs = Sinks.many().multicast().directBestEffort();
+
+        StepVerifier.create(StreamFrame.forSession(frames.asFlux(), resyncs.asFlux()))
+                .then(() -> resyncs.tryEmitNext("RESYNC"))
+                .then(() -> frames.tryEmitNext(frame(1)))
+                .expectNext("snapshot-1")
+                .then(() -> frames.tryEmitNext(frame(2)))
+                .expectNext("delta-2")
+                .then(() -> resyncs.tryEmitNext("RESYNC"))
+                .expectNext("snapshot-2")
+                .then(() -> frames.tryEmitNext(frame(3)))
+                .expectNext("delta-3")
+                .thenCancel()
+                .verify();
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.socket.HandshakeInfo;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import io.github.lvoxx.srms.warehouse.websocket.WarehouseFrameEncoder.Encoding;
+import reactor.core.publisher.Mono;
+
+@DisplayName("Warehouse Frame Encoder Tests")
+@Tags({
+        @Tag("WebSocket"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseFrameEncoderTest {
+
+    private static final String FRAME = "{\"topic\":\"dashboard\",\"sequence\":3,\"data\":{\"total\":12}}";
+
+    @Mock
+    private WebSocketSession session;
+
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private WarehouseFrameEncoder encoder;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        encoder = new WarehouseFrameEncoder();
+        when(session.textMessage(anyString())).thenAnswer(invocation -> new WebSocketMessage(
+                WebSocketMessage.Type.TEXT, bufferFactory.wrap(invocation.getArgument(0, String.class).getBytes())));
+        when(session.binaryMessage(any())).thenAnswer(invocation -> new WebSocketMessage(
+                WebSocketMessage.Type.BINARY,
+                (DataBuffer) invocation.getArgument(0, Function.class).apply(bufferFactory)));
+    }
+
+    private static HandshakeInfo handshake(String uri, String subProtocol) {
+        return new HandshakeInfo(URI.create(uri), new HttpHeaders(), Mono.empty(), subProtocol);
+    }
+
+    private static byte[] bytes(WebSocketMessage message) {
+        byte[] bytes = new byte[message.getPayload().readableByteCount()];
+        message.getPayload().read(bytes);
+        return bytes;
+    }
+
+    @Nested
+    @DisplayName("Negotiation Tests")
+    class NegotiationTests {
+
+        @Test
+        @DisplayName("Should use CBOR when the CBOR sub-protocol was negotiated")
+        void shouldUseCborSubProtocol() {
+            assertThat(encoder.negotiate(handshake("ws://host/ws/warehouse/dashboard", "srms.cbor")))
+                    .isEqualTo(Encoding.CBOR);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the encoding query parameter")
+        void shouldUseQueryParameter() {
+            assertThat(encoder.negotiate(handshake("ws://host/ws/warehouse/dashboard?encoding=cbor", null)))
+                    .isEqualTo(Encoding.CBOR);
+        }
+
+        @Test
+        @DisplayName("Should prefer the sub-protocol over the query parameter")
+        void shouldPreferSubProtocol() {
+            assertThat(encoder.negotiate(handshake("ws://host/ws/warehouse/dashboard?encoding=cbor", "srms.json")))
+                    .isEqualTo(Encoding.JSON);
+        }
+
+        @Test
+        @DisplayName("Should default to JSON")
+        void shouldDefaultToJson() {
+            assertThat(encoder.negotiate(handshake("ws://host/ws/warehouse/dashboard", null)))
+                    .isEqualTo(Encoding.JSON);
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoding Tests")
+    class EncodingTests {
+
+        @Test
+        @DisplayName("Should send JSON frames as text messages")
+        void shouldSendJsonAsText() {
+            // Act
+            WebSocketMessage message = encoder.encode(session, FRAME, Encoding.JSON);
+
+            // Assert
+            assertThat(message.getType()).isEqualTo(WebSocketMessage.Type.TEXT);
+            assertThat(message.getPayloadAsText()).isEqualTo(FRAME);
+        }
+
+        @Test
+        @DisplayName("Should send CBOR frames as binary messages with the same content")
+        void shouldSendCborAsBinary() throws Exception {
+            // Act
+            WebSocketMessage message = encoder.encode(session, FRAME, Encoding.CBOR);
+
+            // Assert
+            assertThat(message.getType()).isEqualTo(WebSocketMessage.Type.BINARY);
+            byte[] cbor = bytes(message);
+            assertThat(cbor.length).isLessThan(FRAME.length());
+            assertThat(new CBORMapper().readTree(cbor)).isEqualTo(objectMapper.readTree(FRAME));
+        }
+
+        @Test
+        @DisplayName("Should transcode a shared frame only once")
+        void shouldCacheTranscodedFrame() {
+            // Arrange
+            WarehouseFrameEncoder spied = spy(encoder);
+
+            // Act
+            byte[] first = bytes(spied.encode(session, FRAME, Encoding.CBOR));
+            byte[] second = bytes(spied.encode(session, FRAME, Encoding.CBOR));
+
+            // Assert
+            assertThat(second).isEqualTo(first);
+            verify(spied, times(1)).toCbor(FRAME);
+        }
+    }
+
+    @Nested
+    @DisplayName("Decoding Tests")
+    class DecodingTests {
+
+        @Test
+        @DisplayName("Should read text commands as they are")
+        void shouldDecodeText() {
+            WebSocketMessage message = new WebSocketMessage(WebSocketMessage.Type.TEXT,
+                    bufferFactory.wrap("{\"action\":\"RESYNC\"}".getBytes()));
+
+            assertThat(encoder.decode(message)).isEqualTo("{\"action\":\"RESYNC\"}");
+        }
+
+        @Test
+        @DisplayName("Should read binary commands as CBOR")
+        void shouldDecodeCbor() throws Exception {
+            // Arrange
+            byte[] cbor = new CBORMapper().writeValueAsBytes(
+                    objectMapper.readTree("{\"action\":\"SUBSCRIBE\",\"topics\":[\"alerts\"]}"));
+            WebSocketMessage message = new WebSocketMessage(WebSocketMessage.Type.BINARY, bufferFactory.wrap(cbor));
+
+            // Act
+            String json = encoder.decode(message);
+
+            // Assert
+            assertThat(objectMapper.readTree(json))
+                    .isEqualTo(objectMapper.readTree("{\"action\":\"SUBSCRIBE\",\"topics\":[\"alerts\"]}"));
+        }
+
+        @Test
+        @DisplayName("Should ignore malformed binary commands")
+        void shouldIgnoreMalformedCbor() {
+            WebSocketMessage message = new WebSocketMessage(WebSocketMessage.Type.BINARY,
+                    bufferFactory.wrap(new byte[] { (byte) 0xff, 0x01 }));
+
+            assertThat(encoder.decode(message)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+import io.github.lvoxx.srms.warehouse.config.WarehouseStreamConfig;
+import io.github.lvoxx.srms.warehouse.config.WarehouseStreamConfig.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Stream Backpressure Tests")
+@Tags({
+        @Tag("WebSocket"), @Tag("Mock")
+})
+public class WarehouseStreamBackpressureTest {
+
+    private WarehouseStreamConfig streamConfig;
+    private SimpleMeterRegistry meterRegistry;
+    private WarehouseStreamBackpressure backpressure;
+
+    @BeforeEach
+    void setUp() {
+        streamConfig = new WarehouseStreamConfig();
+        streamConfig.setSessionBufferSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        backpressure = new WarehouseStreamBackpressure(streamConfig, meterRegistry);
+    }
+
+    private Sinks.Many<StreamFrame> source;
+
+    private Flux<StreamFrame> frames() {
+        source = Sinks.many().multicast().directBestEffort();
+        return source.asFlux();
+    }
+
+    private void emit(int count) {
+        for (int i = 1; i <= count; i++) {
+            source.tryEmitNext(new StreamFrame(i, "snapshot-" + i, "delta-" + i));
+        }
+        source.tryEmitComplete();
+    }
+
+    private double dropped(String endpoint) {
+        return meterRegistry.get("warehouse.websocket.frames.dropped").tag("endpoint", endpoint).counter().count();
+    }
+
+    private double queueDepth(String endpoint) {
+        return meterRegistry.get("warehouse.websocket.queue.depth").tag("endpoint", endpoint).gauge().value();
+    }
+
+    @Nested
+    @DisplayName("Overflow Policy Tests")
+    class OverflowPolicyTests {
+
+        @Test
+        @DisplayName("Should keep only the latest frame for a stalled session")
+        void shouldKeepLatest() {
+            StepVerifier.create(backpressure.bound(frames(), "dashboard"), 0)
+                    .expectSubscription()
+                    .then(() -> emit(5))
+                    .then(() -> assertEquals(1, queueDepth("dashboard")))
+                    .thenRequest(1)
+                    .assertNext(frame -> assertEquals(5, frame.sequence()))
+                    .verifyComplete();
+
+            assertEquals(4, dropped("dashboard"));
+            assertEquals(0, queueDepth("dashboard"));
+        }
+
+        @Test
+        @DisplayName("Should drop the oldest frames beyond the session buffer")
+        void shouldDropOldest() {
+            streamConfig.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+
+            StepVerifier.create(backpressure.bound(frames(), "alerts"), 0)
+                    .expectSubscription()
+                    .then(() -> emit(5))
+                    .thenRequest(Long.MAX_VALUE)
+                    .expectNextMatches(frame -> frame.sequence() == 4)
+                    .expectNextMatches(frame -> frame.sequence() == 5)
+                    .verifyComplete();
+
+            assertEquals(3, dropped("alerts"));
+        }
+
+        @Test
+        @DisplayName("Should disconnect a session lagging beyond the maximum lag")
+        void shouldDisconnectLaggingSession() {
+            streamConfig.setOverflowPolicy(OverflowPolicy.DISCONNECT);
+            streamConfig.setMaxLag(Duration.ZERO);
+
+            StepVerifier.create(backpressure.bound(frames(), "warehouse"), 0)
+                    .expectSubscription()
+                    .then(() -> emit(5))
+                    .expectErrorMatches(Exceptions::isOverflow)
+                    .verify();
+
+            assertEquals(1, meterRegistry.get("warehouse.websocket.sessions.disconnected")
+                    .tag("endpoint", "warehouse").counter().count());
+            assertEquals(0, queueDepth("warehouse"));
+        }
+
+        @Test
+        @DisplayName("Should not disconnect a session that keeps up")
+        void shouldNotDisconnectFastSession() {
+            streamConfig.setOverflowPolicy(OverflowPolicy.DISCONNECT);
+            streamConfig.setMaxLag(Duration.ZERO);
+
+            StepVerifier.create(backpressure.bound(frames(), "warehouse"))
+                    .expectSubscription()
+                    .then(() -> emit(5))
+                    .expectNextCount(5)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should apply per endpoint policy overrides")
+        void shouldApplyEndpointOverride() {
+            streamConfig.setEndpointOverflowPolicies(Map.of("stream", OverflowPolicy.DROP_OLDEST));
+
+            assertEquals(OverflowPolicy.DROP_OLDEST, streamConfig.overflowPolicyFor("stream"));
+            assertEquals(OverflowPolicy.KEEP_LATEST, streamConfig.overflowPolicyFor("dashboard"));
+
+            StepVerifier.create(backpressure.bound(frames(), "stream"), 0)
+                    .expectSubscription()
+                    .then(() -> emit(5))
+                    .thenRequest(Long.MAX_VALUE)
+                    .expectNextCount(2)
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    @DisplayName("Should record the time frames spend buffered")
+    void shouldRecordSendLatency() {
+        StepVerifier.create(backpressure.bound(frames(), "dashboard"))
+                .expectSubscription()
+                .then(() -> emit(3))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertEquals(3, meterRegistry.get("warehouse.websocket.send.latency")
+                .tag("endpoint", "dashboard").timer().count());
+        assertEquals(0, dropped("dashboard"));
+    }
+}
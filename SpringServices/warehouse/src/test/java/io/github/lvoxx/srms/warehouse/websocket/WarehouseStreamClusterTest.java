@@ -0,0 +1,294 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RAtomicLongReactive;
+import org.redisson.api.RBucketReactive;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptReactive;
+import org.redisson.api.RTopicReactive;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.Codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lvoxx.srms.controllerhandler.model.NotFoundException;
+import io.github.lvoxx.srms.warehouse.config.WarehouseStreamConfig;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Stream Cluster Tests")
+@Tags({
+        @Tag("WebSocket"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseStreamClusterTest {
+
+    private static final String TOPIC = "dashboard";
+
+    @Mock
+    private RedissonReactiveClient redissonReactive;
+
+    @Mock
+    private RTopicReactive channel;
+
+    @Mock
+    private RBucketReactive<String> latestBucket;
+
+    @Mock
+    private RBucketReactive<String> leaderBucket;
+
+    @Mock
+    private RScriptReactive script;
+
+    @Mock
+    private RAtomicLongReactive terms;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private WarehouseStreamConfig streamConfig;
+    private WarehouseStreamCluster cluster;
+
+    private Sinks.Many<String> messages;
+    private AtomicInteger producerSubscriptions;
+
+    @BeforeEach
+    void setUp() {
+        streamConfig = new WarehouseStreamConfig();
+        streamConfig.setLeaderLease(Duration.ofSeconds(3));
+        messages = Sinks.many().multicast().directBestEffort();
+        producerSubscriptions = new AtomicInteger();
+
+        when(redissonReactive.getTopic(eq("warehouse:stream:" + TOPIC), any(Codec.class))).thenReturn(channel);
+        when(redissonReactive.<String>getBucket(eq("warehouse:stream:" + TOPIC + ":latest"), any(Codec.class)))
+                .thenReturn(latestBucket);
+        when(redissonReactive.<String>getBucket(eq("warehouse:stream:" + TOPIC + ":leader"), any(Codec.class)))
+                .thenReturn(leaderBucket);
+        when(channel.getMessages(String.class)).thenReturn(messages.asFlux());
+        when(channel.publish(anyString())).thenReturn(Mono.just(1L));
+        when(latestBucket.get()).thenReturn(Mono.empty());
+        when(latestBucket.set(anyString(), any(Duration.class))).thenReturn(Mono.empty());
+        when(latestBucket.delete()).thenReturn(Mono.just(true));
+        when(leaderBucket.getName()).thenReturn("warehouse:stream:" + TOPIC + ":leader");
+        when(leaderBucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(Mono.just(false));
+        when(leaderBucket.compareAndSet(anyString(), any())).thenReturn(Mono.just(true));
+        when(redissonReactive.getScript(any(Codec.class))).thenReturn(script);
+        renewLease(false);
+        when(redissonReactive.getAtomicLong("warehouse:stream:" + TOPIC + ":term")).thenReturn(terms);
+        when(terms.incrementAndGet()).thenReturn(Mono.just(1L));
+
+        cluster = new WarehouseStreamCluster(redissonReactive, objectMapper, streamConfig);
+    }
+
+    private Flux<StreamFrame> producer(StreamFrame... frames) {
+        return Flux.just(frames)
+                .concatWith(Flux.never())
+                .doOnSubscribe(s -> producerSubscriptions.incrementAndGet());
+    }
+
+    private void renewLease(boolean renewed) {
+        when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.BOOLEAN), anyList(),
+                any(), any())).thenReturn(Mono.just(renewed));
+    }
+
+    private String remote(String producer, long term, StreamFrame frame) throws Exception {
+        return objectMapper.writeValueAsString(new WarehouseStreamCluster.ClusterFrame(producer, term, frame, null));
+    }
+
+    @Nested
+    @DisplayName("Leader Tests")
+    class LeaderTests {
+
+        @Test
+        @DisplayName("Should produce, publish and deliver frames when holding the lease")
+        void shouldProduceAsLeader() {
+            // Arrange
+            when(leaderBucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+            StreamFrame frame = new StreamFrame(1, "snapshot-1", null);
+
+            // Act & Assert
+            StepVerifier.create(cluster.fanOut(TOPIC, producer(frame)))
+                    .expectNext(frame)
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5));
+
+            ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+            verify(channel).publish(published.capture());
+            assertTrue(published.getValue().contains("\"snapshot\":\"snapshot-1\""));
+            verify(latestBucket).set(anyString(), eq(streamConfig.getLatestFrameTtl()));
+            verify(leaderBucket, timeout(1000)).compareAndSet(anyString(), eq(null));
+        }
+
+        @Test
+        @DisplayName("Should drop its own frames echoed back by Redis")
+        void shouldIgnoreOwnEcho() {
+            // Arrange
+            when(leaderBucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+            ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+            StreamFrame frame = new StreamFrame(1, "snapshot-1", null);
+
+            // Act & Assert
+            StepVerifier.create(cluster.fanOut(TOPIC, producer(frame)))
+                    .expectNext(frame)
+                    .then(() -> {
+                        verify(channel).publish(published.capture());
+                        messages.tryEmitNext(published.getValue());
+                    })
+                    .expectNoEvent(Duration.ofMillis(200))
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("Should publish a missing warehouse to the other instances")
+        void shouldPublishNotFound() {
+            // Arrange
+            when(leaderBucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+
+            // Act & Assert
+            StepVerifier.create(cluster.fanOut(TOPIC, Flux.error(new NotFoundException("Warehouse not found"))))
+                    .expectErrorMessage("Warehouse not found")
+                    .verify(Duration.ofSeconds(5));
+
+            verify(latestBucket).delete();
+            verify(channel).publish(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Follower Tests")
+    class FollowerTests {
+
+        @Test
+        @DisplayName("Should relay frames of the leading instance without producing")
+        void shouldRelayAsFollower() throws Exception {
+            // Arrange
+            StreamFrame stored = new StreamFrame(4, "snapshot-4", "delta-4");
+            StreamFrame live = new StreamFrame(5, "snapshot-5", "delta-5");
+            when(latestBucket.get()).thenReturn(Mono.just(remote("other-term", 2, stored)));
+
+            // Act & Assert
+            StepVerifier.create(cluster.fanOut(TOPIC, producer(new StreamFrame(1, "local", null))))
+                    .expectNext(stored)
+                    .then(() -> {
+                        try {
+                            messages.tryEmitNext(remote("other-term", 2, stored));
+                            messages.tryEmitNext(remote("other-term", 2, live));
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .expectNext(live)
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5));
+
+            assertEquals(0, producerSubscriptions.get());
+        }
+
+        @Test
+        @DisplayName("Should take over once the leader's lease expired")
+        void shouldTakeOverExpiredLease() {
+            // Arrange
+            when(leaderBucket.setIfAbsent(anyString(), any(Duration.class)))
+                    .thenReturn(Mono.just(false), Mono.just(true));
+            StreamFrame frame = new StreamFrame(1, "snapshot-1", null);
+
+            // Act & Assert
+            StepVerifier.create(cluster.fanOut(TOPIC, producer(frame)))
+                    .expectNext(frame)
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5));
+
+            verify(leaderBucket, atLeastOnce()).setIfAbsent(anyString(), eq(Duration.ofSeconds(3)));
+            assertEquals(1, producerSubscriptions.get());
+        }
+
+        @Test
+        @DisplayName("Should drop frames of an earlier term than the last frame relayed")
+        void shouldDropFramesOfEarlierTerm() throws Exception {
+            // Arrange
+            StreamFrame current = new StreamFrame(1, "snapshot-new", null);
+            StreamFrame stale = new StreamFrame(9, "snapshot-old", null);
+            StreamFrame next = new StreamFrame(2, "snapshot-next", "delta-next");
+
+            // Act & Assert - the replaced leader's last frame arrives late
+            StepVerifier.create(cluster.fanOut(TOPIC, producer()))
+                    .then(() -> {
+                        try {
+                            messages.tryEmitNext(remote("new-term", 3, current));
+                            messages.tryEmitNext(remote("old-term", 2, stale));
+                            messages.tryEmitNext(remote("new-term", 3, next));
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .expectNext(current, next)
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5));
+        }
+    }
+
+    @Nested
+    @DisplayName("Lease Tests")
+    class LeaseTests {
+
+        @Test
+        @DisplayName("Should keep producing while its lease is renewed")
+        void shouldKeepLeadingWhileRenewed() {
+            // Arrange
+            streamConfig.setLeaderLease(Duration.ofMillis(300));
+            when(leaderBucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+            renewLease(true);
+            StreamFrame frame = new StreamFrame(1, "snapshot-1", null);
+
+            // Act & Assert
+            StepVerifier.create(cluster.fanOut(TOPIC, producer(frame)))
+                    .expectNext(frame)
+                    .expectNoEvent(Duration.ofMillis(500))
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(5));
+
+            verify(script, atLeastOnce()).eval(eq(RScript.Mode.READ_WRITE), anyString(),
+                    eq(RScript.ReturnType.BOOLEAN), eq(List.of("warehouse:stream:" + TOPIC + ":leader")),
+                    anyString(), eq("300"));
+            assertEquals(1, producerSubscriptions.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Should use the local producer when clustering is disabled")
+    void shouldBypassWhenDisabled() {
+        streamConfig.setClusterEnabled(false);
+        Flux<StreamFrame> producer = Flux.empty();
+
+        assertSame(producer, cluster.fanOut(TOPIC, producer));
+    }
+}
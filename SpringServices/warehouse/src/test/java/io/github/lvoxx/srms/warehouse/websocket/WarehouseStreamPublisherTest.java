@@ -0,0 +1,373 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RedissonReactiveClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lvoxx.srms.controllerhandler.model.NotFoundException;
+import io.github.lvoxx.srms.controllerhandler.model.ValidationException;
+import io.github.lvoxx.srms.warehouse.config.WarehouseStreamConfig;
+import io.github.lvoxx.srms.warehouse.dto.WarehouseStatisticDTO;
+import io.github.lvoxx.srms.warehouse.services.WarehouseChangeNotifier;
+import io.github.lvoxx.srms.warehouse.services.WarehouseStatisticService;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("Warehouse Stream Publisher Tests")
+@Tags({
+        @Tag("WebSocket"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseStreamPublisherTest {
+
+    @Mock
+    private WarehouseStatisticService statisticService;
+
+    @Mock
+    private WarehouseChangeNotifier changeNotifier;
+
+    @Mock
+    private RedissonReactiveClient redissonReactive;
+
+    private WarehouseStreamConfig streamConfig;
+    private WarehouseStreamPublisher streamPublisher;
+
+    private Sinks.Many<WarehouseChangeNotifier.Change> changes;
+    private AtomicInteger changeSubscriptions;
+    private AtomicInteger changeCancellations;
+    private AtomicInteger dashboardLoads;
+
+    @BeforeEach
+    void setUp() {
+        changes = Sinks.many().multicast().directBestEffort();
+        changeSubscriptions = new AtomicInteger();
+        changeCancellations = new AtomicInteger();
+        dashboardLoads = new AtomicInteger();
+        when(changeNotifier.changes()).thenReturn(changes.asFlux()
+                .doOnSubscribe(s -> changeSubscriptions.incrementAndGet())
+                .doOnCancel(changeCancellations::incrementAndGet));
+        when(statisticService.getDashboardStatistics()).thenAnswer(invocation -> Mono.fromCallable(
+                () -> WarehouseStatisticDTO.DashboardResponse.builder()
+                        .totalWarehouses((long) dashboardLoads.incrementAndGet())
+                        .build()));
+
+        streamConfig = new WarehouseStreamConfig();
+        streamConfig.setCoalesceWindow(Duration.ofMillis(100));
+        streamConfig.setHeartbeatInterval(Duration.ofSeconds(30));
+        streamConfig.setClusterEnabled(false);
+        streamPublisher = newPublisher();
+    }
+
+    private WarehouseStreamPublisher newPublisher() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        return new WarehouseStreamPublisher(statisticService, changeNotifier,
+                new WarehouseStreamCluster(redissonReactive, objectMapper, streamConfig), objectMapper, streamConfig);
+    }
+
+    @Nested
+    @DisplayName("Dashboard Stream Tests")
+    class DashboardStreamTests {
+
+        @Test
+        @DisplayName("Should load once and deliver the same serialized frame to every subscriber")
+        void shouldShareOneUpstream() {
+            // Arrange
+            StringBuilder first = new StringBuilder();
+            StringBuilder second = new StringBuilder();
+
+            // Act
+            Disposable a = streamPublisher.dashboard().subscribe(frame -> first.append(frame.snapshot()));
+            Disposable b = streamPublisher.dashboard().subscribe(frame -> second.append(frame.snapshot()));
+
+            // Assert
+            assertEquals(1, dashboardLoads.get());
+            assertEquals(1, changeSubscriptions.get());
+            assertTrue(first.toString().contains(WarehouseStreamPublisher.DASHBOARD_UPDATE));
+            assertTrue(first.toString().contains("\"frame-type\":\"SNAPSHOT\""));
+            assertEquals(first.toString(), second.toString());
+
+            a.dispose();
+            b.dispose();
+        }
+
+        @Test
+        @DisplayName("Should replay the latest frame to a late subscriber")
+        void shouldReplayLatestFrame() {
+            // Arrange
+            Disposable early = streamPublisher.dashboard().subscribe();
+
+            // Act & Assert
+            StepVerifier.create(streamPublisher.dashboard().take(1))
+                    .assertNext(frame -> assertTrue(frame.snapshot().contains("\"total-warehouses\":1")))
+                    .verifyComplete();
+            assertEquals(1, dashboardLoads.get());
+
+            early.dispose();
+        }
+
+        @Test
+        @DisplayName("Should stop after the last subscriber leaves and restart lazily")
+        void shouldStopAfterLastSubscriber() {
+            // Arrange
+            Disposable a = streamPublisher.dashboard().subscribe();
+            Disposable b = streamPublisher.dashboard().subscribe();
+
+            // Act
+            a.dispose();
+            assertEquals(0, changeCancellations.get());
+            b.dispose();
+
+            // Assert
+            assertEquals(1, changeCancellations.get());
+
+            Disposable c = streamPublisher.dashboard().subscribe();
+            assertEquals(2, changeSubscriptions.get());
+            c.dispose();
+        }
+
+        @Test
+        @DisplayName("Should coalesce a burst of changes into a single refresh")
+        void shouldCoalesceBurstOfChanges() {
+            StepVerifier.withVirtualTime(() -> {
+                streamPublisher = newPublisher();
+                return streamPublisher.dashboard();
+            })
+                    .expectSubscription()
+                    .assertNext(frame -> {
+                        assertEquals(1, frame.sequence());
+                        assertNull(frame.delta());
+                    })
+                    .then(() -> {
+                        for (int i = 0; i < 100; i++) {
+                            changes.tryEmitNext(new WarehouseChangeNotifier.Change(UUID.randomUUID()));
+                        }
+                    })
+                    .thenAwait(Duration.ofMillis(100))
+                    .assertNext(frame -> {
+                        assertEquals(2, frame.sequence());
+                        assertTrue(frame.snapshot().contains("\"total-warehouses\":2"));
+                        assertTrue(frame.delta().contains("\"changed\":{\"total-warehouses\":2}"));
+                    })
+                    .expectNoEvent(Duration.ofSeconds(1))
+                    .thenCancel()
+                    .verify();
+
+            assertEquals(2, dashboardLoads.get());
+        }
+
+        @Test
+        @DisplayName("Should refresh on the heartbeat when no change arrives")
+        void shouldRefreshOnHeartbeat() {
+            StepVerifier.withVirtualTime(() -> {
+                streamPublisher = newPublisher();
+                return streamPublisher.dashboard();
+            })
+                    .expectSubscription()
+                    .expectNextCount(1)
+                    .expectNoEvent(Duration.ofSeconds(29))
+                    .thenAwait(Duration.ofSeconds(1))
+                    .assertNext(frame -> assertTrue(frame.snapshot().contains("\"total-warehouses\":2")))
+                    .thenCancel()
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should not emit a frame when a refresh changes nothing")
+        void shouldSkipUnchangedRefresh() {
+            when(statisticService.getDashboardStatistics()).thenAnswer(invocation -> Mono.fromCallable(() -> {
+                dashboardLoads.incrementAndGet();
+                return WarehouseStatisticDTO.DashboardResponse.builder()
+                        .totalWarehouses(7L)
+                        .timestamp(OffsetDateTime.now())
+                        .build();
+            }));
+
+            StepVerifier.withVirtualTime(() -> {
+                streamPublisher = newPublisher();
+                return streamPublisher.dashboard();
+            })
+                    .expectSubscription()
+                    .expectNextCount(1)
+                    .thenAwait(Duration.ofSeconds(30))
+                    .expectNoEvent(Duration.ofSeconds(1))
+                    .thenCancel()
+                    .verify();
+
+            assertEquals(2, dashboardLoads.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Alert Stream Tests")
+    class AlertStreamTests {
+
+        @Test
+        @DisplayName("Should encode alert changes as item level deltas")
+        void shouldDiffAlertItems() {
+            // Arrange
+            WarehouseStatisticDTO.AlertItem kept = alert(UUID.randomUUID(), 3);
+            WarehouseStatisticDTO.AlertItem dropped = alert(UUID.randomUUID(), 0);
+            WarehouseStatisticDTO.AlertItem added = alert(UUID.randomUUID(), 1);
+            when(statisticService.getAllWarehouseAlerts(0, 20)).thenReturn(
+                    Mono.just(alerts(kept, dropped)),
+                    Mono.just(alerts(kept.toBuilder().currentQuantity(2).build(), added)));
+
+            // Act & Assert
+            StepVerifier.withVirtualTime(() -> {
+                streamPublisher = newPublisher();
+                return streamPublisher.alerts();
+            })
+                    .expectSubscription()
+                    .expectNextCount(1)
+                    .then(() -> changes.tryEmitNext(new WarehouseChangeNotifier.Change(null)))
+                    .thenAwait(Duration.ofMillis(100))
+                    .assertNext(frame -> {
+                        assertTrue(frame.delta().contains(WarehouseStreamPublisher.ALERT_UPDATE));
+                        assertTrue(frame.delta().contains("\"updated-items\":[{\"id\":\"" + kept.getId()));
+                        assertTrue(frame.delta().contains("\"added-items\":[{\"id\":\"" + added.getId()));
+                        assertTrue(frame.delta().contains("\"removed-items\":[\"" + dropped.getId() + "\"]"));
+                        assertFalse(frame.delta().contains("\"changed\""));
+                    })
+                    .thenCancel()
+                    .verify();
+        }
+
+        private WarehouseStatisticDTO.AlertItem alert(UUID id, int quantity) {
+            return WarehouseStatisticDTO.AlertItem.builder()
+                    .id(id)
+                    .productName("Product " + quantity)
+                    .currentQuantity(quantity)
+                    .minQuantity(5)
+                    .build();
+        }
+
+        private WarehouseStatisticDTO.AlertListResponse alerts(WarehouseStatisticDTO.AlertItem... items) {
+            return WarehouseStatisticDTO.AlertListResponse.builder()
+                    .items(List.of(items))
+                    .totalItems((long) items.length)
+                    .page(0)
+                    .size(20)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Warehouse Details Stream Tests")
+    class WarehouseDetailsStreamTests {
+
+        @Test
+        @DisplayName("Should share one stream per warehouse and unregister it when idle")
+        void shouldShareStreamPerWarehouse() {
+            // Arrange
+            UUID warehouseId = UUID.randomUUID();
+            AtomicInteger loads = new AtomicInteger();
+            when(statisticService.getWarehouseDetails(warehouseId)).thenAnswer(invocation -> Mono.fromCallable(
+                    () -> WarehouseStatisticDTO.WarehouseDetailsResponse.builder()
+                            .transactionCount((long) loads.incrementAndGet())
+                            .build()));
+
+            // Act
+            Disposable a = streamPublisher.warehouseDetails(warehouseId).subscribe();
+            Disposable b = streamPublisher.warehouseDetails(warehouseId).subscribe();
+
+            // Assert
+            assertEquals(1, loads.get());
+            assertEquals(1, streamPublisher.activeWarehouseStreams());
+
+            a.dispose();
+            b.dispose();
+            assertEquals(0, streamPublisher.activeWarehouseStreams());
+        }
+
+        @Test
+        @DisplayName("Should refresh only for changes affecting the warehouse")
+        void shouldFilterChangesByWarehouse() {
+            UUID warehouseId = UUID.randomUUID();
+            AtomicInteger loads = new AtomicInteger();
+            when(statisticService.getWarehouseDetails(warehouseId)).thenAnswer(invocation -> Mono.fromCallable(
+                    () -> WarehouseStatisticDTO.WarehouseDetailsResponse.builder()
+                            .transactionCount((long) loads.incrementAndGet())
+                            .build()));
+
+            StepVerifier.withVirtualTime(() -> {
+                streamPublisher = newPublisher();
+                return streamPublisher.warehouseDetails(warehouseId);
+            })
+                    .expectSubscription()
+                    .expectNextCount(1)
+                    .then(() -> changes.tryEmitNext(new WarehouseChangeNotifier.Change(UUID.randomUUID())))
+                    .expectNoEvent(Duration.ofSeconds(1))
+                    .then(() -> changes.tryEmitNext(new WarehouseChangeNotifier.Change(warehouseId)))
+                    .thenAwait(Duration.ofMillis(100))
+                    .expectNextCount(1)
+                    .then(() -> changes.tryEmitNext(new WarehouseChangeNotifier.Change(null)))
+                    .thenAwait(Duration.ofMillis(100))
+                    .expectNextCount(1)
+                    .thenCancel()
+                    .verify();
+
+            assertEquals(3, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should resolve topics of the multiplexed protocol")
+        void shouldResolveTopics() {
+            // Arrange
+            UUID warehouseId = UUID.randomUUID();
+
+            // Act & Assert
+            assertSame(streamPublisher.dashboard(), streamPublisher.stream("dashboard"));
+            assertSame(streamPublisher.alerts(), streamPublisher.stream("alerts"));
+            assertEquals("warehouse:" + warehouseId, WarehouseStreamPublisher.warehouseTopic(warehouseId));
+            StepVerifier.create(streamPublisher.stream("warehouse:not-a-uuid"))
+                    .expectError(ValidationException.class)
+                    .verify();
+            StepVerifier.create(streamPublisher.stream("kitchen"))
+                    .expectError(ValidationException.class)
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Should propagate a missing warehouse and drop the stream")
+        void shouldPropagateNotFound() {
+            // Arrange
+            UUID warehouseId = UUID.randomUUID();
+            when(statisticService.getWarehouseDetails(warehouseId))
+                    .thenReturn(Mono.error(new NotFoundException("Warehouse not found")));
+
+            // Act & Assert
+            StepVerifier.create(streamPublisher.warehouseDetails(warehouseId))
+                    .expectErrorSatisfies(e -> assertSame(NotFoundException.class, e.getClass()))
+                    .verify();
+
+            assertEquals(0, streamPublisher.activeWarehouseStreams());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.lvoxx.srms.warehouse.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.lvoxx.srms.controllerhandler.model.NotFoundException;
+import io.github.lvoxx.srms.warehouse.config.WarehouseStreamConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+@DisplayName("Warehouse Stream Session Tests")
+@Tags({
+        @Tag("WebSocket"), @Tag("Mock")
+})
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class WarehouseStreamSessionTest {
+
+    private static final String WAREHOUSE_TOPIC = "warehouse:00000000-0000-0000-0000-000000000001";
+
+    @Mock
+    private WarehouseStreamPublisher streamPublisher;
+
+    private Sinks.Many<StreamFrame> dashboardFrames;
+    private Sinks.Many<StreamFrame> warehouseFrames;
+    private AtomicInteger dashboardCancellations;
+
+    private WarehouseStreamSession session;
+    private List<String> sent;
+    private Disposable sentSubscription;
+
+    @BeforeEach
+    void setUp() {
+        dashboardFrames = Sinks.many().replay().latest();
+        warehouseFrames = Sinks.many().replay().latest();
+        dashboardCancellations = new AtomicInteger();
+        when(streamPublisher.stream("dashboard")).thenReturn(dashboardFrames.asFlux()
+                .doOnCancel(dashboardCancellations::incrementAndGet));
+        when(streamPublisher.stream(WAREHOUSE_TOPIC)).thenReturn(warehouseFrames.asFlux());
+        when(streamPublisher.stream("missing")).thenReturn(Flux.error(new NotFoundException("Warehouse not found")));
+
+        session = new WarehouseStreamSession(streamPublisher,
+                new WarehouseStreamBackpressure(new WarehouseStreamConfig(), new SimpleMeterRegistry()),
+                new ObjectMapper(), 2);
+        sent = new ArrayList<>();
+        sentSubscription = session.frames().subscribe(sent::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sentSubscription.dispose();
+    }
+
+    private static StreamFrame frame(String topic, long sequence) {
+        return new StreamFrame(sequence, topic + "-snapshot-" + sequence, topic + "-delta-" + sequence);
+    }
+
+    @Nested
+    @DisplayName("Subscription Tests")
+    class SubscriptionTests {
+
+        @Test
+        @DisplayName("Should route every subscribed topic into one outbound stream")
+        void shouldMultiplexTopics() {
+            // Act
+            session.handle("{\"action\":\"SUBSCRIBE\",\"topics\":[\"dashboard\",\"" + WAREHOUSE_TOPIC + "\"]}");
+            dashboardFrames.tryEmitNext(frame("dashboard", 1));
+            warehouseFrames.tryEmitNext(frame("warehouse", 1));
+            dashboardFrames.tryEmitNext(frame("dashboard", 2));
+
+            // Assert
+            assertEquals(List.of("dashboard-snapshot-1", "warehouse-snapshot-1", "dashboard-delta-2"), sent);
+            assertEquals(2, session.topicCount());
+        }
+
+        @Test
+        @DisplayName("Should cancel the topic stream on unsubscribe")
+        void shouldUnsubscribe() {
+            // Arrange
+            session.handle("{\"action\":\"subscribe\",\"topics\":[\"dashboard\"]}");
+
+            // Act
+            session.handle("{\"action\":\"UNSUBSCRIBE\",\"topics\":[\"dashboard\"]}");
+            dashboardFrames.tryEmitNext(frame("dashboard", 1));
+
+            // Assert
+            assertEquals(1, dashboardCancellations.get());
+            assertEquals(0, session.topicCount());
+            assertTrue(sent.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should resend the latest snapshot on resync")
+        void shouldResync() {
+            // Arrange
+            session.handle("{\"action\":\"SUBSCRIBE\",\"topics\":[\"dashboard\"]}");
+            dashboardFrames.tryEmitNext(frame("dashboard", 1));
+            dashboardFrames.tryEmitNext(frame("dashboard", 2));
+
+            // Act
+            session.handle("{\"action\":\"RESYNC\"}");
+
+            // Assert
+            assertEquals(List.of("dashboard-snapshot-1", "dashboard-delta-2", "dashboard-snapshot-2"), sent);
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Tests")
+    class ErrorTests {
+
+        @Test
+        @DisplayName("Should report a failing topic and keep the others")
+        void shouldDropFailingTopic() {
+            // Act
+            session.handle("{\"action\":\"SUBSCRIBE\",\"topics\":[\"dashboard\",\"missing\"]}");
+            dashboardFrames.tryEmitNext(frame("dashboard", 1));
+
+            // Assert
+            assertEquals(2, sent.size());
+            assertEquals("{\"error\":\"Warehouse not found\",\"topic\":\"missing\"}", sent.get(0));
+            assertEquals("dashboard-snapshot-1", sent.get(1));
+            assertEquals(1, session.topicCount());
+        }
+
+        @Test
+        @DisplayName("Should reject topics beyond the per-session limit")
+        void shouldEnforceTopicLimit() {
+            // Act
+            session.handle("{\"action\":\"SUBSCRIBE\",\"topics\":[\"dashboard\",\"" + WAREHOUSE_TOPIC
+                    + "\",\"alerts\"]}");
+
+            // Assert
+            assertEquals(2, session.topicCount());
+            assertEquals(List.of("{\"error\":\"Topic limit reached: 2\",\"topic\":\"alerts\"}"), sent);
+        }
+
+        @Test
+        @DisplayName("Should report malformed commands")
+        void shouldReportMalformedCommand() {
+            // Act
+            session.handle("not json");
+
+            // Assert
+            assertEquals(List.of("{\"error\":\"Malformed command\"}"), sent);
+        }
+    }
+
+    @Test
+    @DisplayName("Should cancel all topics and complete on close")
+    void shouldCloseSession() {
+        // Arrange
+        session.handle("{\"action\":\"SUBSCRIBE\",\"topics\":[\"dashboard\"]}");
+
+        // Act
+        session.close();
+
+        // Assert
+        assertEquals(1, dashboardCancellations.get());
+        assertEquals(0, session.topicCount());
+        assertTrue(sentSubscription.isDisposed());
+    }
+}